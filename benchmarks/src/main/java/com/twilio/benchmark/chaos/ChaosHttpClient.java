@@ -0,0 +1,153 @@
+package com.twilio.benchmark.chaos;
+
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * HttpClient injecting faults into the requests made through it.
+ *
+ * <p>
+ *     Faults are configured as rules: an endpoint pattern, matched against the templated url of the
+ *     request (e.g. {@code Messages\.json$}), a {@link FaultSchedule} picking which matching requests
+ *     are affected, and the {@link Fault} to inject. Rules are tried in order and the first one whose
+ *     schedule fires applies; requests no rule fires for go to the delegate untouched.
+ * </p>
+ */
+public class ChaosHttpClient extends HttpClient {
+
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private final HttpClient delegate;
+    private final List<Rule> rules;
+    private final long originNanos;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injected = new AtomicLong();
+
+    private ChaosHttpClient(Builder b) {
+        this.delegate = b.delegate;
+        this.rules = new ArrayList<>();
+        for (int i = 0; i < b.rules.size(); i++) {
+            Rule rule = b.rules.get(i);
+            // Each rule draws from its own sequence so adding a rule doesn't change the others
+            rules.add(new Rule(rule.endpoint, rule.schedule, rule.fault, b.seed + i));
+        }
+        this.originNanos = System.nanoTime();
+    }
+
+    @Override
+    public Response makeRequest(final Request request) {
+        requests.incrementAndGet();
+        String url = request.getTemplatedUrl();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - originNanos);
+
+        for (final Rule rule : rules) {
+            if (!rule.endpoint.matcher(url).find()) {
+                continue;
+            }
+
+            long index;
+            boolean fires;
+            synchronized (rule) {
+                index = rule.matched++;
+                fires = rule.schedule.fires(index, elapsedMillis, rule.random);
+            }
+            if (fires) {
+                injected.incrementAndGet();
+                // Seeded by index, so concurrent faults don't race for the rule's sequence
+                return rule.fault.apply(request, delegate, new Random(rule.seed + index * SEED_STRIDE));
+            }
+        }
+
+        return delegate.makeRequest(request);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    public HttpClient getDelegate() {
+        return delegate;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getInjectedCount() {
+        return injected.get();
+    }
+
+    private static class Rule {
+        private final Pattern endpoint;
+        private final FaultSchedule schedule;
+        private final Fault fault;
+        private final long seed;
+        private final Random random;
+        private long matched;
+
+        private Rule(final Pattern endpoint, final FaultSchedule schedule, final Fault fault, final long seed) {
+            this.endpoint = endpoint;
+            this.schedule = schedule;
+            this.fault = fault;
+            this.seed = seed;
+            this.random = new Random(seed);
+        }
+    }
+
+    public static class Builder {
+        private final HttpClient delegate;
+        private final List<Rule> rules = new ArrayList<>();
+        private long seed = 42L;
+
+        /**
+         * Create a new chaos client builder.
+         *
+         * @param delegate client making the actual requests
+         */
+        public Builder(HttpClient delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Inject a fault into requests to the matching endpoints.
+         *
+         * @param endpoint regular expression found in the templated url of the affected requests
+         * @param schedule which of the matching requests to affect
+         * @param fault fault to inject
+         * @return this builder
+         */
+        public Builder fault(String endpoint, FaultSchedule schedule, Fault fault) {
+            this.rules.add(new Rule(Pattern.compile(endpoint), schedule, fault, 0L));
+            return this;
+        }
+
+        /**
+         * Inject a fault into requests to any endpoint.
+         *
+         * @param schedule which requests to affect
+         * @param fault fault to inject
+         * @return this builder
+         */
+        public Builder fault(FaultSchedule schedule, Fault fault) {
+            return fault("", schedule, fault);
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public ChaosHttpClient build() {
+            return new ChaosHttpClient(this);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.twilio.benchmark.chaos;
+
+import com.twilio.benchmark.emulator.LatencyModel;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+
+import java.util.Random;
+
+/**
+ * Failure injected into a request.
+ *
+ * <p>
+ *     Faults fail the way {@link com.twilio.http.NetworkHttpClient} does: I/O errors surface as
+ *     {@link ApiException}s carrying the socket error message, and error statuses come with a Twilio
+ *     error body.
+ * </p>
+ */
+public abstract class Fault {
+
+    /**
+     * Answer a request, possibly by way of the real client.
+     *
+     * @param request request to answer
+     * @param delegate client making the actual requests
+     * @param random source of randomness seeded for this request
+     * @return the response
+     */
+    public abstract Response apply(final Request request, final HttpClient delegate, final Random random);
+
+    /**
+     * Send the request after a delay. A delay running past the request deadline times out, as a slow
+     * server would with the socket timeout of the deadline.
+     *
+     * @param latency distribution of the added delay
+     * @return fault
+     */
+    public static Fault slow(final LatencyModel latency) {
+        return new Fault() {
+            @Override
+            public Response apply(final Request request, final HttpClient delegate, final Random random) {
+                long delay = latency.nextDelayMillis(random);
+                boolean timesOut = request.hasDeadline() && request.getRemainingMillis() <= delay;
+                sleep(request, timesOut ? Math.max(0, request.getRemainingMillis()) : delay);
+                if (timesOut) {
+                    throw new ApiException("Read timed out");
+                }
+                return delegate.makeRequest(request);
+            }
+        };
+    }
+
+    /**
+     * Fail with a connection reset, without sending the request.
+     *
+     * @return fault
+     */
+    public static Fault reset() {
+        return new Fault() {
+            @Override
+            public Response apply(final Request request, final HttpClient delegate, final Random random) {
+                throw new ApiException("Connection reset");
+            }
+        };
+    }
+
+    /**
+     * Answer with an error status, without sending the request.
+     *
+     * @param statusCode status to answer with, e.g. 429 or 503
+     * @return fault
+     */
+    public static Fault status(final int statusCode) {
+        return new Fault() {
+            @Override
+            public Response apply(final Request request, final HttpClient delegate, final Random random) {
+                return new Response(
+                    "{\"code\": " + (20000 + statusCode) + ", \"message\": \"Injected fault\", "
+                        + "\"more_info\": \"https://www.twilio.com/docs/errors/" + (20000 + statusCode) + "\", "
+                        + "\"status\": " + statusCode + "}",
+                    statusCode
+                );
+            }
+        };
+    }
+
+    /**
+     * Send the request but cut the response body short, as a connection closed mid-response would.
+     *
+     * @param fraction share of the body to keep, between 0 and 1
+     * @return fault
+     */
+    public static Fault truncate(final double fraction) {
+        return new Fault() {
+            @Override
+            public Response apply(final Request request, final HttpClient delegate, final Random random) {
+                Response response = delegate.makeRequest(request);
+                String content = response.getContent();
+                return new Response(content.substring(0, (int) (content.length() * fraction)),
+                    response.getStatusCode());
+            }
+        };
+    }
+
+    private static void sleep(final Request request, final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Interrupted sending " + request.getUrl(), e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.twilio.benchmark.chaos;
+
+import com.twilio.benchmark.emulator.LatencyModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Named set of fault rules, applied together to a {@link ChaosHttpClient}.
+ */
+public class FaultProfile {
+
+    private final String name;
+    private final List<String> endpoints = new ArrayList<>();
+    private final List<FaultSchedule> schedules = new ArrayList<>();
+    private final List<Fault> faults = new ArrayList<>();
+
+    public FaultProfile(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Add a fault rule.
+     *
+     * @param endpoint regular expression found in the templated url of the affected requests
+     * @param schedule which of the matching requests to affect
+     * @param fault fault to inject
+     * @return this profile
+     */
+    public FaultProfile fault(final String endpoint, final FaultSchedule schedule, final Fault fault) {
+        endpoints.add(endpoint);
+        schedules.add(schedule);
+        faults.add(fault);
+        return this;
+    }
+
+    /**
+     * Add a fault rule for any endpoint.
+     *
+     * @param schedule which requests to affect
+     * @param fault fault to inject
+     * @return this profile
+     */
+    public FaultProfile fault(final FaultSchedule schedule, final Fault fault) {
+        return fault("", schedule, fault);
+    }
+
+    /**
+     * Wrap a client in a chaos client injecting the faults of this profile.
+     *
+     * @param builder chaos client builder
+     * @return the builder
+     */
+    public ChaosHttpClient.Builder applyTo(final ChaosHttpClient.Builder builder) {
+        for (int i = 0; i < faults.size(); i++) {
+            builder.fault(endpoints.get(i), schedules.get(i), faults.get(i));
+        }
+        return builder;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the profiles run by default: no faults, slow responses, connection resets, 429 and 503
+     * bursts, truncated bodies and a short outage.
+     *
+     * @return standard profiles
+     */
+    public static List<FaultProfile> standard() {
+        return Arrays.asList(
+            new FaultProfile("baseline"),
+            new FaultProfile("slow-10%")
+                .fault(FaultSchedule.probability(0.1), Fault.slow(LatencyModel.logNormal(400, 0.5))),
+            new FaultProfile("reset-2%")
+                .fault(FaultSchedule.probability(0.02), Fault.reset()),
+            new FaultProfile("429-burst")
+                .fault(FaultSchedule.burst(100, 10), Fault.status(429)),
+            new FaultProfile("503-burst")
+                .fault(FaultSchedule.burst(50, 5), Fault.status(503)),
+            new FaultProfile("truncated-5%")
+                .fault(FaultSchedule.probability(0.05), Fault.truncate(0.5)),
+            new FaultProfile("outage")
+                .fault(FaultSchedule.window(1000, 1500, FaultSchedule.always()), Fault.status(503))
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package com.twilio.benchmark.chaos;
+
+import java.util.Random;
+
+/**
+ * Decides which of the requests matching a fault rule get the fault.
+ *
+ * <p>
+ *     Schedules are deterministic: given the same seed, the n-th matching request gets the same
+ *     decision on every run, whatever the thread it's sent from.
+ * </p>
+ */
+public abstract class FaultSchedule {
+
+    /**
+     * Decide whether to inject the fault.
+     *
+     * @param index index of the request among those matching the rule, starting at 0
+     * @param elapsedMillis time since the chaos client was created
+     * @param random seeded source of randomness, private to the rule
+     * @return true to inject the fault
+     */
+    public abstract boolean fires(final long index, final long elapsedMillis, final Random random);
+
+    /**
+     * Inject the fault into every matching request.
+     *
+     * @return schedule
+     */
+    public static FaultSchedule always() {
+        return new FaultSchedule() {
+            @Override
+            public boolean fires(final long index, final long elapsedMillis, final Random random) {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Inject the fault into a random share of matching requests.
+     *
+     * @param probability share of requests, between 0 and 1
+     * @return schedule
+     */
+    public static FaultSchedule probability(final double probability) {
+        return new FaultSchedule() {
+            @Override
+            public boolean fires(final long index, final long elapsedMillis, final Random random) {
+                return random.nextDouble() < probability;
+            }
+        };
+    }
+
+    /**
+     * Inject the fault into runs of consecutive requests, e.g. 10 out of every 100.
+     *
+     * @param period number of requests after which the burst repeats
+     * @param length number of requests in each burst
+     * @return schedule
+     */
+    public static FaultSchedule burst(final long period, final long length) {
+        return new FaultSchedule() {
+            @Override
+            public boolean fires(final long index, final long elapsedMillis, final Random random) {
+                return index % period < length;
+            }
+        };
+    }
+
+    /**
+     * Follow a script, one character per request and repeating once exhausted: {@code x} injects the
+     * fault and any other character, conventionally {@code .}, lets the request through. For example
+     * {@code "...xx"} fails the 4th and 5th of every 5 requests.
+     *
+     * @param script fault script
+     * @return schedule
+     */
+    public static FaultSchedule script(final String script) {
+        if (script.isEmpty()) {
+            throw new IllegalArgumentException("Fault script must not be empty");
+        }
+
+        return new FaultSchedule() {
+            @Override
+            public boolean fires(final long index, final long elapsedMillis, final Random random) {
+                return script.charAt((int) (index % script.length())) == 'x';
+            }
+        };
+    }
+
+    /**
+     * Apply another schedule only during a time window, e.g. to model an outage.
+     *
+     * @param fromMillis start of the window, relative to the creation of the chaos client
+     * @param toMillis end of the window, excluded
+     * @param schedule schedule to apply during the window
+     * @return schedule
+     */
+    public static FaultSchedule window(final long fromMillis, final long toMillis, final FaultSchedule schedule) {
+        return new FaultSchedule() {
+            @Override
+            public boolean fires(final long index, final long elapsedMillis, final Random random) {
+                return elapsedMillis >= fromMillis && elapsedMillis < toMillis
+                    && schedule.fires(index, elapsedMillis, random);
+            }
+        };
+    }
+}
@@ -0,0 +1,267 @@
+package com.twilio.benchmark.chaos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.benchmark.emulator.LatencyModel;
+import com.twilio.benchmark.emulator.TwilioEmulator;
+import com.twilio.http.HttpClient;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.NetworkHttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures goodput and tail latency of {@link HttpClient#reliableRequest(Request)} under each
+ * {@link FaultProfile}.
+ *
+ * <p>
+ *     Worker threads fetch messages from the emulator in a closed loop for a fixed time, each call
+ *     carrying a deadline, through a fresh {@link ChaosHttpClient} per profile. A call is good when it
+ *     ends in a 2xx response whose body parses; latency covers the whole call, retries included.
+ * </p>
+ */
+public class ResilienceBenchmark {
+
+    private static final int THREADS = 16;
+
+    private final HttpClient transport;
+    private final String accountSid;
+    private final int threads;
+    private final long durationMillis;
+    private final long timeoutMillis;
+    private final int retries;
+    private final long delayMillis;
+    private final long seed;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private ResilienceBenchmark(Builder b) {
+        this.transport = b.transport;
+        this.accountSid = b.accountSid;
+        this.threads = b.threads;
+        this.durationMillis = b.durationMillis;
+        this.timeoutMillis = b.timeoutMillis;
+        this.retries = b.retries;
+        this.delayMillis = b.delayMillis;
+        this.seed = b.seed;
+    }
+
+    /**
+     * Run every profile, one after the other.
+     *
+     * @param profiles profiles to run
+     * @return one result per profile
+     * @throws InterruptedException if interrupted while running
+     */
+    public List<ScenarioResult> run(final List<FaultProfile> profiles) throws InterruptedException {
+        List<ScenarioResult> results = new ArrayList<>();
+        for (final FaultProfile profile : profiles) {
+            results.add(run(profile));
+        }
+        return results;
+    }
+
+    /**
+     * Run a profile.
+     *
+     * @param profile profile to run
+     * @return result of the profile
+     * @throws InterruptedException if interrupted while running
+     */
+    public ScenarioResult run(final FaultProfile profile) throws InterruptedException {
+        final ChaosHttpClient chaos = profile.applyTo(new ChaosHttpClient.Builder(transport).seed(seed)).build();
+        final long start = System.nanoTime();
+        final long end = start + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Outcome>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int worker = t;
+            futures.add(executor.submit(new Callable<Outcome>() {
+                @Override
+                public Outcome call() {
+                    return work(chaos, worker, end);
+                }
+            }));
+        }
+        executor.shutdown();
+
+        Outcome total = new Outcome();
+        for (final Future<Outcome> future : futures) {
+            try {
+                total.add(future.get());
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException("Benchmark worker failed", e.getCause());
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] latencies = new long[total.latencies.size()];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = total.latencies.get(i);
+        }
+        return new ScenarioResult(profile.getName(), latencies.length, total.good, total.errorStatuses,
+            total.corrupt, total.exceptions, elapsed, latencies);
+    }
+
+    private Outcome work(final HttpClient client, final int worker, final long end) {
+        Outcome outcome = new Outcome();
+        for (long i = 0; System.nanoTime() < end; i++) {
+            Request request = new Request(
+                HttpMethod.GET,
+                "https://api.twilio.com/2010-04-01/Accounts/" + accountSid + "/Messages/"
+                    + Fixtures.sid("SM", worker * 1000000L + i % 1000) + ".json"
+            );
+            request.setAuth(accountSid, "token");
+            request.setTimeout(timeoutMillis);
+
+            long start = System.nanoTime();
+            try {
+                Response response = client.reliableRequest(request, HttpClient.RETRY_CODES, retries, delayMillis);
+                int status = response.getStatusCode();
+                if (status < 200 || status >= 300) {
+                    outcome.errorStatuses++;
+                } else if (parses(response.getContent())) {
+                    outcome.good++;
+                } else {
+                    outcome.corrupt++;
+                }
+            } catch (final RuntimeException e) {
+                outcome.exceptions++;
+            }
+            outcome.latencies.add(System.nanoTime() - start);
+        }
+        return outcome;
+    }
+
+    private boolean parses(final String content) {
+        try {
+            mapper.readTree(content);
+            return true;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Run the standard profiles against an emulator answering with realistic latency.
+     *
+     * @param args command line arguments, unused
+     * @throws Exception if the benchmark fails
+     */
+    public static void main(final String[] args) throws Exception {
+        try (TwilioEmulator emulator = new TwilioEmulator.Builder().latency(LatencyModel.logNormal(20, 0.5)).build()) {
+            // The default pool allows 2 connections per host, which would be the only thing measured
+            HttpClient transport = emulator.httpClient(new NetworkHttpClient(THREADS, THREADS));
+            try {
+                ResilienceBenchmark benchmark = new ResilienceBenchmark.Builder(transport)
+                    .accountSid(emulator.getAccountSid())
+                    .build();
+                for (final ScenarioResult result : benchmark.run(FaultProfile.standard())) {
+                    System.out.println(result);
+                }
+            } finally {
+                transport.close();
+            }
+        }
+    }
+
+    private static class Outcome {
+        private long good;
+        private long errorStatuses;
+        private long corrupt;
+        private long exceptions;
+        private final List<Long> latencies = new ArrayList<>();
+
+        private void add(final Outcome other) {
+            good += other.good;
+            errorStatuses += other.errorStatuses;
+            corrupt += other.corrupt;
+            exceptions += other.exceptions;
+            latencies.addAll(other.latencies);
+        }
+    }
+
+    public static class Builder {
+        private final HttpClient transport;
+        private String accountSid = Fixtures.sid("AC", 1);
+        private int threads = THREADS;
+        private long durationMillis = 5000L;
+        private long timeoutMillis = 1000L;
+        private int retries = HttpClient.RETRIES;
+        private long delayMillis = HttpClient.DELAY_MILLIS;
+        private long seed = 42L;
+
+        /**
+         * Create a new benchmark builder.
+         *
+         * @param transport client sending requests to the emulator, e.g. {@link TwilioEmulator#httpClient()}
+         */
+        public Builder(HttpClient transport) {
+            this.transport = transport;
+        }
+
+        public Builder accountSid(String accountSid) {
+            this.accountSid = accountSid;
+            return this;
+        }
+
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Set how long each profile runs; profiles with time windows need it to cover the window.
+         *
+         * @param durationMillis run time per profile
+         * @return this builder
+         */
+        public Builder durationMillis(long durationMillis) {
+            this.durationMillis = durationMillis;
+            return this;
+        }
+
+        /**
+         * Set the deadline of each call, retries included.
+         *
+         * @param timeoutMillis call timeout
+         * @return this builder
+         */
+        public Builder timeoutMillis(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+            return this;
+        }
+
+        /**
+         * Set the retry policy passed to {@code reliableRequest}.
+         *
+         * @param retries max attempts per call
+         * @param delayMillis delay between attempts
+         * @return this builder
+         */
+        public Builder retries(int retries, long delayMillis) {
+            this.retries = retries;
+            this.delayMillis = delayMillis;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public ResilienceBenchmark build() {
+            return new ResilienceBenchmark(this);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.twilio.benchmark.chaos;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of running a fault profile.
+ */
+public class ScenarioResult {
+
+    private final String name;
+    private final long calls;
+    private final long good;
+    private final long errorStatuses;
+    private final long corrupt;
+    private final long exceptions;
+    private final long elapsedNanos;
+    private final long[] latencyNanos;
+
+    ScenarioResult(final String name, final long calls, final long good, final long errorStatuses,
+                   final long corrupt, final long exceptions, final long elapsedNanos, final long[] latencyNanos) {
+        this.name = name;
+        this.calls = calls;
+        this.good = good;
+        this.errorStatuses = errorStatuses;
+        this.corrupt = corrupt;
+        this.exceptions = exceptions;
+        this.elapsedNanos = elapsedNanos;
+        this.latencyNanos = latencyNanos.clone();
+        Arrays.sort(this.latencyNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the number of {@code reliableRequest} calls made.
+     *
+     * @return calls made
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * Get the number of calls ending in a successful response with a complete body.
+     *
+     * @return good calls
+     */
+    public long getGood() {
+        return good;
+    }
+
+    /**
+     * Get the number of calls ending in an error status once retries were exhausted.
+     *
+     * @return calls failed with an error status
+     */
+    public long getErrorStatuses() {
+        return errorStatuses;
+    }
+
+    /**
+     * Get the number of calls ending in a successful status with a body that doesn't parse.
+     *
+     * @return calls with a corrupt body
+     */
+    public long getCorrupt() {
+        return corrupt;
+    }
+
+    public long getExceptions() {
+        return exceptions;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get the rate of good calls.
+     *
+     * @return good calls per second
+     */
+    public double getGoodput() {
+        return elapsedNanos == 0 ? 0 : good * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Get a percentile of the latency of calls, retries included.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return latency in nanoseconds
+     */
+    public long getLatencyNanos(final double percentile) {
+        if (latencyNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * latencyNanos.length) - 1;
+        return latencyNanos[Math.max(0, Math.min(latencyNanos.length - 1, index))];
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%-14s calls=%6d good=%6d errors=%5d corrupt=%5d exceptions=%5d goodput=%8.1f/s "
+                + "p50=%7.2fms p99=%7.2fms p99.9=%7.2fms max=%7.2fms",
+            name,
+            calls,
+            good,
+            errorStatuses,
+            corrupt,
+            exceptions,
+            getGoodput(),
+            getLatencyNanos(50) / 1e6,
+            getLatencyNanos(99) / 1e6,
+            getLatencyNanos(99.9) / 1e6,
+            getLatencyNanos(100) / 1e6
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package com.twilio.benchmark.emulator;
+
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HttpClient sending requests meant for *.twilio.com to a local emulator instead.
+ */
+public class EmulatorHttpClient extends HttpClient {
+
+    private static final Pattern TWILIO_HOST = Pattern.compile("^https://[^/]+\\.twilio\\.com");
+
+    private final String baseUrl;
+    private final HttpClient delegate;
+
+    /**
+     * Create a client for an emulator.
+     *
+     * @param baseUrl base url of the emulator, e.g. http://127.0.0.1:8080
+     * @param delegate client making the actual requests
+     */
+    public EmulatorHttpClient(final String baseUrl, final HttpClient delegate) {
+        this.baseUrl = baseUrl;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Response makeRequest(final Request request) {
+        return delegate.makeRequest(redirect(request, baseUrl));
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    public HttpClient getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Copy a request, pointing it at another host.
+     *
+     * @param request request to copy
+     * @param baseUrl scheme, host and port to send the request to
+     * @return the redirected request
+     */
+    public static Request redirect(final Request request, final String baseUrl) {
+        Request redirected = new Request(
+            request.getMethod(),
+            TWILIO_HOST.matcher(request.getUrl()).replaceFirst(Matcher.quoteReplacement(baseUrl))
+        );
+
+        for (Map.Entry<String, List<String>> entry : request.getQueryParams().entrySet()) {
+            for (String value : entry.getValue()) {
+                redirected.addQueryParam(entry.getKey(), value);
+            }
+        }
+        for (Map.Entry<String, List<String>> entry : request.getPostParams().entrySet()) {
+            for (String value : entry.getValue()) {
+                redirected.addPostParam(entry.getKey(), value);
+            }
+        }
+        if (request.requiresAuthentication()) {
+            redirected.setAuth(request.getUsername(), request.getPassword());
+        }
+        if (request.hasDeadline()) {
+            redirected.setDeadline(request.getDeadline());
+        }
+        return redirected;
+    }
+}
@@ -0,0 +1,318 @@
+package com.twilio.benchmark.emulator;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Strings;
+import com.twilio.rest.api.v2010.account.usage.Record;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Deterministic resource payloads shaped like the ones the Twilio API returns.
+ *
+ * <p>
+ *     Record n of a list is always the same, so paging through the emulator is repeatable; fields such
+ *     as status and price cycle through realistic values so filters have something to select on.
+ * </p>
+ */
+public final class Fixtures {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private static final DateTimeFormatter RFC2822 =
+        DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss Z").withZone(DateTimeZone.UTC).withLocale(Locale.US);
+    private static final DateTimeFormatter ISO8601 =
+        DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss'Z'").withZone(DateTimeZone.UTC);
+    private static final long EPOCH_MILLIS = new DateTime(2017, 6, 1, 0, 0, DateTimeZone.UTC).getMillis();
+
+    private static final String[] MESSAGE_STATUSES = {"delivered", "sent", "delivered", "failed", "undelivered"};
+    private static final String[] CALL_STATUSES = {"completed", "completed", "busy", "no-answer", "failed"};
+    private static final String[] PRICES = {"-0.00750", "-0.01500", "-0.02250", "-0.03000"};
+    private static final String[] ACTIVITIES = {"Available", "Offline", "Busy"};
+
+    private static final String API = "/2010-04-01/Accounts/";
+    private static final String TASKROUTER = "https://taskrouter.twilio.com/v1/Workspaces/";
+
+    private Fixtures() {}
+
+    /**
+     * Build the sid of the n-th resource of a kind.
+     *
+     * @param prefix two letter sid prefix
+     * @param index index of the resource
+     * @return 34 character sid
+     */
+    public static String sid(final String prefix, final long index) {
+        return prefix + String.format("%032x", index);
+    }
+
+    private static String rfc2822(final long index, final long offsetSeconds) {
+        return RFC2822.print(EPOCH_MILLIS - index * 60000L + offsetSeconds * 1000L);
+    }
+
+    private static String iso8601(final long index, final long offsetSeconds) {
+        return ISO8601.print(EPOCH_MILLIS - index * 60000L + offsetSeconds * 1000L);
+    }
+
+    private static String phoneNumber(final long index) {
+        return "+1415" + String.format("%07d", index % 10000000L);
+    }
+
+    private static String param(final Map<String, String> params, final String name, final String fallback) {
+        String value = params.get(name);
+        return value == null ? fallback : value;
+    }
+
+    /**
+     * Build the n-th message, taking To, From and Body from the create parameters when given.
+     */
+    public static ObjectNode message(final String accountSid, final long index, final Map<String, String> params,
+                                     final int bodyLength) {
+        String sid = sid("SM", index);
+        String status = MESSAGE_STATUSES[(int) (index % MESSAGE_STATUSES.length)];
+        String uri = API + accountSid + "/Messages/" + sid;
+
+        ObjectNode record = NODES.objectNode();
+        record.put("account_sid", accountSid);
+        record.put("api_version", "2010-04-01");
+        record.put("body", param(params, "Body", Strings.padEnd("Message " + index + " ", bodyLength, 'x')));
+        record.put("date_created", rfc2822(index, 0));
+        record.put("date_sent", rfc2822(index, 2));
+        record.put("date_updated", rfc2822(index, 2));
+        record.put("direction", "outbound-api");
+        if ("failed".equals(status) || "undelivered".equals(status)) {
+            record.put("error_code", 30003);
+            record.put("error_message", "Unreachable destination handset");
+        } else {
+            record.putNull("error_code");
+            record.putNull("error_message");
+        }
+        record.put("from", param(params, "From", "+14155552345"));
+        record.put("messaging_service_sid", param(params, "MessagingServiceSid", sid("MG", 1)));
+        record.put("num_media", "0");
+        record.put("num_segments", "1");
+        record.put("price", PRICES[(int) (index % PRICES.length)]);
+        record.put("price_unit", "USD");
+        record.put("sid", sid);
+        record.put("status", status);
+        record.putObject("subresource_uris").put("media", uri + "/Media.json");
+        record.put("to", param(params, "To", phoneNumber(index)));
+        record.put("uri", uri + ".json");
+        return record;
+    }
+
+    /**
+     * Build the n-th call, taking To and From from the create parameters when given.
+     */
+    public static ObjectNode call(final String accountSid, final long index, final Map<String, String> params) {
+        String sid = sid("CA", index);
+        String uri = API + accountSid + "/Calls/" + sid;
+        String from = param(params, "From", "+14158675308");
+
+        ObjectNode record = NODES.objectNode();
+        record.put("account_sid", accountSid);
+        record.putNull("annotation");
+        record.putNull("answered_by");
+        record.put("api_version", "2010-04-01");
+        record.putNull("caller_name");
+        record.put("date_created", rfc2822(index, 0));
+        record.put("date_updated", rfc2822(index, 16));
+        record.put("direction", "outbound-api");
+        record.put("duration", Long.toString(index % 600));
+        record.put("end_time", rfc2822(index, 16));
+        record.putNull("forwarded_from");
+        record.put("from", from);
+        record.put("from_formatted", from);
+        record.putNull("group_sid");
+        record.putNull("parent_call_sid");
+        record.put("phone_number_sid", sid("PN", 1));
+        record.put("price", PRICES[(int) (index % PRICES.length)]);
+        record.put("price_unit", "USD");
+        record.put("sid", sid);
+        record.put("start_time", rfc2822(index, 1));
+        record.put("status", CALL_STATUSES[(int) (index % CALL_STATUSES.length)]);
+        ObjectNode subresources = record.putObject("subresource_uris");
+        subresources.put("notifications", uri + "/Notifications.json");
+        subresources.put("recordings", uri + "/Recordings.json");
+        record.put("to", param(params, "To", phoneNumber(index)));
+        record.put("to_formatted", param(params, "To", phoneNumber(index)));
+        record.put("uri", uri + ".json");
+        return record;
+    }
+
+    /**
+     * Build the n-th recording.
+     */
+    public static ObjectNode recording(final String accountSid, final long index) {
+        String sid = sid("RE", index);
+
+        ObjectNode record = NODES.objectNode();
+        record.put("account_sid", accountSid);
+        record.put("api_version", "2010-04-01");
+        record.put("call_sid", sid("CA", index));
+        record.put("date_created", rfc2822(index, 0));
+        record.put("date_updated", rfc2822(index, 0));
+        record.put("duration", Long.toString(index % 300));
+        record.put("sid", sid);
+        record.put("price", "-0.00250");
+        record.put("price_unit", "USD");
+        record.put("status", "completed");
+        record.put("channels", 1);
+        record.put("source", "OutboundAPI");
+        record.put("uri", API + accountSid + "/Recordings/" + sid + ".json");
+        return record;
+    }
+
+    /**
+     * Build the n-th usage record, cycling through the usage categories.
+     */
+    public static ObjectNode usageRecord(final String accountSid, final long index) {
+        Record.Category[] categories = Record.Category.values();
+        String category = categories[(int) (index % categories.length)].toString();
+        String uri = API + accountSid + "/Usage/Records";
+        String price = PRICES[(int) (index % PRICES.length)].substring(1);
+
+        ObjectNode record = NODES.objectNode();
+        record.put("account_sid", accountSid);
+        record.put("api_version", "2010-04-01");
+        record.put("category", category);
+        record.put("count", Long.toString(index % 1000));
+        record.put("count_unit", "messages");
+        record.put("description", "Usage of " + category);
+        record.put("end_date", "2017-06-30");
+        record.put("price", price);
+        record.put("price_unit", "usd");
+        record.put("start_date", "2017-06-01");
+        ObjectNode subresources = record.putObject("subresource_uris");
+        subresources.put("daily", uri + "/Daily.json?Category=" + category);
+        subresources.put("monthly", uri + "/Monthly.json?Category=" + category);
+        subresources.put("yearly", uri + "/Yearly.json?Category=" + category);
+        record.put("uri", uri + "?Category=" + category + "&StartDate=2017-06-01&EndDate=2017-06-30");
+        record.put("usage", price);
+        record.put("usage_unit", "usd");
+        return record;
+    }
+
+    /**
+     * Wrap records in a page shaped like the ones of the 2010-04-01 api.
+     *
+     * @param key name of the record list, e.g. messages
+     * @param uri uri of the list
+     * @param records records of the page
+     * @return page
+     */
+    public static ObjectNode apiPage(final String key, final String uri, final List<ObjectNode> records) {
+        ObjectNode page = NODES.objectNode();
+        page.put("end", records.size() - 1);
+        page.put("first_page_uri", uri + "?PageSize=" + records.size() + "&Page=0");
+        page.putNull("next_page_uri");
+        page.put("page", 0);
+        page.put("page_size", records.size());
+        page.putNull("previous_page_uri");
+        page.put("start", 0);
+        page.put("uri", uri + "?PageSize=" + records.size() + "&Page=0");
+        page.putArray(key).addAll(records);
+        return page;
+    }
+
+    /**
+     * Build the n-th TaskRouter workspace, taking FriendlyName from the create parameters when given.
+     */
+    public static ObjectNode workspace(final String accountSid, final long index, final Map<String, String> params) {
+        String sid = sid("WS", index);
+        String url = TASKROUTER + sid;
+
+        ObjectNode record = NODES.objectNode();
+        record.put("account_sid", accountSid);
+        record.put("date_created", iso8601(index, 0));
+        record.put("date_updated", iso8601(index, 0));
+        record.put("default_activity_name", "Offline");
+        record.put("default_activity_sid", sid("WA", 1));
+        record.put("event_callback_url", "");
+        record.put("events_filter", "");
+        record.put("friendly_name", param(params, "FriendlyName", "Workspace " + index));
+        ObjectNode links = record.putObject("links");
+        links.put("activities", url + "/Activities");
+        links.put("statistics", url + "/Statistics");
+        links.put("task_queues", url + "/TaskQueues");
+        links.put("tasks", url + "/Tasks");
+        links.put("workers", url + "/Workers");
+        links.put("workflows", url + "/Workflows");
+        record.put("multi_task_enabled", "false");
+        record.put("prioritize_queue_order", "FIFO");
+        record.put("sid", sid);
+        record.put("timeout_activity_name", "Offline");
+        record.put("timeout_activity_sid", sid("WA", 1));
+        record.put("url", url);
+        return record;
+    }
+
+    /**
+     * Build the n-th worker of a workspace, taking FriendlyName and Attributes from the create parameters when given.
+     */
+    public static ObjectNode worker(final String accountSid, final String workspaceSid, final long index,
+                                    final Map<String, String> params) {
+        String sid = sid("WK", index);
+        int activity = (int) (index % ACTIVITIES.length);
+
+        ObjectNode record = NODES.objectNode();
+        record.put("account_sid", accountSid);
+        record.put("activity_name", ACTIVITIES[activity]);
+        record.put("activity_sid", sid("WA", activity));
+        record.put("attributes", param(params, "Attributes", "{\"email\": \"worker" + index + "@example.com\"}"));
+        record.put("available", activity == 0);
+        record.put("date_created", iso8601(index, 0));
+        record.put("date_status_changed", iso8601(index, 30));
+        record.put("date_updated", iso8601(index, 30));
+        record.put("friendly_name", param(params, "FriendlyName", "Worker " + index));
+        record.put("sid", sid);
+        record.put("url", TASKROUTER + workspaceSid + "/Workers/" + sid);
+        record.put("workspace_sid", workspaceSid);
+        ObjectNode links = record.putObject("links");
+        links.put("activity", TASKROUTER + workspaceSid + "/Activities/" + sid("WA", activity));
+        links.put("workspace", TASKROUTER + workspaceSid);
+        return record;
+    }
+
+    /**
+     * Build the n-th task of a workspace, taking Attributes and WorkflowSid from the create parameters when given.
+     */
+    public static ObjectNode task(final String accountSid, final String workspaceSid, final long index,
+                                  final Map<String, String> params) {
+        String sid = sid("WT", index);
+        String url = TASKROUTER + workspaceSid + "/Tasks/" + sid;
+
+        ObjectNode record = NODES.objectNode();
+        record.put("account_sid", accountSid);
+        record.put("age", index % 86400);
+        record.put("assignment_status", index % 2 == 0 ? "pending" : "assigned");
+        record.put("attributes", param(params, "Attributes", "{\"body\": \"task " + index + "\"}"));
+        record.put("date_created", iso8601(index, 0));
+        record.put("date_updated", iso8601(index, 10));
+        record.put("priority", index % 10);
+        record.putNull("reason");
+        record.put("sid", sid);
+        record.put("task_queue_sid", sid("WQ", 1));
+        record.put("task_channel_sid", sid("TC", 1));
+        record.put("task_channel_unique_name", "default");
+        record.put("timeout", 86400);
+        record.put("url", url);
+        record.put("workflow_sid", param(params, "WorkflowSid", sid("WF", 1)));
+        record.put("workspace_sid", workspaceSid);
+        record.put("workflow_friendly_name", "Default Workflow");
+        record.put("task_queue_friendly_name", "Default Queue");
+        record.put("addons", "{}");
+        ObjectNode links = record.putObject("links");
+        links.put("task_queue", TASKROUTER + workspaceSid + "/TaskQueues/" + sid("WQ", 1));
+        links.put("workflow", TASKROUTER + workspaceSid + "/Workflows/" + sid("WF", 1));
+        links.put("workspace", TASKROUTER + workspaceSid);
+        links.put("reservations", url + "/Reservations");
+        return record;
+    }
+}
@@ -0,0 +1,73 @@
+package com.twilio.benchmark.emulator;
+
+import java.util.Random;
+
+/**
+ * Distribution of the time the emulator takes to answer a request.
+ */
+public abstract class LatencyModel {
+
+    /**
+     * Draw the delay of the next response.
+     *
+     * @param random seeded source of randomness
+     * @return delay in milliseconds
+     */
+    public abstract long nextDelayMillis(final Random random);
+
+    /**
+     * Answer immediately.
+     *
+     * @return latency model
+     */
+    public static LatencyModel none() {
+        return fixed(0);
+    }
+
+    /**
+     * Answer after a constant delay.
+     *
+     * @param millis delay in milliseconds
+     * @return latency model
+     */
+    public static LatencyModel fixed(final long millis) {
+        return new LatencyModel() {
+            @Override
+            public long nextDelayMillis(final Random random) {
+                return millis;
+            }
+        };
+    }
+
+    /**
+     * Answer after a delay drawn uniformly from a range.
+     *
+     * @param minMillis shortest delay
+     * @param maxMillis longest delay
+     * @return latency model
+     */
+    public static LatencyModel uniform(final long minMillis, final long maxMillis) {
+        return new LatencyModel() {
+            @Override
+            public long nextDelayMillis(final Random random) {
+                return minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+            }
+        };
+    }
+
+    /**
+     * Answer after a log-normally distributed delay, the usual shape of service latency with a long tail.
+     *
+     * @param medianMillis median delay
+     * @param sigma spread; 0.5 puts p99 at about 3.2 times the median
+     * @return latency model
+     */
+    public static LatencyModel logNormal(final double medianMillis, final double sigma) {
+        return new LatencyModel() {
+            @Override
+            public long nextDelayMillis(final Random random) {
+                return Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+            }
+        };
+    }
+}
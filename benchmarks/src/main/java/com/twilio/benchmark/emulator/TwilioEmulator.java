@@ -0,0 +1,542 @@
+package com.twilio.benchmark.emulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Splitter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.twilio.http.HttpClient;
+import com.twilio.http.NetworkHttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process HTTP emulator of the Twilio REST API surfaces most load tests touch.
+ *
+ * <p>
+ *     Serves api.v2010 Messages, Calls and Recordings and taskrouter.v1 Workspaces, Workers and Tasks,
+ *     including list paging in both the next_page_uri and meta.next_page_url styles. Lists hold a fixed
+ *     number of generated records; creates, updates and deletes are answered but not stored.
+ *     Latency and error responses are drawn from a seeded random source.
+ * </p>
+ */
+public class TwilioEmulator implements Closeable {
+
+    private static final Pattern API_LIST =
+        Pattern.compile("^/2010-04-01/Accounts/(AC\\w{32})/(Messages|Calls|Recordings)\\.json$");
+    private static final Pattern API_INSTANCE =
+        Pattern.compile("^/2010-04-01/Accounts/(AC\\w{32})/(Messages|Calls|Recordings)/(\\w{34})\\.json$");
+    private static final Pattern WORKSPACE_LIST = Pattern.compile("^/v1/Workspaces$");
+    private static final Pattern WORKSPACE_INSTANCE = Pattern.compile("^/v1/Workspaces/(WS\\w{32})$");
+    private static final Pattern TASKROUTER_LIST = Pattern.compile("^/v1/Workspaces/(WS\\w{32})/(Workers|Tasks)$");
+    private static final Pattern TASKROUTER_INSTANCE =
+        Pattern.compile("^/v1/Workspaces/(WS\\w{32})/(Workers|Tasks)/(\\w{34})$");
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    static {
+        // The JDK server writes headers and body separately; with Nagle's algorithm on, every response
+        // then waits out the client's delayed ACK, adding ~40ms to each request
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String accountSid;
+    private final long recordsPerList;
+    private final LatencyModel latency;
+    private final double errorRate;
+    private final int[] errorStatuses;
+    private final int messageBodyLength;
+    private final Random random;
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private TwilioEmulator(Builder b) throws IOException {
+        this.accountSid = b.accountSid;
+        this.recordsPerList = b.recordsPerList;
+        this.latency = b.latency;
+        this.errorRate = b.errorRate;
+        this.errorStatuses = b.errorStatuses;
+        this.messageBodyLength = b.messageBodyLength;
+        this.random = new Random(b.seed);
+
+        this.executor = Executors.newFixedThreadPool(b.threads);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", b.port), b.backlog);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(final HttpExchange exchange) throws IOException {
+                serve(exchange);
+            }
+        });
+        this.server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    public String getAccountSid() {
+        return accountSid;
+    }
+
+    public long getRecordsPerList() {
+        return recordsPerList;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return errors.get();
+    }
+
+    /**
+     * Create an HttpClient sending SDK requests to this emulator.
+     *
+     * @return client for this emulator
+     */
+    public HttpClient httpClient() {
+        return httpClient(new NetworkHttpClient());
+    }
+
+    /**
+     * Wrap an HttpClient so it sends SDK requests to this emulator.
+     *
+     * @param delegate client making the actual requests
+     * @return client for this emulator
+     */
+    public HttpClient httpClient(final HttpClient delegate) {
+        return new EmulatorHttpClient(getBaseUrl(), delegate);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void serve(final HttpExchange exchange) throws IOException {
+        try {
+            requests.incrementAndGet();
+            delay();
+
+            Reply reply;
+            if (errorRate > 0 && nextDouble() < errorRate) {
+                errors.incrementAndGet();
+                reply = error(errorStatuses[nextInt(errorStatuses.length)], "Injected error");
+            } else {
+                reply = route(
+                    exchange.getRequestMethod(),
+                    exchange.getRequestURI().getRawPath(),
+                    parseForm(exchange.getRequestURI().getRawQuery()),
+                    parseForm(readBody(exchange.getRequestBody()))
+                );
+            }
+
+            byte[] body = reply.body == null ? new byte[0] : mapper.writeValueAsBytes(reply.body);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(reply.status, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Reply route(final String method, final String path, final Map<String, String> query,
+                        final Map<String, String> form) {
+        Matcher m = API_LIST.matcher(path);
+        if (m.matches()) {
+            String account = m.group(1);
+            String kind = m.group(2);
+            if ("GET".equals(method)) {
+                return apiPage(account, kind, query);
+            }
+            if ("POST".equals(method) && !"Recordings".equals(kind)) {
+                return new Reply(201, apiRecord(account, kind, recordsPerList + created.incrementAndGet(), form));
+            }
+        }
+
+        m = API_INSTANCE.matcher(path);
+        if (m.matches()) {
+            Long index = indexOf(m.group(3));
+            if (index != null) {
+                return instance(method, apiRecord(m.group(1), m.group(2), index, form));
+            }
+        }
+
+        m = WORKSPACE_LIST.matcher(path);
+        if (m.matches()) {
+            if ("GET".equals(method)) {
+                return taskrouterPage(null, "Workspaces", query);
+            }
+            if ("POST".equals(method)) {
+                long index = recordsPerList + created.incrementAndGet();
+                return new Reply(201, Fixtures.workspace(accountSid, index, form));
+            }
+        }
+
+        m = WORKSPACE_INSTANCE.matcher(path);
+        if (m.matches()) {
+            Long index = indexOf(m.group(1));
+            if (index != null) {
+                return instance(method, Fixtures.workspace(accountSid, index, form));
+            }
+        }
+
+        m = TASKROUTER_LIST.matcher(path);
+        if (m.matches()) {
+            if ("GET".equals(method)) {
+                return taskrouterPage(m.group(1), m.group(2), query);
+            }
+            if ("POST".equals(method)) {
+                long index = recordsPerList + created.incrementAndGet();
+                return new Reply(201, taskrouterRecord(m.group(1), m.group(2), index, form));
+            }
+        }
+
+        m = TASKROUTER_INSTANCE.matcher(path);
+        if (m.matches()) {
+            Long index = indexOf(m.group(3));
+            if (index != null) {
+                return instance(method, taskrouterRecord(m.group(1), m.group(2), index, form));
+            }
+        }
+
+        return error(404, "The requested resource " + path + " was not found");
+    }
+
+    private static Reply instance(final String method, final ObjectNode record) {
+        if ("DELETE".equals(method)) {
+            return new Reply(204, null);
+        }
+        return new Reply(200, record);
+    }
+
+    private ObjectNode apiRecord(final String account, final String kind, final long index,
+                                 final Map<String, String> params) {
+        switch (kind) {
+            case "Messages":
+                return Fixtures.message(account, index, params, messageBodyLength);
+            case "Calls":
+                return Fixtures.call(account, index, params);
+            default:
+                return Fixtures.recording(account, index);
+        }
+    }
+
+    private ObjectNode taskrouterRecord(final String workspaceSid, final String kind, final long index,
+                                        final Map<String, String> params) {
+        if ("Workers".equals(kind)) {
+            return Fixtures.worker(accountSid, workspaceSid, index, params);
+        }
+        return Fixtures.task(accountSid, workspaceSid, index, params);
+    }
+
+    private Reply apiPage(final String account, final String kind, final Map<String, String> query) {
+        int pageSize = pageSize(query);
+        int page = page(query);
+        String key = kind.toLowerCase();
+        String uri = "/2010-04-01/Accounts/" + account + "/" + kind + ".json";
+
+        ObjectNode body = mapper.createObjectNode();
+        ArrayNode records = body.putArray(key);
+        long start = start(query, page, pageSize);
+        long end = Math.min(start + pageSize, recordsPerList);
+        for (long i = start; i < end; i++) {
+            records.add(apiRecord(account, kind, i, query));
+        }
+
+        body.put("first_page_uri", pageUri(uri, pageSize, 0, 0));
+        body.put("start", start);
+        body.put("end", Math.max(start, end - 1));
+        body.put("page", page);
+        body.put("page_size", pageSize);
+        body.put("uri", pageUri(uri, pageSize, page, start));
+        if (end < recordsPerList) {
+            body.put("next_page_uri", pageUri(uri, pageSize, page + 1, end));
+        } else {
+            body.putNull("next_page_uri");
+        }
+        if (page > 0) {
+            body.put("previous_page_uri", pageUri(uri, pageSize, page - 1, Math.max(0, start - pageSize)));
+        } else {
+            body.putNull("previous_page_uri");
+        }
+        return new Reply(200, body);
+    }
+
+    private Reply taskrouterPage(final String workspaceSid, final String kind, final Map<String, String> query) {
+        int pageSize = pageSize(query);
+        int page = page(query);
+        String key = kind.toLowerCase();
+        String url = "https://taskrouter.twilio.com/v1/Workspaces"
+            + (workspaceSid == null ? "" : "/" + workspaceSid + "/" + kind);
+
+        ObjectNode body = mapper.createObjectNode();
+        ArrayNode records = body.putArray(key);
+        long start = start(query, page, pageSize);
+        long end = Math.min(start + pageSize, recordsPerList);
+        for (long i = start; i < end; i++) {
+            records.add(workspaceSid == null
+                ? Fixtures.workspace(accountSid, i, query)
+                : taskrouterRecord(workspaceSid, kind, i, query));
+        }
+
+        ObjectNode meta = body.putObject("meta");
+        meta.put("first_page_url", pageUri(url, pageSize, 0, 0));
+        meta.put("key", key);
+        if (end < recordsPerList) {
+            meta.put("next_page_url", pageUri(url, pageSize, page + 1, end));
+        } else {
+            meta.putNull("next_page_url");
+        }
+        meta.put("page", page);
+        meta.put("page_size", pageSize);
+        if (page > 0) {
+            meta.put("previous_page_url", pageUri(url, pageSize, page - 1, Math.max(0, start - pageSize)));
+        } else {
+            meta.putNull("previous_page_url");
+        }
+        meta.put("url", pageUri(url, pageSize, page, start));
+        return new Reply(200, body);
+    }
+
+    private static String pageUri(final String base, final int pageSize, final int page, final long start) {
+        String uri = base + "?PageSize=" + pageSize + "&Page=" + page;
+        if (page > 0) {
+            uri += "&PageToken=PA" + Fixtures.sid("", start);
+        }
+        return uri;
+    }
+
+    /**
+     * Find the first record of a page, from its token like the API does, so the size of pages may change
+     * between requests.
+     */
+    private static long start(final Map<String, String> query, final int page, final int pageSize) {
+        String token = query.get("PageToken");
+        if (token != null && token.startsWith("PA")) {
+            try {
+                return Long.parseLong(token.substring(2), 16);
+            } catch (final NumberFormatException e) {
+                // Not one of ours, fall back to the page number
+            }
+        }
+        return (long) page * pageSize;
+    }
+
+    private static int pageSize(final Map<String, String> query) {
+        String value = query.get("PageSize");
+        return value == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(MAX_PAGE_SIZE, Integer.parseInt(value)));
+    }
+
+    private static int page(final Map<String, String> query) {
+        String value = query.get("Page");
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+
+    private static Long indexOf(final String sid) {
+        try {
+            // Fixture sids are the index in hex; any other valid looking sid maps to some record
+            return Long.parseLong(sid.substring(sid.length() - 15), 16);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Reply error(final int status, final String message) {
+        ObjectNode body = mapper.createObjectNode();
+        body.put("code", 20000 + status);
+        body.put("message", message);
+        body.put("more_info", "https://www.twilio.com/docs/errors/" + (20000 + status));
+        body.put("status", status);
+        return new Reply(status, body);
+    }
+
+    private void delay() {
+        long millis;
+        synchronized (random) {
+            millis = latency.nextDelayMillis(random);
+        }
+
+        if (millis <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private int nextInt(final int bound) {
+        synchronized (random) {
+            return random.nextInt(bound);
+        }
+    }
+
+    private static String readBody(final InputStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> parseForm(final String encoded) throws UnsupportedEncodingException {
+        Map<String, String> params = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return params;
+        }
+
+        for (String pair : Splitter.on('&').omitEmptyStrings().split(encoded)) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(name, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+        }
+        return params;
+    }
+
+    private static class Reply {
+        private final int status;
+        private final ObjectNode body;
+
+        private Reply(final int status, final ObjectNode body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    public static class Builder {
+        private int port;
+        private int threads = 64;
+        private int backlog = 1024;
+        private String accountSid = Fixtures.sid("AC", 1);
+        private long recordsPerList = 1000;
+        private LatencyModel latency = LatencyModel.none();
+        private double errorRate;
+        private int[] errorStatuses = {500};
+        private int messageBodyLength = 40;
+        private long seed = 42L;
+
+        /**
+         * Listen on a fixed port instead of an ephemeral one.
+         *
+         * @param port port to listen on
+         * @return this builder
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        public Builder accountSid(String accountSid) {
+            this.accountSid = accountSid;
+            return this;
+        }
+
+        public Builder recordsPerList(long recordsPerList) {
+            this.recordsPerList = recordsPerList;
+            return this;
+        }
+
+        public Builder latency(LatencyModel latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Answer a share of requests with an error instead of the resource.
+         *
+         * @param errorRate probability of an error, between 0 and 1
+         * @param errorStatuses status codes to pick the error from
+         * @return this builder
+         */
+        public Builder errors(double errorRate, int... errorStatuses) {
+            this.errorRate = errorRate;
+            this.errorStatuses = errorStatuses.length == 0 ? new int[]{500} : errorStatuses.clone();
+            return this;
+        }
+
+        /**
+         * Set the length of generated message bodies, to emulate larger payloads.
+         *
+         * @param messageBodyLength body length in characters
+         * @return this builder
+         */
+        public Builder messageBodyLength(int messageBodyLength) {
+            this.messageBodyLength = messageBodyLength;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Start the emulator.
+         *
+         * @return the running emulator
+         * @throws IOException if the port can not be bound
+         */
+        public TwilioEmulator build() throws IOException {
+            return new TwilioEmulator(this);
+        }
+    }
+}
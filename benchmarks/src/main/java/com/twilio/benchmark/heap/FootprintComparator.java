@@ -0,0 +1,103 @@
+package com.twilio.benchmark.heap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a {@link ReaderFootprint} report against one of an earlier release and fails on growth.
+ *
+ * <p>
+ *     Footprints don't depend on the machine, only on the JVM and its collector, so reports taken on
+ *     the same JVM compare across machines. Usage: {@code FootprintComparator <baseline> <report> [tolerance %]};
+ *     exits with status 1 if any reader's allocated or retained bytes grew by more than the tolerance,
+ *     5% by default.
+ * </p>
+ */
+public final class FootprintComparator {
+
+    static final String[] METRICS = {"allocatedBytesPerRecord", "retainedBytesPerRecord", "retainedBytesPerPage"};
+
+    private static final double DEFAULT_TOLERANCE = 5.0;
+
+    private FootprintComparator() {}
+
+    /**
+     * Compare two reports.
+     *
+     * @param args command line arguments
+     * @throws IOException if a report can't be read
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: FootprintComparator <baseline> <report> [tolerance %]");
+            System.exit(2);
+        }
+
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode baselineReport = mapper.readTree(new File(args[0]));
+        JsonNode report = mapper.readTree(new File(args[1]));
+        if (!baselineReport.path("vm").equals(report.path("vm"))) {
+            System.out.println("Warning: the reports were taken on different JVMs, " +
+                baselineReport.path("vm").asText() + " and " + report.path("vm").asText());
+        }
+
+        Map<String, JsonNode> baseline = load(baselineReport);
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : load(report).entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s new%n", entry.getKey());
+                continue;
+            }
+
+            StringBuilder changes = new StringBuilder();
+            boolean regressed = false;
+            for (String metric : METRICS) {
+                double change = change(before.path(metric).asLong(), entry.getValue().path(metric).asLong());
+                regressed |= change > tolerance;
+                changes.append(String.format("  %s %+7.1f%%", metric, change));
+            }
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s%s%s%n", entry.getKey(), changes, regressed ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " regression(s) beyond " + tolerance + "%");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Index a report's metrics by reader and mode.
+     *
+     * @param report the report
+     * @return metrics by "reader:mode"
+     */
+    static Map<String, JsonNode> load(final JsonNode report) {
+        Map<String, JsonNode> metrics = new LinkedHashMap<>();
+        for (JsonNode reader : report.path("readers")) {
+            Iterator<Map.Entry<String, JsonNode>> modes = reader.path("modes").fields();
+            while (modes.hasNext()) {
+                Map.Entry<String, JsonNode> mode = modes.next();
+                metrics.put(reader.path("reader").asText() + ":" + mode.getKey(), mode.getValue());
+            }
+        }
+        return metrics;
+    }
+
+    static double change(final long before, final long after) {
+        if (before <= 0) {
+            return after <= 0 ? 0 : Double.POSITIVE_INFINITY;
+        }
+        return (after - before) * 100.0 / before;
+    }
+}
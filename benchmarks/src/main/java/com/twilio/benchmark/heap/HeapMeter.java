@@ -0,0 +1,60 @@
+package com.twilio.benchmark.heap;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.Callable;
+
+/**
+ * Measures how much heap a structure keeps alive, from the used heap after full collections.
+ *
+ * <p>
+ *     Collections are repeated until the used heap stops shrinking, so the figures are steady to a few
+ *     kilobytes, which is plenty for structures of megabytes. Run with G1 and a fixed heap, e.g.
+ *     -XX:+UseG1GC -Xms4g -Xmx4g, and without other threads allocating: the parallel and serial
+ *     collectors leave some dead objects in place after a full collection, which count as used.
+ * </p>
+ */
+public final class HeapMeter {
+
+    private static final int MAX_COLLECTIONS = 10;
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private static volatile Object retained;
+
+    private HeapMeter() {}
+
+    /**
+     * Get the heap used once everything unreachable is collected.
+     *
+     * @return used heap in bytes
+     * @throws InterruptedException if interrupted between collections
+     */
+    public static long usedAfterCollection() throws InterruptedException {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < MAX_COLLECTIONS; i++) {
+            System.gc();
+            Thread.sleep(50);
+            long now = MEMORY.getHeapMemoryUsage().getUsed();
+            if (now >= used) {
+                return now;
+            }
+            used = now;
+        }
+        return used;
+    }
+
+    /**
+     * Measure the heap kept alive by what a builder returns.
+     *
+     * @param builder builds the structure to measure
+     * @return bytes the structure keeps alive
+     * @throws Exception if the builder fails
+     */
+    public static long retainedBy(final Callable<?> builder) throws Exception {
+        long before = usedAfterCollection();
+        retained = builder.call();
+        long after = usedAfterCollection();
+        retained = null;
+        return after - before;
+    }
+}
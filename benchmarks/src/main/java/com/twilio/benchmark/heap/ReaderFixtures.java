@@ -0,0 +1,282 @@
+package com.twilio.benchmark.heap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.twilio.base.Reader;
+import com.twilio.base.Resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Finds the generated {@link Reader} types and the example page of each one.
+ *
+ * <p>
+ *     Every generated resource has a test whose testReadFullResponse answers a read with the example
+ *     page from the API definition, so the fixtures stay as realistic as the API's own examples and
+ *     follow the resources as they're regenerated. The example record is repeated, with a SID of its
+ *     own for each copy, to make pages of any size.
+ * </p>
+ */
+public final class ReaderFixtures {
+
+    private static final String READ_TEST = "testReadFullResponse";
+    private static final String RESPONSE = "new Response(\"";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final File testSources;
+
+    /**
+     * Read fixtures from the SDK's test sources.
+     *
+     * @param testSources the SDK's src/test/java directory
+     */
+    public ReaderFixtures(final File testSources) {
+        this.testSources = testSources;
+    }
+
+    /**
+     * Find the reader types the SDK on the classpath has, by name.
+     *
+     * @return reader types
+     * @throws IOException if the SDK's classes can't be listed
+     */
+    public static List<Class<? extends Reader<?>>> readerTypes() throws IOException {
+        File sdk;
+        try {
+            sdk = new File(Reader.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (final URISyntaxException e) {
+            throw new IOException(e);
+        }
+
+        List<String> names = new ArrayList<>();
+        if (sdk.isDirectory()) {
+            listClasses(sdk, "", names);
+        } else {
+            try (JarFile jar = new JarFile(sdk)) {
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    names.add(entries.nextElement().getName());
+                }
+            }
+        }
+
+        List<Class<? extends Reader<?>>> readers = new ArrayList<>();
+        for (String name : names) {
+            if (!name.startsWith("com/twilio/rest/") || !name.endsWith("Reader.class") || name.contains("$")) {
+                continue;
+            }
+            Class<?> type = load(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+            if (Reader.class.isAssignableFrom(type)) {
+                readers.add(asReader(type));
+            }
+        }
+
+        Collections.sort(readers, new Comparator<Class<?>>() {
+            @Override
+            public int compare(final Class<?> a, final Class<?> b) {
+                return a.getName().compareTo(b.getName());
+            }
+        });
+        return readers;
+    }
+
+    /**
+     * Get the resource a reader type reads.
+     *
+     * @param reader reader type
+     * @return resource type
+     */
+    public static Class<? extends Resource> resourceType(final Class<?> reader) {
+        Type superclass = reader.getGenericSuperclass();
+        while (!(superclass instanceof ParameterizedType) ||
+            ((ParameterizedType) superclass).getRawType() != Reader.class) {
+            superclass = ((Class<?>) (superclass instanceof ParameterizedType
+                ? ((ParameterizedType) superclass).getRawType() : superclass)).getGenericSuperclass();
+        }
+        Type resource = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+        return ((Class<?>) resource).asSubclass(Resource.class);
+    }
+
+    /**
+     * Get the test source holding the example page of a resource.
+     *
+     * @param resource resource type
+     * @return the test source, which may not exist
+     */
+    public File testSource(final Class<?> resource) {
+        return new File(testSources, resource.getName().replace('.', File.separatorChar) + "Test.java");
+    }
+
+    /**
+     * Load the example page of a resource.
+     *
+     * @param resource resource type
+     * @return the example page, null if the resource has no read test
+     * @throws IOException if the test can't be read
+     */
+    public Example example(final Class<?> resource) throws IOException {
+        File source = testSource(resource);
+        if (!source.isFile()) {
+            return null;
+        }
+
+        String json = readResponse(new String(Files.readAllBytes(source.toPath()), StandardCharsets.UTF_8));
+        if (json == null) {
+            return null;
+        }
+
+        JsonNode page = mapper.readTree(json);
+        String key = page.path("meta").path("key").asText(null);
+        Iterator<Map.Entry<String, JsonNode>> fields = page.fields();
+        while (key == null && fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isArray()) {
+                key = field.getKey();
+            }
+        }
+        if (key == null || page.path(key).size() == 0) {
+            return null;
+        }
+        return new Example(key, (ObjectNode) page);
+    }
+
+    /**
+     * Find the response of the read test in a test source.
+     *
+     * @param source test source
+     * @return the response body, null if there is no read test
+     */
+    static String readResponse(final String source) {
+        int test = source.indexOf(READ_TEST);
+        int start = test < 0 ? -1 : source.indexOf(RESPONSE, test);
+        if (start < 0) {
+            return null;
+        }
+
+        StringBuilder literal = new StringBuilder();
+        for (int i = start + RESPONSE.length(); i < source.length(); i++) {
+            char ch = source.charAt(i);
+            if (ch == '"') {
+                return literal.toString();
+            }
+            if (ch != '\\') {
+                literal.append(ch);
+                continue;
+            }
+
+            char escaped = source.charAt(++i);
+            switch (escaped) {
+                case 'n':
+                    literal.append('\n');
+                    break;
+                case 't':
+                    literal.append('\t');
+                    break;
+                case 'r':
+                    literal.append('\r');
+                    break;
+                case 'u':
+                    literal.append((char) Integer.parseInt(source.substring(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+                default:
+                    literal.append(escaped);
+            }
+        }
+        return null;
+    }
+
+    private static void listClasses(final File directory, final String prefix, final List<String> names) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                listClasses(file, prefix + file.getName() + "/", names);
+            } else {
+                names.add(prefix + file.getName());
+            }
+        }
+    }
+
+    private static Class<?> load(final String name) throws IOException {
+        try {
+            return Class.forName(name);
+        } catch (final ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Reader<?>> asReader(final Class<?> type) {
+        return (Class<? extends Reader<?>>) type;
+    }
+
+    /**
+     * The example page of a resource and the key it lists records under.
+     */
+    public final class Example {
+        private final String key;
+        private final ObjectNode page;
+        private final ObjectNode record;
+
+        Example(final String key, final ObjectNode page) {
+            this.key = key;
+            this.page = page;
+            this.record = (ObjectNode) page.path(key).get(0);
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Get the JSON of the example record.
+         *
+         * @return the record
+         * @throws IOException if the record can't be written
+         */
+        public String record() throws IOException {
+            return mapper.writeValueAsString(record);
+        }
+
+        /**
+         * Build the example page with copies of the example record, each with a SID of its own.
+         *
+         * @param size number of records
+         * @return the page's JSON
+         * @throws IOException if the page can't be written
+         */
+        public String page(final int size) throws IOException {
+            ObjectNode copies = page.deepCopy();
+            ArrayNode records = copies.putArray(key);
+            for (int i = 0; i < size; i++) {
+                ObjectNode copy = record.deepCopy();
+                String sid = copy.path("sid").asText("");
+                if (sid.length() == 34) {
+                    copy.put("sid", sid.substring(0, 2) + String.format("%032x", i));
+                }
+                records.add(copy);
+            }
+            return mapper.writeValueAsString(copies);
+        }
+    }
+}
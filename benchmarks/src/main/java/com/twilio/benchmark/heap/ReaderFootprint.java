@@ -0,0 +1,193 @@
+package com.twilio.benchmark.heap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.twilio.Twilio;
+import com.twilio.base.Page;
+import com.twilio.base.Reader;
+import com.twilio.base.Resource;
+import com.twilio.converter.ObjectMappers;
+
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Measures the heap footprint of every generated resource type that can be read, and writes a report
+ * that can be tracked across releases with {@link FootprintComparator}.
+ *
+ * <p>
+ *     Each reader's resource is read from pages of its API example record (see {@link ReaderFixtures}),
+ *     eagerly, lazily ({@link ObjectMappers#lazy()}) and with interned SIDs ({@link ObjectMappers#internSids}).
+ *     For each mode the report has the bytes allocated to deserialize a record, the bytes a record keeps
+ *     alive once its page is gone, and the bytes a page of records keeps alive, next to the bytes of
+ *     JSON a record takes.
+ * </p>
+ *
+ * <pre>
+ *     java -XX:+UseG1GC -Xms4g -Xmx4g -cp target/benchmarks.jar com.twilio.benchmark.heap.ReaderFootprint \
+ *         ../src/test/java footprint.json [records per reader] [modes]
+ * </pre>
+ */
+public final class ReaderFootprint {
+
+    static final String[] MODES = {"eager", "lazy", "interned"};
+
+    private static final int PAGE_SIZE = 50;
+    private static final int DEFAULT_RECORDS = 10000;
+    private static final int WARMUP_PAGES = 200;
+    private static final int MEASURED_PAGES = 200;
+
+    private ReaderFootprint() {}
+
+    /**
+     * Measure every reader and write the report.
+     *
+     * @param args test sources, report file, records per reader and a comma separated list of modes
+     * @throws Exception if the report can't be written
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: ReaderFootprint <test sources> <report> [records per reader] [modes]");
+            System.exit(2);
+        }
+
+        ReaderFixtures fixtures = new ReaderFixtures(new File(args[0]));
+        int records = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RECORDS;
+        String[] modes = args.length > 3 ? args[3].split(",") : MODES;
+        int pages = Math.max(1, records / PAGE_SIZE);
+
+        ObjectMapper json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode report = json.createObjectNode();
+        report.put("sdkVersion", Twilio.VERSION);
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("vm", System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version"));
+        ArrayNode collectors = report.putArray("collectors");
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collectors.add(collector.getName());
+        }
+        report.put("pageSize", PAGE_SIZE);
+        report.put("recordsPerReader", pages * PAGE_SIZE);
+        ArrayNode readers = report.putArray("readers");
+        ArrayNode skipped = report.putArray("skipped");
+
+        for (Class<? extends Reader<?>> reader : ReaderFixtures.readerTypes()) {
+            Class<? extends Resource> resource = ReaderFixtures.resourceType(reader);
+            ReaderFixtures.Example example = fixtures.example(resource);
+            if (example == null) {
+                skip(skipped, reader, "no example page in " + fixtures.testSource(resource));
+                continue;
+            }
+
+            String page = example.page(PAGE_SIZE);
+            ObjectNode entry = json.createObjectNode();
+            entry.put("reader", reader.getName());
+            entry.put("resource", resource.getName());
+            entry.put("fixture", fixtures.testSource(resource).getName());
+            entry.put("jsonBytesPerRecord", page.getBytes(StandardCharsets.UTF_8).length / PAGE_SIZE);
+            try {
+                ObjectNode metrics = entry.putObject("modes");
+                for (String mode : modes) {
+                    metrics.set(mode, measure(example.getKey(), page, resource, mapper(mode), pages));
+                }
+            } catch (final RuntimeException e) {
+                skip(skipped, reader, e.toString());
+                continue;
+            }
+            readers.add(entry);
+            System.out.println(String.format("%-80s %s", reader.getName(), entry.get("modes")));
+        }
+
+        json.writeValue(new File(args[1]), report);
+        System.out.println(readers.size() + " readers measured, " + skipped.size() + " skipped");
+    }
+
+    static ObjectMapper mapper(final String mode) {
+        switch (mode) {
+            case "eager":
+                return new ObjectMapper();
+            case "lazy":
+                return ObjectMappers.lazy(new ObjectMapper());
+            case "interned":
+                return ObjectMappers.internSids(new ObjectMapper());
+            default:
+                throw new IllegalArgumentException("Unknown mode " + mode + ", expected eager, lazy or interned");
+        }
+    }
+
+    private static ObjectNode measure(
+        final String key,
+        final String json,
+        final Class<? extends Resource> resource,
+        final ObjectMapper mapper,
+        final int pages
+    ) throws Exception {
+        for (int i = 0; i < WARMUP_PAGES; i++) {
+            Page.fromJson(key, json, resource, mapper);
+        }
+
+        long start = Allocations.current();
+        for (int i = 0; i < MEASURED_PAGES; i++) {
+            Page.fromJson(key, json, resource, mapper);
+        }
+        long allocated = start < 0 ? -1 : (Allocations.current() - start) / (MEASURED_PAGES * PAGE_SIZE);
+
+        // Records are kept without their pages, as a read that collects its results would keep them
+        long recordBytes = HeapMeter.retainedBy(new Callable<List<Object>>() {
+            public List<Object> call() {
+                List<Object> records = new ArrayList<>(pages * PAGE_SIZE);
+                for (int i = 0; i < pages; i++) {
+                    records.addAll(Page.fromJson(key, json, resource, mapper).getRecords());
+                }
+                return records;
+            }
+        });
+        long pageBytes = HeapMeter.retainedBy(new Callable<List<Page<?>>>() {
+            public List<Page<?>> call() {
+                List<Page<?>> kept = new ArrayList<>(pages);
+                for (int i = 0; i < pages; i++) {
+                    kept.add(Page.fromJson(key, json, resource, mapper));
+                }
+                return kept;
+            }
+        });
+
+        ObjectNode metrics = mapper.createObjectNode();
+        metrics.put("allocatedBytesPerRecord", allocated);
+        metrics.put("retainedBytesPerRecord", recordBytes / (pages * PAGE_SIZE));
+        metrics.put("retainedBytesPerPage", pageBytes / pages);
+        return metrics;
+    }
+
+    private static void skip(final ArrayNode skipped, final Class<?> reader, final String reason) {
+        ObjectNode entry = skipped.addObject();
+        entry.put("reader", reader.getName());
+        entry.put("reason", reason);
+        System.out.println(String.format("%-80s skipped: %s", reader.getName(), reason));
+    }
+
+    /**
+     * Bytes allocated by the current thread, or -1 where the JVM doesn't count them.
+     */
+    private static final class Allocations {
+        private static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+        private Allocations() {}
+
+        static long current() {
+            if (THREADS instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+                if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                    return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+                }
+            }
+            return -1;
+        }
+    }
+}
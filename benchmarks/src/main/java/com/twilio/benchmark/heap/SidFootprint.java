@@ -0,0 +1,133 @@
+package com.twilio.benchmark.heap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.Sid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the heap held by a read of a million messages, with each record's SIDs as separate strings
+ * and with the SIDs a page repeats interned, and the heap held by a set of their SIDs as strings and
+ * as {@link Sid}s once the messages are gone.
+ *
+ * <pre>
+ *     java -XX:+UseG1GC -Xms4g -Xmx4g -cp target/benchmarks.jar com.twilio.benchmark.heap.SidFootprint [messages]
+ * </pre>
+ */
+public final class SidFootprint {
+
+    private static final String ACCOUNT_SID = Fixtures.sid("AC", 1);
+    private static final String URI = "/2010-04-01/Accounts/" + ACCOUNT_SID + "/Messages.json";
+    private static final Pattern PAGE = Pattern.compile("[?&]Page=(\\d+)");
+    private static final int PAGE_SIZE = 1000;
+    private static final int BODY_LENGTH = 40;
+
+    private SidFootprint() {}
+
+    /**
+     * Print the heap held by each representation.
+     *
+     * @param args number of messages, a million by default
+     * @throws Exception if a read fails
+     */
+    public static void main(final String[] args) throws Exception {
+        final int count = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        final HttpClient server = server(count);
+
+        report("messages", count, new Callable<List<Message>>() {
+            public List<Message> call() {
+                return read(server, new ObjectMapper());
+            }
+        });
+        report("messages, interned sids", count, new Callable<List<Message>>() {
+            public List<Message> call() {
+                return read(server, ObjectMappers.internSids(new ObjectMapper()));
+            }
+        });
+
+        // The sets outlive the messages they were taken from, as a set of keys kept after a read would
+        report("sid strings", count, new Callable<Set<String>>() {
+            public Set<String> call() {
+                Set<String> sids = new HashSet<>();
+                for (Message message : read(server, new ObjectMapper())) {
+                    sids.add(message.getSid());
+                }
+                return sids;
+            }
+        });
+        report("sids", count, new Callable<Set<Sid>>() {
+            public Set<Sid> call() {
+                Set<Sid> sids = new HashSet<>();
+                for (Message message : read(server, new ObjectMapper())) {
+                    sids.add(message.getSidValue());
+                }
+                return sids;
+            }
+        });
+    }
+
+    private static void report(final String name, final int count, final Callable<?> builder) throws Exception {
+        long bytes = HeapMeter.retainedBy(builder);
+        System.out.println(String.format("%-24s %,15d bytes %,8d bytes/record", name, bytes, bytes / count));
+    }
+
+    private static List<Message> read(final HttpClient server, final ObjectMapper mapper) {
+        TwilioRestClient client = new TwilioRestClient.Builder(ACCOUNT_SID, "token")
+            .httpClient(server)
+            .objectMapper(mapper)
+            .build();
+
+        List<Message> messages = new ArrayList<>();
+        for (Message message : Message.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).read(client)) {
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    /**
+     * Serve count messages, building each page when it's asked for so only the resources stay on the heap.
+     */
+    private static HttpClient server(final int count) {
+        final Map<String, String> params = Collections.emptyMap();
+        final ObjectMapper mapper = new ObjectMapper();
+        return new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                Matcher matcher = PAGE.matcher(request.getUrl());
+                int page = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+                int end = Math.min(count, (page + 1) * PAGE_SIZE);
+
+                List<ObjectNode> records = new ArrayList<>();
+                for (int i = page * PAGE_SIZE; i < end; i++) {
+                    records.add(Fixtures.message(ACCOUNT_SID, i, params, BODY_LENGTH));
+                }
+                ObjectNode json = Fixtures.apiPage("messages", URI, records);
+                if (end < count) {
+                    json.put("next_page_uri", URI + "?PageSize=" + PAGE_SIZE + "&Page=" + (page + 1));
+                }
+
+                try {
+                    return new Response(mapper.writeValueAsString(json), TwilioRestClient.HTTP_STATUS_CODE_OK);
+                } catch (final Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.twilio.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares JMH results against a baseline and fails on regressions.
+ *
+ * <p>
+ *     Two metrics are compared: the primary score, which depends on the machine, and the bytes allocated
+ *     per operation reported by the GC profiler, which doesn't and so makes a reliable regression signal
+ *     for generated code across machines.
+ * </p>
+ *
+ * <p>
+ *     Usage: {@code BaselineComparator <baseline> <results> [tolerance %]}; exits with status 1 if any
+ *     metric is worse than the baseline by more than the tolerance, 10% by default.
+ * </p>
+ */
+public class BaselineComparator {
+
+    private static final String ALLOCATION = "\u00b7gc.alloc.rate.norm";
+    private static final double DEFAULT_TOLERANCE = 10.0;
+
+    private BaselineComparator() {}
+
+    /**
+     * Compare two result files.
+     *
+     * @param args command line arguments
+     * @throws IOException if a result file can't be read
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline> <results> [tolerance %]");
+            System.exit(2);
+        }
+
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> results = load(new File(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s new%n", entry.getKey());
+                continue;
+            }
+
+            JsonNode after = entry.getValue();
+            double score = change(before.path("primaryMetric").path("score").asDouble(),
+                after.path("primaryMetric").path("score").asDouble());
+            double allocation = change(allocation(before), allocation(after));
+            boolean regressed = worse(after, score, tolerance) || allocation > tolerance;
+            if (regressed) {
+                regressions++;
+            }
+
+            System.out.printf(
+                "%-70s score %+7.1f%%  alloc %+7.1f%%%s%n",
+                entry.getKey(),
+                score,
+                allocation,
+                regressed ? "  REGRESSION" : ""
+            );
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " regression(s) beyond " + tolerance + "%");
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> load(final File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(':').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static double allocation(final JsonNode result) {
+        return result.path("secondaryMetrics").path(ALLOCATION).path("score").asDouble();
+    }
+
+    private static double change(final double before, final double after) {
+        if (before == 0) {
+            return after == 0 ? 0 : Double.POSITIVE_INFINITY;
+        }
+        return (after - before) / before * 100;
+    }
+
+    private static boolean worse(final JsonNode result, final double change, final double tolerance) {
+        // Time per op grows when slower, throughput shrinks
+        boolean throughput = "thrpt".equals(result.path("mode").asText());
+        return throughput ? -change > tolerance : change > tolerance;
+    }
+}
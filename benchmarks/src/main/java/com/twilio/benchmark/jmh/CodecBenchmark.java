@@ -0,0 +1,175 @@
+package com.twilio.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.twilio.base.ResourceCodec;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.rest.api.v2010.account.Call;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding a call, and a batch of 1000 calls, with {@link ResourceCodec}, Java serialization
+ * and the JSON the API sends. {@link #main} prints the size of each encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CodecBenchmark {
+
+    private static final int BATCH = 1000;
+
+    private final ObjectMapper mapper = ObjectMappers.shared();
+    private final ResourceCodec<Call> codec = ResourceCodec.of(Call.class);
+
+    private Call call;
+    private List<Call> calls;
+    private byte[] encoded;
+    private byte[] encodedBatch;
+    private ByteBuffer direct;
+    private byte[] serialized;
+    private byte[] serializedBatch;
+    private String json;
+    private String jsonBatch;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<ObjectNode> records = new ArrayList<>();
+        calls = new ArrayList<>();
+        for (int i = 0; i < BATCH; i++) {
+            ObjectNode record = Fixtures.call(PageBenchmark.ACCOUNT_SID, i, Collections.<String, String>emptyMap());
+            records.add(record);
+            calls.add(Call.fromJson(mapper.writeValueAsString(record), mapper));
+        }
+        call = calls.get(0);
+        json = mapper.writeValueAsString(records.get(0));
+        jsonBatch = mapper.writeValueAsString(records);
+
+        encoded = codec.encode(call);
+        encodedBatch = codec.encodeAll(calls);
+        direct = ByteBuffer.allocateDirect(encodedBatch.length);
+        direct.put(encodedBatch).flip();
+        serialized = serialize(call);
+        serializedBatch = serialize(new ArrayList<>(calls));
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return codec.encode(call);
+    }
+
+    @Benchmark
+    public Call codecDecode() {
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    public byte[] codecEncodeBatch() {
+        return codec.encodeAll(calls);
+    }
+
+    @Benchmark
+    public List<Call> codecDecodeBatch() {
+        return codec.decodeAll(ByteBuffer.wrap(encodedBatch));
+    }
+
+    @Benchmark
+    public List<Call> codecDecodeBatchDirect() {
+        return codec.decodeAll(direct.duplicate());
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        return serialize(call);
+    }
+
+    @Benchmark
+    public Object javaDeserialize() throws Exception {
+        return deserialize(serialized);
+    }
+
+    @Benchmark
+    public byte[] javaSerializeBatch() throws IOException {
+        return serialize(new ArrayList<>(calls));
+    }
+
+    @Benchmark
+    public Object javaDeserializeBatch() throws Exception {
+        return deserialize(serializedBatch);
+    }
+
+    @Benchmark
+    public byte[] jsonWrite() throws IOException {
+        return mapper.writeValueAsBytes(call);
+    }
+
+    @Benchmark
+    public Call jsonRead() {
+        return Call.fromJson(json, mapper);
+    }
+
+    @Benchmark
+    public byte[] jsonWriteBatch() throws IOException {
+        return mapper.writeValueAsBytes(calls);
+    }
+
+    @Benchmark
+    public Call[] jsonReadBatch() throws IOException {
+        return mapper.readValue(jsonBatch, Call[].class);
+    }
+
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] bytes) throws Exception {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * Print the bytes a call and a batch of calls take in each encoding.
+     *
+     * @param args unused
+     * @throws IOException if a call can't be encoded
+     */
+    public static void main(final String[] args) throws IOException {
+        CodecBenchmark benchmark = new CodecBenchmark();
+        benchmark.setUp();
+        System.out.printf("%-20s %10s %14s%n", "encoding", "call", BATCH + " calls");
+        System.out.printf("%-20s %10d %14d%n", "ResourceCodec", benchmark.encoded.length,
+            benchmark.encodedBatch.length);
+        System.out.printf("%-20s %10d %14d%n", "Java serialization", benchmark.serialized.length,
+            benchmark.serializedBatch.length);
+        System.out.printf("%-20s %10d %14d%n", "JSON", benchmark.json.getBytes("UTF-8").length,
+            benchmark.jsonBatch.getBytes("UTF-8").length);
+    }
+}
@@ -0,0 +1,74 @@
+package com.twilio.benchmark.jmh;
+
+import com.twilio.base.RecordFilter;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counting the 5 pages of 1000 calls, and finding the last of them, by iterating the decoded resources
+ * and with the count-only and existence-only read modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CountBenchmark {
+
+    private static final String LAST = Fixtures.sid("CA", 4999);
+
+    private TwilioRestClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        client = LazyResourceBenchmark.client(LazyResourceBenchmark.server(), ObjectMappers.shared());
+    }
+
+    @Benchmark
+    public long iterate() {
+        long count = 0;
+        for (Call call : Call.reader(PageBenchmark.ACCOUNT_SID).pageSize(1000).read(client)) {
+            if (call != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long count() {
+        return Call.reader(PageBenchmark.ACCOUNT_SID).count(client);
+    }
+
+    @Benchmark
+    public boolean iterateUntilFound() {
+        for (Call call : Call.reader(PageBenchmark.ACCOUNT_SID).pageSize(1000).read(client)) {
+            if (LAST.equals(call.getSid())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return Call.reader(PageBenchmark.ACCOUNT_SID)
+            .where(RecordFilter.equalTo("sid", LAST))
+            .exists(client);
+    }
+}
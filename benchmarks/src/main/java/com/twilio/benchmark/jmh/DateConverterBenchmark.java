@@ -0,0 +1,106 @@
+package com.twilio.benchmark.jmh;
+
+import com.twilio.converter.DateConverter;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the date formats found in resources: RFC 2822 in the 2010-04-01 api, ISO 8601 in the
+ * newer ones, and plain dates. The plain timestamp benchmarks parse the same value over and over, as
+ * within a page; the distinct ones cycle through more values than the cache holds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DateConverterBenchmark {
+
+    private static final int DISTINCT = 4096;
+
+    private String rfc2822 = "Thu, 01 Jun 2017 00:00:02 +0000";
+    private String iso8601 = "2017-06-01T00:00:02Z";
+    private String localDate = "2017-06-01";
+    private String missing = null;
+    private String malformed = "2017-06-01 at noon";
+
+    private final String[] rfc2822s = new String[DISTINCT];
+    private final String[] iso8601s = new String[DISTINCT];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        DateTimeFormatter rfc2822Format = DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss Z")
+            .withZone(DateTimeZone.UTC).withLocale(Locale.US);
+        DateTimeFormatter iso8601Format = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ssZ")
+            .withZone(DateTimeZone.UTC);
+
+        DateTime start = new DateTime(2017, 6, 1, 0, 0, DateTimeZone.UTC);
+        for (int i = 0; i < DISTINCT; i++) {
+            rfc2822s[i] = rfc2822Format.print(start.plusSeconds(i * 37));
+            iso8601s[i] = iso8601Format.print(start.plusSeconds(i * 37));
+        }
+    }
+
+    @Benchmark
+    public DateTime rfc2822() {
+        return DateConverter.rfc2822DateTimeFromString(rfc2822);
+    }
+
+    @Benchmark
+    public DateTime rfc2822Distinct() {
+        return DateConverter.rfc2822DateTimeFromString(rfc2822s[next++ & (DISTINCT - 1)]);
+    }
+
+    @Benchmark
+    public long rfc2822Millis() {
+        return DateConverter.rfc2822EpochMillisFromString(rfc2822s[next++ & (DISTINCT - 1)]);
+    }
+
+    @Benchmark
+    public DateTime iso8601() {
+        return DateConverter.iso8601DateTimeFromString(iso8601);
+    }
+
+    @Benchmark
+    public DateTime iso8601Distinct() {
+        return DateConverter.iso8601DateTimeFromString(iso8601s[next++ & (DISTINCT - 1)]);
+    }
+
+    @Benchmark
+    public long iso8601Millis() {
+        return DateConverter.iso8601EpochMillisFromString(iso8601s[next++ & (DISTINCT - 1)]);
+    }
+
+    @Benchmark
+    public DateTime nullTimestamp() {
+        return DateConverter.rfc2822DateTimeFromString(missing);
+    }
+
+    @Benchmark
+    public long malformedTimestamp() {
+        return DateConverter.iso8601EpochMillisFromString(malformed);
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return DateConverter.localDateFromString(localDate);
+    }
+}
@@ -0,0 +1,151 @@
+package com.twilio.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.twilio.base.Page;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.Recording;
+import com.twilio.rest.api.v2010.account.usage.Record;
+import com.twilio.rest.taskrouter.v1.workspace.Task;
+import com.twilio.rest.taskrouter.v1.workspace.Worker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records per second {@link Page#fromJson} reads for each resource, through the SDK's shared ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(DeserializationBenchmark.RECORDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeserializationBenchmark {
+
+    static final int RECORDS = 1000;
+
+    private static final String TASKROUTER = "https://taskrouter.twilio.com/v1/Workspaces/";
+    private static final Map<String, String> NO_PARAMS = Collections.emptyMap();
+
+    private final ObjectMapper objectMapper = ObjectMappers.shared();
+    private String messages;
+    private String calls;
+    private String recordings;
+    private String usageRecords;
+    private String workers;
+    private String tasks;
+
+    @Setup
+    public void setUp() throws Exception {
+        String api = PageBenchmark.API;
+        String accountSid = PageBenchmark.ACCOUNT_SID;
+        String workspaceSid = Fixtures.sid("WS", 1);
+
+        List<ObjectNode> page = new ArrayList<>();
+        for (int i = 0; i < RECORDS; i++) {
+            page.add(Fixtures.message(accountSid, i, NO_PARAMS, 40));
+        }
+        messages = write(Fixtures.apiPage("messages", api + "/Messages.json", page));
+
+        page.clear();
+        for (int i = 0; i < RECORDS; i++) {
+            page.add(Fixtures.call(accountSid, i, NO_PARAMS));
+        }
+        calls = write(Fixtures.apiPage("calls", api + "/Calls.json", page));
+
+        page.clear();
+        for (int i = 0; i < RECORDS; i++) {
+            page.add(Fixtures.recording(accountSid, i));
+        }
+        recordings = write(Fixtures.apiPage("recordings", api + "/Recordings.json", page));
+
+        page.clear();
+        for (int i = 0; i < RECORDS; i++) {
+            page.add(Fixtures.usageRecord(accountSid, i));
+        }
+        usageRecords = write(Fixtures.apiPage("usage_records", api + "/Usage/Records.json", page));
+
+        page.clear();
+        for (int i = 0; i < RECORDS; i++) {
+            page.add(Fixtures.worker(accountSid, workspaceSid, i, NO_PARAMS));
+        }
+        workers = write(taskrouterPage("workers", TASKROUTER + workspaceSid + "/Workers", page));
+
+        page.clear();
+        for (int i = 0; i < RECORDS; i++) {
+            page.add(Fixtures.task(accountSid, workspaceSid, i, NO_PARAMS));
+        }
+        tasks = write(taskrouterPage("tasks", TASKROUTER + workspaceSid + "/Tasks", page));
+    }
+
+    @Benchmark
+    public Page<Message> messages() {
+        return Page.fromJson("messages", messages, Message.class, objectMapper);
+    }
+
+    @Benchmark
+    public Page<Call> calls() {
+        return Page.fromJson("calls", calls, Call.class, objectMapper);
+    }
+
+    @Benchmark
+    public Page<Recording> recordings() {
+        return Page.fromJson("recordings", recordings, Recording.class, objectMapper);
+    }
+
+    @Benchmark
+    public Page<Record> usageRecords() {
+        return Page.fromJson("usage_records", usageRecords, Record.class, objectMapper);
+    }
+
+    @Benchmark
+    public Page<Worker> workers() {
+        return Page.fromJson("workers", workers, Worker.class, objectMapper);
+    }
+
+    @Benchmark
+    public Page<Task> tasks() {
+        return Page.fromJson("tasks", tasks, Task.class, objectMapper);
+    }
+
+    private String write(final ObjectNode page) throws Exception {
+        return objectMapper.writeValueAsString(page);
+    }
+
+    private static ObjectNode taskrouterPage(final String key, final String url, final List<ObjectNode> records) {
+        ObjectNode page = JsonNodeFactory.instance.objectNode();
+        ArrayNode list = page.putArray(key);
+        list.addAll(records);
+
+        ObjectNode meta = page.putObject("meta");
+        meta.put("first_page_url", url + "?PageSize=" + records.size() + "&Page=0");
+        meta.put("key", key);
+        meta.putNull("next_page_url");
+        meta.put("page", 0);
+        meta.put("page_size", records.size());
+        meta.putNull("previous_page_url");
+        meta.put("url", url + "?PageSize=" + records.size() + "&Page=0");
+        return page;
+    }
+}
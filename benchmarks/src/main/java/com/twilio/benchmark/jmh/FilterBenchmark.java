@@ -0,0 +1,68 @@
+package com.twilio.benchmark.jmh;
+
+import com.twilio.base.RecordFilter;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans of 5 pages of 1000 calls for those shorter than a duration, filtering decoded resources
+ * client side and pushing the filter down into the page parser. Calls last 0 to 599 seconds, so
+ * selectivity is the percentage of calls that match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FilterBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int selectivity;
+
+    private TwilioRestClient client;
+    private int duration;
+
+    @Setup
+    public void setUp() throws Exception {
+        client = LazyResourceBenchmark.client(LazyResourceBenchmark.server(), ObjectMappers.shared());
+        duration = 6 * selectivity;
+    }
+
+    @Benchmark
+    public int clientSide() {
+        int matched = 0;
+        for (Call call : Call.reader(PageBenchmark.ACCOUNT_SID).pageSize(1000).read(client)) {
+            if (Integer.parseInt(call.getDuration()) < duration) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int pushedDown() {
+        int matched = 0;
+        RecordFilter filter = RecordFilter.lessThan("duration", duration);
+        for (Call call : Call.reader(PageBenchmark.ACCOUNT_SID).where(filter).read(client)) {
+            if (call.getSid() != null) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
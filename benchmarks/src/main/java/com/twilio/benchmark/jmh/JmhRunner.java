@@ -0,0 +1,39 @@
+package com.twilio.benchmark.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH suites with the GC profiler, writing results in the format of the checked-in baselines.
+ *
+ * <p>
+ *     Usage: {@code JmhRunner [result file] [benchmark regex]}; results go to {@code target/jmh.json}
+ *     and every suite runs by default.
+ * </p>
+ */
+public class JmhRunner {
+
+    private JmhRunner() {}
+
+    /**
+     * Run the benchmarks.
+     *
+     * @param args command line arguments
+     * @throws Exception if the benchmarks can't be run
+     */
+    public static void main(final String[] args) throws Exception {
+        String result = args.length > 0 ? args[0] : "target/jmh.json";
+        String include = args.length > 1 ? args[1] : JmhRunner.class.getPackage().getName() + "\\..*";
+
+        Options options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result)
+            .build();
+        new Runner(options).run();
+    }
+}
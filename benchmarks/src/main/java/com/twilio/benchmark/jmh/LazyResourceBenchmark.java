@@ -0,0 +1,150 @@
+package com.twilio.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.twilio.base.ColumnBatch;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link com.twilio.base.ResourceSet} scan over 5 pages of 1000 calls, with eagerly decoded resources
+ * and with resources in lazy mode, reading either just the sid and status or every field; and the same
+ * sid and status scan projected into {@link ColumnBatch}es.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LazyResourceBenchmark {
+
+    private static final int PAGES = 5;
+    private static final int RECORDS = 1000;
+    private static final Pattern PAGE = Pattern.compile("[?&]Page=(\\d+)");
+
+    private TwilioRestClient eager;
+    private TwilioRestClient lazy;
+
+    @Setup
+    public void setUp() throws Exception {
+        HttpClient server = server();
+        eager = client(server, ObjectMappers.shared());
+        lazy = client(server, ObjectMappers.lazy());
+    }
+
+    @Benchmark
+    public int eagerSidAndStatus() {
+        return sidAndStatus(eager);
+    }
+
+    @Benchmark
+    public int lazySidAndStatus() {
+        return sidAndStatus(lazy);
+    }
+
+    @Benchmark
+    public int columnarSidAndStatus() {
+        int completed = 0;
+        for (ColumnBatch batch : Call.reader(PageBenchmark.ACCOUNT_SID).readColumns(eager, "sid", "status")) {
+            ColumnBatch.Column sid = batch.column("sid");
+            ColumnBatch.Column status = batch.column("status");
+            int code = status.getDictionary().indexOf("completed");
+            for (int row = 0; row < batch.size(); row++) {
+                if (!sid.isNull(row) && status.getCode(row) == code) {
+                    completed++;
+                }
+            }
+        }
+        return completed;
+    }
+
+    @Benchmark
+    public int eagerAllFields() {
+        return allFields(eager);
+    }
+
+    @Benchmark
+    public int lazyAllFields() {
+        return allFields(lazy);
+    }
+
+    private static int sidAndStatus(final TwilioRestClient client) {
+        int completed = 0;
+        for (Call call : Call.reader(PageBenchmark.ACCOUNT_SID).pageSize(RECORDS).read(client)) {
+            if (call.getSid() != null && call.getStatus() == Call.Status.COMPLETED) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    private static int allFields(final TwilioRestClient client) {
+        int hash = 0;
+        for (Call call : Call.reader(PageBenchmark.ACCOUNT_SID).pageSize(RECORDS).read(client)) {
+            hash += call.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Serve 5 pages of 1000 calls, paged by the Page parameter.
+     */
+    static HttpClient server() throws Exception {
+        Map<String, String> params = Collections.emptyMap();
+        String uri = "/2010-04-01/Accounts/" + PageBenchmark.ACCOUNT_SID + "/Calls.json";
+
+        final String[] pages = new String[PAGES];
+        for (int p = 0; p < PAGES; p++) {
+            List<ObjectNode> records = new ArrayList<>();
+            for (int i = 0; i < RECORDS; i++) {
+                records.add(Fixtures.call(PageBenchmark.ACCOUNT_SID, p * RECORDS + i, params));
+            }
+
+            ObjectNode page = Fixtures.apiPage("calls", uri, records);
+            if (p + 1 < PAGES) {
+                page.put("next_page_uri", uri + "?PageSize=" + RECORDS + "&Page=" + (p + 1));
+            }
+            pages[p] = ObjectMappers.shared().writeValueAsString(page);
+        }
+
+        return new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                Matcher page = PAGE.matcher(request.getUrl());
+                String content = pages[page.find() ? Integer.parseInt(page.group(1)) : 0];
+                return new Response(content, TwilioRestClient.HTTP_STATUS_CODE_OK);
+            }
+        };
+    }
+
+    static TwilioRestClient client(final HttpClient server, final ObjectMapper mapper) {
+        return new TwilioRestClient.Builder(PageBenchmark.ACCOUNT_SID, "token")
+            .httpClient(server)
+            .objectMapper(mapper)
+            .build();
+    }
+}
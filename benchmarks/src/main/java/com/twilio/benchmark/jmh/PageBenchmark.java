@@ -0,0 +1,84 @@
+package com.twilio.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.twilio.base.Page;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.usage.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of list pages with {@link Page#fromJson}, at the default page size and at the maximum one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PageBenchmark {
+
+    static final String ACCOUNT_SID = Fixtures.sid("AC", 1);
+    static final String API = "/2010-04-01/Accounts/" + ACCOUNT_SID;
+
+    @Param({"50", "1000"})
+    public int records;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private String messages;
+    private String calls;
+    private String usageRecords;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<ObjectNode> page = new ArrayList<>();
+        for (int i = 0; i < records; i++) {
+            page.add(Fixtures.message(ACCOUNT_SID, i, Collections.<String, String>emptyMap(), 40));
+        }
+        messages = mapper.writeValueAsString(Fixtures.apiPage("messages", API + "/Messages.json", page));
+
+        page.clear();
+        for (int i = 0; i < records; i++) {
+            page.add(Fixtures.call(ACCOUNT_SID, i, Collections.<String, String>emptyMap()));
+        }
+        calls = mapper.writeValueAsString(Fixtures.apiPage("calls", API + "/Calls.json", page));
+
+        page.clear();
+        for (int i = 0; i < records; i++) {
+            page.add(Fixtures.usageRecord(ACCOUNT_SID, i));
+        }
+        usageRecords = mapper.writeValueAsString(Fixtures.apiPage("usage_records", API + "/Usage/Records.json", page));
+    }
+
+    @Benchmark
+    public Page<Message> messages() {
+        return Page.fromJson("messages", messages, Message.class, mapper);
+    }
+
+    @Benchmark
+    public Page<Call> calls() {
+        return Page.fromJson("calls", calls, Call.class, mapper);
+    }
+
+    @Benchmark
+    public Page<Record> usageRecords() {
+        return Page.fromJson("usage_records", usageRecords, Record.class, mapper);
+    }
+}
@@ -0,0 +1,49 @@
+package com.twilio.benchmark.jmh;
+
+import com.twilio.converter.Promoter;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.usage.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enum decoding through the generated {@code forValue} methods, backed by {@link Promoter#enumFromString},
+ * for a small enum and for the 200 odd usage categories, where the value looked up sits near the end of
+ * the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PromoterBenchmark {
+
+    private String status = "delivered";
+    private String category = "totalprice";
+    private String unknownCategory = "not-a-category";
+
+    @Benchmark
+    public Message.Status messageStatus() {
+        return Message.Status.forValue(status);
+    }
+
+    @Benchmark
+    public Record.Category usageCategory() {
+        return Record.Category.forValue(category);
+    }
+
+    @Benchmark
+    public Record.Category unknownUsageCategory() {
+        return Record.Category.forValue(unknownCategory);
+    }
+}
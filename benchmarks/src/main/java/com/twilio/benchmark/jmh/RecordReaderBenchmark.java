@@ -0,0 +1,68 @@
+package com.twilio.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.twilio.base.Page;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.usage.Record;
+import com.twilio.rest.api.v2010.account.usage.RecordReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RecordReader} reading a page of 1000 usage records, each of which decodes its category out
+ * of the 200 odd usage categories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecordReaderBenchmark {
+
+    private static final int RECORDS = 1000;
+
+    private TwilioRestClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<ObjectNode> records = new ArrayList<>();
+        for (int i = 0; i < RECORDS; i++) {
+            records.add(Fixtures.usageRecord(PageBenchmark.ACCOUNT_SID, i));
+        }
+        final String page = ObjectMappers.shared().writeValueAsString(
+            Fixtures.apiPage("usage_records", PageBenchmark.API + "/Usage/Records.json", records)
+        );
+
+        client = new TwilioRestClient.Builder(PageBenchmark.ACCOUNT_SID, "token")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(final Request request) {
+                    return new Response(page, TwilioRestClient.HTTP_STATUS_CODE_OK);
+                }
+            })
+            .build();
+    }
+
+    @Benchmark
+    public Page<Record> firstPage() {
+        return Record.reader(PageBenchmark.ACCOUNT_SID).pageSize(RECORDS).firstPage(client);
+    }
+}
@@ -0,0 +1,80 @@
+package com.twilio.benchmark.jmh;
+
+import com.google.common.collect.Range;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.Request;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding of a typical list request: a date range, filters and paging in the query string, and of a
+ * typical create request: form parameters with phone numbers and a message body to escape.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RequestBenchmark {
+
+    private static final String MESSAGES =
+        "https://api.twilio.com/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json";
+
+    private Request list;
+    private Request create;
+
+    @Setup
+    public void setUp() {
+        list = new Request(HttpMethod.GET, MESSAGES);
+        list.addQueryDateTimeRange("DateSent", Range.closed(
+            new DateTime(2017, 6, 1, 0, 0, DateTimeZone.UTC),
+            new DateTime(2017, 6, 30, 23, 59, DateTimeZone.UTC)
+        ));
+        list.addQueryDateRange("StartDate", Range.atLeast(new LocalDate(2017, 6, 1)));
+        list.addQueryParam("To", "+14155551234");
+        list.addQueryParam("From", "+14155552345");
+        list.addQueryParam("PageSize", "50");
+
+        create = new Request(HttpMethod.POST, MESSAGES);
+        create.addPostParam("To", "+14155551234");
+        create.addPostParam("From", "+14155552345");
+        create.addPostParam("Body", "Your code is 123456 & expires in 10 minutes. Reply STOP to opt-out.");
+        create.addPostParam("StatusCallback", "https://example.com/callbacks/status?id=42&source=sms");
+        create.setAuth("ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", "token");
+    }
+
+    @Benchmark
+    public URL constructURL() {
+        return list.constructURL();
+    }
+
+    @Benchmark
+    public String encodeQueryParams() {
+        return list.encodeQueryParams();
+    }
+
+    @Benchmark
+    public String encodeFormBody() {
+        return create.encodeFormBody();
+    }
+
+    @Benchmark
+    public String authString() {
+        return create.getAuthString();
+    }
+}
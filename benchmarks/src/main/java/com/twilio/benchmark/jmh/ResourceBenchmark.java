@@ -0,0 +1,62 @@
+package com.twilio.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.usage.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of single resources with the generated {@code fromJson}, as done for fetch, create and update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResourceBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private String message;
+    private String call;
+    private String usageRecord;
+
+    @Setup
+    public void setUp() throws Exception {
+        String accountSid = PageBenchmark.ACCOUNT_SID;
+        message = mapper.writeValueAsString(
+            Fixtures.message(accountSid, 3, Collections.<String, String>emptyMap(), 40)
+        );
+        call = mapper.writeValueAsString(Fixtures.call(accountSid, 3, Collections.<String, String>emptyMap()));
+        usageRecord = mapper.writeValueAsString(Fixtures.usageRecord(accountSid, 3));
+    }
+
+    @Benchmark
+    public Message message() {
+        return Message.fromJson(message, mapper);
+    }
+
+    @Benchmark
+    public Call call() {
+        return Call.fromJson(call, mapper);
+    }
+
+    @Benchmark
+    public Record usageRecord() {
+        return Record.fromJson(usageRecord, mapper);
+    }
+}
@@ -0,0 +1,72 @@
+package com.twilio.benchmark.jmh;
+
+import com.twilio.base.Result;
+import com.twilio.exception.ApiException;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.MessageCreator;
+import com.twilio.type.PhoneNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handling a message creation the API rejects, by catching the {@link ApiException} of
+ * {@code create} and by reading the {@link Result} of {@code createResult}. The server answers
+ * in-process, so the figures are the SDK's own cost for each failure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResultBenchmark {
+
+    private static final String INVALID_NUMBER = "{\"code\": 21211, \"message\": \"The 'To' number is not valid\", " +
+        "\"more_info\": \"https://www.twilio.com/docs/errors/21211\", \"status\": 400}";
+
+    private TwilioRestClient client;
+    private MessageCreator creator;
+
+    @Setup
+    public void setUp() {
+        client = new TwilioRestClient.Builder(PageBenchmark.ACCOUNT_SID, "token")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(final Request request) {
+                    return new Response(INVALID_NUMBER, 400);
+                }
+            })
+            .build();
+        creator = Message.creator(new PhoneNumber("+15558675310"), new PhoneNumber("+15017122661"), "Hello");
+    }
+
+    @Benchmark
+    public Integer createCatchingException() {
+        try {
+            creator.create(client);
+            return null;
+        } catch (final ApiException e) {
+            return e.getCode();
+        }
+    }
+
+    @Benchmark
+    public Integer createResult() {
+        Result<Message> result = creator.createResult(client);
+        return result.getCode();
+    }
+}
@@ -0,0 +1,63 @@
+package com.twilio.benchmark.jmh;
+
+import com.twilio.jwt.accesstoken.AccessToken;
+import com.twilio.jwt.accesstoken.VideoGrant;
+import com.twilio.jwt.accesstoken.VoiceGrant;
+import com.twilio.security.RequestValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Webhook signature validation with {@link RequestValidator} and access token signing with
+ * {@link AccessToken#toJwt()}, both done once per incoming request by applications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SecurityBenchmark {
+
+    private RequestValidator validator;
+    private Map<String, String> params;
+    private AccessToken.Builder token;
+
+    @Setup
+    public void setUp() {
+        validator = new RequestValidator("12345");
+        params = new HashMap<>();
+        params.put("CallSid", "CA1234567890ABCDE");
+        params.put("Caller", "+14158675309");
+        params.put("Digits", "1234");
+        params.put("From", "+14158675309");
+        params.put("To", "+18005551212");
+
+        token = new AccessToken.Builder(PageBenchmark.ACCOUNT_SID, "SK123", "secret")
+            .identity("alice")
+            .grant(new VoiceGrant().setOutgoingApplicationSid("AP123"))
+            .grant(new VideoGrant().setRoom("RM123"));
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return validator.validate("https://mycompany.com/myapp.php?foo=1&bar=2", params, "RSOYDt4T1cUTdK1PDd93/VVr8B8=");
+    }
+
+    @Benchmark
+    public String accessToken() {
+        return token.build().toJwt();
+    }
+}
@@ -0,0 +1,63 @@
+package com.twilio.benchmark.jmh;
+
+import com.twilio.twiml.Body;
+import com.twilio.twiml.Dial;
+import com.twilio.twiml.Gather;
+import com.twilio.twiml.Message;
+import com.twilio.twiml.MessagingResponse;
+import com.twilio.twiml.Number;
+import com.twilio.twiml.Play;
+import com.twilio.twiml.Say;
+import com.twilio.twiml.TwiMLException;
+import com.twilio.twiml.VoiceResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of typical voice and messaging responses with {@code TwiML.toXml}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TwiMLBenchmark {
+
+    private VoiceResponse voice;
+    private MessagingResponse messaging;
+
+    @Setup
+    public void setUp() {
+        voice = new VoiceResponse.Builder()
+            .say(new Say.Builder("Thanks for calling. Press 1 for sales, 2 for support.").build())
+            .gather(new Gather.Builder().numDigits(1).action("/ivr/menu").build())
+            .play(new Play.Builder("https://example.com/hold.mp3").loop(2).build())
+            .dial(new Dial.Builder().number(new Number.Builder("+14155551234").build()).build())
+            .build();
+
+        messaging = new MessagingResponse.Builder()
+            .message(new Message.Builder().body(new Body("Thanks, your order #1234 has shipped.")).build())
+            .build();
+    }
+
+    @Benchmark
+    public String voiceResponse() throws TwiMLException {
+        return voice.toXml();
+    }
+
+    @Benchmark
+    public String messagingResponse() throws TwiMLException {
+        return messaging.toXml();
+    }
+}
@@ -0,0 +1,62 @@
+package com.twilio.benchmark.load;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.Closeable;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Records the duration of every garbage collection while open, using the HotSpot GC notifications.
+ */
+class GcMonitor implements Closeable, NotificationListener {
+
+    private final Histogram pauseMillis = new ConcurrentHistogram(3);
+
+    GcMonitor() {
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter) {
+                ((NotificationEmitter) bean).addNotificationListener(this, null, null);
+            }
+        }
+    }
+
+    @Override
+    public void handleNotification(final Notification notification, final Object handback) {
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            pauseMillis.recordValue(info.getGcInfo().getDuration());
+        }
+    }
+
+    /**
+     * Get the durations of the collections seen so far. Concurrent collectors report their whole
+     * cycle, so for them this overstates the pauses.
+     *
+     * @return collection durations in milliseconds
+     */
+    Histogram getPauseMillis() {
+        return pauseMillis;
+    }
+
+    @Override
+    public void close() {
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter) {
+                try {
+                    ((NotificationEmitter) bean).removeNotificationListener(this);
+                } catch (final ListenerNotFoundException e) {
+                    // Not registered with this collector
+                }
+            }
+        }
+    }
+}
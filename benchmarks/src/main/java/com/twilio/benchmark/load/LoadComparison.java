@@ -0,0 +1,83 @@
+package com.twilio.benchmark.load;
+
+import com.twilio.benchmark.emulator.LatencyModel;
+import com.twilio.benchmark.emulator.TwilioEmulator;
+import com.twilio.http.HttpClient;
+import com.twilio.http.NetworkHttpClient;
+import com.twilio.http.TwilioRestClient;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Drives the same mixed workload against the emulator with different HttpClient and executor
+ * configurations, one after the other, and prints a report for each.
+ *
+ * <p>
+ *     Usage: {@code LoadComparison [rate] [seconds]}, 200 operations per second for 20 seconds by default.
+ * </p>
+ */
+public class LoadComparison {
+
+    private LoadComparison() {}
+
+    /**
+     * Run the comparison.
+     *
+     * @param args command line arguments
+     * @throws Exception if a run fails
+     */
+    public static void main(final String[] args) throws Exception {
+        double rate = args.length > 0 ? Double.parseDouble(args[0]) : 200;
+        long durationMillis = (args.length > 1 ? Long.parseLong(args[1]) : 20) * 1000;
+
+        Workload workload = Workload.mix(
+            "mixed",
+            new Workload[] {Workload.fetchMessage(), Workload.createMessage(), Workload.createCall(),
+                Workload.readMessages(50)},
+            new int[] {6, 2, 1, 1}
+        );
+
+        try (TwilioEmulator emulator = new TwilioEmulator.Builder()
+                .latency(LatencyModel.logNormal(20, 0.5))
+                .build()) {
+            run(emulator, workload, "default-pool/cached/sync", new NetworkHttpClient(), null,
+                LoadGenerator.Mode.SYNC, rate, durationMillis);
+            run(emulator, workload, "pool-100/cached/sync", new NetworkHttpClient(100, 100), null,
+                LoadGenerator.Mode.SYNC, rate, durationMillis);
+            run(emulator, workload, "pool-100/fixed-16/sync", new NetworkHttpClient(100, 100),
+                Executors.newFixedThreadPool(16), LoadGenerator.Mode.SYNC, rate, durationMillis);
+            run(emulator, workload, "pool-100/cached/async", new NetworkHttpClient(100, 100), null,
+                LoadGenerator.Mode.ASYNC, rate, durationMillis);
+            run(emulator, workload, "pool-100/fixed-16/async", new NetworkHttpClient(100, 100),
+                Executors.newFixedThreadPool(16), LoadGenerator.Mode.ASYNC, rate, durationMillis);
+        }
+    }
+
+    private static void run(final TwilioEmulator emulator, final Workload workload, final String label,
+                            final NetworkHttpClient transport, final ExecutorService executor,
+                            final LoadGenerator.Mode mode, final double rate, final long durationMillis)
+        throws InterruptedException {
+        HttpClient httpClient = emulator.httpClient(transport);
+        TwilioRestClient client = new TwilioRestClient.Builder(emulator.getAccountSid(), "token")
+            .httpClient(httpClient)
+            .build();
+        try {
+            LoadReport report = new LoadGenerator.Builder(client, workload)
+                .label(label)
+                .rate(rate)
+                .durationMillis(durationMillis)
+                .mode(mode)
+                .executor(executor)
+                .pool(transport)
+                .build()
+                .run();
+            System.out.println(report);
+        } finally {
+            client.close();
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
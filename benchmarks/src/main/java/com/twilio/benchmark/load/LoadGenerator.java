@@ -0,0 +1,398 @@
+package com.twilio.benchmark.load;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.twilio.Twilio;
+import com.twilio.http.NetworkHttpClient;
+import com.twilio.http.TwilioRestClient;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.http.pool.PoolStats;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator driving a {@link Workload} through a {@link TwilioRestClient} at a fixed
+ * arrival rate.
+ *
+ * <p>
+ *     Operations are started on a schedule, the n-th one at n / rate seconds, whether or not earlier
+ *     ones have completed, and their latency is measured from that scheduled time. Time spent waiting
+ *     for an executor thread or a pooled connection, or lost by the generator itself falling behind,
+ *     is therefore part of the latency instead of silently lowering the load (coordinated omission).
+ * </p>
+ *
+ * <p>
+ *     In {@link Mode#SYNC} operations run the blocking API on the generator's executor; in
+ *     {@link Mode#ASYNC} they go through the SDK's async API, with the executor installed as the
+ *     Twilio executor for the run.
+ * </p>
+ */
+public class LoadGenerator {
+
+    public enum Mode {
+        SYNC,
+        ASYNC
+    }
+
+    private static final long SAMPLE_MILLIS = 10L;
+
+    private final TwilioRestClient client;
+    private final Workload workload;
+    private final String label;
+    private final double rate;
+    private final long warmupMillis;
+    private final long durationMillis;
+    private final long drainMillis;
+    private final Mode mode;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final NetworkHttpClient pool;
+
+    private LoadGenerator(Builder b) {
+        this.client = b.client;
+        this.workload = b.workload;
+        this.label = b.label == null ? b.workload.getName() : b.label;
+        this.rate = b.rate;
+        this.warmupMillis = b.warmupMillis;
+        this.durationMillis = b.durationMillis;
+        this.drainMillis = b.drainMillis;
+        this.mode = b.mode;
+        this.ownsExecutor = b.executor == null;
+        this.executor = ownsExecutor ? Executors.newCachedThreadPool() : b.executor;
+        this.pool = b.pool;
+    }
+
+    /**
+     * Run the load, warm-up first, and wait for the operations to complete. A generator runs once.
+     *
+     * @return measurements of the run, warm-up excluded
+     * @throws InterruptedException if interrupted while running
+     */
+    public LoadReport run() throws InterruptedException {
+        final TimedExecutor timed = new TimedExecutor(executor);
+        ListeningExecutorService previous = null;
+        if (mode == Mode.ASYNC) {
+            previous = Twilio.getExecutorService();
+            Twilio.setExecutorService(MoreExecutors.listeningDecorator(timed));
+        }
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long total = (long) ((warmupMillis + durationMillis) * rate / 1000);
+        long warmupOperations = (long) (warmupMillis * rate / 1000);
+
+        final Recording recording = new Recording(total);
+        Sampler sampler = new Sampler(pool);
+        GcMonitor gc = new GcMonitor();
+        long maxLagNanos = 0;
+        Thread samplerThread = new Thread(sampler, "load-sampler");
+        samplerThread.setDaemon(true);
+        samplerThread.start();
+
+        long start = System.nanoTime();
+        try {
+            for (long i = 0; i < total; i++) {
+                final long intended = start + i * intervalNanos;
+                long wait = intended - System.nanoTime();
+                while (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    wait = intended - System.nanoTime();
+                }
+                maxLagNanos = i < warmupOperations ? 0 : Math.max(maxLagNanos, -wait);
+
+                if (i == warmupOperations) {
+                    timed.startRecording();
+                    sampler.reset();
+                    gc.getPauseMillis().reset();
+                    recording.start(intended);
+                }
+                dispatch(timed, recording, i, intended, i >= warmupOperations);
+            }
+
+            if (!recording.await(drainMillis)) {
+                recording.end();
+            }
+        } finally {
+            sampler.stop();
+            samplerThread.join();
+            gc.close();
+            if (mode == Mode.ASYNC) {
+                Twilio.setExecutorService(previous);
+            }
+            if (ownsExecutor) {
+                executor.shutdown();
+            }
+        }
+
+        return new LoadReport(
+            label,
+            rate,
+            total - warmupOperations,
+            recording.completed.get(),
+            recording.errors.get(),
+            recording.elapsedNanos(),
+            recording.latencyMicros,
+            recording.serviceMicros,
+            timed.getWaitMicros(),
+            maxLagNanos,
+            sampler.maxThreads,
+            sampler.maxLeased,
+            sampler.maxPending,
+            gc.getPauseMillis()
+        );
+    }
+
+    private void dispatch(final TimedExecutor timed, final Recording recording, final long index,
+                          final long intended, final boolean measured) {
+        if (mode == Mode.SYNC) {
+            timed.execute(new Runnable() {
+                @Override
+                public void run() {
+                    long started = System.nanoTime();
+                    boolean ok = false;
+                    try {
+                        workload.call(client, index);
+                        ok = true;
+                    } catch (final RuntimeException e) {
+                        // Counted below
+                    } finally {
+                        recording.done(measured, intended, started, ok);
+                    }
+                }
+            });
+            return;
+        }
+
+        final long started = System.nanoTime();
+        ListenableFuture<?> future;
+        try {
+            future = workload.callAsync(client, index);
+        } catch (final RuntimeException e) {
+            recording.done(measured, intended, started, false);
+            return;
+        }
+        Futures.addCallback(future, new FutureCallback<Object>() {
+            @Override
+            public void onSuccess(final Object result) {
+                recording.done(measured, intended, started, true);
+            }
+
+            @Override
+            public void onFailure(final Throwable t) {
+                recording.done(measured, intended, started, false);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Outcome of the operations of a run.
+     */
+    private static class Recording {
+        private final Histogram latencyMicros = new ConcurrentHistogram(3);
+        private final Histogram serviceMicros = new ConcurrentHistogram(3);
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong lastCompletion = new AtomicLong();
+        private final CountDownLatch outstanding;
+        private volatile long measureStart;
+
+        private Recording(final long operations) {
+            this.outstanding = new CountDownLatch((int) operations);
+        }
+
+        private void start(final long nanos) {
+            measureStart = nanos;
+        }
+
+        private void done(final boolean measured, final long intended, final long started, final boolean ok) {
+            long now = System.nanoTime();
+            if (measured) {
+                latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(now - intended));
+                serviceMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(now - started));
+                completed.incrementAndGet();
+                if (!ok) {
+                    errors.incrementAndGet();
+                }
+                long last = lastCompletion.get();
+                while (now > last && !lastCompletion.compareAndSet(last, now)) {
+                    last = lastCompletion.get();
+                }
+            }
+            outstanding.countDown();
+        }
+
+        private boolean await(final long millis) throws InterruptedException {
+            return outstanding.await(millis, TimeUnit.MILLISECONDS);
+        }
+
+        private void end() {
+            lastCompletion.set(System.nanoTime());
+        }
+
+        private long elapsedNanos() {
+            return measureStart == 0 ? 0 : Math.max(0, lastCompletion.get() - measureStart);
+        }
+    }
+
+    /**
+     * Samples thread and connection pool counts while the load runs.
+     */
+    private static class Sampler implements Runnable {
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private final NetworkHttpClient pool;
+        private volatile boolean running = true;
+        private volatile int maxThreads;
+        private volatile int maxLeased = -1;
+        private volatile int maxPending = -1;
+
+        private Sampler(final NetworkHttpClient pool) {
+            this.pool = pool;
+        }
+
+        private void reset() {
+            maxThreads = 0;
+            maxLeased = pool == null ? -1 : 0;
+            maxPending = pool == null ? -1 : 0;
+        }
+
+        private void stop() {
+            running = false;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                maxThreads = Math.max(maxThreads, threads.getThreadCount());
+                PoolStats stats = pool == null ? null : pool.getPoolStats();
+                if (stats != null) {
+                    maxLeased = Math.max(maxLeased, stats.getLeased());
+                    maxPending = Math.max(maxPending, stats.getPending());
+                }
+
+                try {
+                    Thread.sleep(SAMPLE_MILLIS);
+                } catch (final InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public static class Builder {
+        private final TwilioRestClient client;
+        private final Workload workload;
+        private String label;
+        private double rate = 100;
+        private long warmupMillis = 2000L;
+        private long durationMillis = 10000L;
+        private long drainMillis = 30000L;
+        private Mode mode = Mode.SYNC;
+        private ExecutorService executor;
+        private NetworkHttpClient pool;
+
+        /**
+         * Create a new load generator builder.
+         *
+         * @param client client to drive, e.g. one pointed at the emulator
+         * @param workload operation to run
+         */
+        public Builder(TwilioRestClient client, Workload workload) {
+            this.client = client;
+            this.workload = workload;
+        }
+
+        /**
+         * Name the configuration in the report; defaults to the workload name.
+         *
+         * @param label name of the run
+         * @return this builder
+         */
+        public Builder label(String label) {
+            this.label = label;
+            return this;
+        }
+
+        /**
+         * Set the arrival rate.
+         *
+         * @param rate operations started per second
+         * @return this builder
+         */
+        public Builder rate(double rate) {
+            this.rate = rate;
+            return this;
+        }
+
+        public Builder warmupMillis(long warmupMillis) {
+            this.warmupMillis = warmupMillis;
+            return this;
+        }
+
+        public Builder durationMillis(long durationMillis) {
+            this.durationMillis = durationMillis;
+            return this;
+        }
+
+        /**
+         * Set how long to wait for outstanding operations once all have been started.
+         *
+         * @param drainMillis max wait
+         * @return this builder
+         */
+        public Builder drainMillis(long drainMillis) {
+            this.drainMillis = drainMillis;
+            return this;
+        }
+
+        public Builder mode(Mode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * Set the executor running the operations; a cached thread pool, like the default Twilio
+         * executor, by default. The generator doesn't shut it down.
+         *
+         * @param executor executor to use
+         * @return this builder
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Report the connection pool usage of a client.
+         *
+         * @param pool client whose pool to sample
+         * @return this builder
+         */
+        public Builder pool(NetworkHttpClient pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * Build the generator.
+         *
+         * @return the generator
+         * @throws IllegalArgumentException if the rate isn't positive
+         */
+        public LoadGenerator build() {
+            if (rate <= 0) {
+                throw new IllegalArgumentException("Rate must be positive");
+            }
+            return new LoadGenerator(this);
+        }
+    }
+}
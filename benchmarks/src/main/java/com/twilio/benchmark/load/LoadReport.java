@@ -0,0 +1,192 @@
+package com.twilio.benchmark.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measurements of a {@link LoadGenerator} run, warm-up excluded.
+ */
+public class LoadReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final String label;
+    private final double offeredRate;
+    private final long scheduled;
+    private final long completed;
+    private final long errors;
+    private final long elapsedNanos;
+    private final Histogram latencyMicros;
+    private final Histogram serviceMicros;
+    private final Histogram waitMicros;
+    private final long maxLagNanos;
+    private final int maxThreads;
+    private final int maxLeasedConnections;
+    private final int maxPendingConnections;
+    private final Histogram gcMillis;
+
+    LoadReport(final String label, final double offeredRate, final long scheduled, final long completed,
+               final long errors, final long elapsedNanos, final Histogram latencyMicros,
+               final Histogram serviceMicros, final Histogram waitMicros, final long maxLagNanos,
+               final int maxThreads, final int maxLeasedConnections, final int maxPendingConnections,
+               final Histogram gcMillis) {
+        this.label = label;
+        this.offeredRate = offeredRate;
+        this.scheduled = scheduled;
+        this.completed = completed;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.latencyMicros = latencyMicros.copy();
+        this.serviceMicros = serviceMicros.copy();
+        this.waitMicros = waitMicros.copy();
+        this.maxLagNanos = maxLagNanos;
+        this.maxThreads = maxThreads;
+        this.maxLeasedConnections = maxLeasedConnections;
+        this.maxPendingConnections = maxPendingConnections;
+        this.gcMillis = gcMillis.copy();
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public double getOfferedRate() {
+        return offeredRate;
+    }
+
+    public long getScheduled() {
+        return scheduled;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get the rate at which operations completed.
+     *
+     * @return completed operations per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : completed * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Get the latency of operations from their scheduled start, free of coordinated omission.
+     *
+     * @return latency histogram in microseconds
+     */
+    public Histogram getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    /**
+     * Get the latency of operations from their actual start, as a closed-loop benchmark would see it.
+     *
+     * @return service time histogram in microseconds
+     */
+    public Histogram getServiceMicros() {
+        return serviceMicros;
+    }
+
+    /**
+     * Get the time operations waited for an executor thread.
+     *
+     * @return wait histogram in microseconds
+     */
+    public Histogram getWaitMicros() {
+        return waitMicros;
+    }
+
+    public long getMaxLagNanos() {
+        return maxLagNanos;
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Get the peak number of connections leased from the pool, -1 if the pool wasn't sampled.
+     *
+     * @return peak leased connections
+     */
+    public int getMaxLeasedConnections() {
+        return maxLeasedConnections;
+    }
+
+    /**
+     * Get the peak number of requests waiting for a pooled connection, -1 if the pool wasn't sampled.
+     *
+     * @return peak requests waiting for a connection
+     */
+    public int getMaxPendingConnections() {
+        return maxPendingConnections;
+    }
+
+    /**
+     * Get the durations of the garbage collections during the run.
+     *
+     * @return collection histogram in milliseconds
+     */
+    public Histogram getGcMillis() {
+        return gcMillis;
+    }
+
+    /**
+     * Print a one-line summary.
+     *
+     * @return summary
+     */
+    @Override
+    public String toString() {
+        return String.format(
+            "%-28s offered=%7.1f/s achieved=%7.1f/s errors=%5d p50=%8.2fms p99=%8.2fms p99.9=%8.2fms "
+                + "max=%8.2fms service.p99=%8.2fms wait.p99=%8.2fms lag=%5dms threads=%4d pool=%d/%d "
+                + "gc=%d/%dms",
+            label,
+            offeredRate,
+            getThroughput(),
+            errors,
+            latencyMicros.getValueAtPercentile(50) / MICROS_PER_MILLI,
+            latencyMicros.getValueAtPercentile(99) / MICROS_PER_MILLI,
+            latencyMicros.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+            latencyMicros.getMaxValue() / MICROS_PER_MILLI,
+            serviceMicros.getValueAtPercentile(99) / MICROS_PER_MILLI,
+            waitMicros.getValueAtPercentile(99) / MICROS_PER_MILLI,
+            TimeUnit.NANOSECONDS.toMillis(maxLagNanos),
+            maxThreads,
+            maxLeasedConnections,
+            maxPendingConnections,
+            gcMillis.getTotalCount(),
+            sum(gcMillis)
+        );
+    }
+
+    /**
+     * Print the summary followed by the full latency distribution, in the HdrHistogram format which
+     * can be plotted with the HdrHistogram plotter.
+     *
+     * @param out stream to print to
+     */
+    public void print(final PrintStream out) {
+        out.println(this);
+        out.println("Latency from scheduled start (ms):");
+        latencyMicros.outputPercentileDistribution(out, MICROS_PER_MILLI);
+    }
+
+    private static long sum(final Histogram histogram) {
+        long total = 0;
+        for (HistogramIterationValue value : histogram.recordedValues()) {
+            total += value.getValueIteratedTo() * value.getCountAtValueIteratedTo();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,74 @@
+package com.twilio.benchmark.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor recording how long tasks wait between being submitted and starting to run.
+ */
+class TimedExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Histogram waitMicros = new ConcurrentHistogram(3);
+    private volatile long recordAfterNanos = Long.MAX_VALUE;
+
+    TimedExecutor(final ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Start recording the waits of tasks submitted from now on, discarding earlier ones.
+     */
+    void startRecording() {
+        waitMicros.reset();
+        recordAfterNanos = System.nanoTime();
+    }
+
+    Histogram getWaitMicros() {
+        return waitMicros;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        final long submitted = System.nanoTime();
+        delegate.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (submitted >= recordAfterNanos) {
+                    waitMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - submitted));
+                }
+                command.run();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
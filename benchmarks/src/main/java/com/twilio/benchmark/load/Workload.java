@@ -0,0 +1,159 @@
+package com.twilio.benchmark.load;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.benchmark.emulator.Fixtures;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+
+import java.net.URI;
+
+/**
+ * Operation driven by the {@link LoadGenerator}, made through the SDK's public API.
+ */
+public abstract class Workload {
+
+    private static final PhoneNumber TO = new PhoneNumber("+14155551234");
+    private static final PhoneNumber FROM = new PhoneNumber("+14155552345");
+    private static final URI TWIML = URI.create("https://example.com/twiml");
+
+    private final String name;
+
+    protected Workload(final String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Run the n-th operation on the calling thread.
+     *
+     * @param client client to use
+     * @param index index of the operation
+     */
+    public abstract void call(final TwilioRestClient client, final long index);
+
+    /**
+     * Start the n-th operation with the SDK's async API, on the Twilio executor.
+     *
+     * @param client client to use
+     * @param index index of the operation
+     * @return future completing with the operation
+     */
+    public abstract ListenableFuture<?> callAsync(final TwilioRestClient client, final long index);
+
+    /**
+     * Send a message with {@code MessageCreator}.
+     *
+     * @return workload
+     */
+    public static Workload createMessage() {
+        return new Workload("create-message") {
+            @Override
+            public void call(final TwilioRestClient client, final long index) {
+                Message.creator(TO, FROM, "Load test message " + index).create(client);
+            }
+
+            @Override
+            public ListenableFuture<?> callAsync(final TwilioRestClient client, final long index) {
+                return Message.creator(TO, FROM, "Load test message " + index).createAsync(client);
+            }
+        };
+    }
+
+    /**
+     * Place a call with {@code CallCreator}.
+     *
+     * @return workload
+     */
+    public static Workload createCall() {
+        return new Workload("create-call") {
+            @Override
+            public void call(final TwilioRestClient client, final long index) {
+                Call.creator(TO, FROM, TWIML).create(client);
+            }
+
+            @Override
+            public ListenableFuture<?> callAsync(final TwilioRestClient client, final long index) {
+                return Call.creator(TO, FROM, TWIML).createAsync(client);
+            }
+        };
+    }
+
+    /**
+     * Fetch one of a thousand messages with {@code MessageFetcher}.
+     *
+     * @return workload
+     */
+    public static Workload fetchMessage() {
+        return new Workload("fetch-message") {
+            @Override
+            public void call(final TwilioRestClient client, final long index) {
+                Message.fetcher(Fixtures.sid("SM", index % 1000)).fetch(client);
+            }
+
+            @Override
+            public ListenableFuture<?> callAsync(final TwilioRestClient client, final long index) {
+                return Message.fetcher(Fixtures.sid("SM", index % 1000)).fetchAsync(client);
+            }
+        };
+    }
+
+    /**
+     * Read the first page of messages with {@code MessageReader}.
+     *
+     * @param pageSize records per page
+     * @return workload
+     */
+    public static Workload readMessages(final int pageSize) {
+        return new Workload("read-messages-" + pageSize) {
+            @Override
+            public void call(final TwilioRestClient client, final long index) {
+                Message.reader().pageSize(pageSize).firstPage(client);
+            }
+
+            @Override
+            public ListenableFuture<?> callAsync(final TwilioRestClient client, final long index) {
+                return Message.reader().pageSize(pageSize).readAsync(client);
+            }
+        };
+    }
+
+    /**
+     * Interleave workloads, e.g. 8 fetches for each create.
+     *
+     * @param name name of the mix
+     * @param workloads workloads to interleave
+     * @param weights operations of each workload in every round
+     * @return workload
+     */
+    public static Workload mix(final String name, final Workload[] workloads, final int[] weights) {
+        final int[] schedule;
+        int total = 0;
+        for (final int weight : weights) {
+            total += weight;
+        }
+        schedule = new int[total];
+        int slot = 0;
+        for (int i = 0; i < workloads.length; i++) {
+            for (int j = 0; j < weights[i]; j++) {
+                schedule[slot++] = i;
+            }
+        }
+
+        return new Workload(name) {
+            @Override
+            public void call(final TwilioRestClient client, final long index) {
+                workloads[schedule[(int) (index % schedule.length)]].call(client, index);
+            }
+
+            @Override
+            public ListenableFuture<?> callAsync(final TwilioRestClient client, final long index) {
+                return workloads[schedule[(int) (index % schedule.length)]].callAsync(client, index);
+            }
+        };
+    }
+}
@@ -0,0 +1,255 @@
+package com.twilio.benchmark.replay;
+
+import com.twilio.benchmark.emulator.TwilioEmulator;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.capture.CaptureReader;
+import com.twilio.http.capture.CapturedExchange;
+import com.twilio.http.capture.ReplayHttpClient;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Re-issues a captured workload with the captured inter-arrival times, optionally sped up.
+ *
+ * <p>
+ *     The driver is open-loop: a dispatcher sends each request at its scheduled time on a thread of
+ *     its own, whether or not earlier requests have been answered, so the concurrency of the capture
+ *     is reproduced whenever the target answers about as fast as the captured service did. Latency is
+ *     measured from the scheduled send time, so a driver falling behind shows up in the results
+ *     instead of quietly lowering the load.
+ * </p>
+ */
+public class ReplayDriver {
+
+    private final List<CapturedExchange> exchanges;
+    private final HttpClient target;
+    private final double speed;
+    private final String username;
+    private final String password;
+    private final int maxThreads;
+
+    private ReplayDriver(Builder b) {
+        List<CapturedExchange> sorted = new ArrayList<>(b.exchanges);
+        Collections.sort(sorted, new Comparator<CapturedExchange>() {
+            @Override
+            public int compare(final CapturedExchange a, final CapturedExchange b) {
+                return Long.compare(a.getStartMicros(), b.getStartMicros());
+            }
+        });
+        this.exchanges = sorted;
+        this.target = b.target;
+        this.speed = b.speed;
+        this.username = b.username;
+        this.password = b.password;
+        this.maxThreads = b.maxThreads;
+    }
+
+    /**
+     * Replay the capture, returning once every request has been answered.
+     *
+     * @return replay statistics
+     * @throws InterruptedException if interrupted while replaying
+     */
+    public ReplayResult run() throws InterruptedException {
+        final long[] latencies = new long[exchanges.size()];
+        final AtomicLong failures = new AtomicLong();
+        final AtomicLong mismatches = new AtomicLong();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(exchanges.size());
+        long maxLag = 0;
+
+        ExecutorService executor = maxThreads > 0
+            ? Executors.newFixedThreadPool(maxThreads)
+            : Executors.newCachedThreadPool();
+        long origin = System.nanoTime();
+        try {
+            long firstMicros = exchanges.isEmpty() ? 0 : exchanges.get(0).getStartMicros();
+            for (int i = 0; i < exchanges.size(); i++) {
+                final int index = i;
+                final CapturedExchange exchange = exchanges.get(i);
+                final long scheduled = origin
+                    + (long) (TimeUnit.MICROSECONDS.toNanos(exchange.getStartMicros() - firstMicros) / speed);
+
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                maxLag = Math.max(maxLag, System.nanoTime() - scheduled);
+
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        int concurrency = inFlight.incrementAndGet();
+                        int seen = peak.get();
+                        while (concurrency > seen && !peak.compareAndSet(seen, concurrency)) {
+                            seen = peak.get();
+                        }
+
+                        try {
+                            Response response = target.makeRequest(toRequest(exchange));
+                            if (response.getStatusCode() != exchange.getStatusCode()) {
+                                mismatches.incrementAndGet();
+                            }
+                        } catch (final RuntimeException e) {
+                            failures.incrementAndGet();
+                        } finally {
+                            latencies[index] = System.nanoTime() - scheduled;
+                            inFlight.decrementAndGet();
+                            done.countDown();
+                        }
+                    }
+                });
+            }
+            done.await();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new ReplayResult(
+            exchanges.size(),
+            failures.get(),
+            mismatches.get(),
+            System.nanoTime() - origin,
+            maxLag,
+            peak.get(),
+            latencies
+        );
+    }
+
+    private Request toRequest(final CapturedExchange exchange) {
+        Request request = exchange.toRequest();
+        if (!request.requiresAuthentication() && username != null) {
+            request.setAuth(username, password);
+        }
+        return request;
+    }
+
+    /**
+     * Replay a capture file against the emulator, or against the capture itself.
+     *
+     * <p>
+     *     Usage: {@code ReplayDriver <capture file> [speed] [emulator|stub]}
+     * </p>
+     *
+     * @param args command line arguments
+     * @throws Exception if the capture can't be replayed
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayDriver <capture file> [speed] [emulator|stub]");
+            System.exit(1);
+        }
+
+        List<CapturedExchange> exchanges = CaptureReader.readAll(new File(args[0]));
+        double speed = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+        boolean stub = args.length > 2 && "stub".equals(args[2]);
+
+        if (stub) {
+            HttpClient client = new ReplayHttpClient(exchanges, speed);
+            System.out.println(new Builder(exchanges).target(client).speed(speed).build().run());
+            return;
+        }
+
+        try (TwilioEmulator emulator = new TwilioEmulator.Builder().build()) {
+            HttpClient client = emulator.httpClient();
+            try {
+                System.out.println(new Builder(exchanges)
+                    .target(client)
+                    .speed(speed)
+                    .credentials(emulator.getAccountSid(), "token")
+                    .build()
+                    .run());
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    public static class Builder {
+        private final List<CapturedExchange> exchanges;
+        private HttpClient target;
+        private double speed = 1.0;
+        private String username;
+        private String password;
+        private int maxThreads;
+
+        /**
+         * Create a new driver builder.
+         *
+         * @param exchanges captured exchanges, e.g. from {@link CaptureReader#readAll(File)}
+         */
+        public Builder(List<CapturedExchange> exchanges) {
+            this.exchanges = exchanges;
+        }
+
+        public Builder target(HttpClient target) {
+            this.target = target;
+            return this;
+        }
+
+        /**
+         * Set how many times faster than captured to send requests.
+         *
+         * @param speed speed-up factor, 1 replays in real time
+         * @return this builder
+         */
+        public Builder speed(double speed) {
+            this.speed = speed;
+            return this;
+        }
+
+        /**
+         * Set the credentials of requests captured without them.
+         *
+         * @param username username to use
+         * @param password password to use
+         * @return this builder
+         */
+        public Builder credentials(String username, String password) {
+            this.username = username;
+            this.password = password;
+            return this;
+        }
+
+        /**
+         * Cap the number of requests in flight; by default every request gets a thread when it's due.
+         *
+         * @param maxThreads max requests in flight, 0 for no limit
+         * @return this builder
+         */
+        public Builder maxThreads(int maxThreads) {
+            this.maxThreads = maxThreads;
+            return this;
+        }
+
+        /**
+         * Build the driver.
+         *
+         * @return the driver
+         * @throws IllegalArgumentException if no target is set or the speed isn't positive
+         */
+        public ReplayDriver build() {
+            if (target == null) {
+                throw new IllegalArgumentException("A target HttpClient is required");
+            }
+            if (speed <= 0) {
+                throw new IllegalArgumentException("Speed must be positive");
+            }
+            return new ReplayDriver(this);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.twilio.benchmark.replay;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of replaying a capture.
+ */
+public class ReplayResult {
+
+    private final long sent;
+    private final long failures;
+    private final long statusMismatches;
+    private final long elapsedNanos;
+    private final long maxLagNanos;
+    private final int peakConcurrency;
+    private final long[] latencyNanos;
+
+    ReplayResult(final long sent, final long failures, final long statusMismatches, final long elapsedNanos,
+                 final long maxLagNanos, final int peakConcurrency, final long[] latencyNanos) {
+        this.sent = sent;
+        this.failures = failures;
+        this.statusMismatches = statusMismatches;
+        this.elapsedNanos = elapsedNanos;
+        this.maxLagNanos = maxLagNanos;
+        this.peakConcurrency = peakConcurrency;
+        this.latencyNanos = latencyNanos.clone();
+        Arrays.sort(this.latencyNanos);
+    }
+
+    public long getSent() {
+        return sent;
+    }
+
+    /**
+     * Get the number of requests which threw.
+     *
+     * @return failed requests
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Get the number of requests answered with another status than the one captured.
+     *
+     * @return mismatched responses
+     */
+    public long getStatusMismatches() {
+        return statusMismatches;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get how late, at worst, a request was sent compared to its scheduled time; a large lag means the
+     * driver couldn't keep up and the replayed load is lighter than the captured one.
+     *
+     * @return worst send lag
+     */
+    public long getMaxLagNanos() {
+        return maxLagNanos;
+    }
+
+    public int getPeakConcurrency() {
+        return peakConcurrency;
+    }
+
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : sent * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Get a latency percentile, measured from the time each request was scheduled to be sent.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return latency in nanoseconds
+     */
+    public long getLatencyNanos(final double percentile) {
+        if (latencyNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * latencyNanos.length) - 1;
+        return latencyNanos[Math.max(0, Math.min(latencyNanos.length - 1, index))];
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "sent=%d failures=%d mismatches=%d elapsed=%dms throughput=%.1f/s peakConcurrency=%d "
+                + "maxLag=%dms p50=%.2fms p99=%.2fms max=%.2fms",
+            sent,
+            failures,
+            statusMismatches,
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+            getThroughput(),
+            peakConcurrency,
+            TimeUnit.NANOSECONDS.toMillis(maxLagNanos),
+            getLatencyNanos(50) / 1e6,
+            getLatencyNanos(99) / 1e6,
+            getLatencyNanos(100) / 1e6
+        );
+    }
+}
@@ -0,0 +1,152 @@
+package com.twilio.benchmark.chaos;
+
+import com.twilio.benchmark.emulator.LatencyModel;
+import com.twilio.benchmark.emulator.TwilioEmulator;
+import com.twilio.exception.ApiException;
+import com.twilio.http.HttpClient;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ChaosHttpClientTest {
+
+    private static final String MESSAGES = "https://api.twilio.com/2010-04-01/Accounts/AC123/Messages.json";
+    private static final String CALLS = "https://api.twilio.com/2010-04-01/Accounts/AC123/Calls.json";
+
+    private static class OkClient extends HttpClient {
+        @Override
+        public Response makeRequest(final Request request) {
+            return new Response("{\"sid\": \"SM123\"}", 200);
+        }
+    }
+
+    private static List<Integer> statuses(final HttpClient client, final String url, final int count) {
+        List<Integer> statuses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            statuses.add(client.makeRequest(new Request(HttpMethod.GET, url)).getStatusCode());
+        }
+        return statuses;
+    }
+
+    @Test
+    public void testScriptPerEndpoint() {
+        ChaosHttpClient client = new ChaosHttpClient.Builder(new OkClient())
+            .fault("Messages\\.json$", FaultSchedule.script("..x"), Fault.status(429))
+            .build();
+
+        assertEquals(Arrays.asList(200, 200, 429, 200, 200, 429), statuses(client, MESSAGES, 6));
+        assertEquals(Arrays.asList(200, 200, 200), statuses(client, CALLS, 3));
+        assertEquals(2, client.getInjectedCount());
+        assertEquals(9, client.getRequestCount());
+    }
+
+    @Test
+    public void testBurstAndFirstMatchingRule() {
+        ChaosHttpClient client = new ChaosHttpClient.Builder(new OkClient())
+            .fault(FaultSchedule.burst(4, 2), Fault.status(503))
+            .fault(FaultSchedule.always(), Fault.status(500))
+            .build();
+
+        assertEquals(Arrays.asList(503, 503, 500, 500, 503, 503), statuses(client, MESSAGES, 6));
+    }
+
+    @Test
+    public void testSeededScheduleIsRepeatable() {
+        List<Integer> first = statuses(new ChaosHttpClient.Builder(new OkClient())
+            .seed(7)
+            .fault(FaultSchedule.probability(0.3), Fault.status(500))
+            .build(), MESSAGES, 200);
+        List<Integer> second = statuses(new ChaosHttpClient.Builder(new OkClient())
+            .seed(7)
+            .fault(FaultSchedule.probability(0.3), Fault.status(500))
+            .build(), MESSAGES, 200);
+
+        assertEquals(first, second);
+        assertTrue(first.contains(500));
+        assertTrue(first.contains(200));
+    }
+
+    @Test
+    public void testReset() {
+        ChaosHttpClient client = new ChaosHttpClient.Builder(new OkClient())
+            .fault(FaultSchedule.always(), Fault.reset())
+            .build();
+
+        try {
+            client.reliableRequest(new Request(HttpMethod.GET, MESSAGES));
+            fail("ApiException was expected");
+        } catch (final ApiException e) {
+            assertEquals("Connection reset", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testTruncate() {
+        ChaosHttpClient client = new ChaosHttpClient.Builder(new OkClient())
+            .fault(FaultSchedule.always(), Fault.truncate(0.5))
+            .build();
+
+        Response response = client.makeRequest(new Request(HttpMethod.GET, MESSAGES));
+        assertEquals(200, response.getStatusCode());
+        assertEquals("{\"sid\": ", response.getContent());
+    }
+
+    @Test
+    public void testSlowResponseTimesOutAtDeadline() {
+        ChaosHttpClient client = new ChaosHttpClient.Builder(new OkClient())
+            .fault(FaultSchedule.always(), Fault.slow(LatencyModel.fixed(5000)))
+            .build();
+
+        Request request = new Request(HttpMethod.GET, MESSAGES);
+        request.setTimeout(50);
+        long start = System.currentTimeMillis();
+        try {
+            client.makeRequest(request);
+            fail("ApiException was expected");
+        } catch (final ApiException e) {
+            assertEquals("Read timed out", e.getMessage());
+        }
+        assertTrue(System.currentTimeMillis() - start < 1000);
+    }
+
+    @Test
+    public void testResilienceBenchmark() throws IOException, InterruptedException {
+        try (TwilioEmulator emulator = new TwilioEmulator.Builder().build()) {
+            HttpClient transport = emulator.httpClient();
+            try {
+                ResilienceBenchmark benchmark = new ResilienceBenchmark.Builder(transport)
+                    .accountSid(emulator.getAccountSid())
+                    .threads(2)
+                    .durationMillis(300)
+                    .retries(3, 1)
+                    .build();
+
+                ScenarioResult baseline = benchmark.run(new FaultProfile("baseline"));
+                assertTrue(baseline.getCalls() > 0);
+                assertEquals(baseline.getCalls(), baseline.getGood());
+
+                ScenarioResult truncated = benchmark.run(new FaultProfile("truncated")
+                    .fault(FaultSchedule.always(), Fault.truncate(0.5)));
+                assertEquals(truncated.getCalls(), truncated.getCorrupt());
+                assertEquals(0, truncated.getGoodput(), 0.0);
+
+                ScenarioResult bursts = benchmark.run(new FaultProfile("503-burst")
+                    .fault(FaultSchedule.script("xx..."), Fault.status(503)));
+                assertTrue(bursts.getGood() > 0);
+                assertEquals(bursts.getCalls(), bursts.getGood() + bursts.getErrorStatuses());
+            } finally {
+                transport.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.twilio.benchmark.emulator;
+
+import com.twilio.base.AdaptivePageSize;
+import com.twilio.base.ResourceSet;
+import com.twilio.exception.ApiException;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.taskrouter.v1.workspace.Worker;
+import com.twilio.type.PhoneNumber;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+public class TwilioEmulatorTest {
+
+    private TwilioEmulator emulator;
+    private TwilioRestClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        emulator = new TwilioEmulator.Builder().recordsPerList(120).build();
+        client = new TwilioRestClient.Builder(emulator.getAccountSid(), "token")
+            .httpClient(emulator.httpClient())
+            .build();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        emulator.close();
+    }
+
+    @Test
+    public void testApiPaging() {
+        ResourceSet<Message> messages = Message.reader().pageSize(50).read(client);
+        int count = 0;
+        for (Message message : messages) {
+            assertEquals(Fixtures.sid("SM", count), message.getSid());
+            count++;
+        }
+        assertEquals(120, count);
+    }
+
+    @Test
+    public void testAdaptivePaging() {
+        // Pages of about 20 messages, starting from 5, so the size changes between pages
+        AdaptivePageSize adaptivePageSize = new AdaptivePageSize.Builder()
+            .targetBytes(20 * 1200)
+            .pageSizes(1, 100)
+            .initialPageSize(5)
+            .build();
+
+        int count = 0;
+        for (Message message : Message.reader().adaptivePageSize(adaptivePageSize).read(client)) {
+            assertEquals(Fixtures.sid("SM", count), message.getSid());
+            count++;
+        }
+        assertEquals(120, count);
+    }
+
+    @Test
+    public void testTaskrouterPaging() {
+        String workspaceSid = Fixtures.sid("WS", 1);
+        int count = 0;
+        for (Worker worker : Worker.reader(workspaceSid).pageSize(25).read(client)) {
+            assertEquals(workspaceSid, worker.getWorkspaceSid());
+            count++;
+        }
+        assertEquals(120, count);
+    }
+
+    @Test
+    public void testFetchAndCreate() {
+        Call call = Call.fetcher(Fixtures.sid("CA", 7)).fetch(client);
+        assertEquals(Fixtures.sid("CA", 7), call.getSid());
+        assertNotNull(call.getDateCreated());
+        assertNotNull(call.getStatus());
+
+        Message message = Message.creator(new PhoneNumber("+15005550006"), new PhoneNumber("+15005550001"), "hi")
+            .create(client);
+        assertEquals("hi", message.getBody());
+        assertEquals("+15005550006", message.getTo());
+    }
+
+    @Test
+    public void testInjectedErrors() throws IOException {
+        TwilioEmulator failing = new TwilioEmulator.Builder().errors(1.0, 400).build();
+        TwilioRestClient failingClient = new TwilioRestClient.Builder(failing.getAccountSid(), "token")
+            .httpClient(failing.httpClient())
+            .build();
+        try {
+            Call.fetcher(Fixtures.sid("CA", 1)).fetch(failingClient);
+            fail("ApiException was expected");
+        } catch (final ApiException e) {
+            assertEquals(400, e.getStatusCode().intValue());
+            assertEquals(1, failing.getInjectedErrorCount());
+        } finally {
+            failingClient.close();
+            failing.close();
+        }
+    }
+}
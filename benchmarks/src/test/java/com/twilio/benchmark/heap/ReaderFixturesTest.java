@@ -0,0 +1,64 @@
+package com.twilio.benchmark.heap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.base.Page;
+import com.twilio.base.Reader;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.MessageReader;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ReaderFixturesTest {
+
+    private static final File TEST_SOURCES = new File("../src/test/java");
+
+    @Test
+    public void testReadResponseUnescapes() {
+        String source = "public void testReadFullResponse() {\n" +
+            "    new Response(\"{\\\"body\\\": \\\"caf\\u00e9\\\\n\\\"}\", TwilioRestClient.HTTP_STATUS_CODE_OK);\n" +
+            "}";
+        assertEquals("{\"body\": \"café\\n\"}", ReaderFixtures.readResponse(source));
+    }
+
+    @Test
+    public void testReadResponseWithoutReadTest() {
+        assertNull(ReaderFixtures.readResponse("new Response(\"{}\", 200);"));
+    }
+
+    @Test
+    public void testResourceType() {
+        assertEquals(Message.class, ReaderFixtures.resourceType(MessageReader.class));
+    }
+
+    @Test
+    public void testReaderTypes() throws Exception {
+        List<Class<? extends Reader<?>>> readers = ReaderFixtures.readerTypes();
+        assertTrue(readers.contains(MessageReader.class));
+        for (Class<? extends Reader<?>> reader : readers) {
+            assertNotNull(ReaderFixtures.resourceType(reader));
+        }
+    }
+
+    @Test
+    public void testExamplePage() throws Exception {
+        ReaderFixtures.Example example = new ReaderFixtures(TEST_SOURCES).example(Message.class);
+        assertNotNull(example);
+        assertEquals("messages", example.getKey());
+
+        Page<Message> page = Page.fromJson(example.getKey(), example.page(3), Message.class, new ObjectMapper());
+        Set<String> sids = new HashSet<>();
+        for (Message message : page.getRecords()) {
+            sids.add(message.getSid());
+        }
+        assertEquals(3, sids.size());
+    }
+}
@@ -0,0 +1,92 @@
+package com.twilio.benchmark.load;
+
+import com.twilio.benchmark.emulator.LatencyModel;
+import com.twilio.benchmark.emulator.TwilioEmulator;
+import com.twilio.http.NetworkHttpClient;
+import com.twilio.http.TwilioRestClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LoadGeneratorTest {
+
+    private TwilioEmulator emulator;
+    private NetworkHttpClient transport;
+    private TwilioRestClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        emulator = new TwilioEmulator.Builder().latency(LatencyModel.fixed(20)).build();
+        transport = new NetworkHttpClient(20, 20);
+        client = new TwilioRestClient.Builder(emulator.getAccountSid(), "token")
+            .httpClient(emulator.httpClient(transport))
+            .build();
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+        emulator.close();
+    }
+
+    private LoadGenerator.Builder generator(final Workload workload) {
+        return new LoadGenerator.Builder(client, workload)
+            .rate(100)
+            .warmupMillis(200)
+            .durationMillis(1000)
+            .pool(transport);
+    }
+
+    @Test
+    public void testSync() throws InterruptedException {
+        LoadReport report = generator(Workload.fetchMessage()).build().run();
+
+        assertEquals(100, report.getScheduled());
+        assertEquals(100, report.getCompleted());
+        assertEquals(0, report.getErrors());
+        assertEquals(100, report.getLatencyMicros().getTotalCount());
+        assertTrue(report.getLatencyMicros().getMinValue() >= 20000);
+        assertTrue(report.getThroughput() > 50);
+        assertTrue(report.getMaxLeasedConnections() > 0);
+        assertTrue(report.getMaxThreads() > 0);
+    }
+
+    @Test
+    public void testAsyncMix() throws InterruptedException {
+        Workload mix = Workload.mix(
+            "mixed",
+            new Workload[] {Workload.fetchMessage(), Workload.createMessage(), Workload.createCall(),
+                Workload.readMessages(20)},
+            new int[] {1, 1, 1, 1}
+        );
+        LoadReport report = generator(mix).mode(LoadGenerator.Mode.ASYNC).build().run();
+
+        assertEquals(100, report.getCompleted());
+        assertEquals(0, report.getErrors());
+        assertEquals(100, report.getWaitMicros().getTotalCount());
+    }
+
+    @Test
+    public void testLatencyIncludesQueueing() throws InterruptedException {
+        // One thread serves 50 operations per second at best, half the offered rate
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            LoadReport report = generator(Workload.fetchMessage()).executor(executor).build().run();
+
+            assertEquals(100, report.getCompleted());
+            long service = report.getServiceMicros().getValueAtPercentile(99);
+            long latency = report.getLatencyMicros().getValueAtPercentile(99);
+            assertTrue("latency " + latency + " service " + service, latency > 5 * service);
+            assertTrue(report.getWaitMicros().getMaxValue() > 100000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.twilio.benchmark.replay;
+
+import com.twilio.benchmark.emulator.TwilioEmulator;
+import com.twilio.http.HttpClient;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.http.capture.CaptureReader;
+import com.twilio.http.capture.CaptureWriter;
+import com.twilio.http.capture.CapturedExchange;
+import com.twilio.http.capture.RecordingHttpClient;
+import com.twilio.http.capture.ReplayHttpClient;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReplayDriverTest {
+
+    private static final long GAP_MILLIS = 100;
+
+    private TwilioEmulator emulator;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException, InterruptedException {
+        emulator = new TwilioEmulator.Builder().recordsPerList(120).build();
+        file = File.createTempFile("capture", ".bin");
+        file.delete();
+
+        HttpClient emulated = emulator.httpClient();
+        try (CaptureWriter writer = new CaptureWriter(file)) {
+            TwilioRestClient client = new TwilioRestClient.Builder(emulator.getAccountSid(), "token")
+                .httpClient(new RecordingHttpClient(emulated, writer))
+                .build();
+
+            for (Message message : Message.reader().pageSize(50).read(client)) {
+                message.getSid();
+            }
+            for (int i = 0; i < 3; i++) {
+                Thread.sleep(GAP_MILLIS);
+                Message.creator(new PhoneNumber("+14155551234"), new PhoneNumber("+14155552345"), "Hello")
+                    .create(client);
+            }
+        } finally {
+            emulated.close();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        emulator.close();
+        file.delete();
+    }
+
+    @Test
+    public void testReplayAgainstEmulator() throws IOException, InterruptedException {
+        List<CapturedExchange> exchanges = CaptureReader.readAll(file);
+        assertEquals(6, exchanges.size());
+
+        long before = emulator.getRequestCount();
+        HttpClient client = emulator.httpClient();
+        try {
+            ReplayResult result = new ReplayDriver.Builder(exchanges)
+                .target(client)
+                .credentials(emulator.getAccountSid(), "token")
+                .build()
+                .run();
+
+            assertEquals(6, result.getSent());
+            assertEquals(0, result.getFailures());
+            assertEquals(0, result.getStatusMismatches());
+            assertEquals(6, emulator.getRequestCount() - before);
+            assertTrue(result.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(3 * GAP_MILLIS));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testReplayFasterAgainstStub() throws IOException, InterruptedException {
+        List<CapturedExchange> exchanges = CaptureReader.readAll(file);
+        ReplayResult result = new ReplayDriver.Builder(exchanges)
+            .target(new ReplayHttpClient(exchanges))
+            .speed(10)
+            .build()
+            .run();
+
+        assertEquals(6, result.getSent());
+        assertEquals(0, result.getFailures());
+        assertEquals(0, result.getStatusMismatches());
+        assertTrue(result.getElapsedNanos() < TimeUnit.MILLISECONDS.toNanos(3 * GAP_MILLIS));
+        assertTrue(result.getPeakConcurrency() >= 1);
+    }
+}
@@ -18,7 +18,8 @@ public class Twilio {
     private static String username;
     private static String password;
     private static String accountSid;
-    private static TwilioRestClient restClient;
+    private static volatile TwilioRestClient restClient;
+    private static volatile boolean ownsRestClient;
     private static ListeningExecutorService executorService;
 
     private Twilio() {}
@@ -58,11 +59,12 @@ public class Twilio {
             throw new AuthenticationException("Username can not be null");
         }
 
-        if (!username.equals(Twilio.username)) {
-            Twilio.invalidate();
-        }
-
+        boolean changed = !username.equals(Twilio.username);
         Twilio.username = username;
+
+        if (changed) {
+            Twilio.rebuild();
+        }
     }
 
     /**
@@ -76,11 +78,12 @@ public class Twilio {
             throw new AuthenticationException("Password can not be null");
         }
 
-        if (!password.equals(Twilio.password)) {
-            Twilio.invalidate();
-        }
-
+        boolean changed = !password.equals(Twilio.password);
         Twilio.password = password;
+
+        if (changed) {
+            Twilio.rotate();
+        }
     }
 
     /**
@@ -94,11 +97,12 @@ public class Twilio {
             throw new AuthenticationException("AccountSid can not be null");
         }
 
-        if (!accountSid.equals(Twilio.accountSid)) {
-            Twilio.invalidate();
-        }
-
+        boolean changed = !accountSid.equals(Twilio.accountSid);
         Twilio.accountSid = accountSid;
+
+        if (changed) {
+            Twilio.rebuild();
+        }
     }
 
     /**
@@ -108,6 +112,11 @@ public class Twilio {
      * @throws AuthenticationException if initialization required and either accountSid or authToken is null
      */
     public static TwilioRestClient getRestClient() {
+        TwilioRestClient client = Twilio.restClient;
+        return client != null ? client : Twilio.buildRestClient();
+    }
+
+    private static synchronized TwilioRestClient buildRestClient() {
         if (Twilio.restClient == null) {
             if (Twilio.username == null || Twilio.password == null) {
                 throw new AuthenticationException(
@@ -115,23 +124,29 @@ public class Twilio {
                 );
             }
 
-            TwilioRestClient.Builder builder = new TwilioRestClient.Builder(Twilio.username, Twilio.password);
-            if (Twilio.accountSid != null) {
-                builder.accountSid(Twilio.accountSid);
-            }
-            Twilio.restClient = builder.build();
+            Twilio.ownsRestClient = true;
+            Twilio.restClient = Twilio.newRestClient().build();
         }
 
         return Twilio.restClient;
     }
 
+    private static TwilioRestClient.Builder newRestClient() {
+        TwilioRestClient.Builder builder = new TwilioRestClient.Builder(Twilio.username, Twilio.password);
+        if (Twilio.accountSid != null) {
+            builder.accountSid(Twilio.accountSid);
+        }
+        return builder;
+    }
+
     /**
      * Use a custom rest client.
      *
      * @param restClient rest client to use
      */
-    public static void setRestClient(final TwilioRestClient restClient) {
+    public static synchronized void setRestClient(final TwilioRestClient restClient) {
         Twilio.restClient = restClient;
+        Twilio.ownsRestClient = false;
     }
 
     /**
@@ -155,10 +170,57 @@ public class Twilio {
         Twilio.executorService = executorService;
     }
 
+    /**
+     * Close the Twilio Rest Client built by the singleton and release its connections.
+     */
+    public static synchronized void destroy() {
+        TwilioRestClient client = Twilio.restClient;
+        boolean owned = Twilio.ownsRestClient;
+        Twilio.invalidate();
+        if (client != null && owned) {
+            client.close();
+        }
+    }
+
+    /**
+     * Hand the new auth token to the live client, keeping its connection pool warm.
+     */
+    private static synchronized void rotate() {
+        TwilioRestClient client = Twilio.restClient;
+        if (client != null && Twilio.ownsRestClient) {
+            client.rotateCredentials(client.getUsername(), Twilio.password);
+        } else {
+            Twilio.invalidate();
+        }
+    }
+
+    /**
+     * Replace the live client with one for the new username or account sid on the same connection pool.
+     *
+     * <p>
+     *     The replaced client isn't closed, as other threads may still have requests in flight on it,
+     *     and it holds nothing of its own to release: its pool carries on in the new client.
+     * </p>
+     */
+    private static synchronized void rebuild() {
+        TwilioRestClient client = Twilio.restClient;
+        if (client != null && Twilio.ownsRestClient) {
+            Twilio.restClient = Twilio.newRestClient().httpClient(client.getHttpClient()).build();
+        } else {
+            Twilio.invalidate();
+        }
+    }
+
     /**
      * Invalidates the volatile state held in the Twilio singleton.
+     *
+     * <p>
+     *     The dropped client isn't closed; a client set with {@link #setRestClient} is its owner's to
+     *     close, and {@link #destroy} closes the one the singleton built.
+     * </p>
      */
-    private static void invalidate() {
+    private static synchronized void invalidate() {
         Twilio.restClient = null;
+        Twilio.ownsRestClient = false;
     }
 }
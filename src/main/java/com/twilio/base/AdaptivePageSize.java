@@ -0,0 +1,159 @@
+package com.twilio.base;
+
+/**
+ * Tunes the size of the pages a {@link ResourceSet} fetches towards a latency or size goal, using
+ * the time and payload of each page to size the next.
+ *
+ * <p>
+ *     Each page is sized by the ratio between the goal and what the last page took, moving by at most
+ *     half or double at a time and not at all when within a tenth of the goal, so the size settles
+ *     rather than chasing noise. With both goals set the smaller size wins. Only pages whose links
+ *     continue from a page token can change size; numbered pages keep the size they started with.
+ * </p>
+ *
+ * <pre>
+ *     reader.adaptivePageSize(new AdaptivePageSize.Builder().targetMillis(2000).targetBytes(4000000).build())
+ * </pre>
+ */
+public final class AdaptivePageSize {
+
+    private static final double MAX_STEP = 2.0;
+    private static final double DEADBAND = 0.1;
+
+    private final long targetMillis;
+    private final long targetBytes;
+    private final int minPageSize;
+    private final int maxPageSize;
+    private final int initialPageSize;
+
+    private AdaptivePageSize(Builder b) {
+        this.targetMillis = b.targetMillis;
+        this.targetBytes = b.targetBytes;
+        this.minPageSize = b.minPageSize;
+        this.maxPageSize = b.maxPageSize;
+        this.initialPageSize = b.initialPageSize;
+    }
+
+    public long getTargetMillis() {
+        return targetMillis;
+    }
+
+    public long getTargetBytes() {
+        return targetBytes;
+    }
+
+    public int getMinPageSize() {
+        return minPageSize;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public int getInitialPageSize() {
+        return initialPageSize;
+    }
+
+    /**
+     * Size the next page from how the last one went.
+     *
+     * @param pageSize size of the last page
+     * @param millis time the last page took, or a negative number if unknown
+     * @param bytes UTF-8 bytes of the last page's content, or 0 if unknown
+     * @return size of the next page
+     */
+    int nextPageSize(final int pageSize, final long millis, final long bytes) {
+        double ratio = Double.POSITIVE_INFINITY;
+        if (targetMillis > 0 && millis >= 0) {
+            ratio = Math.min(ratio, (double) targetMillis / Math.max(1L, millis));
+        }
+        if (targetBytes > 0 && bytes > 0) {
+            ratio = Math.min(ratio, (double) targetBytes / bytes);
+        }
+
+        if (Double.isInfinite(ratio) || Math.abs(ratio - 1.0) <= DEADBAND) {
+            return clamp(pageSize);
+        }
+
+        // Move by at least one record, or small pages would round back to their own size
+        ratio = Math.max(1.0 / MAX_STEP, Math.min(MAX_STEP, ratio));
+        int next = (int) Math.round(pageSize * ratio);
+        return clamp(ratio > 1.0 ? Math.max(pageSize + 1, next) : Math.min(pageSize - 1, next));
+    }
+
+    private int clamp(final int pageSize) {
+        return Math.max(minPageSize, Math.min(maxPageSize, pageSize));
+    }
+
+    public static class Builder {
+        private long targetMillis;
+        private long targetBytes;
+        private int minPageSize = 20;
+        private int maxPageSize = Reader.MAX_PAGE_SIZE;
+        private int initialPageSize = 50;
+
+        /**
+         * Aim for pages that take this long to fetch and parse.
+         *
+         * @param targetMillis time a page should take
+         * @return this builder
+         */
+        public Builder targetMillis(long targetMillis) {
+            this.targetMillis = targetMillis;
+            return this;
+        }
+
+        /**
+         * Aim for pages of this much content, to bound the heap a page takes.
+         *
+         * @param targetBytes UTF-8 bytes a page's content should have
+         * @return this builder
+         */
+        public Builder targetBytes(long targetBytes) {
+            this.targetBytes = targetBytes;
+            return this;
+        }
+
+        /**
+         * Bound the sizes pages are tuned between; the API allows at most 1000.
+         *
+         * @param minPageSize smallest page size
+         * @param maxPageSize largest page size
+         * @return this builder
+         */
+        public Builder pageSizes(int minPageSize, int maxPageSize) {
+            this.minPageSize = minPageSize;
+            this.maxPageSize = maxPageSize;
+            return this;
+        }
+
+        /**
+         * Size the first page, used unless the reader already has a page size.
+         *
+         * @param initialPageSize size of the first page
+         * @return this builder
+         */
+        public Builder initialPageSize(int initialPageSize) {
+            this.initialPageSize = initialPageSize;
+            return this;
+        }
+
+        /**
+         * Build the page sizing.
+         *
+         * @return the page sizing
+         * @throws IllegalArgumentException if there is no goal or the sizes are out of range
+         */
+        public AdaptivePageSize build() {
+            if (targetMillis <= 0 && targetBytes <= 0) {
+                throw new IllegalArgumentException("Adaptive page size needs a latency or size goal");
+            }
+            if (minPageSize < 1 || minPageSize > maxPageSize || maxPageSize > Reader.MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("Page sizes must be within 1 and " + Reader.MAX_PAGE_SIZE +
+                    ", got " + minPageSize + " to " + maxPageSize);
+            }
+            initialPageSize = Math.max(minPageSize, Math.min(maxPageSize, initialPageSize));
+            return new AdaptivePageSize(this);
+        }
+    }
+}
@@ -0,0 +1,1048 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.twilio.type.PhoneNumber;
+import com.twilio.type.Sid;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * How {@link ResourceCodec} lays out the fields of a resource class.
+ *
+ * <p>
+ *     The schema of a class is its instance fields in declaration order, each with an encoding chosen
+ *     from its declared type, and the same for the Twilio value types it holds. The description of all
+ *     of them is hashed into a fingerprint written with every batch, so bytes are only ever read back
+ *     by the schema that wrote them. The names of every enum constant start the dictionary, which
+ *     SIDs and short strings are added to as a batch is written and read, in the same order.
+ * </p>
+ */
+final class CodecSchema {
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    private static final int SID_LENGTH = 34;
+    private static final int MAX_ENTRY_LENGTH = 64;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // String tags; higher tags are dictionary entries
+    private static final int INLINE = 0;
+    private static final int SID = 1;
+    private static final int TEMPLATE = 2;
+    private static final int DICTIONARY = 3;
+
+    // Tags of values whose type is only known at runtime
+    private static final int NULL = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+    private static final int INT = 3;
+    private static final int LONG = 4;
+    private static final int DOUBLE = 5;
+    private static final int STRING = 6;
+    private static final int LIST = 7;
+    private static final int MAP = 8;
+    private static final int DECIMAL = 9;
+
+    private final Layout layout;
+    private final List<String> strings;
+    private final Map<String, Integer> entries = new HashMap<>();
+    private final int fingerprint;
+
+    private CodecSchema(final Layout layout, final List<String> strings, final int fingerprint) {
+        this.layout = layout;
+        this.strings = strings;
+        this.fingerprint = fingerprint;
+        for (String string : strings) {
+            entries.put(string, entries.size());
+        }
+    }
+
+    /**
+     * Build the schema of a class.
+     *
+     * @param type class to lay out
+     * @return the schema
+     * @throws IllegalArgumentException if the class holds a field the codec can't encode
+     */
+    static CodecSchema of(final Class<?> type) {
+        Set<String> strings = new LinkedHashSet<>();
+        Layout layout = new Layout(type, strings, new HashSet<Class<?>>());
+
+        CRC32 crc = new CRC32();
+        crc.update(layout.describe().getBytes(StandardCharsets.UTF_8));
+        return new CodecSchema(layout, Collections.unmodifiableList(new ArrayList<>(strings)), (int) crc.getValue());
+    }
+
+    int fingerprint() {
+        return fingerprint;
+    }
+
+    Encoder encoder(final ByteBuffer buffer, final boolean growable) {
+        return new Encoder(buffer, growable, entries);
+    }
+
+    Decoder decoder(final ByteBuffer buffer) {
+        return new Decoder(buffer, strings);
+    }
+
+    void write(final Encoder out, final Object value) {
+        layout.write(out, value);
+    }
+
+    Object read(final Decoder in) {
+        return layout.read(in);
+    }
+
+    private static ValueCodec codecFor(final Type type, final Set<String> strings, final Set<Class<?>> visiting) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            Class<?> raw = (Class<?>) parameterized.getRawType();
+            Type[] arguments = parameterized.getActualTypeArguments();
+            if (List.class.isAssignableFrom(raw)) {
+                return new ListCodec(codecFor(arguments[0], strings, visiting));
+            }
+            if (Map.class.isAssignableFrom(raw) && arguments[0] == String.class) {
+                return new MapCodec(codecFor(arguments[1], strings, visiting));
+            }
+            throw new IllegalArgumentException("Unsupported field type " + type);
+        }
+        if (!(type instanceof Class)) {
+            return DynamicCodec.INSTANCE;
+        }
+
+        Class<?> cls = (Class<?>) type;
+        if (cls == String.class) {
+            return StringCodec.INSTANCE;
+        }
+        if (cls == Integer.class || cls == int.class || cls == Long.class || cls == long.class ||
+            cls == Short.class || cls == short.class) {
+            return new IntegerCodec(cls);
+        }
+        if (cls == Boolean.class || cls == boolean.class) {
+            return BooleanCodec.INSTANCE;
+        }
+        if (cls == Double.class || cls == double.class || cls == Float.class || cls == float.class) {
+            return new FloatingCodec(cls);
+        }
+        if (cls == BigDecimal.class) {
+            return DecimalCodec.INSTANCE;
+        }
+        if (cls == DateTime.class) {
+            return DateTimeCodec.INSTANCE;
+        }
+        if (cls == LocalDate.class) {
+            return LocalDateCodec.INSTANCE;
+        }
+        if (cls == URI.class || cls == PhoneNumber.class || cls == Currency.class) {
+            return new TextCodec(cls);
+        }
+        if (cls.isEnum()) {
+            return new EnumCodec(cls, strings);
+        }
+        if (cls == Object.class || Map.class.isAssignableFrom(cls) || List.class.isAssignableFrom(cls)) {
+            return DynamicCodec.INSTANCE;
+        }
+        if (cls.getName().startsWith("com.twilio.")) {
+            return new Layout(cls, strings, visiting);
+        }
+        throw new IllegalArgumentException("Unsupported field type " + cls.getName());
+    }
+
+    private static boolean isStored(final Field field) {
+        int modifiers = field.getModifiers();
+        return !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic();
+    }
+
+    /**
+     * Writes a batch: primitives, and strings through the dictionary.
+     */
+    static final class Encoder {
+        private final boolean growable;
+        private final Map<String, Integer> schemaEntries;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private ByteBuffer buffer;
+
+        private Encoder(final ByteBuffer buffer, final boolean growable, final Map<String, Integer> schemaEntries) {
+            this.buffer = buffer;
+            this.growable = growable;
+            this.schemaEntries = schemaEntries;
+        }
+
+        ByteBuffer buffer() {
+            return buffer;
+        }
+
+        void writeByte(final int value) {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        void writeInt(final int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void writeVarint(final long value) {
+            ensure(10);
+            long rest = value;
+            while ((rest & ~0x7fL) != 0) {
+                buffer.put((byte) ((rest & 0x7f) | 0x80));
+                rest >>>= 7;
+            }
+            buffer.put((byte) rest);
+        }
+
+        void writeSigned(final long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeBytes(final byte[] bytes) {
+            writeVarint(bytes.length);
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void writeString(final String value) {
+            Integer entry = schemaEntries.get(value);
+            if (entry == null) {
+                entry = dictionary.get(value);
+            }
+            if (entry != null) {
+                writeVarint(DICTIONARY + entry);
+                return;
+            }
+
+            if (Sid.isSid(value)) {
+                add(value);
+                writeVarint(SID);
+                ensure(2 + 16);
+                buffer.put((byte) value.charAt(0)).put((byte) value.charAt(1));
+                for (int i = 2; i < value.length(); i += 2) {
+                    buffer.put((byte) ((hex(value.charAt(i)) << 4) | hex(value.charAt(i + 1))));
+                }
+                return;
+            }
+
+            int first = findSid(value, 0);
+            if (first < 0) {
+                // Short strings, the pieces of urls above all, tend to repeat from one record to the next
+                if (value.length() <= MAX_ENTRY_LENGTH) {
+                    add(value);
+                }
+                writeVarint(INLINE);
+                writeText(value);
+                return;
+            }
+
+            // Urls name the resources they lead to, so the SIDs in them go through the dictionary as well
+            int count = 0;
+            for (int at = first; at >= 0; at = findSid(value, at + SID_LENGTH)) {
+                count++;
+            }
+            writeVarint(TEMPLATE);
+            writeVarint(count);
+            int from = 0;
+            for (int at = first; at >= 0; at = findSid(value, at + SID_LENGTH)) {
+                writeString(value.substring(from, at));
+                writeString(value.substring(at, at + SID_LENGTH));
+                from = at + SID_LENGTH;
+            }
+            writeString(value.substring(from));
+        }
+
+        private void add(final String value) {
+            dictionary.put(value, schemaEntries.size() + dictionary.size());
+        }
+
+        private void writeText(final String value) {
+            // Nearly every string is ASCII, which is written without encoding it first
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) >= 0x80) {
+                    writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+            }
+            writeVarint(value.length());
+            ensure(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+        }
+
+        private static int findSid(final String value, final int from) {
+            for (int i = from; i <= value.length() - SID_LENGTH; i++) {
+                if (isUpper(value.charAt(i)) && isUpper(value.charAt(i + 1)) && isHex(value, i + 2)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean isHex(final String value, final int from) {
+            for (int i = from; i < from + SID_LENGTH - 2; i++) {
+                char ch = value.charAt(i);
+                if ((ch < '0' || ch > '9') && (ch < 'a' || ch > 'f')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isUpper(final char ch) {
+            return ch >= 'A' && ch <= 'Z';
+        }
+
+        private void ensure(final int bytes) {
+            if (!growable || buffer.remaining() >= bytes) {
+                return;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+
+        private static int hex(final char ch) {
+            return ch <= '9' ? ch - '0' : ch - 'a' + 10;
+        }
+    }
+
+    /**
+     * Reads a batch straight from its buffer, with the dictionary as it was when each string was written.
+     */
+    static final class Decoder {
+        private final ByteBuffer buffer;
+        private final List<String> dictionary;
+
+        private Decoder(final ByteBuffer buffer, final List<String> strings) {
+            this.buffer = buffer;
+            this.dictionary = new ArrayList<>(strings);
+        }
+
+        int readByte() {
+            return buffer.get() & 0xff;
+        }
+
+        int readInt() {
+            return buffer.getInt();
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte next = buffer.get();
+                value |= (long) (next & 0x7f) << shift;
+                if (next >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint at " + buffer.position());
+        }
+
+        long readSigned() {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readLength() {
+            long length = readVarint();
+            if (length < 0 || length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Malformed length " + length);
+            }
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            return (int) length;
+        }
+
+        byte[] readBytes() {
+            byte[] bytes = new byte[readLength()];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        String readString() {
+            long tag = readVarint();
+            if (tag == INLINE) {
+                String text = readText();
+                if (text.length() <= MAX_ENTRY_LENGTH) {
+                    dictionary.add(text);
+                }
+                return text;
+            }
+            if (tag == SID) {
+                char[] chars = new char[SID_LENGTH];
+                chars[0] = (char) buffer.get();
+                chars[1] = (char) buffer.get();
+                for (int i = 2; i < chars.length; i += 2) {
+                    int digits = buffer.get() & 0xff;
+                    chars[i] = HEX[digits >>> 4];
+                    chars[i + 1] = HEX[digits & 0xf];
+                }
+                String sid = new String(chars);
+                dictionary.add(sid);
+                return sid;
+            }
+
+            if (tag == TEMPLATE) {
+                int count = readLength();
+                StringBuilder template = new StringBuilder();
+                for (int i = 0; i < count; i++) {
+                    template.append(readString()).append(readString());
+                }
+                return template.append(readString()).toString();
+            }
+
+            long entry = tag - DICTIONARY;
+            if (entry >= dictionary.size()) {
+                throw new IllegalArgumentException("Dictionary entry " + entry + " of " + dictionary.size());
+            }
+            return dictionary.get((int) entry);
+        }
+
+        private String readText() {
+            int length = readLength();
+            int position = buffer.position();
+            if (buffer.hasArray()) {
+                buffer.position(position + length);
+                return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+            }
+
+            // Direct and mapped buffers are read in place while the text is ASCII
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                byte next = buffer.get(position + i);
+                if (next < 0) {
+                    byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+                chars[i] = (char) next;
+            }
+            buffer.position(position + length);
+            return new String(chars);
+        }
+    }
+
+    /**
+     * Writes and reads the values of one declared type.
+     */
+    private abstract static class ValueCodec {
+        abstract void write(Encoder out, Object value);
+
+        abstract Object read(Decoder in);
+
+        abstract String describe();
+    }
+
+    /**
+     * The fields of a class, written as a bitmap of the ones set followed by their values.
+     */
+    private static final class Layout extends ValueCodec {
+        private final Class<?> type;
+        private final Constructor<?> creator;
+        private final Object[] defaults;
+        private final Field[] fields;
+        private final ValueCodec[] codecs;
+        private final Field raw;
+
+        Layout(final Class<?> type, final Set<String> strings, final Set<Class<?>> visiting) {
+            if (!visiting.add(type)) {
+                throw new IllegalArgumentException(type.getName() + " holds itself");
+            }
+
+            this.type = type;
+            this.creator = creator(type);
+            this.creator.setAccessible(true);
+            Class<?>[] parameters = creator.getParameterTypes();
+            this.defaults = new Object[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                defaults[i] = defaultValue(parameters[i]);
+            }
+
+            List<Field> stored = new ArrayList<>();
+            Field rawField = null;
+            for (Field field : type.getDeclaredFields()) {
+                if (field.getType() == RawRecord.class) {
+                    rawField = field;
+                } else if (isStored(field)) {
+                    stored.add(field);
+                }
+            }
+            this.fields = stored.toArray(new Field[stored.size()]);
+            this.codecs = new ValueCodec[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i].setAccessible(true);
+                codecs[i] = codecFor(fields[i].getGenericType(), strings, visiting);
+            }
+            this.raw = rawField;
+            if (raw != null) {
+                raw.setAccessible(true);
+            }
+
+            visiting.remove(type);
+        }
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            Object resource = materialized(value);
+            Object[] values = new Object[fields.length];
+            int bits = 0;
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = get(fields[i], resource);
+                if (values[i] != null) {
+                    bits |= 1 << (i & 7);
+                }
+                if ((i & 7) == 7 || i == fields.length - 1) {
+                    out.writeByte(bits);
+                    bits = 0;
+                }
+            }
+
+            for (int i = 0; i < fields.length; i++) {
+                if (values[i] != null) {
+                    codecs[i].write(out, values[i]);
+                }
+            }
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            Object value = newInstance();
+            byte[] bitmap = new byte[(fields.length + 7) / 8];
+            for (int i = 0; i < bitmap.length; i++) {
+                bitmap[i] = (byte) in.readByte();
+            }
+
+            for (int i = 0; i < fields.length; i++) {
+                boolean set = (bitmap[i >>> 3] & (1 << (i & 7))) != 0;
+                if (set) {
+                    put(fields[i], value, codecs[i].read(in));
+                } else if (!fields[i].getType().isPrimitive()) {
+                    put(fields[i], value, null);
+                }
+            }
+            return value;
+        }
+
+        @Override
+        String describe() {
+            StringBuilder description = new StringBuilder(type.getName()).append('{');
+            for (int i = 0; i < fields.length; i++) {
+                description.append(i == 0 ? "" : ",").append(fields[i].getName()).append(':')
+                    .append(codecs[i].describe());
+            }
+            return description.append('}').toString();
+        }
+
+        private Object materialized(final Object value) {
+            // Lazy resources hold their fields in their record until each is asked for
+            RawRecord record = raw == null ? null : (RawRecord) get(raw, value);
+            return record == null ? value : record.materialize(type);
+        }
+
+        private Object newInstance() {
+            // The creator only converts what it's given, and every field is set after it
+            try {
+                return creator.newInstance(defaults);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException("Unable to create " + type.getSimpleName(), e);
+            }
+        }
+
+        private static Object get(final Field field, final Object target) {
+            try {
+                return field.get(target);
+            } catch (final IllegalAccessException e) {
+                throw new IllegalArgumentException("Unable to read " + field.getName(), e);
+            }
+        }
+
+        private static void put(final Field field, final Object target, final Object value) {
+            try {
+                field.set(target, value);
+            } catch (final IllegalAccessException e) {
+                throw new IllegalArgumentException("Unable to set " + field.getName(), e);
+            }
+        }
+
+        private static Constructor<?> creator(final Class<?> type) {
+            Constructor<?> fallback = null;
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                if (constructor.isAnnotationPresent(JsonCreator.class)) {
+                    return constructor;
+                }
+                if (constructor.getParameterTypes().length == 0) {
+                    fallback = constructor;
+                }
+            }
+            if (fallback == null) {
+                throw new IllegalArgumentException(type.getName() + " has no creator");
+            }
+            return fallback;
+        }
+
+        private static Object defaultValue(final Class<?> parameter) {
+            if (!parameter.isPrimitive()) {
+                return null;
+            }
+            if (parameter == boolean.class) {
+                return false;
+            }
+            if (parameter == char.class) {
+                return '\0';
+            }
+            if (parameter == double.class || parameter == float.class) {
+                return parameter == double.class ? (Object) 0d : (Object) 0f;
+            }
+            if (parameter == long.class) {
+                return 0L;
+            }
+            return parameter == int.class ? (Object) 0 : parameter == short.class ? (Object) (short) 0 : (byte) 0;
+        }
+    }
+
+    private static final class StringCodec extends ValueCodec {
+        static final StringCodec INSTANCE = new StringCodec();
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            out.writeString((String) value);
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            return in.readString();
+        }
+
+        @Override
+        String describe() {
+            return "string";
+        }
+    }
+
+    /**
+     * Types held as their text.
+     */
+    private static final class TextCodec extends ValueCodec {
+        private final Class<?> type;
+
+        TextCodec(final Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            out.writeString(value.toString());
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            String text = in.readString();
+            if (type == URI.class) {
+                return URI.create(text);
+            }
+            return type == PhoneNumber.class ? new PhoneNumber(text) : Currency.getInstance(text);
+        }
+
+        @Override
+        String describe() {
+            return type.getSimpleName();
+        }
+    }
+
+    private static final class IntegerCodec extends ValueCodec {
+        private final Class<?> type;
+
+        IntegerCodec(final Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            out.writeSigned(((Number) value).longValue());
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            long value = in.readSigned();
+            if (type == Long.class || type == long.class) {
+                return value;
+            }
+            return type == Integer.class || type == int.class ? (Object) (int) value : (Object) (short) value;
+        }
+
+        @Override
+        String describe() {
+            return type.getSimpleName();
+        }
+    }
+
+    private static final class BooleanCodec extends ValueCodec {
+        static final BooleanCodec INSTANCE = new BooleanCodec();
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            out.writeByte((Boolean) value ? 1 : 0);
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            return in.readByte() != 0;
+        }
+
+        @Override
+        String describe() {
+            return "boolean";
+        }
+    }
+
+    private static final class FloatingCodec extends ValueCodec {
+        private final boolean single;
+
+        FloatingCodec(final Class<?> type) {
+            this.single = type == Float.class || type == float.class;
+        }
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            if (single) {
+                out.writeInt(Float.floatToIntBits((Float) value));
+            } else {
+                long bits = Double.doubleToLongBits((Double) value);
+                out.writeInt((int) (bits >>> 32));
+                out.writeInt((int) bits);
+            }
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            if (single) {
+                return Float.intBitsToFloat(in.readInt());
+            }
+            long high = in.readInt();
+            return Double.longBitsToDouble((high << 32) | (in.readInt() & 0xffffffffL));
+        }
+
+        @Override
+        String describe() {
+            return single ? "float" : "double";
+        }
+    }
+
+    /**
+     * Decimals as their scale and unscaled value, which for prices fits a varint of a byte or two.
+     */
+    private static final class DecimalCodec extends ValueCodec {
+        static final DecimalCodec INSTANCE = new DecimalCodec();
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            BigDecimal decimal = (BigDecimal) value;
+            BigInteger unscaled = decimal.unscaledValue();
+            boolean small = unscaled.bitLength() < 63;
+            out.writeSigned(((long) decimal.scale() << 1) | (small ? 0 : 1));
+            if (small) {
+                out.writeSigned(unscaled.longValue());
+            } else {
+                out.writeBytes(unscaled.toByteArray());
+            }
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            long header = in.readSigned();
+            int scale = (int) (header >> 1);
+            if ((header & 1) == 0) {
+                return BigDecimal.valueOf(in.readSigned(), scale);
+            }
+            return new BigDecimal(new BigInteger(in.readBytes()), scale);
+        }
+
+        @Override
+        String describe() {
+            return "decimal";
+        }
+    }
+
+    /**
+     * Timestamps as seconds since the epoch, or milliseconds for the few that carry them.
+     */
+    private static final class DateTimeCodec extends ValueCodec {
+        static final DateTimeCodec INSTANCE = new DateTimeCodec();
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            long millis = ((DateTime) value).getMillis();
+            out.writeSigned(millis % 1000 == 0 ? (millis / 1000) << 1 : (millis << 1) | 1);
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            long value = in.readSigned();
+            long millis = (value & 1) == 0 ? (value >> 1) * 1000 : value >> 1;
+            return new DateTime(millis, DateTimeZone.UTC);
+        }
+
+        @Override
+        String describe() {
+            return "timestamp";
+        }
+    }
+
+    private static final class LocalDateCodec extends ValueCodec {
+        static final LocalDateCodec INSTANCE = new LocalDateCodec();
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            // Midnight UTC is a whole number of days from the epoch, on either side of it
+            out.writeSigned(((LocalDate) value).toDateTimeAtStartOfDay(DateTimeZone.UTC).getMillis() / DAY_MILLIS);
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            return new LocalDate(in.readSigned() * DAY_MILLIS, DateTimeZone.UTC);
+        }
+
+        @Override
+        String describe() {
+            return "date";
+        }
+    }
+
+    /**
+     * Enums as their ordinal; the API names of their constants go in the dictionary, for the raw fields.
+     */
+    private static final class EnumCodec extends ValueCodec {
+        private final Object[] constants;
+        private final String description;
+
+        EnumCodec(final Class<?> type, final Set<String> strings) {
+            this.constants = type.getEnumConstants();
+            StringBuilder names = new StringBuilder(type.getSimpleName()).append('(');
+            for (int i = 0; i < constants.length; i++) {
+                strings.add(constants[i].toString());
+                names.append(i == 0 ? "" : ",").append(((Enum<?>) constants[i]).name());
+            }
+            this.description = names.append(')').toString();
+        }
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            out.writeVarint(((Enum<?>) value).ordinal());
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            long ordinal = in.readVarint();
+            if (ordinal >= constants.length) {
+                throw new IllegalArgumentException("Ordinal " + ordinal + " of " + description);
+            }
+            return constants[(int) ordinal];
+        }
+
+        @Override
+        String describe() {
+            return description;
+        }
+    }
+
+    private static final class ListCodec extends ValueCodec {
+        private final ValueCodec elements;
+
+        ListCodec(final ValueCodec elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            List<?> list = (List<?>) value;
+            out.writeVarint(list.size());
+            for (Object element : list) {
+                writeNullable(out, elements, element);
+            }
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            int size = in.readLength();
+            List<Object> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readNullable(in, elements));
+            }
+            return list;
+        }
+
+        @Override
+        String describe() {
+            return "list<" + elements.describe() + ">";
+        }
+    }
+
+    private static final class MapCodec extends ValueCodec {
+        private final ValueCodec values;
+
+        MapCodec(final ValueCodec values) {
+            this.values = values;
+        }
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeVarint(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.writeString((String) entry.getKey());
+                writeNullable(out, values, entry.getValue());
+            }
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            int size = in.readLength();
+            Map<String, Object> map = new LinkedHashMap<>(size * 4 / 3 + 1);
+            for (int i = 0; i < size; i++) {
+                map.put(in.readString(), readNullable(in, values));
+            }
+            return map;
+        }
+
+        @Override
+        String describe() {
+            return "map<" + values.describe() + ">";
+        }
+    }
+
+    /**
+     * Values typed as Object, which hold what Jackson reads untyped JSON as, each tagged with its type.
+     */
+    private static final class DynamicCodec extends ValueCodec {
+        static final DynamicCodec INSTANCE = new DynamicCodec();
+
+        @Override
+        void write(final Encoder out, final Object value) {
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof Boolean) {
+                out.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (value instanceof Integer || value instanceof Long) {
+                out.writeByte(value instanceof Integer ? INT : LONG);
+                out.writeSigned(((Number) value).longValue());
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE);
+                long bits = Double.doubleToLongBits((Double) value);
+                out.writeInt((int) (bits >>> 32));
+                out.writeInt((int) bits);
+            } else if (value instanceof String) {
+                out.writeByte(STRING);
+                out.writeString((String) value);
+            } else if (value instanceof BigDecimal) {
+                out.writeByte(DECIMAL);
+                DecimalCodec.INSTANCE.write(out, value);
+            } else if (value instanceof List) {
+                out.writeByte(LIST);
+                List<?> list = (List<?>) value;
+                out.writeVarint(list.size());
+                for (Object element : list) {
+                    write(out, element);
+                }
+            } else if (value instanceof Map) {
+                out.writeByte(MAP);
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeVarint(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    out.writeString(String.valueOf(entry.getKey()));
+                    write(out, entry.getValue());
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported value of " + value.getClass().getName());
+            }
+        }
+
+        @Override
+        Object read(final Decoder in) {
+            int tag = in.readByte();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case FALSE:
+                case TRUE:
+                    return tag == TRUE;
+                case INT:
+                    return (int) in.readSigned();
+                case LONG:
+                    return in.readSigned();
+                case DOUBLE:
+                    long high = in.readInt();
+                    return Double.longBitsToDouble((high << 32) | (in.readInt() & 0xffffffffL));
+                case STRING:
+                    return in.readString();
+                case DECIMAL:
+                    return DecimalCodec.INSTANCE.read(in);
+                case LIST:
+                    int size = in.readLength();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(read(in));
+                    }
+                    return list;
+                case MAP:
+                    int entries = in.readLength();
+                    Map<String, Object> map = new LinkedHashMap<>(entries * 4 / 3 + 1);
+                    for (int i = 0; i < entries; i++) {
+                        map.put(in.readString(), read(in));
+                    }
+                    return map;
+                default:
+                    throw new IllegalArgumentException("Unknown value tag " + tag);
+            }
+        }
+
+        @Override
+        String describe() {
+            return "any";
+        }
+    }
+
+    private static void writeNullable(final Encoder out, final ValueCodec codec, final Object value) {
+        // Tagged values mark nulls themselves
+        if (codec == DynamicCodec.INSTANCE) {
+            codec.write(out, value);
+            return;
+        }
+        out.writeByte(value == null ? 0 : 1);
+        if (value != null) {
+            codec.write(out, value);
+        }
+    }
+
+    private static Object readNullable(final Decoder in, final ValueCodec codec) {
+        if (codec == DynamicCodec.INSTANCE) {
+            return codec.read(in);
+        }
+        return in.readByte() == 0 ? null : codec.read(in);
+    }
+}
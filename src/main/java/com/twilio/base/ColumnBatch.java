@@ -0,0 +1,339 @@
+package com.twilio.base;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The projected fields of one page of records, stored column by column.
+ *
+ * <p>
+ *     Numbers and timestamps are kept in primitive arrays. Strings, including sids, enums, URIs and
+ *     phone numbers, are dictionary encoded: each row holds a code into a list of the distinct values
+ *     of the column in this batch.
+ * </p>
+ */
+public final class ColumnBatch {
+
+    /**
+     * How a column stores its values.
+     */
+    public enum Type {
+        /**
+         * Dictionary encoded text.
+         */
+        STRING,
+        /**
+         * Whole numbers and booleans, as a long.
+         */
+        LONG,
+        /**
+         * Decimal numbers, as a double.
+         */
+        DOUBLE,
+        /**
+         * Dates and timestamps, as milliseconds since the epoch.
+         */
+        TIMESTAMP
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private int size;
+
+    ColumnBatch(final List<String> names, final List<Type> types) {
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i), new Column(names.get(i), types.get(i)));
+        }
+    }
+
+    /**
+     * Get the number of rows in the batch.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the names of the columns, in the order they were asked for.
+     *
+     * @return the column names
+     */
+    public List<String> getColumns() {
+        return new ArrayList<>(columns.keySet());
+    }
+
+    /**
+     * Get a column by the name it was asked for with.
+     *
+     * @param name column name
+     * @return the column
+     * @throws IllegalArgumentException if the batch has no such column
+     */
+    public Column column(final String name) {
+        Column column = columns.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException("No column " + name + " in " + columns.keySet());
+        }
+        return column;
+    }
+
+    /**
+     * Start a row, with every column null until set.
+     *
+     * @return index of the row
+     */
+    int addRow() {
+        for (Column column : columns.values()) {
+            column.ensureCapacity(size + 1);
+        }
+        return size++;
+    }
+
+    /**
+     * Drop the rows past the given count.
+     */
+    void truncate(final int rows) {
+        size = Math.min(size, rows);
+    }
+
+    Column[] columnArray() {
+        return columns.values().toArray(new Column[columns.size()]);
+    }
+
+    /**
+     * One column of a batch. Reading a row as the wrong type throws IllegalStateException.
+     */
+    public static final class Column {
+        private final String name;
+        private final Type type;
+        private final BitSet present = new BitSet();
+        private long[] longs;
+        private double[] doubles;
+        private int[] codes;
+        private Dictionary dictionary;
+
+        private Column(final String name, final Type type) {
+            this.name = name;
+            this.type = type;
+            if (type == Type.STRING) {
+                codes = new int[INITIAL_CAPACITY];
+                dictionary = new Dictionary();
+            } else if (type == Type.DOUBLE) {
+                doubles = new double[INITIAL_CAPACITY];
+            } else {
+                longs = new long[INITIAL_CAPACITY];
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * Check whether a row has no value, because the field was null, missing or unparseable.
+         *
+         * @param row row index
+         * @return true if the row has no value
+         */
+        public boolean isNull(final int row) {
+            return !present.get(row);
+        }
+
+        /**
+         * Get the value of a {@link Type#LONG} or {@link Type#TIMESTAMP} column.
+         *
+         * @param row row index
+         * @return the value, or 0 if null
+         */
+        public long getLong(final int row) {
+            check(Type.LONG, Type.TIMESTAMP);
+            return longs[row];
+        }
+
+        /**
+         * Get the value of a {@link Type#DOUBLE} column.
+         *
+         * @param row row index
+         * @return the value, or NaN if null
+         */
+        public double getDouble(final int row) {
+            check(Type.DOUBLE, Type.DOUBLE);
+            return doubles[row];
+        }
+
+        /**
+         * Get the value of a {@link Type#TIMESTAMP} column as a DateTime in UTC.
+         *
+         * @param row row index
+         * @return the value, or null if null
+         */
+        public DateTime getDateTime(final int row) {
+            check(Type.TIMESTAMP, Type.TIMESTAMP);
+            return isNull(row) ? null : new DateTime(longs[row], DateTimeZone.UTC);
+        }
+
+        /**
+         * Get the dictionary code of a {@link Type#STRING} column.
+         *
+         * @param row row index
+         * @return index into {@link #getDictionary()}, or -1 if null
+         */
+        public int getCode(final int row) {
+            check(Type.STRING, Type.STRING);
+            return isNull(row) ? -1 : codes[row];
+        }
+
+        /**
+         * Get the value of a {@link Type#STRING} column.
+         *
+         * @param row row index
+         * @return the value, or null if null
+         */
+        public String getString(final int row) {
+            int code = getCode(row);
+            return code < 0 ? null : dictionary.get(code);
+        }
+
+        /**
+         * Get the distinct values of a {@link Type#STRING} column, in the order first seen.
+         *
+         * @return the dictionary
+         */
+        public List<String> getDictionary() {
+            check(Type.STRING, Type.STRING);
+            return dictionary.values();
+        }
+
+        void setLong(final int row, final long value) {
+            longs[row] = value;
+            present.set(row);
+        }
+
+        void setDouble(final int row, final double value) {
+            doubles[row] = value;
+            present.set(row);
+        }
+
+        void setString(final int row, final char[] text, final int offset, final int length) {
+            codes[row] = dictionary.code(text, offset, length);
+            present.set(row);
+        }
+
+        private void ensureCapacity(final int rows) {
+            if (longs != null && longs.length < rows) {
+                longs = Arrays.copyOf(longs, longs.length * 2);
+            } else if (doubles != null && doubles.length < rows) {
+                doubles = Arrays.copyOf(doubles, doubles.length * 2);
+            } else if (codes != null && codes.length < rows) {
+                codes = Arrays.copyOf(codes, codes.length * 2);
+            }
+            if (doubles != null) {
+                doubles[rows - 1] = Double.NaN;
+            }
+        }
+
+        private void check(final Type first, final Type second) {
+            if (type != first && type != second) {
+                throw new IllegalStateException("Column " + name + " is " + type);
+            }
+        }
+    }
+
+    /**
+     * Distinct strings of a column, looked up straight from the parser's characters so repeated
+     * values don't allocate.
+     */
+    private static final class Dictionary {
+        private final List<String> values = new ArrayList<>();
+        private int[] hashes = new int[INITIAL_CAPACITY];
+        private int[] slots = new int[INITIAL_CAPACITY];
+
+        private Dictionary() {
+            Arrays.fill(slots, -1);
+        }
+
+        int code(final char[] text, final int offset, final int length) {
+            int hash = 0;
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + text[i];
+            }
+
+            int mask = slots.length - 1;
+            for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+                int code = slots[slot];
+                if (code < 0) {
+                    code = values.size();
+                    values.add(new String(text, offset, length));
+                    slots[slot] = code;
+                    hashes[slot] = hash;
+                    if (values.size() * 2 > slots.length) {
+                        grow();
+                    }
+                    return code;
+                }
+                if (hashes[slot] == hash && matches(values.get(code), text, offset, length)) {
+                    return code;
+                }
+            }
+        }
+
+        String get(final int code) {
+            return values.get(code);
+        }
+
+        List<String> values() {
+            return Collections.unmodifiableList(values);
+        }
+
+        private void grow() {
+            int[] oldHashes = hashes;
+            int[] oldSlots = slots;
+            hashes = new int[oldSlots.length * 2];
+            slots = new int[oldSlots.length * 2];
+            Arrays.fill(slots, -1);
+
+            int mask = slots.length - 1;
+            for (int i = 0; i < oldSlots.length; i++) {
+                if (oldSlots[i] >= 0) {
+                    int slot = mix(oldHashes[i]) & mask;
+                    while (slots[slot] >= 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    slots[slot] = oldSlots[i];
+                    hashes[slot] = oldHashes[i];
+                }
+            }
+        }
+
+        private static int mix(final int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        private static boolean matches(final String value, final char[] text, final int offset, final int length) {
+            if (value.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) != text[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.twilio.base;
+
+import com.twilio.http.TwilioRestClient;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Projected fields of a listing, one {@link ColumnBatch} a page.
+ *
+ * <p>
+ *     Pages are fetched as the batches are iterated, and each page's records are decoded straight
+ *     into its batch without building resources.
+ * </p>
+ *
+ * @param <E> type of the resource
+ */
+public class ColumnSet<E extends Resource> implements Iterable<ColumnBatch> {
+
+    private final Reader<E> reader;
+    private final TwilioRestClient client;
+    private final Class<E> type;
+    private final String[] columns;
+
+    /**
+     * Initialize the column set.
+     *
+     * @param reader reader used to fetch pages
+     * @param client client used to make requests
+     * @param type resource type
+     * @param columns fields to project
+     * @throws IllegalArgumentException if a field is unknown or can't be stored in a column
+     */
+    ColumnSet(final Reader<E> reader, final TwilioRestClient client, final Class<E> type, final String... columns) {
+        this.reader = reader;
+        this.client = client;
+        this.type = type;
+        this.columns = columns.clone();
+
+        // Fail on a bad column now rather than on the first page
+        new ColumnSink(type, columns);
+    }
+
+    public Long getLimit() {
+        return reader.getLimit();
+    }
+
+    @Override
+    public Iterator<ColumnBatch> iterator() {
+        return new ColumnSetIterator();
+    }
+
+    private class ColumnSetIterator implements Iterator<ColumnBatch> {
+        private final ColumnSink sink = new ColumnSink(type, columns);
+        private Page<E> page;
+        private ColumnBatch next;
+        private long processed;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && fetch()) {
+                ColumnBatch batch = sink.take();
+                if (getLimit() != null) {
+                    batch.truncate((int) Math.min(batch.size(), getLimit() - processed));
+                }
+                if (batch.size() > 0) {
+                    processed += batch.size();
+                    next = batch;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public ColumnBatch next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ColumnBatch batch = next;
+            next = null;
+            return batch;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private boolean fetch() {
+            if (getLimit() != null && processed >= getLimit()) {
+                return false;
+            }
+
+            if (page == null) {
+                page = sink.firstPage(reader, client);
+            } else if (page.hasNextPage()) {
+                page = sink.nextPage(reader, page, client);
+            } else {
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.converter.DateConverter;
+import com.twilio.type.Endpoint;
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the records of each page straight into a {@link ColumnBatch}, without building resources.
+ */
+class ColumnSink extends RecordSink {
+
+    private final List<String> names = new ArrayList<>();
+    private final List<ColumnBatch.Type> types = new ArrayList<>();
+    private final Map<String, Integer> fields = new HashMap<>();
+    private final List<Boolean> localDates = new ArrayList<>();
+
+    private ColumnBatch batch;
+    private ColumnBatch.Column[] columns;
+
+    /**
+     * Project a resource type onto columns.
+     *
+     * @param type resource type
+     * @param columns fields to read, by their JSON name (date_created) or getter name (dateCreated)
+     * @throws IllegalArgumentException if a field is unknown or can't be stored in a column
+     */
+    ColumnSink(final Class<?> type, final String... columns) {
+        ResourceFields resourceFields = new ResourceFields(type);
+        for (String column : columns) {
+            String json = resourceFields.jsonName(column);
+            if (fields.containsKey(json)) {
+                continue;
+            }
+
+            Class<?> fieldType = resourceFields.fieldType(json);
+            fields.put(json, names.size());
+            names.add(column);
+            types.add(columnType(type, column, fieldType));
+            localDates.add(fieldType == LocalDate.class);
+        }
+
+        this.batch = newBatch();
+    }
+
+    /**
+     * Take the batch decoded so far and start a new one.
+     *
+     * @return the records read since the last call
+     */
+    ColumnBatch take() {
+        ColumnBatch taken = batch;
+        batch = newBatch();
+        return taken;
+    }
+
+    @Override
+    <T> void read(final JsonParser parser, final String json, final byte[] bytes, final Class<T> type,
+                  final ObjectMapper mapper, final List<T> records) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        int row = batch.addRow();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer column = fields.get(parser.getCurrentName());
+            JsonToken token = parser.nextToken();
+            if (column == null || token == JsonToken.VALUE_NULL || token.isStructStart()) {
+                parser.skipChildren();
+            } else {
+                decode(parser, token, column, row);
+            }
+        }
+    }
+
+    private void decode(final JsonParser parser, final JsonToken token, final int index, final int row)
+        throws IOException {
+        ColumnBatch.Column column = columns[index];
+        switch (column.getType()) {
+            case STRING:
+                column.setString(row, parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                break;
+            case LONG:
+                if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+                    column.setLong(row, token == JsonToken.VALUE_TRUE ? 1 : 0);
+                } else if (token.isNumeric()) {
+                    column.setLong(row, parser.getLongValue());
+                } else {
+                    try {
+                        column.setLong(row, Long.parseLong(parser.getText().trim()));
+                    } catch (final NumberFormatException e) {
+                        // Leave the row null, as an unparseable date would be
+                    }
+                }
+                break;
+            case DOUBLE:
+                if (token.isNumeric()) {
+                    column.setDouble(row, parser.getDoubleValue());
+                } else {
+                    try {
+                        column.setDouble(row, Double.parseDouble(parser.getText()));
+                    } catch (final NumberFormatException e) {
+                        // Leave the row null
+                    }
+                }
+                break;
+            default:
+                long millis = ResourceFields.epochMillis(parser.getText(), localDates.get(index));
+                if (millis != DateConverter.INVALID_MILLIS) {
+                    column.setLong(row, millis);
+                }
+                break;
+        }
+    }
+
+    private ColumnBatch newBatch() {
+        ColumnBatch created = new ColumnBatch(names, types);
+        columns = created.columnArray();
+        return created;
+    }
+
+    private static ColumnBatch.Type columnType(final Class<?> type, final String column, final Class<?> fieldType) {
+        if (fieldType == DateTime.class || fieldType == LocalDate.class) {
+            return ColumnBatch.Type.TIMESTAMP;
+        } else if (fieldType == Integer.class || fieldType == Long.class || fieldType == Boolean.class) {
+            return ColumnBatch.Type.LONG;
+        } else if (fieldType == BigDecimal.class || fieldType == Double.class || fieldType == Float.class) {
+            return ColumnBatch.Type.DOUBLE;
+        } else if (fieldType == String.class || fieldType.isEnum() || fieldType == URI.class ||
+            fieldType == Currency.class || Endpoint.class.isAssignableFrom(fieldType)) {
+            return ColumnBatch.Type.STRING;
+        }
+        throw new IllegalArgumentException(
+            type.getSimpleName() + "." + column + " is a " + fieldType.getSimpleName() + ", which can't be a column"
+        );
+    }
+}
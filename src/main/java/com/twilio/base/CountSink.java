@@ -0,0 +1,133 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.http.CancellationToken;
+import com.twilio.http.TwilioRestClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+/**
+ * Counts the records of a page by skipping over their tokens, without decoding any of them.
+ *
+ * <p>
+ *     When a page's next link numbers its pages, as opposed to continuing from a page token, the
+ *     following pages are fetched a few at a time in parallel. They run on a pool of their own rather
+ *     than the Twilio executor: a count made from a task on that executor would otherwise wait on fetches
+ *     queued behind it, which never start once a bounded executor has no thread to spare.
+ * </p>
+ */
+class CountSink extends RecordSink {
+
+    private static final int CONCURRENT_PAGES = 4;
+
+    private static final ListeningExecutorService FETCHES = MoreExecutors.listeningDecorator(
+        Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("twilio-count-%d").setDaemon(true).build()
+        )
+    );
+
+    private long count;
+
+    @Override
+    <T> void read(final JsonParser parser, final String json, final byte[] bytes, final Class<T> type,
+                  final ObjectMapper mapper, final List<T> records) throws IOException {
+        parser.skipChildren();
+        count++;
+    }
+
+    /**
+     * Count the records a reader lists, stopping once there are enough.
+     *
+     * @param reader reader to fetch pages with
+     * @param client client to fetch with
+     * @param max count to stop at
+     * @param <T> resource type
+     * @return the number of records, at most max
+     */
+    static <T extends Resource> long count(final Reader<T> reader, final TwilioRestClient client, final long max) {
+        CountSink sink = new CountSink();
+        Page<T> page = sink.firstPage(reader, client);
+        long total = sink.count;
+
+        // A filter tests records with state of its own, so filtered pages are read one at a time
+        boolean concurrent = !(reader instanceof FilteredReader);
+        while (total < max && page.hasNextPage()) {
+            if (!concurrent || page.skipAhead(0) == null) {
+                sink = new CountSink();
+                page = sink.nextPage(reader, page, client);
+                total += sink.count;
+                continue;
+            }
+
+            List<ListenableFuture<Counted<T>>> fetches = new ArrayList<>(CONCURRENT_PAGES);
+            for (int i = 0; i < CONCURRENT_PAGES; i++) {
+                fetches.add(fetch(reader, page.skipAhead(i), client));
+            }
+
+            // Pages past the last one may fail or come back empty, so stop at the first without a next page
+            try {
+                for (ListenableFuture<Counted<T>> fetch : fetches) {
+                    Counted<T> counted = get(fetch);
+                    total += counted.count;
+                    page = counted.page;
+                    if (total >= max || !page.hasNextPage()) {
+                        break;
+                    }
+                }
+            } finally {
+                for (ListenableFuture<Counted<T>> fetch : fetches) {
+                    fetch.cancel(true);
+                }
+            }
+        }
+
+        return Math.min(total, max);
+    }
+
+    private static <T extends Resource> ListenableFuture<Counted<T>> fetch(final Reader<T> reader,
+                                                                          final Page<T> previous,
+                                                                          final TwilioRestClient client) {
+        return CancellationToken.submit(FETCHES, new Callable<Counted<T>>() {
+            public Counted<T> call() {
+                CountSink sink = new CountSink();
+                Page<T> page = sink.nextPage(reader, previous, client);
+                return new Counted<>(page, sink.count);
+            }
+        });
+    }
+
+    private static <T> T get(final ListenableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Interrupted while counting records", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ApiConnectionException("Unable to count records: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private static final class Counted<T> {
+        private final Page<T> page;
+        private final long count;
+
+        private Counted(final Page<T> page, final long count) {
+            this.page = page;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.twilio.base;
+
+import com.google.common.io.BaseEncoding;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Position in a {@link ResourceSet} after some record, to resume a long read from.
+ *
+ * <p>
+ *     A cursor holds the link of the page the next record is on and how many records of that page
+ *     were already returned, so resuming fetches that one page again and skips what was returned.
+ *     Cursors are serializable, and {@link #toString} gives an opaque token {@link #fromString} reads
+ *     back, to keep in a file or a database column.
+ * </p>
+ *
+ * <p>
+ *     Resuming from a cursor saved after each record was processed delivers every record at least once;
+ *     saving the cursor in the same transaction as what was done with the record delivers it exactly
+ *     once. Links that continue from a page token keep their position as records are added; numbered
+ *     pages shift when newer records come in ahead of them.
+ * </p>
+ */
+public final class Cursor implements Serializable {
+
+    private static final long serialVersionUID = 6151834287207311263L;
+
+    private static final String VERSION = "c1";
+    private static final BaseEncoding ENCODING = BaseEncoding.base64Url().omitPadding();
+
+    private final String link;
+    private final int offset;
+    private final long processed;
+
+    Cursor(final String link, final int offset, final long processed) {
+        this.link = link;
+        this.offset = offset;
+        this.processed = processed;
+    }
+
+    /**
+     * Read a cursor back from its token.
+     *
+     * @param token token from {@link #toString}
+     * @return the cursor
+     * @throws IllegalArgumentException if the token isn't one
+     */
+    public static Cursor fromString(final String token) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 4 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("Not a cursor: " + token);
+        }
+
+        try {
+            return new Cursor(
+                new String(ENCODING.decode(parts[1]), StandardCharsets.UTF_8),
+                Integer.parseInt(parts[2]),
+                Long.parseLong(parts[3])
+            );
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Not a cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Get the link of the page the next record is on.
+     *
+     * @return url or uri of the page
+     */
+    String getLink() {
+        return link;
+    }
+
+    /**
+     * Get how many records of the page were already returned.
+     *
+     * @return number of records to skip in the page
+     */
+    int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get how many records the set returned before this cursor, which counts towards its limit.
+     *
+     * @return number of records returned
+     */
+    public long getProcessed() {
+        return processed;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Cursor other = (Cursor) o;
+        return offset == other.offset && processed == other.processed && link.equals(other.link);
+    }
+
+    @Override
+    public int hashCode() {
+        return (link.hashCode() * 31 + offset) * 31 + (int) (processed ^ (processed >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return VERSION + "." + ENCODING.encode(link.getBytes(StandardCharsets.UTF_8)) + "." + offset + "." + processed;
+    }
+}
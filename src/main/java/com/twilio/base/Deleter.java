@@ -2,6 +2,7 @@ package com.twilio.base;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.http.CancellationToken;
 import com.twilio.http.TwilioRestClient;
 
 import java.util.concurrent.Callable;
@@ -29,7 +30,7 @@ public abstract class Deleter<T extends Resource> {
      * @return future that resolves to true if the object was deleted
      */
     public ListenableFuture<Boolean> deleteAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<Boolean>() {
+        return CancellationToken.submit(Twilio.getExecutorService(), new Callable<Boolean>() {
             public Boolean call() {
                 return delete(client);
             }
@@ -52,4 +53,28 @@ public abstract class Deleter<T extends Resource> {
      * @return true if the object was deleted
      */
     public abstract boolean delete(final TwilioRestClient client);
+
+    /**
+     * Execute a request using default client, answering an error with a failed result.
+     *
+     * @return result holding whether the object was deleted, or the error
+     */
+    public Result<Boolean> deleteResult() {
+        return deleteResult(Twilio.getRestClient());
+    }
+
+    /**
+     * Execute a request using specified client, answering an error with a failed result rather than
+     * an exception.
+     *
+     * @param client client used to make request
+     * @return result holding whether the object was deleted, or the error
+     */
+    public Result<Boolean> deleteResult(final TwilioRestClient client) {
+        return Result.of(client, new Callable<Boolean>() {
+            public Boolean call() {
+                return delete(client);
+            }
+        });
+    }
 }
@@ -2,6 +2,7 @@ package com.twilio.base;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.http.CancellationToken;
 import com.twilio.http.TwilioRestClient;
 
 import java.util.concurrent.Callable;
@@ -29,7 +30,7 @@ public abstract class Fetcher<T extends Resource> {
      * @return future that resolves to requested object
      */
     public ListenableFuture<T> fetchAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<T>() {
+        return CancellationToken.submit(Twilio.getExecutorService(), new Callable<T>() {
             public T call() {
                 return fetch(client);
             }
@@ -52,4 +53,28 @@ public abstract class Fetcher<T extends Resource> {
      * @return Requested object
      */
     public abstract T fetch(final TwilioRestClient client);
+
+    /**
+     * Execute a request using default client, answering an error with a failed result.
+     *
+     * @return result holding the fetched object, or the error
+     */
+    public Result<T> fetchResult() {
+        return fetchResult(Twilio.getRestClient());
+    }
+
+    /**
+     * Execute a request using specified client, answering an error with a failed result rather than
+     * an exception.
+     *
+     * @param client client used to make request
+     * @return result holding the fetched object, or the error
+     */
+    public Result<T> fetchResult(final TwilioRestClient client) {
+        return Result.of(client, new Callable<T>() {
+            public T call() {
+                return fetch(client);
+            }
+        });
+    }
 }
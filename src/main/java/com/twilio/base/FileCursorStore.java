@@ -0,0 +1,172 @@
+package com.twilio.base;
+
+import com.twilio.exception.ApiException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Keeps the latest {@link Cursor} of a long read in a local file, to resume it after a restart.
+ *
+ * <p>
+ *     Syncing a file for every record would bound the read by the disk, so saved cursors are written
+ *     once every batch of saves or once the batch time has passed, whichever comes first, and on
+ *     {@link #flush} and {@link #close}. Each write goes to a temporary file that is synced and then
+ *     renamed over the store, whose directory is then synced, so a crash leaves the previous cursor or
+ *     the new one, never a torn one. Resuming after a crash reads again at most a batch of records,
+ *     for at-least-once delivery.
+ * </p>
+ *
+ * <pre>
+ *     try (FileCursorStore store = new FileCursorStore(new File("messages.cursor"))) {
+ *         Cursor cursor = store.load();
+ *         ResourceSet&lt;Message&gt; messages = cursor == null ? reader.read() : reader.resume(cursor);
+ *         for (Message message : messages) {
+ *             process(message);
+ *             store.save(messages.getCursor());
+ *         }
+ *     }
+ * </pre>
+ */
+public class FileCursorStore implements Closeable {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final long DEFAULT_BATCH_MILLIS = 1000;
+
+    private final File path;
+    private final File temporary;
+    private final int batchSize;
+    private final long batchMillis;
+
+    private Cursor pending;
+    private int unwritten;
+    private long writtenMillis = System.currentTimeMillis();
+
+    /**
+     * Open a store writing at most every 1000 saves or every second.
+     *
+     * @param path file holding the cursor
+     */
+    public FileCursorStore(final File path) {
+        this(path, DEFAULT_BATCH_SIZE, DEFAULT_BATCH_MILLIS);
+    }
+
+    /**
+     * Open a store.
+     *
+     * @param path file holding the cursor
+     * @param batchSize number of saves to write the cursor after
+     * @param batchMillis time since the last write to write the cursor after
+     */
+    public FileCursorStore(final File path, final int batchSize, final long batchMillis) {
+        this.path = path;
+        this.temporary = new File(path.getPath() + ".tmp");
+        this.batchSize = batchSize;
+        this.batchMillis = batchMillis;
+    }
+
+    /**
+     * Read the cursor last written.
+     *
+     * @return the cursor, null if none was written
+     * @throws ApiException if the file can't be read
+     */
+    public synchronized Cursor load() {
+        if (!path.exists()) {
+            return null;
+        }
+
+        try {
+            String token = new String(Files.readAllBytes(path.toPath()), StandardCharsets.UTF_8).trim();
+            return Cursor.fromString(token);
+        } catch (final IOException | IllegalArgumentException e) {
+            throw new ApiException("Unable to read cursor from " + path, e);
+        }
+    }
+
+    /**
+     * Save a cursor, writing it if the batch is full or old enough.
+     *
+     * @param cursor cursor to save
+     * @throws ApiException if the cursor can't be written
+     */
+    public synchronized void save(final Cursor cursor) {
+        pending = cursor;
+        unwritten++;
+
+        if (unwritten >= batchSize || System.currentTimeMillis() - writtenMillis >= batchMillis) {
+            flush();
+        }
+    }
+
+    /**
+     * Write the last saved cursor now, if it wasn't written yet.
+     *
+     * @throws ApiException if the cursor can't be written
+     */
+    public synchronized void flush() {
+        if (pending == null) {
+            return;
+        }
+
+        try {
+            try (FileOutputStream out = new FileOutputStream(temporary)) {
+                out.write(pending.toString().getBytes(StandardCharsets.UTF_8));
+                out.getFD().sync();
+            }
+            Files.move(temporary.toPath(), path.toPath(),
+                       StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+        } catch (final IOException e) {
+            throw new ApiException("Unable to write cursor to " + path, e);
+        }
+
+        pending = null;
+        unwritten = 0;
+        writtenMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Remove the cursor, once the read it tracks is done.
+     *
+     * @throws ApiException if the file can't be removed
+     */
+    public synchronized void clear() {
+        pending = null;
+        unwritten = 0;
+        try {
+            Files.deleteIfExists(path.toPath());
+        } catch (final IOException e) {
+            throw new ApiException("Unable to remove cursor " + path, e);
+        }
+    }
+
+    /**
+     * Sync the directory holding the store, so the rename survives a crash too.
+     */
+    private void syncDirectory() {
+        Path directory = path.getAbsoluteFile().toPath().getParent();
+        if (directory == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException e) {
+            // Some platforms, Windows among them, can't open or sync a directory; renames there are durable anyway
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -0,0 +1,180 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.http.TwilioRestClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests each record of a page against a {@link RecordFilter} while scanning its tokens, and only
+ * decodes the records that match.
+ *
+ * <p>
+ *     Matching records are decoded from their bytes as the reader would have, or handed to the sink
+ *     that was reading records when the page was fetched, so filters compose with other operations.
+ *     The compiled filter is shared; each page fetch scans with state of its own, so a filtered reader
+ *     can fetch pages on several threads at once.
+ * </p>
+ */
+class FilterSink {
+
+    private final RecordFilter.Node root;
+    private final RecordFilter.Condition[] conditions;
+    private final Map<String, int[]> fields = new HashMap<>();
+
+    /**
+     * Compile a filter for a resource type.
+     *
+     * @param type resource type
+     * @param filter filter to test records with
+     * @throws IllegalArgumentException if the filter names a field the type doesn't have
+     */
+    FilterSink(final Class<?> type, final RecordFilter filter) {
+        List<RecordFilter.Condition> compiled = new ArrayList<>();
+        this.root = filter.compile(compiled);
+        this.conditions = compiled.toArray(new RecordFilter.Condition[compiled.size()]);
+
+        ResourceFields resourceFields = new ResourceFields(type);
+        for (int i = 0; i < conditions.length; i++) {
+            String json = resourceFields.jsonName(conditions[i].getField());
+            int[] indexes = fields.get(json);
+            indexes = indexes == null ? new int[1] : Arrays.copyOf(indexes, indexes.length + 1);
+            indexes[indexes.length - 1] = i;
+            fields.put(json, indexes);
+        }
+    }
+
+    /**
+     * Fetch the first page of a reader, keeping only the matching records.
+     *
+     * @param reader reader to fetch with
+     * @param client client to fetch with
+     * @param <T> resource type
+     * @return the page
+     */
+    <T extends Resource> Page<T> firstPage(final Reader<T> reader, final TwilioRestClient client) {
+        return new Scan(RecordSink.current()).firstPage(reader, client);
+    }
+
+    /**
+     * Fetch the page after the given one, keeping only the matching records.
+     *
+     * @param reader reader to fetch with
+     * @param page current page
+     * @param client client to fetch with
+     * @param <T> resource type
+     * @return the next page
+     */
+    <T extends Resource> Page<T> nextPage(final Reader<T> reader, final Page<T> page,
+                                          final TwilioRestClient client) {
+        return new Scan(RecordSink.current()).nextPage(reader, page, client);
+    }
+
+    /**
+     * Scans the records of one page fetch.
+     */
+    private final class Scan extends RecordSink {
+        private final RecordSink downstream;
+        private final boolean[] results = new boolean[conditions.length];
+
+        private Scan(final RecordSink downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        <T> void read(final JsonParser parser, final String json, final byte[] bytes, final Class<T> type,
+                      final ObjectMapper mapper, final List<T> records) throws IOException {
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return;
+            }
+
+            int start = RawRecord.tokenOffset(parser);
+            for (int i = 0; i < conditions.length; i++) {
+                results[i] = conditions[i].whenAbsent();
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                int[] indexes = fields.get(parser.getCurrentName());
+                JsonToken token = parser.nextToken();
+                if (indexes != null) {
+                    for (int index : indexes) {
+                        if (token == JsonToken.VALUE_NULL) {
+                            results[index] = conditions[index].whenAbsent();
+                        } else {
+                            results[index] = !token.isStructStart() && conditions[index].test(parser, token);
+                        }
+                    }
+                }
+                parser.skipChildren();
+            }
+
+            if (!root.matches(results)) {
+                return;
+            }
+
+            int end = (int) parser.getCurrentLocation().getCharOffset();
+            JsonFactory factory = mapper.getFactory();
+            if (downstream == null && !(ObjectMappers.isLazy(mapper) && RawRecord.supports(type))) {
+                // Parse matching records again straight from the page's text
+                try (JsonParser record = factory.createParser(new RangeReader(json, start, end))) {
+                    records.add(mapper.readValue(record, type));
+                }
+                return;
+            }
+
+            // Anything else reading the record gets it as content of its own
+            String text = json.substring(start, end);
+            byte[] encoded = downstream == null || downstream.needsBytes() ? RawRecord.encode(text) : null;
+            try (JsonParser record = encoded != null ? factory.createParser(encoded) : factory.createParser(text)) {
+                record.nextToken();
+                if (downstream != null) {
+                    downstream.read(record, text, encoded, type, mapper, records);
+                } else {
+                    records.add(RawRecord.read(record, encoded, type, mapper));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads part of a string without copying it.
+     */
+    private static final class RangeReader extends java.io.Reader {
+        private final String text;
+        private final int end;
+        private int position;
+
+        private RangeReader(final String text, final int start, final int end) {
+            this.text = text;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) {
+            if (position >= end) {
+                return -1;
+            }
+
+            int count = Math.min(length, end - position);
+            text.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            position = end;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.twilio.base;
+
+import com.twilio.http.TwilioRestClient;
+
+/**
+ * A reader that only returns the records matching a {@link RecordFilter}, testing them as each page
+ * is parsed.
+ *
+ * <p>
+ *     Page size and limit are those of the wrapped reader; the limit counts matching records.
+ * </p>
+ *
+ * @param <T> type of the resource
+ */
+class FilteredReader<T extends Resource> extends Reader<T> {
+
+    private final Reader<T> reader;
+    private final RecordFilter filter;
+    private final FilterSink sink;
+
+    /**
+     * Filter the records of a reader.
+     *
+     * @param reader reader to fetch pages with
+     * @param filter filter to test records with
+     * @throws IllegalArgumentException if the filter names a field the resource doesn't have
+     */
+    FilteredReader(final Reader<T> reader, final RecordFilter filter) {
+        this.reader = reader;
+        this.filter = filter;
+        this.sink = new FilterSink(reader.resourceType(), filter);
+    }
+
+    @Override
+    public ResourceSet<T> read(final TwilioRestClient client) {
+        return new ResourceSet<>(this, client, firstPage(client));
+    }
+
+    @Override
+    public Page<T> firstPage(final TwilioRestClient client) {
+        return sink.firstPage(reader, client);
+    }
+
+    @Override
+    public Page<T> nextPage(final Page<T> page, final TwilioRestClient client) {
+        return sink.nextPage(reader, page, client);
+    }
+
+    @Override
+    public Reader<T> where(final RecordFilter filter) {
+        return new FilteredReader<>(reader, RecordFilter.and(this.filter, filter));
+    }
+
+    @Override
+    public Integer getPageSize() {
+        return reader.getPageSize();
+    }
+
+    @Override
+    public Reader<T> pageSize(final int pageSize) {
+        reader.pageSize(pageSize);
+        return this;
+    }
+
+    @Override
+    public Long getLimit() {
+        return reader.getLimit();
+    }
+
+    @Override
+    public Reader<T> limit(final long limit) {
+        reader.limit(limit);
+        return this;
+    }
+
+    @Override
+    public AdaptivePageSize getAdaptivePageSize() {
+        return reader.getAdaptivePageSize();
+    }
+
+    @Override
+    public Reader<T> adaptivePageSize(final AdaptivePageSize adaptivePageSize) {
+        reader.adaptivePageSize(adaptivePageSize);
+        return this;
+    }
+
+    @Override
+    Class<T> resourceType() {
+        return reader.resourceType();
+    }
+}
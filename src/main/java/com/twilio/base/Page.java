@@ -1,16 +1,29 @@
 package com.twilio.base;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
+import com.google.common.base.Utf8;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.converter.SidInterner;
 import com.twilio.exception.ApiConnectionException;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class Page<T> {
+    private static final Pattern PAGE_NUMBER = Pattern.compile("[?&]Page=(\\d+)");
+    private static final Pattern PAGE_SIZE = Pattern.compile("[?&]PageSize=(\\d+)");
+
     private final List<T> records;
     private final String firstPageUrl;
     private final String firstPageUri;
@@ -21,6 +34,7 @@ public class Page<T> {
     private final String url;
     private final String uri;
     private final int pageSize;
+    private final int contentLength;
 
     private Page(Builder<T> b) {
         this.records = b.records;
@@ -33,6 +47,7 @@ public class Page<T> {
         this.uri = b.uri;
         this.url = b.url;
         this.pageSize = b.pageSize;
+        this.contentLength = b.contentLength;
     }
 
     private String urlFromUri(String domain, String region, String uri) {
@@ -111,6 +126,112 @@ public class Page<T> {
         return !Strings.isNullOrEmpty(nextPageUri) || !Strings.isNullOrEmpty(nextPageUrl);
     }
 
+    public boolean hasPreviousPage() {
+        return !Strings.isNullOrEmpty(previousPageUri) || !Strings.isNullOrEmpty(previousPageUrl);
+    }
+
+    /**
+     * Get the size of the json the page was read from, as it came over the wire.
+     *
+     * @return number of UTF-8 bytes of the page's json, 0 if it wasn't read from json
+     */
+    int getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Point at a page further along than the next one, for links that number their pages rather than
+     * continue from a page token.
+     *
+     * @param pages how many pages past the next one to point at
+     * @return a page without records whose next page is that one, or null if it can't be predicted
+     */
+    Page<T> skipAhead(final int pages) {
+        String link = nextPageLink();
+        if (Strings.isNullOrEmpty(link) || link.contains("PageToken=")) {
+            return null;
+        }
+
+        Matcher matcher = PAGE_NUMBER.matcher(link);
+        if (!matcher.find()) {
+            return null;
+        }
+
+        long number = Long.parseLong(matcher.group(1)) + pages;
+        return linkingTo(link.substring(0, matcher.start(1)) + number + link.substring(matcher.end(1)));
+    }
+
+    /**
+     * Ask for a different number of records in the next page, for links that continue from a page token.
+     *
+     * <p>
+     *     Links that number their pages are left alone, the position of a numbered page depends on its size.
+     * </p>
+     *
+     * @param size number of records to ask for
+     * @return a page without records whose next page has that size, or null if the size can't be changed
+     */
+    Page<T> resize(final int size) {
+        String link = nextPageLink();
+        if (Strings.isNullOrEmpty(link) || !link.contains("PageToken=")) {
+            return null;
+        }
+
+        Matcher matcher = PAGE_SIZE.matcher(link);
+        if (!matcher.find()) {
+            return linkingTo(link + (link.contains("?") ? "&" : "?") + "PageSize=" + size);
+        }
+        return linkingTo(link.substring(0, matcher.start(1)) + size + link.substring(matcher.end(1)));
+    }
+
+    /**
+     * Get the link of this page, as an absolute url or a uri on the domain of its reader.
+     *
+     * @return link of this page
+     */
+    String getLink() {
+        return !Strings.isNullOrEmpty(url) ? url : uri;
+    }
+
+    /**
+     * Get the link of the next page, as an absolute url or a uri on the domain of its reader.
+     *
+     * @return link of the next page, null if this page is the last
+     */
+    String nextPageLink() {
+        return !Strings.isNullOrEmpty(nextPageUrl) ? nextPageUrl : nextPageUri;
+    }
+
+    /**
+     * Get the link of the previous page, as an absolute url or a uri on the domain of its reader.
+     *
+     * @return link of the previous page, null if this page is the first
+     */
+    String previousPageLink() {
+        return !Strings.isNullOrEmpty(previousPageUrl) ? previousPageUrl : previousPageUri;
+    }
+
+    /**
+     * Make a page without records whose next page is the one at a link, to fetch that page with a reader.
+     *
+     * @param link url or uri of the page to fetch
+     * @param <T> record class type
+     * @return a page leading to the link
+     */
+    static <T> Page<T> leadingTo(final String link) {
+        Builder<T> builder = new Builder<T>().records(Collections.<T>emptyList());
+        return (link.startsWith("https://") ? builder.nextPageUrl(link) : builder.nextPageUri(link)).build();
+    }
+
+    private Page<T> linkingTo(final String link) {
+        Builder<T> builder = new Builder<T>()
+            .records(Collections.<T>emptyList())
+            .uri(uri)
+            .url(url)
+            .pageSize(pageSize);
+        return (!Strings.isNullOrEmpty(nextPageUrl) ? builder.nextPageUrl(link) : builder.nextPageUri(link)).build();
+    }
+
     /**
      * Create a new page of data from a json blob.
      *
@@ -122,19 +243,47 @@ public class Page<T> {
      * @return a page of records of type T
      */
     public static <T> Page<T> fromJson(String recordKey, String json, Class<T> recordType, ObjectMapper mapper) {
-        try {
+        // A sink reads the records itself; in lazy mode they keep offsets into the page's bytes
+        RecordSink sink = RecordSink.current();
+        boolean lazy = sink == null && ObjectMappers.isLazy(mapper) && RawRecord.supports(recordType);
+        byte[] bytes = lazy || (sink != null && sink.needsBytes()) ? RawRecord.encode(json) : null;
+
+        // Stream the records straight into resources rather than through an intermediate tree
+        JsonFactory factory = mapper.getFactory();
+        try (SidInterner.Scope sids = ObjectMappers.isInterningSids(mapper) ? SidInterner.page() : null;
+             JsonParser parser = bytes != null ? factory.createParser(bytes) : factory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ApiConnectionException("Unable to deserialize response: expected an object\nJSON: " + json);
+            }
+
             List<T> results = new ArrayList<>();
-            JsonNode root = mapper.readTree(json);
-            JsonNode records = root.get(recordKey);
-            for (final JsonNode record : records) {
-                results.add(mapper.readValue(record.toString(), recordType));
+            ObjectNode root = mapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (!name.equals(recordKey)) {
+                    root.set(name, mapper.<JsonNode>readTree(parser));
+                } else if (token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (sink != null) {
+                            sink.read(parser, json, bytes, recordType, mapper, results);
+                        } else if (lazy && parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                            results.add(RawRecord.read(parser, bytes, recordType, mapper));
+                        } else {
+                            results.add(mapper.readValue(parser, recordType));
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
             }
 
+            int contentLength = bytes != null ? bytes.length : Utf8.encodedLength(json);
             JsonNode uriNode = root.get("uri");
             if (uriNode != null) {
-                return buildPage(root, results);
+                return buildPage(root, results, contentLength);
             } else {
-                return buildNextGenPage(root, results);
+                return buildNextGenPage(root, results, contentLength);
             }
 
         } catch (final IOException e) {
@@ -144,7 +293,7 @@ public class Page<T> {
         }
     }
 
-    private static <T> Page<T> buildPage(JsonNode root, List<T> results) {
+    private static <T> Page<T> buildPage(JsonNode root, List<T> results, int contentLength) {
         Builder<T> builder = new Builder<T>()
             .uri(root.get("uri").asText());
 
@@ -170,10 +319,10 @@ public class Page<T> {
             builder.pageSize(results.size());
         }
 
-        return builder.records(results).build();
+        return builder.records(results).contentLength(contentLength).build();
     }
 
-    private static <T> Page<T> buildNextGenPage(JsonNode root, List<T> results) {
+    private static <T> Page<T> buildNextGenPage(JsonNode root, List<T> results, int contentLength) {
         JsonNode meta = root.get("meta");
         Builder<T> builder = new Builder<T>().url(meta.get("url").asText());
 
@@ -199,7 +348,7 @@ public class Page<T> {
             builder.pageSize(results.size());
         }
 
-        return builder.records(results).build();
+        return builder.records(results).contentLength(contentLength).build();
     }
 
     private static class Builder<T> {
@@ -213,6 +362,7 @@ public class Page<T> {
         private String uri;
         private String url;
         private int pageSize;
+        private int contentLength;
 
         public Builder<T> records(List<T> records) {
             this.records = records;
@@ -264,6 +414,11 @@ public class Page<T> {
             return this;
         }
 
+        public Builder<T> contentLength(int contentLength) {
+            this.contentLength = contentLength;
+            return this;
+        }
+
         public Page<T> build() {
             return new Page<>(this);
         }
@@ -0,0 +1,318 @@
+package com.twilio.base;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.twilio.Twilio;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.http.CancellationToken;
+import com.twilio.http.TwilioRestClient;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Moves back and forth through the pages of a listing, for screens that page through results.
+ *
+ * <p>
+ *     Pages are numbered from 0. The link of every page seen is kept, so any page visited before is
+ *     fetched again in one request, and the most recently used pages are kept whole so going back to
+ *     them costs none. {@link #goToPage} jumps straight to pages whose links number them; pages that
+ *     continue from a page token are reached by following the links from the closest known page.
+ * </p>
+ *
+ * <p>
+ *     After each move, the pages on either side are fetched in the background on the Twilio executor,
+ *     so the next step back or forth is usually served without waiting. Filtered readers test records
+ *     with state of their own, so their pages aren't prefetched. A navigator is meant for one thread.
+ * </p>
+ *
+ * @param <T> type of the resource
+ */
+public class PageNavigator<T extends Resource> {
+
+    private static final int DEFAULT_CACHED_PAGES = 16;
+
+    private final Reader<T> reader;
+    private final TwilioRestClient client;
+    private final NavigableMap<Integer, String> links = new TreeMap<>();
+    private final Map<Integer, ListenableFuture<Page<T>>> prefetched = new HashMap<>();
+    private final LinkedHashMap<Integer, Page<T>> cache = new LinkedHashMap<Integer, Page<T>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, Page<T>> eldest) {
+            return size() > cachedPages;
+        }
+    };
+
+    private int cachedPages = DEFAULT_CACHED_PAGES;
+    private boolean prefetch = true;
+    private int lastPage = -1;
+    private int pageNumber = -1;
+    private Page<T> page;
+
+    /**
+     * Initialize the navigator.
+     *
+     * @param reader reader used to fetch pages
+     * @param client client used to make requests
+     */
+    PageNavigator(final Reader<T> reader, final TwilioRestClient client) {
+        this.reader = reader;
+        this.client = client;
+    }
+
+    public int getCachedPages() {
+        return cachedPages;
+    }
+
+    /**
+     * Set how many pages are kept whole, 16 by default.
+     *
+     * @param cachedPages number of pages to keep
+     * @return this
+     */
+    public PageNavigator<T> setCachedPages(final int cachedPages) {
+        if (cachedPages < 1) {
+            throw new IllegalArgumentException("At least one page must be cached");
+        }
+
+        this.cachedPages = cachedPages;
+        Iterator<Integer> eldest = cache.keySet().iterator();
+        while (cache.size() > cachedPages) {
+            eldest.next();
+            eldest.remove();
+        }
+        return this;
+    }
+
+    public boolean isPrefetching() {
+        return prefetch;
+    }
+
+    /**
+     * Set whether the pages on either side of the current one are fetched in the background.
+     *
+     * @param prefetch true to prefetch neighbouring pages
+     * @return this
+     */
+    public PageNavigator<T> setPrefetching(final boolean prefetch) {
+        this.prefetch = prefetch;
+        if (!prefetch) {
+            for (ListenableFuture<Page<T>> future : prefetched.values()) {
+                future.cancel(true);
+            }
+            prefetched.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Get the number of the current page.
+     *
+     * @return page number from 0, -1 before the first move
+     */
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * Get the current page.
+     *
+     * @return the current page, null before the first move
+     */
+    public Page<T> getPage() {
+        return page;
+    }
+
+    public boolean hasNextPage() {
+        return page == null || page.hasNextPage();
+    }
+
+    public boolean hasPreviousPage() {
+        return pageNumber > 0;
+    }
+
+    /**
+     * Move to the page after the current one, or to the first page before the first move.
+     *
+     * @return the page
+     * @throws NoSuchElementException if the current page is the last
+     */
+    public Page<T> nextPage() {
+        if (!hasNextPage()) {
+            throw new NoSuchElementException("Page " + pageNumber + " is the last one");
+        }
+        return goToPage(pageNumber + 1);
+    }
+
+    /**
+     * Move to the page before the current one.
+     *
+     * @return the page
+     * @throws NoSuchElementException if the current page is the first
+     */
+    public Page<T> previousPage() {
+        if (!hasPreviousPage()) {
+            throw new NoSuchElementException("Page " + pageNumber + " is the first one");
+        }
+        return goToPage(pageNumber - 1);
+    }
+
+    /**
+     * Move to a page by its number.
+     *
+     * @param number page number from 0
+     * @return the page
+     * @throws IndexOutOfBoundsException if the listing has fewer pages
+     */
+    public Page<T> goToPage(final int number) {
+        if (number < 0 || (lastPage >= 0 && number > lastPage)) {
+            throw new IndexOutOfBoundsException("Page " + number + " of " + (lastPage + 1));
+        }
+
+        Page<T> target = cache.get(number);
+        if (target == null) {
+            target = takePrefetched(number);
+        }
+        if (target == null) {
+            target = load(number);
+        }
+
+        visit(number, target);
+        pageNumber = number;
+        page = target;
+        if (prefetch && !(reader instanceof FilteredReader)) {
+            prefetchAround(number);
+        }
+        return target;
+    }
+
+    private Page<T> load(final int number) {
+        if (number == 0) {
+            return reader.firstPage(client);
+        }
+
+        String link = links.get(number);
+        if (link != null) {
+            return reader.nextPage(Page.<T>leadingTo(link), client);
+        }
+
+        // Only the first page can be fetched without a link to start from
+        Map.Entry<Integer, String> known = links.floorEntry(number);
+        if (known == null) {
+            visit(0, reader.firstPage(client));
+            if (lastPage == 0) {
+                throw new IndexOutOfBoundsException("Page " + number + " is past the last page");
+            }
+            return load(number);
+        }
+
+        // Numbered links can point at any page from the closest one known before it
+        Page<T> jump = Page.<T>leadingTo(known.getValue()).skipAhead(number - known.getKey());
+        if (jump != null) {
+            Page<T> target = reader.nextPage(jump, client);
+            if (target.getRecords().isEmpty() && !target.hasNextPage()) {
+                throw new IndexOutOfBoundsException("Page " + number + " is past the last page");
+            }
+            return target;
+        }
+
+        // Token links only lead one page on, so walk from the furthest page known
+        int at = known.getKey();
+        Page<T> current = cache.get(at);
+        if (current == null) {
+            current = load(at);
+        }
+        while (at < number) {
+            visit(at, current);
+            if (!current.hasNextPage()) {
+                throw new IndexOutOfBoundsException("Page " + number + " is past the last page");
+            }
+            current = reader.nextPage(current, client);
+            at++;
+        }
+        return current;
+    }
+
+    private void visit(final int number, final Page<T> visited) {
+        cache.put(number, visited);
+        if (visited.hasNextPage()) {
+            links.put(number + 1, visited.nextPageLink());
+        } else {
+            lastPage = number;
+        }
+        if (number > 0 && visited.hasPreviousPage() && !links.containsKey(number - 1)) {
+            links.put(number - 1, visited.previousPageLink());
+        }
+    }
+
+    private void prefetchAround(final int number) {
+        settlePrefetches(number);
+        prefetch(number + 1);
+        if (number > 0) {
+            prefetch(number - 1);
+        }
+    }
+
+    private void prefetch(final int number) {
+        if (cache.containsKey(number) || prefetched.containsKey(number)) {
+            return;
+        }
+
+        final String link = links.get(number);
+        if (link == null && number != 0) {
+            return;
+        }
+
+        prefetched.put(number, CancellationToken.submit(Twilio.getExecutorService(), new Callable<Page<T>>() {
+            public Page<T> call() {
+                return link == null ? reader.firstPage(client) : reader.nextPage(Page.<T>leadingTo(link), client);
+            }
+        }));
+    }
+
+    private Page<T> takePrefetched(final int number) {
+        ListenableFuture<Page<T>> future = prefetched.remove(number);
+        if (future == null) {
+            return null;
+        }
+
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Interrupted while fetching page " + number, e);
+        } catch (final ExecutionException e) {
+            // A failed prefetch is tried again in the foreground, where its error surfaces
+            return null;
+        }
+    }
+
+    private void settlePrefetches(final int number) {
+        // Pages no longer next to the current one are cached if they came in, or dropped if they didn't
+        Iterator<Map.Entry<Integer, ListenableFuture<Page<T>>>> entries = prefetched.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Integer, ListenableFuture<Page<T>>> entry = entries.next();
+            if (Math.abs(entry.getKey() - number) == 1) {
+                continue;
+            }
+
+            entries.remove();
+            ListenableFuture<Page<T>> future = entry.getValue();
+            if (!future.isDone()) {
+                future.cancel(true);
+                continue;
+            }
+            try {
+                visit(entry.getKey(), future.get());
+            } catch (final InterruptedException | ExecutionException e) {
+                // Only the pages that came in are worth keeping
+            }
+        }
+    }
+}
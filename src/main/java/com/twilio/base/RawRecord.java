@@ -0,0 +1,482 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.base.ParserBase;
+import com.fasterxml.jackson.core.json.ReaderBasedJsonParser;
+import com.fasterxml.jackson.core.json.UTF8StreamJsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.twilio.converter.DateConverter;
+import com.twilio.converter.Promoter;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * One record of a page read in lazy mode, kept as offsets into the page's JSON bytes.
+ *
+ * <p>
+ *     Resources that support lazy mode have a private constructor taking a RawRecord; their getters
+ *     decode a field from the bytes the first time it's asked for and keep the result, so each field
+ *     must always be read through the same method, though {@link #enumValue} can share a field with
+ *     {@link #string}. The fields a record knows are the
+ *     {@link JsonProperty} names of its {@link JsonCreator} constructor.
+ * </p>
+ *
+ * <p>
+ *     Call and Message are the only resources with such a constructor. It's written by hand rather than
+ *     generated, so it has to be carried over whenever those classes are regenerated.
+ * </p>
+ */
+public final class RawRecord {
+
+    private static final Object NULL = new Object();
+    private static final JavaType STRING = TypeFactory.defaultInstance().constructType(String.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<RawRecord, AtomicReferenceArray> ENUMS =
+        AtomicReferenceFieldUpdater.newUpdater(RawRecord.class, AtomicReferenceArray.class, "enums");
+
+    /**
+     * Whether the Jackson parsers on the classpath count a token's first byte or character as read,
+     * which {@link #tokenOffset} relies on.
+     */
+    private static final boolean TOKEN_OFFSETS_KNOWN = checkTokenOffsets();
+
+    private static final ClassValue<Layout> LAYOUTS = new ClassValue<Layout>() {
+        @Override
+        protected Layout computeValue(final Class<?> type) {
+            return Layout.of(type);
+        }
+    };
+
+    private final Layout layout;
+    private final ObjectMapper mapper;
+    private final byte[] json;
+    private final int start;
+    private final int end;
+    private final int[] offsets;
+    private final AtomicReferenceArray<Object> values;
+    private volatile AtomicReferenceArray<Object> enums;
+
+    private RawRecord(final Layout layout, final ObjectMapper mapper, final byte[] json, final int start,
+                      final int end, final int[] offsets) {
+        this.layout = layout;
+        this.mapper = mapper;
+        this.json = json;
+        this.start = start;
+        this.end = end;
+        this.offsets = offsets;
+        this.values = new AtomicReferenceArray<>(offsets.length);
+    }
+
+    /**
+     * Check whether a resource type can be read lazily.
+     *
+     * @param type resource type
+     * @return true if it has a constructor taking a RawRecord
+     */
+    static boolean supports(final Class<?> type) {
+        return LAYOUTS.get(type) != null;
+    }
+
+    /**
+     * Encode a page for reading lazily.
+     *
+     * @param json page content
+     * @return the content as UTF-8
+     */
+    static byte[] encode(final String json) {
+        // Encoding as UTF-8 allocates three bytes a character before trimming; pages are nearly always ASCII
+        for (int i = 0; i < json.length(); i++) {
+            if (json.charAt(i) >= 0x80) {
+                return json.getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        return json.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Read the object the parser is positioned at, noting where each known field's value starts.
+     *
+     * @param parser parser over json, positioned at a START_OBJECT
+     * @param json bytes the parser is reading
+     * @param type resource type, which must be {@link #supports supported}
+     * @param mapper mapper to decode fields with
+     * @param <T> resource type
+     * @return a resource backed by the record's bytes
+     * @throws IOException if the record can't be parsed
+     */
+    static <T> T read(final JsonParser parser, final byte[] json, final Class<T> type,
+                      final ObjectMapper mapper) throws IOException {
+        Layout layout = LAYOUTS.get(type);
+        int start = tokenOffset(parser);
+        int[] offsets = new int[layout.size()];
+        Arrays.fill(offsets, -1);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer field = layout.field(parser.getCurrentName());
+            parser.nextToken();
+            if (field != null) {
+                offsets[field] = tokenOffset(parser);
+            }
+            parser.skipChildren();
+        }
+
+        int end = (int) parser.getCurrentLocation().getByteOffset();
+        return type.cast(layout.create(new RawRecord(layout, mapper, json, start, end, offsets)));
+    }
+
+    /**
+     * Find where the current token starts, in bytes for a byte parser or characters for a text parser.
+     *
+     * @param parser parser positioned at the token
+     * @return offset of the token
+     * @throws IllegalStateException if the parser isn't one of Jackson's JSON parsers
+     */
+    static int tokenOffset(final JsonParser parser) {
+        // Both parsers count a token's first byte or character as read, as getTokenLocation() allows for,
+        // but that allocates a JsonLocation for every field
+        Class<?> type = parser.getClass();
+        if (!TOKEN_OFFSETS_KNOWN || (type != UTF8StreamJsonParser.class && type != ReaderBasedJsonParser.class)) {
+            throw new IllegalStateException("Records can't be read in place with " + type.getName() +
+                "; use a mapper whose JsonFactory creates Jackson's own JSON parsers");
+        }
+        return (int) ((ParserBase) parser).getTokenCharacterOffset() - 1;
+    }
+
+    private static boolean checkTokenOffsets() {
+        String json = "{\"a\": 1}";
+        JsonFactory factory = new JsonFactory();
+        try (JsonParser bytes = factory.createParser(json.getBytes(StandardCharsets.US_ASCII));
+             JsonParser chars = factory.createParser(json)) {
+            return isValueAt(bytes, UTF8StreamJsonParser.class, 6) && isValueAt(chars, ReaderBasedJsonParser.class, 6);
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isValueAt(final JsonParser parser, final Class<?> type, final int offset)
+        throws IOException {
+        parser.nextToken();
+        parser.nextToken();
+        parser.nextToken();
+        return parser.getClass() == type && ((ParserBase) parser).getTokenCharacterOffset() - 1 == offset;
+    }
+
+    /**
+     * Decode a field as a String.
+     *
+     * @param name JSON name of the field
+     * @return the value, or null if absent
+     */
+    public String string(final String name) {
+        return (String) decode(name, STRING, Conversion.NONE);
+    }
+
+    /**
+     * Decode a field in RFC 2822 format.
+     *
+     * @param name JSON name of the field
+     * @return the value, or null if absent or unparseable
+     */
+    public DateTime rfc2822DateTime(final String name) {
+        return (DateTime) decode(name, STRING, Conversion.RFC2822);
+    }
+
+    /**
+     * Decode a field in ISO 8601 format.
+     *
+     * @param name JSON name of the field
+     * @return the value, or null if absent or unparseable
+     */
+    public DateTime iso8601DateTime(final String name) {
+        return (DateTime) decode(name, STRING, Conversion.ISO8601);
+    }
+
+    /**
+     * Decode a field in yyyy-MM-dd format.
+     *
+     * @param name JSON name of the field
+     * @return the value, or null if absent or unparseable
+     */
+    public LocalDate localDate(final String name) {
+        return (LocalDate) decode(name, STRING, Conversion.LOCAL_DATE);
+    }
+
+    /**
+     * Decode a currency code, as {@link com.twilio.converter.CurrencyDeserializer} does.
+     *
+     * @param name JSON name of the field
+     * @return the value, or null if absent
+     */
+    public Currency currency(final String name) {
+        return (Currency) decode(name, STRING, Conversion.CURRENCY);
+    }
+
+    /**
+     * Decode a field as a constant of an enum, as its {@code forValue} does.
+     *
+     * <p>
+     *     The constant is kept apart from the field's text, so the same field can be read with
+     *     {@link #string} as well.
+     * </p>
+     *
+     * @param name JSON name of the field
+     * @param type enum type
+     * @param <T> enum type
+     * @return the constant, or null if absent or no constant matches
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Enum<?>> T enumValue(final String name, final Class<T> type) {
+        int field = field(name);
+        AtomicReferenceArray<Object> decoded = enums;
+        if (decoded == null) {
+            ENUMS.compareAndSet(this, null, new AtomicReferenceArray<>(offsets.length));
+            decoded = enums;
+        }
+
+        Object value = decoded.get(field);
+        if (value == null) {
+            T constant = Promoter.enumFromString(string(name), type);
+            decoded.compareAndSet(field, null, constant == null ? NULL : constant);
+            value = decoded.get(field);
+        }
+        return value == NULL ? null : (T) value;
+    }
+
+    /**
+     * Decode a field with the mapper.
+     *
+     * @param name JSON name of the field
+     * @param type type to decode to
+     * @param <T> type to decode to
+     * @return the value, or null if absent
+     */
+    public <T> T value(final String name, final Class<T> type) {
+        return type.cast(decode(name, mapper.constructType(type), Conversion.NONE));
+    }
+
+    /**
+     * Decode a field with the mapper.
+     *
+     * @param name JSON name of the field
+     * @param type type to decode to
+     * @param <T> type to decode to
+     * @return the value, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T value(final String name, final TypeReference<T> type) {
+        return (T) decode(name, mapper.getTypeFactory().constructType(type), Conversion.NONE);
+    }
+
+    /**
+     * Read the whole record eagerly, as a mapper outside lazy mode would have.
+     *
+     * @param type resource type
+     * @param <T> resource type
+     * @return the eagerly decoded resource
+     */
+    public <T> T materialize(final Class<T> type) {
+        try (JsonParser parser = mapper.getFactory().createParser(json, start, end - start)) {
+            return mapper.readValue(parser, type);
+        } catch (final IOException e) {
+            throw new ApiConnectionException(e.getMessage(), e);
+        }
+    }
+
+    private Object decode(final String name, final JavaType type, final Conversion conversion) {
+        int field = field(name);
+
+        // Racing threads decode the same bytes; whichever stores first wins so all see one instance
+        Object value = values.get(field);
+        if (value == null) {
+            Object decoded = conversion.convert(parse(offsets[field], type));
+            values.compareAndSet(field, null, decoded == null ? NULL : decoded);
+            value = values.get(field);
+        }
+        return value == NULL ? null : value;
+    }
+
+    private int field(final String name) {
+        Integer field = layout.field(name);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown field " + name);
+        }
+        return field;
+    }
+
+    private Object parse(final int from, final JavaType type) {
+        if (from < 0) {
+            return null;
+        }
+
+        // Most fields are plain strings, which don't need a parser
+        int quote = json[from] == '"' ? closingQuote(from + 1) : -1;
+        if (type.getRawClass() == String.class) {
+            if (json[from] == 'n') {
+                return null;
+            }
+            if (quote >= 0) {
+                return new String(json, from + 1, quote - from - 1, StandardCharsets.UTF_8);
+            }
+        }
+
+        // A number at the root of a parser has to be followed by whitespace or the end of input
+        int to = from;
+        if (json[from] == '-' || (json[from] >= '0' && json[from] <= '9')) {
+            while (to < end && isNumeric(json[to])) {
+                to++;
+            }
+        } else {
+            to = end;
+        }
+
+        try (JsonParser parser = mapper.getFactory().createParser(json, from, to - from)) {
+            parser.nextToken();
+            return mapper.readValue(parser, type);
+        } catch (final IOException e) {
+            throw new ApiException("Unable to decode field: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Find the quote closing a string without escapes.
+     *
+     * @return index of the quote, or -1 if the string has escapes
+     */
+    private int closingQuote(final int from) {
+        for (int i = from; i < end; i++) {
+            if (json[i] == '"') {
+                return i;
+            }
+            if (json[i] == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isNumeric(final byte b) {
+        return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+    }
+
+    /**
+     * What a resource constructor does to a field after Jackson has read it.
+     */
+    private enum Conversion {
+        NONE {
+            @Override
+            Object convert(final Object value) {
+                return value;
+            }
+        },
+        RFC2822 {
+            @Override
+            Object convert(final Object value) {
+                return DateConverter.rfc2822DateTimeFromString((String) value);
+            }
+        },
+        ISO8601 {
+            @Override
+            Object convert(final Object value) {
+                return DateConverter.iso8601DateTimeFromString((String) value);
+            }
+        },
+        LOCAL_DATE {
+            @Override
+            Object convert(final Object value) {
+                return DateConverter.localDateFromString((String) value);
+            }
+        },
+        CURRENCY {
+            @Override
+            Object convert(final Object value) {
+                return value == null ? null : Currency.getInstance(((String) value).toUpperCase());
+            }
+        };
+
+        abstract Object convert(Object value);
+    }
+
+    /**
+     * The fields of a resource type and how to build one from a RawRecord.
+     */
+    private static final class Layout {
+        private final Map<String, Integer> fields;
+        private final int size;
+        private final Constructor<?> constructor;
+
+        private Layout(final Map<String, Integer> fields, final int size, final Constructor<?> constructor) {
+            this.fields = fields;
+            this.size = size;
+            this.constructor = constructor;
+        }
+
+        static Layout of(final Class<?> type) {
+            Constructor<?> lazy = null;
+            Constructor<?> creator = null;
+
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                Class<?>[] parameters = constructor.getParameterTypes();
+                if (parameters.length == 1 && parameters[0] == RawRecord.class) {
+                    lazy = constructor;
+                } else if (constructor.isAnnotationPresent(JsonCreator.class)) {
+                    creator = constructor;
+                }
+            }
+
+            if (lazy == null || creator == null) {
+                return null;
+            }
+
+            Annotation[][] parameters = creator.getParameterAnnotations();
+            Map<String, Integer> fields = new HashMap<>();
+            for (int i = 0; i < parameters.length; i++) {
+                for (Annotation annotation : parameters[i]) {
+                    if (annotation instanceof JsonProperty) {
+                        fields.put(((JsonProperty) annotation).value(), i);
+                    }
+                }
+            }
+
+            lazy.setAccessible(true);
+            return new Layout(fields, parameters.length, lazy);
+        }
+
+        int size() {
+            return size;
+        }
+
+        Integer field(final String name) {
+            return fields.get(name);
+        }
+
+        Object create(final RawRecord record) {
+            try {
+                return constructor.newInstance(record);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new ApiException("Unable to create " + constructor.getDeclaringClass().getSimpleName(), e);
+            }
+        }
+    }
+}
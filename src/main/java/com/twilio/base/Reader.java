@@ -2,8 +2,13 @@ package com.twilio.base;
 
 import com.google.common.util.concurrent.ListenableFuture;
 import com.twilio.Twilio;
+import com.twilio.http.CancellationToken;
 import com.twilio.http.TwilioRestClient;
 
+import java.io.File;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.NoSuchElementException;
 import java.util.concurrent.Callable;
 
 /**
@@ -13,10 +18,13 @@ import java.util.concurrent.Callable;
  */
 public abstract class Reader<T extends Resource> {
 
-    private static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private static final ThreadLocal<Integer> DEFAULT_PAGE_SIZE = new ThreadLocal<>();
 
     private Integer pageSize;
     private Long limit;
+    private AdaptivePageSize adaptivePageSize;
 
     /**
      * Execute a request using default client.
@@ -51,13 +59,161 @@ public abstract class Reader<T extends Resource> {
      * @return future that resolves to the ResourceSet of objects
      */
     public ListenableFuture<ResourceSet<T>> readAsync(final TwilioRestClient client) {
-        return Twilio.getExecutorService().submit(new Callable<ResourceSet<T>>() {
+        return CancellationToken.submit(Twilio.getExecutorService(), new Callable<ResourceSet<T>>() {
             public ResourceSet<T> call() {
                 return read(client);
             }
         });
     }
 
+    /**
+     * Continue a read from a cursor using default client.
+     *
+     * @param cursor cursor from {@link ResourceSet#getCursor()}
+     * @return ResourceSet of the records after the cursor
+     */
+    public ResourceSet<T> resume(final Cursor cursor) {
+        return resume(Twilio.getRestClient(), cursor);
+    }
+
+    /**
+     * Continue a read from a cursor using specified client.
+     *
+     * <p>
+     *     The page the cursor points into is fetched again and the records returned before it are
+     *     skipped. The reader must be set up like the one that returned the cursor, a filter included;
+     *     its limit still counts the records read before the cursor.
+     * </p>
+     *
+     * @param client client used to make requests
+     * @param cursor cursor from {@link ResourceSet#getCursor()}
+     * @return ResourceSet of the records after the cursor
+     */
+    public ResourceSet<T> resume(final TwilioRestClient client, final Cursor cursor) {
+        Page<T> page = nextPage(Page.<T>leadingTo(cursor.getLink()), client);
+        return new ResourceSet<>(this, client, page, cursor);
+    }
+
+    /**
+     * Write every record to a memory-mapped file instead of the heap using default client.
+     *
+     * @param path file to write, replaced if it exists
+     * @return list of the resources in the file
+     */
+    public ResourceFile<T> readToFile(final File path) {
+        return readToFile(Twilio.getRestClient(), path);
+    }
+
+    /**
+     * Write every record to a memory-mapped file instead of the heap using specified client.
+     *
+     * <p>
+     *     Records are copied to the file as they were sent, without being decoded, and are decoded one
+     *     at a time as the returned list is read. Pages default to the largest size. The file can be
+     *     opened again later with {@link ResourceFile#open}.
+     * </p>
+     *
+     * @param client client used to make requests
+     * @param path file to write, replaced if it exists
+     * @return list of the resources in the file
+     * @throws com.twilio.exception.ApiException if the file can't be written
+     */
+    public ResourceFile<T> readToFile(final TwilioRestClient client, final File path) {
+        return ResourceFile.write(this, client, path, ResourceFile.DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Read only the given fields of each record, decoded a page at a time into columns, using default client.
+     *
+     * @param columns fields to read, by JSON name (date_created) or getter name (dateCreated)
+     * @return ColumnSet of batches, one a page
+     */
+    public ColumnSet<T> readColumns(final String... columns) {
+        return readColumns(Twilio.getRestClient(), columns);
+    }
+
+    /**
+     * Read only the given fields of each record, decoded a page at a time into columns, using specified client.
+     *
+     * <p>
+     *     No resources are built; numbers and timestamps land in primitive arrays and strings, such as sids
+     *     and statuses, are dictionary encoded within each batch. Pages default to the largest size.
+     * </p>
+     *
+     * @param client client used to make requests
+     * @param columns fields to read, by JSON name (date_created) or getter name (dateCreated)
+     * @return ColumnSet of batches, one a page
+     * @throws IllegalArgumentException if a field is unknown or can't be stored in a column
+     */
+    public ColumnSet<T> readColumns(final TwilioRestClient client, final String... columns) {
+        return new ColumnSet<>(this, client, resourceType(), columns);
+    }
+
+    /**
+     * Only read the records matching a filter.
+     *
+     * <p>
+     *     The filter is tested on the raw fields of each record as the page is parsed, so records that
+     *     don't match are skipped without building a resource. Pages default to the largest size, and
+     *     a limit counts matching records.
+     * </p>
+     *
+     * @param filter filter to test records with
+     * @return a reader of the matching records
+     * @throws IllegalArgumentException if the filter names a field the resource doesn't have
+     */
+    public Reader<T> where(final RecordFilter filter) {
+        return new FilteredReader<>(this, filter);
+    }
+
+    /**
+     * Count the records using default client.
+     *
+     * @return the number of records, at most the limit if one is set
+     */
+    public long count() {
+        return count(Twilio.getRestClient());
+    }
+
+    /**
+     * Count the records using specified client.
+     *
+     * <p>
+     *     Records are skipped over in each page without being decoded, and pages whose links number
+     *     them are fetched in parallel. Pages default to the largest size.
+     * </p>
+     *
+     * @param client client used to make requests
+     * @return the number of records, at most the limit if one is set
+     */
+    public long count(final TwilioRestClient client) {
+        return CountSink.count(this, client, getLimit() == null ? Long.MAX_VALUE : getLimit());
+    }
+
+    /**
+     * Check whether there is any record using default client.
+     *
+     * @return true if there is at least one record
+     */
+    public boolean exists() {
+        return exists(Twilio.getRestClient());
+    }
+
+    /**
+     * Check whether there is any record using specified client.
+     *
+     * <p>
+     *     Pages are fetched until one holds a record, which is never decoded. Pages default to the
+     *     largest size, so that a filtered reader scans few of them.
+     * </p>
+     *
+     * @param client client used to make requests
+     * @return true if there is at least one record
+     */
+    public boolean exists(final TwilioRestClient client) {
+        return CountSink.count(this, client, 1) > 0;
+    }
+
     /**
      * Fetch the first page of resources.
      *
@@ -94,8 +250,52 @@ public abstract class Reader<T extends Resource> {
      */
     public abstract Page<T> nextPage(final Page<T> page, final TwilioRestClient client);
 
+    /**
+     * Fetch the preceding page of resources.
+     *
+     * @param page current page of resources
+     * @return Page before the current one
+     */
+    public Page<T> previousPage(final Page<T> page) {
+        return previousPage(page, Twilio.getRestClient());
+    }
+
+    /**
+     * Fetch the preceding page of resources using specified client.
+     *
+     * @param page current page of resources
+     * @param client client used to fetch
+     * @return Page before the current one
+     * @throws java.util.NoSuchElementException if the page is the first
+     */
+    public Page<T> previousPage(final Page<T> page, final TwilioRestClient client) {
+        if (!page.hasPreviousPage()) {
+            throw new NoSuchElementException("The page is the first one");
+        }
+        return nextPage(Page.<T>leadingTo(page.previousPageLink()), client);
+    }
+
+    /**
+     * Browse the pages of resources back and forth using default client.
+     *
+     * @return navigator positioned before the first page
+     */
+    public PageNavigator<T> navigate() {
+        return navigate(Twilio.getRestClient());
+    }
+
+    /**
+     * Browse the pages of resources back and forth using specified client.
+     *
+     * @param client client used to fetch
+     * @return navigator positioned before the first page
+     */
+    public PageNavigator<T> navigate(final TwilioRestClient client) {
+        return new PageNavigator<>(this, client);
+    }
+
     public Integer getPageSize() {
-        return pageSize;
+        return pageSize != null ? pageSize : DEFAULT_PAGE_SIZE.get();
     }
 
     public Reader<T> pageSize(final int pageSize) {
@@ -123,4 +323,68 @@ public abstract class Reader<T extends Resource> {
         return this;
     }
 
+    public AdaptivePageSize getAdaptivePageSize() {
+        return adaptivePageSize;
+    }
+
+    /**
+     * Tune the size of each page a ResourceSet fetches from how the previous pages went.
+     *
+     * <p>
+     *     The first page takes the page size already set, or the initial size of the tuning.
+     * </p>
+     *
+     * @param adaptivePageSize goals to tune the page size towards
+     * @return this reader
+     */
+    public Reader<T> adaptivePageSize(final AdaptivePageSize adaptivePageSize) {
+        this.adaptivePageSize = adaptivePageSize;
+
+        if (this.pageSize == null) {
+            this.pageSize = adaptivePageSize.getInitialPageSize();
+        }
+
+        return this;
+    }
+
+    /**
+     * Fetch the first page in pages of the largest size, unless this reader has a page size.
+     *
+     * <p>
+     *     Operations that don't build a list of resources, such as counts and column reads, fetch
+     *     through here. The reader isn't changed, so later reads keep the page size it had.
+     * </p>
+     *
+     * @param client client used to fetch
+     * @return the first page
+     */
+    Page<T> firstLargestPage(final TwilioRestClient client) {
+        Integer previous = DEFAULT_PAGE_SIZE.get();
+        DEFAULT_PAGE_SIZE.set(MAX_PAGE_SIZE);
+        try {
+            return firstPage(client);
+        } finally {
+            if (previous == null) {
+                DEFAULT_PAGE_SIZE.remove();
+            } else {
+                DEFAULT_PAGE_SIZE.set(previous);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    Class<T> resourceType() {
+        for (Class<?> type = getClass(); type != Reader.class; type = type.getSuperclass()) {
+            Type superclass = type.getGenericSuperclass();
+            if (superclass instanceof ParameterizedType &&
+                ((ParameterizedType) superclass).getRawType() == Reader.class) {
+                Type argument = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+                if (argument instanceof Class) {
+                    return (Class<T>) argument;
+                }
+            }
+        }
+        throw new IllegalStateException(getClass().getName() + " doesn't name the resource type it reads");
+    }
+
 }
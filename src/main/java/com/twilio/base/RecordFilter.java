@@ -0,0 +1,363 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.twilio.converter.DateConverter;
+import org.joda.time.DateTime;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A condition on the fields of a record, tested on the raw JSON tokens of each page as it's parsed so
+ * that records which don't match are skipped without building a resource.
+ *
+ * <p>
+ *     Fields are named by their JSON name (date_created) or getter name (dateCreated). Values compare
+ *     as they're sent, so enums match by their {@code toString()}. A condition on a field that is missing
+ *     or null is false, except for {@link #isNull}.
+ * </p>
+ */
+public abstract class RecordFilter {
+
+    private RecordFilter() {
+    }
+
+    /**
+     * Match records whose field equals the given value's text.
+     *
+     * @param field field name
+     * @param value value to compare to, such as {@code Call.Status.FAILED}
+     * @return the filter
+     */
+    public static RecordFilter equalTo(final String field, final Object value) {
+        return oneOf(field, value);
+    }
+
+    /**
+     * Match records whose field equals any of the given values' text.
+     *
+     * @param field field name
+     * @param values values to compare to
+     * @return the filter
+     */
+    public static RecordFilter oneOf(final String field, final Object... values) {
+        final char[][] texts = new char[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            texts[i] = values[i].toString().toCharArray();
+        }
+
+        return new Condition(field, false) {
+            @Override
+            boolean test(final JsonParser parser, final JsonToken token) throws IOException {
+                char[] text = parser.getTextCharacters();
+                int offset = parser.getTextOffset();
+                int length = parser.getTextLength();
+                for (char[] expected : texts) {
+                    if (equal(expected, text, offset, length)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public String toString() {
+                return field + " in " + Arrays.toString(values);
+            }
+        };
+    }
+
+    /**
+     * Match records whose field is missing or null.
+     *
+     * @param field field name
+     * @return the filter
+     */
+    public static RecordFilter isNull(final String field) {
+        return new Condition(field, true) {
+            @Override
+            boolean test(final JsonParser parser, final JsonToken token) {
+                return token == JsonToken.VALUE_NULL;
+            }
+
+            @Override
+            public String toString() {
+                return field + " is null";
+            }
+        };
+    }
+
+    /**
+     * Match records whose numeric field, such as a price sent as a string, is greater than the given value.
+     *
+     * @param field field name
+     * @param value value to compare to
+     * @return the filter
+     */
+    public static RecordFilter greaterThan(final String field, final double value) {
+        return new Condition(field, false) {
+            @Override
+            boolean test(final JsonParser parser, final JsonToken token) throws IOException {
+                double number = number(parser, token);
+                return number > value;
+            }
+
+            @Override
+            public String toString() {
+                return field + " > " + value;
+            }
+        };
+    }
+
+    /**
+     * Match records whose numeric field, such as a price sent as a string, is less than the given value.
+     *
+     * @param field field name
+     * @param value value to compare to
+     * @return the filter
+     */
+    public static RecordFilter lessThan(final String field, final double value) {
+        return new Condition(field, false) {
+            @Override
+            boolean test(final JsonParser parser, final JsonToken token) throws IOException {
+                double number = number(parser, token);
+                return number < value;
+            }
+
+            @Override
+            public String toString() {
+                return field + " < " + value;
+            }
+        };
+    }
+
+    /**
+     * Match records whose timestamp or date field is after the given time.
+     *
+     * @param field field name
+     * @param time time to compare to
+     * @return the filter
+     */
+    public static RecordFilter after(final String field, final DateTime time) {
+        final long millis = time.getMillis();
+        return new Condition(field, false) {
+            @Override
+            boolean test(final JsonParser parser, final JsonToken token) throws IOException {
+                long value = timestamp(parser, token);
+                return value != DateConverter.INVALID_MILLIS && value > millis;
+            }
+
+            @Override
+            public String toString() {
+                return field + " after " + time;
+            }
+        };
+    }
+
+    /**
+     * Match records whose timestamp or date field is before the given time.
+     *
+     * @param field field name
+     * @param time time to compare to
+     * @return the filter
+     */
+    public static RecordFilter before(final String field, final DateTime time) {
+        final long millis = time.getMillis();
+        return new Condition(field, false) {
+            @Override
+            boolean test(final JsonParser parser, final JsonToken token) throws IOException {
+                long value = timestamp(parser, token);
+                return value != DateConverter.INVALID_MILLIS && value < millis;
+            }
+
+            @Override
+            public String toString() {
+                return field + " before " + time;
+            }
+        };
+    }
+
+    /**
+     * Match records that match every one of the given filters.
+     *
+     * @param filters filters to combine
+     * @return the filter
+     */
+    public static RecordFilter and(final RecordFilter... filters) {
+        return new Combination(true, filters);
+    }
+
+    /**
+     * Match records that match any of the given filters.
+     *
+     * @param filters filters to combine
+     * @return the filter
+     */
+    public static RecordFilter or(final RecordFilter... filters) {
+        return new Combination(false, filters);
+    }
+
+    /**
+     * Match records that don't match the given filter.
+     *
+     * @param filter filter to negate
+     * @return the filter
+     */
+    public static RecordFilter not(final RecordFilter filter) {
+        return new RecordFilter() {
+            @Override
+            Node compile(final List<Condition> conditions) {
+                final Node node = filter.compile(conditions);
+                return new Node() {
+                    @Override
+                    public boolean matches(final boolean[] results) {
+                        return !node.matches(results);
+                    }
+                };
+            }
+
+            @Override
+            public String toString() {
+                return "not (" + filter + ")";
+            }
+        };
+    }
+
+    /**
+     * Add this filter's conditions to a list, whose indexes the returned node reads the results of.
+     *
+     * @param conditions conditions of the whole filter so far
+     * @return node testing this filter
+     */
+    abstract Node compile(List<Condition> conditions);
+
+    /**
+     * A compiled filter, tested once every condition of a record has a result.
+     */
+    interface Node {
+        boolean matches(boolean[] results);
+    }
+
+    /**
+     * A test of one field's value token.
+     */
+    abstract static class Condition extends RecordFilter {
+        private final String field;
+        private final boolean absent;
+
+        private Condition(final String field, final boolean absent) {
+            this.field = field;
+            this.absent = absent;
+        }
+
+        String getField() {
+            return field;
+        }
+
+        /**
+         * Get the result for a record without the field.
+         *
+         * @return true if missing fields match
+         */
+        boolean whenAbsent() {
+            return absent;
+        }
+
+        /**
+         * Test a field's value.
+         *
+         * @param parser parser positioned at the value, which must not be moved
+         * @param token the value's token, a scalar
+         * @return true if the value matches
+         * @throws IOException if the value can't be read
+         */
+        abstract boolean test(JsonParser parser, JsonToken token) throws IOException;
+
+        @Override
+        Node compile(final List<Condition> conditions) {
+            final int index = conditions.size();
+            conditions.add(this);
+            return new Node() {
+                @Override
+                public boolean matches(final boolean[] results) {
+                    return results[index];
+                }
+            };
+        }
+    }
+
+    private static final class Combination extends RecordFilter {
+        private final boolean all;
+        private final List<RecordFilter> filters;
+
+        private Combination(final boolean all, final RecordFilter... filters) {
+            this.all = all;
+            this.filters = Arrays.asList(filters.clone());
+        }
+
+        @Override
+        Node compile(final List<Condition> conditions) {
+            final List<Node> nodes = new ArrayList<>();
+            for (RecordFilter filter : filters) {
+                nodes.add(filter.compile(conditions));
+            }
+
+            return new Node() {
+                @Override
+                public boolean matches(final boolean[] results) {
+                    for (Node node : nodes) {
+                        if (node.matches(results) != all) {
+                            return !all;
+                        }
+                    }
+                    return all;
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("(");
+            for (RecordFilter filter : filters) {
+                if (builder.length() > 1) {
+                    builder.append(all ? " and " : " or ");
+                }
+                builder.append(filter);
+            }
+            return builder.append(')').toString();
+        }
+    }
+
+    private static boolean equal(final char[] expected, final char[] text, final int offset, final int length) {
+        if (expected.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (expected[i] != text[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double number(final JsonParser parser, final JsonToken token) throws IOException {
+        if (token.isNumeric()) {
+            return parser.getDoubleValue();
+        }
+        try {
+            return Double.parseDouble(parser.getText());
+        } catch (final NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static long timestamp(final JsonParser parser, final JsonToken token) throws IOException {
+        if (token != JsonToken.VALUE_STRING) {
+            return DateConverter.INVALID_MILLIS;
+        }
+        return ResourceFields.epochMillis(parser.getText(), false);
+    }
+}
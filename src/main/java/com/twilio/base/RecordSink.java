@@ -0,0 +1,102 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.http.TwilioRestClient;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Takes over reading the records of the pages a reader fetches.
+ *
+ * <p>
+ *     The generated readers decode every page through {@link Page#fromJson}. Operations that don't
+ *     want a list of resources fetch pages through {@link #firstPage} and {@link #nextPage}, which
+ *     make this sink read the records array of each page on the calling thread instead.
+ * </p>
+ */
+abstract class RecordSink {
+
+    private static final ThreadLocal<RecordSink> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Get the sink reading records on this thread.
+     *
+     * @return the sink, or null if records are decoded as usual
+     */
+    static RecordSink current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Read one element of a page's records array.
+     *
+     * @param parser parser positioned at the element, which must be left at its last token
+     * @param json content the parser is reading
+     * @param bytes the content as UTF-8, which the parser reads instead, or null unless {@link #needsBytes}
+     * @param type resource type
+     * @param mapper mapper the reader decodes with
+     * @param records records of the page, to add to if any
+     * @param <T> resource type
+     * @throws IOException if the record can't be parsed
+     */
+    abstract <T> void read(JsonParser parser, String json, byte[] bytes, Class<T> type, ObjectMapper mapper,
+                           List<T> records) throws IOException;
+
+    /**
+     * Check whether {@link #read} needs the page's bytes, which costs an encoded copy of every page.
+     *
+     * @return true to parse pages from bytes
+     */
+    boolean needsBytes() {
+        return false;
+    }
+
+    /**
+     * Fetch the first page of a reader with this sink reading its records, in pages of the largest size
+     * unless the reader has a page size.
+     *
+     * @param reader reader to fetch with
+     * @param client client to fetch with
+     * @param <T> resource type
+     * @return the page
+     */
+    <T extends Resource> Page<T> firstPage(final Reader<T> reader, final TwilioRestClient client) {
+        RecordSink previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return reader.firstLargestPage(client);
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Fetch the page after the given one with this sink reading its records.
+     *
+     * @param reader reader to fetch with
+     * @param page current page
+     * @param client client to fetch with
+     * @param <T> resource type
+     * @return the next page
+     */
+    <T extends Resource> Page<T> nextPage(final Reader<T> reader, final Page<T> page,
+                                          final TwilioRestClient client) {
+        RecordSink previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return reader.nextPage(page, client);
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore(final RecordSink previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.CaseFormat;
+import com.twilio.converter.DateConverter;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The JSON fields of a resource type, for operations that read records without building resources.
+ */
+final class ResourceFields {
+
+    private final Class<?> type;
+    private final Map<String, String> jsonNames = new HashMap<>();
+    private final Map<String, Class<?>> parameterTypes = new HashMap<>();
+
+    /**
+     * Find the fields of a resource type from the {@link JsonProperty} names of its {@link JsonCreator}.
+     *
+     * @param type resource type
+     */
+    ResourceFields(final Class<?> type) {
+        this.type = type;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (!constructor.isAnnotationPresent(JsonCreator.class)) {
+                continue;
+            }
+
+            Annotation[][] annotations = constructor.getParameterAnnotations();
+            for (int i = 0; i < annotations.length; i++) {
+                for (Annotation annotation : annotations[i]) {
+                    if (annotation instanceof JsonProperty) {
+                        String json = ((JsonProperty) annotation).value();
+                        jsonNames.put(json, json);
+                        jsonNames.put(CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, json), json);
+                        parameterTypes.put(json, constructor.getParameterTypes()[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolve a field by its JSON name (date_created) or getter name (dateCreated).
+     *
+     * @param name field name
+     * @return the JSON name
+     * @throws IllegalArgumentException if the type has no such field
+     */
+    String jsonName(final String name) {
+        String json = jsonNames.get(name);
+        if (json == null) {
+            throw new IllegalArgumentException(type.getSimpleName() + " has no field " + name);
+        }
+        return json;
+    }
+
+    /**
+     * Get the type a resource holds a field as, which may differ from what Jackson hands its constructor.
+     *
+     * @param json JSON name of the field
+     * @return the field type
+     */
+    Class<?> fieldType(final String json) {
+        try {
+            return type.getDeclaredField(CaseFormat.LOWER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, json)).getType();
+        } catch (final NoSuchFieldException e) {
+            return parameterTypes.get(json);
+        }
+    }
+
+    /**
+     * Parse a timestamp or date field as the resources would.
+     *
+     * @param text field value
+     * @param localDate true if the field is a date
+     * @return milliseconds since the epoch, with dates at UTC midnight, or INVALID_MILLIS if unparseable
+     */
+    static long epochMillis(final String text, final boolean localDate) {
+        if (!localDate) {
+            // The 2010-04-01 api sends RFC 2822 timestamps, the newer ones ISO 8601
+            long millis = DateConverter.rfc2822EpochMillisFromString(text);
+            if (millis == DateConverter.INVALID_MILLIS) {
+                millis = DateConverter.iso8601EpochMillisFromString(text);
+            }
+            if (millis != DateConverter.INVALID_MILLIS) {
+                return millis;
+            }
+        }
+
+        LocalDate date = DateConverter.localDateFromString(text);
+        return date == null ? DateConverter.INVALID_MILLIS : date.toDateTimeAtStartOfDay(DateTimeZone.UTC).getMillis();
+    }
+}
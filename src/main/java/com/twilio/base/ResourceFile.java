@@ -0,0 +1,197 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+import com.twilio.http.TwilioRestClient;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Resources of a listing kept in a memory-mapped file rather than on the heap, as a read-only list.
+ *
+ * <p>
+ *     The file holds each record as the json it was sent as, followed by an index of where each one
+ *     starts. {@link #get} finds a record through the index in constant time and decodes only that
+ *     record, lazily when the mapper is {@link ObjectMappers#lazy lazy}, so the heap holds just the
+ *     resources in use. Files outlive the JVM that wrote them and are reopened with {@link #open}.
+ * </p>
+ *
+ * <p>
+ *     The mapped region is released when the list is garbage collected; {@link #close} only closes
+ *     the file.
+ * </p>
+ *
+ * @param <E> type of the resource
+ */
+public class ResourceFile<E extends Resource> extends AbstractList<E> implements RandomAccess, Closeable {
+
+    static final int MAGIC = 0x54574c52;
+    static final int VERSION = 1;
+    static final int DEFAULT_SEGMENT_SHIFT = 30;
+
+    private static final int INDEX_ENTRY = 12;
+    private static final int INDEX_SHIFT = 26;
+
+    private final File path;
+    private final Class<E> type;
+    private final ObjectMapper mapper;
+    private final RandomAccessFile file;
+    private final int size;
+    private final int segmentShift;
+    private final MappedByteBuffer[] segments;
+    private final MappedByteBuffer[] index;
+
+    private ResourceFile(final File path, final Class<E> type, final ObjectMapper mapper) throws IOException {
+        this.path = path;
+        this.type = type;
+        this.mapper = mapper;
+        this.file = new RandomAccessFile(path, "r");
+
+        try {
+            if (file.readInt() != MAGIC || file.readInt() != VERSION) {
+                throw new IOException("not a resource file");
+            }
+            long count = file.readLong();
+            final long indexPosition = file.readLong();
+            this.segmentShift = file.readInt();
+            String name = file.readUTF();
+            if (count < 0) {
+                throw new IOException("the file was not finished");
+            }
+            if (count > Integer.MAX_VALUE) {
+                throw new IOException("the file holds " + count + " records, more than a list can");
+            }
+            if (!name.equals(type.getName())) {
+                throw new IOException("the file holds " + name);
+            }
+
+            this.size = (int) count;
+            FileChannel channel = file.getChannel();
+            this.segments = map(channel, 0, indexPosition, 1L << segmentShift);
+            this.index = map(channel, indexPosition, count * INDEX_ENTRY, (long) INDEX_ENTRY << INDEX_SHIFT);
+        } catch (final IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open a file written by {@link Reader#readToFile}.
+     *
+     * @param path file to open
+     * @param type resource type the file holds
+     * @param mapper mapper to decode records with
+     * @param <E> resource type
+     * @return the resources in the file
+     * @throws ApiException if the file can't be read, wasn't finished or holds another type
+     */
+    public static <E extends Resource> ResourceFile<E> open(final File path, final Class<E> type,
+                                                            final ObjectMapper mapper) {
+        try {
+            return new ResourceFile<>(path, type, mapper);
+        } catch (final IOException e) {
+            throw new ApiException("Unable to open resource file " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Write every record of a reader to a file and open it.
+     *
+     * @param reader reader to fetch pages with
+     * @param client client to fetch with
+     * @param path file to write
+     * @param segmentShift log2 of the size of the mapped segments
+     * @param <E> resource type
+     * @return the resources in the file
+     * @throws ApiException if the file can't be written
+     */
+    static <E extends Resource> ResourceFile<E> write(final Reader<E> reader, final TwilioRestClient client,
+                                                      final File path, final int segmentShift) {
+        Class<E> type = reader.resourceType();
+        long max = reader.getLimit() == null ? Long.MAX_VALUE : reader.getLimit();
+
+        ResourceFileSink sink;
+        try {
+            sink = new ResourceFileSink(path, type, segmentShift, max);
+        } catch (final IOException e) {
+            throw new ApiException("Unable to write resource file " + path, e);
+        }
+
+        try {
+            Page<E> page = sink.firstPage(reader, client);
+            while (!sink.isFull() && page.hasNextPage()) {
+                page = sink.nextPage(reader, page, client);
+            }
+            sink.finish();
+        } catch (final IOException e) {
+            sink.abort();
+            throw new ApiException("Unable to write resource file " + path + ": " + e.getMessage(), e);
+        } catch (final RuntimeException e) {
+            sink.abort();
+            throw e;
+        }
+
+        return open(path, type, client.getObjectMapper());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(final int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " of " + size);
+        }
+
+        ByteBuffer entry = index[i >>> INDEX_SHIFT];
+        int at = (i & ((1 << INDEX_SHIFT) - 1)) * INDEX_ENTRY;
+        long offset = entry.getLong(at);
+        int length = entry.getInt(at + 8);
+
+        // Duplicates keep their own position, so records can be read from several threads
+        ByteBuffer segment = segments[(int) (offset >>> segmentShift)].duplicate();
+        segment.position((int) (offset & ((1L << segmentShift) - 1)));
+        byte[] json = new byte[length];
+        segment.get(json);
+
+        try {
+            if (ObjectMappers.isLazy(mapper) && RawRecord.supports(type)) {
+                try (JsonParser parser = mapper.getFactory().createParser(json)) {
+                    parser.nextToken();
+                    return RawRecord.read(parser, json, type, mapper);
+                }
+            }
+            return mapper.readValue(json, type);
+        } catch (final IOException e) {
+            throw new ApiConnectionException("Unable to read record " + i + " of " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    private static MappedByteBuffer[] map(final FileChannel channel, final long start, final long length,
+                                          final long segment) throws IOException {
+        MappedByteBuffer[] buffers = new MappedByteBuffer[(int) ((length + segment - 1) / segment)];
+        for (int s = 0; s < buffers.length; s++) {
+            long from = start + s * segment;
+            buffers[s] = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(segment, start + length - from));
+        }
+        return buffers;
+    }
+}
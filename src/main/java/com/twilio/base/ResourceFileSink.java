@@ -0,0 +1,164 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes the records of each page, as the json bytes they were sent as, to a {@link ResourceFile}.
+ *
+ * <p>
+ *     Records are appended as they're parsed, so nothing is decoded and only the offsets of the
+ *     records stay on the heap until the index is written at the end. The file is written next to
+ *     its path and renamed over it once finished, so a failed read never replaces an earlier file.
+ * </p>
+ */
+class ResourceFileSink extends RecordSink {
+
+    private final File path;
+    private final File temporary;
+    private final int segmentShift;
+    private final long max;
+    private final DataOutputStream out;
+
+    private long position;
+    private long count;
+    private long[] offsets = new long[1024];
+    private int[] lengths = new int[1024];
+
+    /**
+     * Start writing a file.
+     *
+     * @param path file to write
+     * @param type resource type
+     * @param segmentShift log2 of the size of the mapped segments, which no record may straddle
+     * @param max number of records to stop at
+     * @throws IOException if the file can't be written
+     */
+    ResourceFileSink(final File path, final Class<?> type, final int segmentShift, final long max) throws IOException {
+        this.path = path;
+        this.temporary = new File(path.getPath() + ".tmp");
+        this.segmentShift = segmentShift;
+        this.max = max;
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary), 1 << 16));
+
+        // The count stays unknown until the file is finished, so a file cut short is never opened
+        out.writeInt(ResourceFile.MAGIC);
+        out.writeInt(ResourceFile.VERSION);
+        out.writeLong(-1L);
+        out.writeLong(0L);
+        out.writeInt(segmentShift);
+        out.writeUTF(type.getName());
+        position = out.size();
+    }
+
+    @Override
+    boolean needsBytes() {
+        return true;
+    }
+
+    @Override
+    <T> void read(final JsonParser parser, final String json, final byte[] bytes, final Class<T> type,
+                  final ObjectMapper mapper, final List<T> records) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT || count >= max) {
+            parser.skipChildren();
+            return;
+        }
+
+        int start = RawRecord.tokenOffset(parser);
+        parser.skipChildren();
+        int length = (int) parser.getCurrentLocation().getByteOffset() - start;
+        append(bytes, start, length);
+    }
+
+    /**
+     * Check whether the file has as many records as it may hold.
+     *
+     * @return true once the max number of records was written
+     */
+    boolean isFull() {
+        return count >= max;
+    }
+
+    /**
+     * Write the index and the header, making the file readable.
+     *
+     * @throws IOException if the file can't be written
+     */
+    void finish() throws IOException {
+        long index = position;
+        for (int i = 0; i < count; i++) {
+            out.writeLong(offsets[i]);
+            out.writeInt(lengths[i]);
+        }
+        out.close();
+
+        try (RandomAccessFile file = new RandomAccessFile(temporary, "rw")) {
+            file.seek(8);
+            file.writeLong(count);
+            file.writeLong(index);
+            file.getFD().sync();
+        }
+        Files.move(temporary.toPath(), path.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                   StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Stop writing and remove what was written, leaving the path as it was.
+     */
+    void abort() {
+        try {
+            out.close();
+        } catch (final IOException e) {
+            // The file is removed either way
+        }
+        try {
+            Files.deleteIfExists(temporary.toPath());
+        } catch (final IOException e) {
+            // An unfinished file is never opened, so one left behind is only wasted space
+        }
+    }
+
+    private void append(final byte[] bytes, final int start, final int length) throws IOException {
+        long segment = 1L << segmentShift;
+        if (length > segment) {
+            throw new IOException("Record of " + length + " bytes doesn't fit a segment of " + segment);
+        }
+
+        // Pad to the next segment rather than let a record straddle two mappings
+        if ((position >>> segmentShift) != ((position + length - 1) >>> segmentShift)) {
+            long padding = segment - (position & (segment - 1));
+            for (long i = 0; i < padding; i++) {
+                out.write(0);
+            }
+            position += padding;
+        }
+
+        // The file is read as a list, which can't hold more records than an int counts
+        if (count == Integer.MAX_VALUE) {
+            throw new IOException("A resource file holds at most " + Integer.MAX_VALUE + " records");
+        }
+        if (count == offsets.length) {
+            int grown = (int) Math.min(Integer.MAX_VALUE, offsets.length * 2L);
+            offsets = Arrays.copyOf(offsets, grown);
+            lengths = Arrays.copyOf(lengths, grown);
+        }
+        offsets[(int) count] = position;
+        lengths[(int) count] = length;
+        count++;
+
+        out.write(bytes, start, length);
+        position += length;
+    }
+}
@@ -4,6 +4,7 @@ import com.twilio.http.TwilioRestClient;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A collection of resources.
@@ -21,6 +22,9 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
     private long processed = 0;
     private Page<E> page;
     private Iterator<E> iterator;
+    private int nextPageSize;
+    private String pageLink;
+    private int taken;
 
     /**
      * Initialize the resource set.
@@ -36,11 +40,33 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         this.iterator = page.getRecords().iterator();
         this.autoPaging = true;
 
-        if (reader.getLimit() != null) {
+        // A filtered page holds fewer records than its size, and tuned pages change size, so any page
+        // may be needed to reach the limit
+        boolean pagesVary = reader instanceof FilteredReader || reader.getAdaptivePageSize() != null;
+        if (reader.getLimit() != null && !pagesVary) {
             this.pageLimit = (long)(Math.ceil((double)reader.getLimit() / (double)page.getPageSize()));
         }
     }
 
+    /**
+     * Continue a set from a cursor one of it returned.
+     *
+     * @param reader reader used to fetch next page
+     * @param client client used to make requests
+     * @param page page the cursor points into
+     * @param cursor cursor to continue after
+     */
+    ResourceSet(final Reader<E> reader, final TwilioRestClient client, final Page<E> page, final Cursor cursor) {
+        this(reader, client, page);
+        this.pageLink = cursor.getLink();
+        this.processed = cursor.getProcessed();
+
+        while (taken < cursor.getOffset() && iterator.hasNext()) {
+            iterator.next();
+            taken++;
+        }
+    }
+
     public boolean isAutoPaging() {
         return autoPaging;
     }
@@ -72,19 +98,53 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
         return pageLimit;
     }
 
+    /**
+     * Get the position after the last record returned, to resume the set from with
+     * {@link Reader#resume(TwilioRestClient, Cursor)}.
+     *
+     * @return cursor after the last record returned
+     */
+    public Cursor getCursor() {
+        // Until the set pages, records come from the page it was created with
+        return new Cursor(pageLink != null ? pageLink : page.getLink(), taken, processed);
+    }
+
     @Override
     public Iterator<E> iterator() {
         return new ResourceSetIterator<>(this);
     }
 
-    private void fetchNextPage() {
+    private boolean fetchNextPage() {
         if (!page.hasNextPage() || pages >= pageLimit) {
-            return;
+            return false;
         }
 
         pages++;
-        page = reader.nextPage(page, client);
+        Page<E> previous = page;
+        AdaptivePageSize adaptivePageSize = reader.getAdaptivePageSize();
+        if (adaptivePageSize != null) {
+            // The first page came in with the set, so only its size is known rather than its time
+            if (nextPageSize == 0) {
+                nextPageSize = adaptivePageSize.nextPageSize(page.getPageSize(), -1, page.getContentLength());
+            }
+
+            Page<E> resized = page.resize(nextPageSize);
+            if (resized != null) {
+                previous = resized;
+            }
+        }
+
+        long start = System.nanoTime();
+        page = reader.nextPage(previous, client);
+        if (adaptivePageSize != null) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            nextPageSize = adaptivePageSize.nextPageSize(page.getPageSize(), millis, page.getContentLength());
+        }
+
+        pageLink = previous.nextPageLink();
+        taken = 0;
         iterator = page.getRecords().iterator();
+        return true;
     }
 
     private class ResourceSetIterator<E extends Resource> implements Iterator<E> {
@@ -100,6 +160,13 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
                 return false;
             }
 
+            // Pages may come back empty, as filtered ones often do, without being the last
+            while (!resourceSet.iterator.hasNext() && resourceSet.isAutoPaging()) {
+                if (!resourceSet.fetchNextPage()) {
+                    break;
+                }
+            }
+
             return resourceSet.iterator.hasNext();
         }
 
@@ -109,7 +176,8 @@ public class ResourceSet<E extends Resource> implements Iterable<E> {
                 throw new NoSuchElementException();
             }
 
-            E element = resourceSet.iterator.next();
+            final E element = resourceSet.iterator.next();
+            resourceSet.taken++;
             if (resourceSet.isAutoPaging() && !resourceSet.iterator.hasNext()) {
                 resourceSet.fetchNextPage();
             }
@@ -0,0 +1,149 @@
+package com.twilio.base;
+
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+import com.twilio.exception.RestException;
+import com.twilio.http.Response;
+import com.twilio.http.ResponseCapture;
+import com.twilio.http.TwilioRestClient;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Outcome of a request, either its value or the error the API answered with.
+ *
+ * <p>
+ *     Requests made through {@code createResult}, {@code fetchResult}, {@code updateResult} and
+ *     {@code deleteResult} answer errors with a failed result instead of an {@link ApiException}, so
+ *     bulk jobs where some requests are expected to fail, such as messages to invalid numbers, don't
+ *     pay for an exception and its stack trace on each one. Connection failures are failed results
+ *     too, with a status of 0.
+ * </p>
+ *
+ * @param <T> type of the value
+ */
+public final class Result<T> {
+
+    private static final String NO_CONTENT = "Server Error, no content";
+    private static final String NO_RESPONSE = "Unable to connect to server";
+
+    private final boolean success;
+    private final T value;
+    private final int status;
+    private final Integer code;
+    private final String message;
+    private final String moreInfo;
+
+    private Result(final boolean success, final T value, final int status, final Integer code,
+                   final String message, final String moreInfo) {
+        this.success = success;
+        this.value = value;
+        this.status = status;
+        this.code = code;
+        this.message = message;
+        this.moreInfo = moreInfo;
+    }
+
+    /**
+     * Run a request, capturing an error response as a failed result.
+     *
+     * @param client client the request is made with
+     * @param request request to run
+     * @param <T> type of the value
+     * @return the result
+     */
+    static <T> Result<T> of(final TwilioRestClient client, final Callable<T> request) {
+        ResponseCapture capture = new ResponseCapture();
+        try {
+            T value = capture.call(request);
+            Response response = capture.getResponse();
+            return new Result<>(true, value, response == null ? 0 : response.getStatusCode(), null, null, null);
+        } catch (final ResponseCapture.Failure e) {
+            return failure(client, capture.getResponse());
+        } catch (final ApiConnectionException e) {
+            return new Result<>(false, null, 0, null, e.getMessage(), null);
+        }
+    }
+
+    private static <T> Result<T> failure(final TwilioRestClient client, final Response response) {
+        if (response == null) {
+            return new Result<>(false, null, 0, null, NO_RESPONSE, null);
+        }
+
+        RestException error;
+        try {
+            error = RestException.fromJson(response.getStream(), client.getObjectMapper());
+        } catch (final ApiException | ApiConnectionException e) {
+            return new Result<>(false, null, response.getStatusCode(), null, e.getMessage(), null);
+        }
+        if (error == null) {
+            return new Result<>(false, null, response.getStatusCode(), null, NO_CONTENT, null);
+        }
+        return new Result<>(false, null, response.getStatusCode(), error.getCode(), error.getMessage(),
+            error.getMoreInfo());
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * Get the value of a successful request.
+     *
+     * @return the value, null if the request failed
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Get the value of a successful request, or throw the exception the request would have.
+     *
+     * @return the value
+     * @throws ApiConnectionException if there was no response
+     * @throws ApiException if the request failed
+     */
+    public T getOrThrow() {
+        if (success) {
+            return value;
+        }
+        if (status == 0) {
+            throw new ApiConnectionException(message);
+        }
+        throw new ApiException(message, code, moreInfo, status, null);
+    }
+
+    /**
+     * Get the HTTP status of the response.
+     *
+     * @return the status, 0 if there was no response
+     */
+    public int getStatusCode() {
+        return status;
+    }
+
+    /**
+     * Get the Twilio error code of a failed request.
+     *
+     * @return the error code, null if the request succeeded or the response had none
+     */
+    public Integer getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getMoreInfo() {
+        return moreInfo;
+    }
+
+    @Override
+    public String toString() {
+        if (success) {
+            return "Result{status=" + status + ", value=" + value + "}";
+        }
+        return "Result{status=" + status + ", code=" + code + ", message=" + message + "}";
+    }
+}
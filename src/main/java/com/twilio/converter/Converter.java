@@ -8,7 +8,7 @@ import java.util.Map;
 
 public class Converter {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectMapper MAPPER = ObjectMappers.shared();
 
     /**
      * Convert a map to a JSON String.
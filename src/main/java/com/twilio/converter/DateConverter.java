@@ -1,14 +1,21 @@
 package com.twilio.converter;
 
-import java.util.Locale;
+import com.google.common.base.CharMatcher;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDate;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
+import java.util.Locale;
+
 public class DateConverter {
 
+    /**
+     * Returned by the epoch millis parsers for timestamps they can't parse.
+     */
+    public static final long INVALID_MILLIS = Long.MIN_VALUE;
+
     private static final String DATE_PATTERN = "yyyy-MM-dd";
     private static final String RFC2822_DATE_TIME = "EEE, dd MMM yyyy HH:mm:ss Z";
     private static final String ISO8601_DATE_TIME = "yyyy-MM-dd'T'HH:mm:ssZ";
@@ -22,6 +29,30 @@ public class DateConverter {
     private static final DateTimeFormatter ISO8601_DATE_TIME_FORMATTER =
         DateTimeFormat.forPattern(ISO8601_DATE_TIME).withZone(DateTimeZone.UTC);
 
+    private static final DateTimeCache RFC2822_CACHE = new DateTimeCache() {
+        @Override
+        protected long parseCanonical(final String dateTimeString) {
+            return TimestampParser.rfc2822(dateTimeString);
+        }
+
+        @Override
+        protected DateTime parseOther(final String dateTimeString) {
+            return parse(dateTimeString, RFC2822_DATE_TIME_FORMATTER);
+        }
+    };
+
+    private static final DateTimeCache ISO8601_CACHE = new DateTimeCache() {
+        @Override
+        protected long parseCanonical(final String dateTimeString) {
+            return TimestampParser.iso8601(dateTimeString);
+        }
+
+        @Override
+        protected DateTime parseOther(final String dateTimeString) {
+            return parse(dateTimeString, ISO8601_DATE_TIME_FORMATTER);
+        }
+    };
+
     /**
      * Parse a @see org.joda.time.DateTime from a String.
      *
@@ -29,11 +60,23 @@ public class DateConverter {
      * @return parsed @see org.joda.time.DateTime if parseable, null otherwise
      */
     public static DateTime rfc2822DateTimeFromString(String dateTimeString) {
-        try {
-            return DateTime.parse(dateTimeString, RFC2822_DATE_TIME_FORMATTER);
-        } catch (Exception e) {
-            return null;
+        return RFC2822_CACHE.get(dateTimeString);
+    }
+
+    /**
+     * Parse an RFC 2822 timestamp into milliseconds since the epoch, without creating a DateTime.
+     *
+     * @param dateTimeString timestamp to parse
+     * @return milliseconds since the epoch if parseable, {@link #INVALID_MILLIS} otherwise
+     */
+    public static long rfc2822EpochMillisFromString(String dateTimeString) {
+        long millis = TimestampParser.rfc2822(dateTimeString);
+        if (millis != TimestampParser.UNRECOGNISED) {
+            return millis;
         }
+
+        DateTime dateTime = parse(dateTimeString, RFC2822_DATE_TIME_FORMATTER);
+        return dateTime == null ? INVALID_MILLIS : dateTime.getMillis();
     }
 
     /**
@@ -43,11 +86,23 @@ public class DateConverter {
      * @return parsed @see org.joda.time.DateTime if parseable, null otherwise
      */
     public static DateTime iso8601DateTimeFromString(String dateTimeString) {
-        try {
-            return DateTime.parse(dateTimeString, ISO8601_DATE_TIME_FORMATTER);
-        } catch (Exception e) {
-            return null;
+        return ISO8601_CACHE.get(dateTimeString);
+    }
+
+    /**
+     * Parse an ISO 8601 timestamp into milliseconds since the epoch, without creating a DateTime.
+     *
+     * @param dateTimeString timestamp to parse
+     * @return milliseconds since the epoch if parseable, {@link #INVALID_MILLIS} otherwise
+     */
+    public static long iso8601EpochMillisFromString(String dateTimeString) {
+        long millis = TimestampParser.iso8601(dateTimeString);
+        if (millis != TimestampParser.UNRECOGNISED) {
+            return millis;
         }
+
+        DateTime dateTime = parse(dateTimeString, ISO8601_DATE_TIME_FORMATTER);
+        return dateTime == null ? INVALID_MILLIS : dateTime.getMillis();
     }
 
     /**
@@ -77,4 +132,68 @@ public class DateConverter {
            return null;
        }
     }
+
+    /**
+     * Parse with a Joda formatter, the slow path for timestamps not in Twilio's canonical form.
+     */
+    private static DateTime parse(final String dateTimeString, final DateTimeFormatter formatter) {
+        // Every format has numeric fields; don't pay for an exception on strings without a digit
+        if (dateTimeString == null || !CharMatcher.DIGIT.matchesAnyOf(dateTimeString)) {
+            return null;
+        }
+
+        try {
+            return DateTime.parse(dateTimeString, formatter);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Direct mapped cache of parsed timestamps, since the same ones repeat within a page.
+     *
+     * <p>
+     *     Entries are immutable and DateTimes are too, so threads may race on a slot: at worst a
+     *     timestamp is parsed again.
+     * </p>
+     */
+    private abstract static class DateTimeCache {
+        private static final int SIZE = 256;
+
+        private final Entry[] entries = new Entry[SIZE];
+
+        private DateTime get(final String dateTimeString) {
+            if (dateTimeString == null) {
+                return null;
+            }
+
+            int hash = dateTimeString.hashCode();
+            int slot = (hash ^ (hash >>> 16)) & (SIZE - 1);
+            Entry entry = entries[slot];
+            if (entry != null && entry.key.equals(dateTimeString)) {
+                return entry.value;
+            }
+
+            long millis = parseCanonical(dateTimeString);
+            DateTime value = millis != TimestampParser.UNRECOGNISED ?
+                new DateTime(millis, DateTimeZone.UTC) :
+                parseOther(dateTimeString);
+            entries[slot] = new Entry(dateTimeString, value);
+            return value;
+        }
+
+        protected abstract long parseCanonical(final String dateTimeString);
+
+        protected abstract DateTime parseOther(final String dateTimeString);
+    }
+
+    private static class Entry {
+        private final String key;
+        private final DateTime value;
+
+        private Entry(final String key, final DateTime value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package com.twilio.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Holds the ObjectMapper shared by the SDK.
+ *
+ * <p>
+ *     Building a mapper and warming its deserializer caches costs far more than any single read, so
+ *     the SDK reuses one mapper wherever it used to create its own, clients built without a mapper
+ *     included. Reconfiguring it would change every one of them, so it must not be mutated; a client
+ *     that needs different settings is given a mapper of its own.
+ * </p>
+ */
+public class ObjectMappers {
+
+    /**
+     * Attribute set on the deserialization config of mappers in lazy mode.
+     */
+    public static final String LAZY_RESOURCES = "com.twilio.lazyResources";
+
+    /**
+     * Attribute set on the deserialization config of mappers in SID interning mode.
+     */
+    public static final String INTERNED_SIDS = "com.twilio.internedSids";
+
+    private static final ObjectMapper SHARED = new ObjectMapper();
+    private static final ObjectMapper LAZY = lazy(new ObjectMapper());
+
+    private ObjectMappers() {}
+
+    /**
+     * Get the mapper shared by the SDK. Don't reconfigure it; create a private mapper instead.
+     *
+     * @return the shared mapper
+     */
+    public static ObjectMapper shared() {
+        return SHARED;
+    }
+
+    /**
+     * Get a shared mapper in lazy mode. Pages read with it hold resources that support lazy mode as
+     * the raw JSON of each record, decoding a field when its getter is first called.
+     *
+     * <p>
+     *     Only {@link com.twilio.rest.api.v2010.account.Call} and
+     *     {@link com.twilio.rest.api.v2010.account.Message} support lazy mode. Every other resource is
+     *     decoded in full as it's read, the same as with any other mapper.
+     * </p>
+     *
+     * @return the shared lazy mapper
+     */
+    public static ObjectMapper lazy() {
+        return LAZY;
+    }
+
+    /**
+     * Put a mapper in lazy mode. As with {@link #lazy()}, only Call and Message records are kept raw.
+     *
+     * @param mapper mapper to configure
+     * @return the same mapper
+     */
+    public static ObjectMapper lazy(final ObjectMapper mapper) {
+        return mapper.setConfig(mapper.getDeserializationConfig().withAttribute(LAZY_RESOURCES, Boolean.TRUE));
+    }
+
+    /**
+     * Check whether a mapper is in lazy mode.
+     *
+     * @param mapper mapper to check
+     * @return true if pages read with it should hold raw records
+     */
+    public static boolean isLazy(final ObjectMapper mapper) {
+        return Boolean.TRUE.equals(mapper.getDeserializationConfig().getAttributes().getAttribute(LAZY_RESOURCES));
+    }
+
+    /**
+     * Put a mapper in SID interning mode, before it reads anything. Records of a page read with it
+     * share one string for each SID they repeat, such as their account SID, rather than a copy each.
+     * Resources in lazy mode keep their records raw and aren't affected.
+     *
+     * @param mapper mapper to configure
+     * @return the same mapper
+     */
+    public static ObjectMapper internSids(final ObjectMapper mapper) {
+        mapper.registerModule(new SimpleModule("SidInterner").addDeserializer(String.class, new SidInterner()));
+        return mapper.setConfig(mapper.getDeserializationConfig().withAttribute(INTERNED_SIDS, Boolean.TRUE));
+    }
+
+    /**
+     * Check whether a mapper is in SID interning mode.
+     *
+     * @param mapper mapper to check
+     * @return true if pages read with it should share repeated SIDs
+     */
+    public static boolean isInterningSids(final ObjectMapper mapper) {
+        return Boolean.TRUE.equals(mapper.getDeserializationConfig().getAttributes().getAttribute(INTERNED_SIDS));
+    }
+}
@@ -3,10 +3,20 @@ package com.twilio.converter;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 public class Promoter {
 
+    private static final ClassValue<EnumLookup> ENUM_LOOKUPS = new ClassValue<EnumLookup>() {
+        @Override
+        protected EnumLookup computeValue(final Class<?> type) {
+            return new EnumLookup(type.getEnumConstants());
+        }
+    };
+
     /**
      * Create a @see java.net.URI from a string
      *
@@ -42,19 +52,84 @@ public class Promoter {
      * @param <T> enum type
      * @return converted enum if able to convert; null otherwise
      */
+    @SuppressWarnings("unchecked")
     public static <T extends Enum<?>> T enumFromString(final String value, final T[] values) {
+        if (value == null || values.length == 0) {
+            return null;
+        }
+
+        return (T) ENUM_LOOKUPS.get(values[0].getDeclaringClass()).get(value);
+    }
+
+    /**
+     * Convert a string to a enum type, matching the string values of the constants regardless of case.
+     *
+     * @param value string value
+     * @param type enum type
+     * @param <T> enum type
+     * @return converted enum if able to convert; null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Enum<?>> T enumFromString(final String value, final Class<T> type) {
         if (value == null) {
             return null;
         }
 
-        for (T v : values) {
-            if (v.toString().equalsIgnoreCase(value)) {
-                return v;
-            }
+        return (T) ENUM_LOOKUPS.get(type).get(value);
+    }
+
+    /**
+     * Convert each string of a list to an enum type, as {@link #enumFromString(String, Class)} does.
+     *
+     * @param values string values
+     * @param type enum type
+     * @param <T> enum type
+     * @return the converted list, holding null for each value no constant matches; null if values is null
+     */
+    public static <T extends Enum<?>> List<T> enumsFromStrings(final List<String> values, final Class<T> type) {
+        if (values == null) {
+            return null;
         }
 
-        return null;
+        List<T> enums = new ArrayList<>(values.size());
+        for (String value : values) {
+            enums.add(enumFromString(value, type));
+        }
+        return enums;
     }
 
+    /**
+     * Check whether every value of a list converted by {@link #enumsFromStrings} matched a constant.
+     *
+     * @param enums converted list
+     * @return true if the list is present and holds no null
+     */
+    public static boolean isPromoted(final List<?> enums) {
+        return enums != null && !enums.contains(null);
+    }
 
+    /**
+     * String values of the constants of an enum, as sent by the API and lower cased.
+     */
+    private static class EnumLookup {
+        private final Map<String, Object> exact = new HashMap<>();
+        private final Map<String, Object> lowerCase = new HashMap<>();
+
+        private EnumLookup(final Object[] constants) {
+            // Iterate backwards so the first of several constants with the same value wins, as with a scan
+            for (int i = constants.length - 1; i >= 0; i--) {
+                String value = constants[i].toString();
+                exact.put(value, constants[i]);
+                lowerCase.put(value.toLowerCase(Locale.ROOT), constants[i]);
+            }
+        }
+
+        private Object get(final String value) {
+            Object constant = exact.get(value);
+            if (constant == null) {
+                constant = lowerCase.get(value.toLowerCase(Locale.ROOT));
+            }
+            return constant;
+        }
+    }
 }
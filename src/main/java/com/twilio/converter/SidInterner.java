@@ -0,0 +1,104 @@
+package com.twilio.converter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Reads strings, sharing one instance between the equal SIDs read while a page is parsed.
+ *
+ * <p>
+ *     The records of a page mostly repeat the same few SIDs, the account SID of every record above
+ *     all, and decoding each one gives every record its own copy. While a page is parsed with a mapper
+ *     in {@link ObjectMappers#internSids SID interning} mode, fields named like "account_sid" are
+ *     looked up by their characters in a small table and the string read before is reused, without
+ *     allocating another. A record's own "sid" is left alone, being unique. The table lasts for one
+ *     page, so nothing is held after it.
+ * </p>
+ */
+public final class SidInterner extends StdScalarDeserializer<String> {
+
+    private static final long serialVersionUID = 2489510183340146538L;
+
+    private static final int SLOTS = 64;
+    private static final ThreadLocal<String[]> TABLE = new ThreadLocal<>();
+
+    SidInterner() {
+        super(String.class);
+    }
+
+    /**
+     * Start interning the SIDs read on this thread, until the returned scope is closed.
+     *
+     * @return scope of the page
+     */
+    public static Scope page() {
+        Scope scope = new Scope(TABLE.get());
+        TABLE.set(new String[SLOTS]);
+        return scope;
+    }
+
+    @Override
+    public String deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        String[] table = TABLE.get();
+        if (table == null || parser.getCurrentToken() != JsonToken.VALUE_STRING || !isSid(parser.getCurrentName())) {
+            return StringDeserializer.instance.deserialize(parser, context);
+        }
+
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & (SLOTS - 1);
+        String interned = table[slot];
+        if (interned == null || !matches(interned, chars, offset, length)) {
+            interned = new String(chars, offset, length);
+            table[slot] = interned;
+        }
+        return interned;
+    }
+
+    private static boolean isSid(final String name) {
+        return name != null && name.endsWith("_sid");
+    }
+
+    private static boolean matches(final String value, final char[] chars, final int offset, final int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Interning for the page being parsed, ended by closing it.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final String[] previous;
+
+        private Scope(final String[] previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                TABLE.remove();
+            } else {
+                TABLE.set(previous);
+            }
+        }
+    }
+}
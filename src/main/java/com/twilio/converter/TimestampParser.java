@@ -0,0 +1,188 @@
+package com.twilio.converter;
+
+/**
+ * Parses the exact timestamp formats Twilio sends, without allocating.
+ *
+ * <p>
+ *     Only the canonical forms are recognised: {@code Tue, 29 Mar 2016 13:00:05 +0000} and
+ *     {@code 2016-01-15T21:49:24Z}, the latter also with a {@code +hh:mm} or {@code +hhmm} offset.
+ *     Anything else, including a day name that doesn't match the date, is reported as unrecognised
+ *     so {@link DateConverter} can hand it to the Joda formatters and keep their behaviour.
+ * </p>
+ */
+final class TimestampParser {
+
+    /**
+     * Returned when a string isn't in the canonical form.
+     */
+    static final long UNRECOGNISED = Long.MIN_VALUE;
+
+    private static final String MONTHS = "janfebmaraprmayjunjulaugsepoctnovdec";
+    private static final String DAYS = "montuewedthufrisatsun";
+
+    private static final int RFC2822_LENGTH = 31;
+    private static final int ISO8601_LENGTH = 20;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    private TimestampParser() {}
+
+    /**
+     * Parse a timestamp like {@code Tue, 29 Mar 2016 13:00:05 +0000}.
+     *
+     * @param s string to parse
+     * @return milliseconds since the epoch, or {@link #UNRECOGNISED}
+     */
+    static long rfc2822(final String s) {
+        if (s == null || s.length() != RFC2822_LENGTH ||
+            s.charAt(3) != ',' || s.charAt(4) != ' ' || s.charAt(7) != ' ' || s.charAt(11) != ' ' ||
+            s.charAt(16) != ' ' || s.charAt(19) != ':' || s.charAt(22) != ':' || s.charAt(25) != ' ') {
+            return UNRECOGNISED;
+        }
+
+        int day = digits(s, 5, 2);
+        int month = name(s, 8, MONTHS) + 1;
+        int year = digits(s, 12, 4);
+        int hour = digits(s, 17, 2);
+        int minute = digits(s, 20, 2);
+        int second = digits(s, 23, 2);
+        int offset = offset(s, 26, false);
+        if (!valid(year, month, day, hour, minute, second) || offset == Integer.MIN_VALUE) {
+            return UNRECOGNISED;
+        }
+
+        long days = epochDay(year, month, day);
+        // 1970-01-01 was a Thursday, index 3 of DAYS
+        if (name(s, 0, DAYS) != (int) (((days + 3) % 7 + 7) % 7)) {
+            return UNRECOGNISED;
+        }
+
+        return millis(days, hour, minute, second, offset);
+    }
+
+    /**
+     * Parse a timestamp like {@code 2016-01-15T21:49:24Z}.
+     *
+     * @param s string to parse
+     * @return milliseconds since the epoch, or {@link #UNRECOGNISED}
+     */
+    static long iso8601(final String s) {
+        if (s == null || s.length() < ISO8601_LENGTH ||
+            s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T' ||
+            s.charAt(13) != ':' || s.charAt(16) != ':') {
+            return UNRECOGNISED;
+        }
+
+        int offset;
+        if (s.length() == ISO8601_LENGTH && s.charAt(19) == 'Z') {
+            offset = 0;
+        } else if (s.length() == ISO8601_LENGTH + 4) {
+            offset = offset(s, 19, false);
+        } else if (s.length() == ISO8601_LENGTH + 5) {
+            offset = offset(s, 19, true);
+        } else {
+            return UNRECOGNISED;
+        }
+
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 2);
+        int day = digits(s, 8, 2);
+        int hour = digits(s, 11, 2);
+        int minute = digits(s, 14, 2);
+        int second = digits(s, 17, 2);
+        if (!valid(year, month, day, hour, minute, second) || offset == Integer.MIN_VALUE) {
+            return UNRECOGNISED;
+        }
+
+        return millis(epochDay(year, month, day), hour, minute, second, offset);
+    }
+
+    private static long millis(final long days, final int hour, final int minute, final int second,
+                               final int offsetMinutes) {
+        long seconds = hour * 3600L + minute * 60L + second - offsetMinutes * 60L;
+        return days * MILLIS_PER_DAY + seconds * MILLIS_PER_SECOND;
+    }
+
+    private static boolean valid(final int year, final int month, final int day,
+                                 final int hour, final int minute, final int second) {
+        return year >= 1 && month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month) &&
+            hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+    }
+
+    private static int daysInMonth(final int year, final int month) {
+        if (month == 2) {
+            boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+            return leap ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * Days since 1970-01-01 of a date in the proleptic Gregorian calendar.
+     */
+    private static long epochDay(final int year, final int month, final int day) {
+        // Years start in March, so that leap days end them
+        int marchYear = month <= 2 ? year - 1 : year;
+        int era = marchYear / 400;
+        int yearOfEra = marchYear - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468L;
+    }
+
+    /**
+     * Parse a zone offset like +0000, or +00:00 if colon is set.
+     *
+     * @return offset in minutes, or Integer.MIN_VALUE
+     */
+    private static int offset(final String s, final int from, final boolean colon) {
+        char sign = s.charAt(from);
+        if (sign != '+' && sign != '-' || (colon && s.charAt(from + 3) != ':')) {
+            return Integer.MIN_VALUE;
+        }
+
+        int hours = digits(s, from + 1, 2);
+        int minutes = digits(s, colon ? from + 4 : from + 3, 2);
+        if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+            return Integer.MIN_VALUE;
+        }
+
+        int offset = hours * 60 + minutes;
+        return sign == '-' ? -offset : offset;
+    }
+
+    /**
+     * Parse a fixed number of ASCII digits.
+     *
+     * @return the value, or -1 if any of the characters isn't a digit
+     */
+    private static int digits(final String s, final int from, final int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Find a three letter name, ignoring case, in a string of concatenated lower case names.
+     *
+     * @return index of the name, or -1
+     */
+    private static int name(final String s, final int from, final String names) {
+        char first = Character.toLowerCase(s.charAt(from));
+        char second = Character.toLowerCase(s.charAt(from + 1));
+        char third = Character.toLowerCase(s.charAt(from + 2));
+        for (int i = 0; i < names.length(); i += 3) {
+            if (names.charAt(i) == first && names.charAt(i + 1) == second && names.charAt(i + 2) == third) {
+                return i / 3;
+            }
+        }
+        return -1;
+    }
+}
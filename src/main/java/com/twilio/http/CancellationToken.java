@@ -0,0 +1,109 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cancellation signal shared between an async future and the thread executing its requests.
+ *
+ * <p>
+ *     The token is bound to the worker thread for the duration of the call, so HttpClients can
+ *     register an abort action for the exchange currently in flight.
+ * </p>
+ */
+public class CancellationToken {
+
+    private static final ThreadLocal<CancellationToken> CURRENT = new ThreadLocal<>();
+
+    private static final Runnable NOOP = new Runnable() {
+        @Override
+        public void run() {
+        }
+    };
+
+    private final AtomicReference<Runnable> abortAction = new AtomicReference<>(NOOP);
+    private volatile boolean cancelled;
+
+    /**
+     * Get the token bound to the current thread.
+     *
+     * @return the bound token, null if the current call can not be cancelled
+     */
+    public static CancellationToken current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Submit a task whose requests are aborted when the returned future is cancelled.
+     *
+     * @param executorService executor to run the task on
+     * @param task task to run
+     * @param <T> result type of the task
+     * @return future that resolves to the result of the task
+     */
+    public static <T> ListenableFuture<T> submit(final ListeningExecutorService executorService,
+                                                 final Callable<T> task) {
+        final CancellationToken token = new CancellationToken();
+        final ListenableFuture<T> future = executorService.submit(new Callable<T>() {
+            public T call() throws Exception {
+                CancellationToken previous = CURRENT.get();
+                CURRENT.set(token);
+                try {
+                    return task.call();
+                } finally {
+                    CURRENT.set(previous);
+                }
+            }
+        });
+
+        future.addListener(new Runnable() {
+            @Override
+            public void run() {
+                if (future.isCancelled()) {
+                    token.cancel();
+                }
+            }
+        }, MoreExecutors.directExecutor());
+
+        return future;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancel the token and abort the exchange in flight, if any.
+     */
+    public void cancel() {
+        cancelled = true;
+        abortAction.getAndSet(NOOP).run();
+    }
+
+    /**
+     * Register the action aborting the exchange in flight.
+     *
+     * <p>
+     *     The action runs immediately if the token has already been cancelled.
+     * </p>
+     *
+     * @param action action to run on cancellation
+     */
+    public void onCancel(final Runnable action) {
+        abortAction.set(action);
+        if (cancelled) {
+            abortAction.getAndSet(NOOP).run();
+        }
+    }
+
+    /**
+     * Clear the abort action once the exchange it aborts has completed.
+     */
+    public void clear() {
+        abortAction.set(NOOP);
+    }
+}
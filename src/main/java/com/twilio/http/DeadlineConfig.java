@@ -0,0 +1,33 @@
+package com.twilio.http;
+
+import org.apache.http.client.config.RequestConfig;
+
+/**
+ * Derives per-request timeouts from the deadline of a Request.
+ */
+final class DeadlineConfig {
+
+    private DeadlineConfig() {}
+
+    /**
+     * Cap the connection lease, connect and socket timeouts by the time left before the deadline.
+     *
+     * @param defaultConfig configuration the client uses for requests without deadline
+     * @param request request with a deadline
+     * @return configuration for this request
+     */
+    static RequestConfig forRequest(final RequestConfig defaultConfig, final Request request) {
+        // Apache treats 0 as infinite, so never go below 1ms
+        int remaining = (int) Math.max(1L, Math.min(Integer.MAX_VALUE, request.getRemainingMillis()));
+
+        return RequestConfig.copy(defaultConfig)
+            .setConnectionRequestTimeout(cap(defaultConfig.getConnectionRequestTimeout(), remaining))
+            .setConnectTimeout(cap(defaultConfig.getConnectTimeout(), remaining))
+            .setSocketTimeout(cap(defaultConfig.getSocketTimeout(), remaining))
+            .build();
+    }
+
+    private static int cap(final int timeout, final int remaining) {
+        return timeout <= 0 ? remaining : Math.min(timeout, remaining);
+    }
+}
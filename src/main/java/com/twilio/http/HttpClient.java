@@ -1,6 +1,11 @@
 package com.twilio.http;
 
-public abstract class HttpClient {
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.ratelimit.RateLimiter;
+
+import java.io.Closeable;
+
+public abstract class HttpClient implements Closeable {
 
     public static final int ANY_500 = -500;
     public static final int ANY_400 = -400;
@@ -22,6 +27,17 @@ public abstract class HttpClient {
         return reliableRequest(request, RETRY_CODES, RETRIES, DELAY_MILLIS);
     }
 
+    /**
+     * Make a request, taking a permit from a rate limiter for every attempt.
+     *
+     * @param request request to make
+     * @param rateLimiter limiter each attempt waits on, null for none
+     * @return Response of the HTTP request
+     */
+    public Response reliableRequest(final Request request, final RateLimiter rateLimiter) {
+        return reliableRequest(request, RETRY_CODES, RETRIES, DELAY_MILLIS, rateLimiter);
+    }
+
     /**
      * Make a request.
      *
@@ -33,14 +49,38 @@ public abstract class HttpClient {
      */
     public Response reliableRequest(final Request request, final int[] retryCodes, int retries,
                                     final long delayMillis) {
+        return reliableRequest(request, retryCodes, retries, delayMillis, null);
+    }
+
+    /**
+     * Make a request, taking a permit from a rate limiter for every attempt.
+     *
+     * @param request request to make
+     * @param retryCodes codes used for retries
+     * @param retries max number of retries
+     * @param delayMillis delays between retries
+     * @param rateLimiter limiter each attempt waits on, null for none
+     * @return Response of the HTTP request
+     */
+    public Response reliableRequest(final Request request, final int[] retryCodes, int retries,
+                                    final long delayMillis, final RateLimiter rateLimiter) {
         Response response = null;
         while (retries > 0) {
+            checkAborted(request);
+            if (rateLimiter != null) {
+                rateLimiter.acquire(request);
+            }
             response = makeRequest(request);
 
             if (!shouldRetry(response, retryCodes)) {
                 return response;
             }
 
+            // Don't sleep past the deadline, the next attempt could not be made anyway
+            if (request.hasDeadline() && request.getRemainingMillis() <= delayMillis) {
+                return response;
+            }
+
             try {
                 Thread.sleep(delayMillis);
             } catch (final InterruptedException e) {
@@ -53,6 +93,23 @@ public abstract class HttpClient {
         return response;
     }
 
+    /**
+     * Fail fast if the request was cancelled or has run out of time.
+     *
+     * @param request request about to be made
+     * @throws ApiConnectionException if the request must not be made
+     */
+    protected void checkAborted(final Request request) {
+        CancellationToken token = CancellationToken.current();
+        if (token != null && token.isCancelled()) {
+            throw new ApiConnectionException("Request cancelled: " + request.getUrl());
+        }
+
+        if (request.isExpired()) {
+            throw new ApiConnectionException("Request deadline exceeded: " + request.getUrl());
+        }
+    }
+
     protected boolean shouldRetry(final Response response, final int[] retryCodes) {
         if (response == null) {
             return true;
@@ -99,4 +156,11 @@ public abstract class HttpClient {
     }
 
     public abstract Response makeRequest(final Request request);
+
+    /**
+     * Release the resources, such as pooled connections, held by this client.
+     */
+    @Override
+    public void close() {
+    }
 }
@@ -23,6 +23,6 @@ public enum HttpMethod {
 
     @JsonCreator
     public static HttpMethod forValue(final String value) {
-        return Promoter.enumFromString(value, HttpMethod.values());
+        return Promoter.enumFromString(value, HttpMethod.class);
     }
 }
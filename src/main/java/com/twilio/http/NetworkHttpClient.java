@@ -2,7 +2,7 @@ package com.twilio.http;
 
 import com.google.common.collect.Lists;
 import com.twilio.Twilio;
-import com.twilio.exception.ApiException;
+import com.twilio.exception.ApiConnectionException;
 import org.apache.http.Header;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
@@ -10,10 +10,13 @@ import org.apache.http.HttpVersion;
 import org.apache.http.client.utils.HttpClientUtils;
 import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
+import org.apache.http.pool.PoolStats;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -26,17 +29,35 @@ public class NetworkHttpClient extends HttpClient {
     private static final int CONNECTION_TIMEOUT = 10000;
     private static final int SOCKET_TIMEOUT = 30500;
 
-    private final org.apache.http.client.HttpClient client;
+    private final CloseableHttpClient client;
+    private final RequestConfig defaultConfig;
+    private final PoolingHttpClientConnectionManager connectionManager;
 
     /**
      * Create a new HTTP Client.
      */
     public NetworkHttpClient() {
+        this(new PoolingHttpClientConnectionManager());
+    }
+
+    /**
+     * Create a new HTTP Client with a bounded connection pool.
+     *
+     * @param maxConnections max number of pooled connections
+     * @param maxConnectionsPerRoute max number of pooled connections per host
+     */
+    public NetworkHttpClient(final int maxConnections, final int maxConnectionsPerRoute) {
+        this(boundedConnectionManager(maxConnections, maxConnectionsPerRoute));
+    }
+
+    private NetworkHttpClient(final PoolingHttpClientConnectionManager connectionManager) {
         RequestConfig config = RequestConfig.custom()
             .setConnectTimeout(CONNECTION_TIMEOUT)
             .setSocketTimeout(SOCKET_TIMEOUT)
             .build();
-        
+        defaultConfig = config;
+        this.connectionManager = connectionManager;
+
         Collection<Header> headers = Lists.<Header>newArrayList(
             new BasicHeader("X-Twilio-Client", "java-" + Twilio.VERSION),
             new BasicHeader(HttpHeaders.USER_AGENT, "twilio-java/" + Twilio.VERSION + " (" + Twilio.JAVA_VERSION + ")"),
@@ -46,7 +67,7 @@ public class NetworkHttpClient extends HttpClient {
 
         client = HttpClientBuilder.create()
             .useSystemProperties()
-            .setConnectionManager(new PoolingHttpClientConnectionManager())
+            .setConnectionManager(connectionManager)
             .setDefaultRequestConfig(config)
             .setDefaultHeaders(headers)
             .setMaxConnPerRoute(10)
@@ -55,8 +76,25 @@ public class NetworkHttpClient extends HttpClient {
 
     /**
      * Create a new HTTP Client using custom configuration
+     *
+     * <p>
+     *     The builder's default request config can't be read back, so requests with a deadline keep
+     *     it as it is rather than have their timeouts capped by the deadline; pass the config to
+     *     {@link #NetworkHttpClient(HttpClientBuilder, RequestConfig)} to have them capped.
+     * </p>
      */
     public NetworkHttpClient(HttpClientBuilder clientBuilder){
+        this(clientBuilder, null);
+    }
+
+    /**
+     * Create a new HTTP Client using custom configuration, with the request config it's built with.
+     *
+     * @param clientBuilder builder to build the client with
+     * @param defaultConfig default request config, which the builder is given and deadlines are applied to,
+     *                      or null to keep the builder's own
+     */
+    public NetworkHttpClient(final HttpClientBuilder clientBuilder, final RequestConfig defaultConfig) {
         Collection<Header> headers = Lists.<Header>newArrayList(
                 new BasicHeader("X-Twilio-Client", "java-" + Twilio.VERSION),
                 new BasicHeader(HttpHeaders.USER_AGENT, "twilio-java/" + Twilio.VERSION + " (" + Twilio.JAVA_VERSION + ") custom"),
@@ -64,9 +102,31 @@ public class NetworkHttpClient extends HttpClient {
                 new BasicHeader(HttpHeaders.ACCEPT_ENCODING, "utf-8")
         );
 
+        if (defaultConfig != null) {
+            clientBuilder.setDefaultRequestConfig(defaultConfig);
+        }
         client = clientBuilder
                 .setDefaultHeaders(headers)
                 .build();
+        this.defaultConfig = defaultConfig;
+        connectionManager = null;
+    }
+
+    /**
+     * Get the usage of the connection pool: connections leased and available, and requests waiting for one.
+     *
+     * @return pool totals, null if this client was built from a custom HttpClientBuilder
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager == null ? null : connectionManager.getTotalStats();
+    }
+
+    private static PoolingHttpClientConnectionManager boundedConnectionManager(final int maxConnections,
+                                                                               final int maxConnectionsPerRoute) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        return connectionManager;
     }
 
     /**
@@ -97,10 +157,27 @@ public class NetworkHttpClient extends HttpClient {
             }
         }
 
+        // Without the client's default config a per-request one would replace, not extend, it
+        if (request.hasDeadline() && defaultConfig != null) {
+            builder.setConfig(DeadlineConfig.forRequest(defaultConfig, request));
+        }
+
+        final HttpUriRequest httpRequest = builder.build();
+        CancellationToken token = CancellationToken.current();
+        if (token != null) {
+            token.onCancel(new Runnable() {
+                @Override
+                public void run() {
+                    // Aborting closes the socket and hands the connection back to the pool
+                    httpRequest.abort();
+                }
+            });
+        }
+
         HttpResponse response = null;
 
         try {
-            response = client.execute(builder.build());
+            response = client.execute(httpRequest);
             return new Response(
 
                 // Consume the entire HTTP response before returning the stream
@@ -108,8 +185,14 @@ public class NetworkHttpClient extends HttpClient {
                 response.getStatusLine().getStatusCode()
             );
         } catch (IOException e) {
-            throw new ApiException(e.getMessage());
+            if (httpRequest.isAborted()) {
+                throw new ApiConnectionException("Request cancelled: " + request.getUrl(), e);
+            }
+            throw new ApiConnectionException("Request failed: " + request.getUrl() + ": " + e.getMessage(), e);
         } finally {
+            if (token != null) {
+                token.clear();
+            }
 
             // Ensure this response is properly closed
             HttpClientUtils.closeQuietly(response);
@@ -117,4 +200,9 @@ public class NetworkHttpClient extends HttpClient {
         }
 
     }
+
+    @Override
+    public void close() {
+        HttpClientUtils.closeQuietly(client);
+    }
 }
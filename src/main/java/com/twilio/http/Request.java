@@ -19,11 +19,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 public class Request {
 
     public static final String QUERY_STRING_DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
     public static final String QUERY_STRING_DATE_FORMAT = "yyyy-MM-dd";
+    public static final String SID_PLACEHOLDER = "{Sid}";
+
+    private static final Pattern SID_SEGMENT = Pattern.compile("(?<=/)[A-Z]{2}[0-9a-fA-F]{32}(?=[/.]|$)");
 
     private final HttpMethod method;
     private final String url;
@@ -32,6 +37,8 @@ public class Request {
 
     private String username;
     private String password;
+    // System.nanoTime() value of the deadline, so the budget isn't stretched or cut by wall clock changes
+    private Long deadlineNanos;
 
     /**
      * Create a new API request.
@@ -84,6 +91,15 @@ public class Request {
         return url;
     }
 
+    /**
+     * Get the url with every resource sid in its path replaced by a placeholder.
+     *
+     * @return url identifying the endpoint rather than the resource
+     */
+    public String getTemplatedUrl() {
+        return SID_SEGMENT.matcher(url).replaceAll(SID_PLACEHOLDER);
+    }
+
     public void setAuth(final String username, final String password) {
         this.username = username;
         this.password = password;
@@ -120,6 +136,62 @@ public class Request {
         return username != null || password != null;
     }
 
+    /**
+     * Get the point in time after which the request is abandoned.
+     *
+     * @return deadline in epoch milliseconds; null if no deadline is set
+     */
+    public Long getDeadline() {
+        if (deadlineNanos == null) {
+            return null;
+        }
+
+        return System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * Set the point in time after which the request, including retries, is abandoned.
+     *
+     * <p>
+     *     The wall clock is only read here; the time left is then measured with {@link System#nanoTime()}.
+     * </p>
+     *
+     * @param deadline deadline in epoch milliseconds
+     */
+    public void setDeadline(final long deadline) {
+        setTimeout(deadline - System.currentTimeMillis());
+    }
+
+    /**
+     * Set the deadline relative to now.
+     *
+     * @param timeoutMillis milliseconds from now the request may take
+     */
+    public void setTimeout(final long timeoutMillis) {
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    public boolean hasDeadline() {
+        return deadlineNanos != null;
+    }
+
+    /**
+     * Get the time left before the deadline.
+     *
+     * @return milliseconds left, never negative; Long.MAX_VALUE if no deadline is set
+     */
+    public long getRemainingMillis() {
+        if (deadlineNanos == null) {
+            return Long.MAX_VALUE;
+        }
+
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos != null && deadlineNanos - System.nanoTime() <= 0;
+    }
+
     /**
      * Build the URL for the request.
      *
@@ -0,0 +1,85 @@
+package com.twilio.http;
+
+import com.twilio.exception.ApiException;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Captures the response to the request a call makes, and ends the call with a {@link Failure} carrying
+ * no stack trace if the response is an error, before the caller builds an exception from it.
+ *
+ * <p>
+ *     The capture is bound to the calling thread while the call runs, so every client the call uses
+ *     reports to it. Bulk paths use it to handle failed requests as values.
+ * </p>
+ */
+public final class ResponseCapture {
+
+    private static final ThreadLocal<ResponseCapture> CURRENT = new ThreadLocal<>();
+
+    private Response response;
+
+    /**
+     * Run a call with this capture bound to the current thread.
+     *
+     * @param call call making a request
+     * @param <T> result type of the call
+     * @return the call's result
+     * @throws Failure if a request answered with an error or nothing at all
+     */
+    public <T> T call(final Callable<T> call) {
+        ResponseCapture previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return call.call();
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new ApiException(e.getMessage(), e);
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Get the last response captured.
+     *
+     * @return the response, null if there was none
+     */
+    public Response getResponse() {
+        return response;
+    }
+
+    /**
+     * Report a response to the capture bound to the current thread, if any.
+     *
+     * @param response response to report, null if none came
+     * @throws Failure if a capture is bound and the response is an error
+     */
+    static void report(final Response response) {
+        ResponseCapture capture = CURRENT.get();
+        if (capture == null) {
+            return;
+        }
+
+        capture.response = response;
+        if (response == null || !TwilioRestClient.SUCCESS.apply(response.getStatusCode())) {
+            throw new Failure();
+        }
+    }
+
+    /**
+     * Ends a captured call on an error response, without a stack trace or message to build.
+     */
+    public static final class Failure extends RuntimeException {
+        private static final long serialVersionUID = 4195082380632472193L;
+
+        private Failure() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.twilio.http;
+
+import com.twilio.exception.ApiConnectionException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant view of a shared HttpClient.
+ *
+ * <p>
+ *     Caps the number of requests a single tenant may have in flight on the shared transport,
+ *     so one busy tenant can not take every pooled connection, and keeps usage counters.
+ * </p>
+ */
+public class TenantHttpClient extends HttpClient {
+
+    private final String tenant;
+    private final HttpClient delegate;
+    private final int maxConcurrentRequests;
+    private final Semaphore permits;
+    private final long maxWaitMillis;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    private final AtomicLong latencyNanos = new AtomicLong();
+
+    /**
+     * Create a tenant view of a shared HttpClient.
+     *
+     * @param tenant tenant identifier, usually the account sid
+     * @param delegate shared client that makes the requests
+     * @param maxConcurrentRequests max number of requests in flight for this tenant
+     * @param maxWaitMillis max time to wait for a free slot when the deadline allows it
+     */
+    public TenantHttpClient(final String tenant, final HttpClient delegate, final int maxConcurrentRequests,
+                            final long maxWaitMillis) {
+        this.tenant = tenant;
+        this.delegate = delegate;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @Override
+    public Response makeRequest(final Request request) {
+        acquire(request);
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Response response = delegate.makeRequest(request);
+            failed = response == null || response.getStatusCode() >= 400;
+            return response;
+        } finally {
+            latencyNanos.addAndGet(System.nanoTime() - start);
+            requests.incrementAndGet();
+            if (failed) {
+                failures.incrementAndGet();
+            }
+            permits.release();
+        }
+    }
+
+    private void acquire(final Request request) {
+        long waitMillis = Math.min(maxWaitMillis, request.getRemainingMillis());
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejections.incrementAndGet();
+            throw new ApiConnectionException("Too many concurrent requests for tenant " + tenant);
+        }
+    }
+
+    /**
+     * Leave the shared transport open, it is closed by its owner.
+     */
+    @Override
+    public void close() {
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public HttpClient getDelegate() {
+        return delegate;
+    }
+
+    public int getInFlight() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    public long getRejectionCount() {
+        return rejections.get();
+    }
+
+    public long getTotalLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(latencyNanos.get());
+    }
+}
@@ -1,13 +1,21 @@
 package com.twilio.http;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.converter.ObjectMappers;
 import com.google.common.base.Predicate;
+import com.twilio.ratelimit.RateLimiter;
 
-public class TwilioRestClient {
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TwilioRestClient implements Closeable {
 
     public static final int HTTP_STATUS_CODE_CREATED = 201;
     public static final int HTTP_STATUS_CODE_NO_CONTENT = 204;
     public static final int HTTP_STATUS_CODE_OK = 200;
+    public static final int HTTP_STATUS_CODE_UNAUTHORIZED = 401;
+    public static final int HTTP_STATUS_CODE_TOO_MANY_REQUESTS = 429;
     public static final Predicate<Integer> SUCCESS = new Predicate<Integer>() {
         @Override
         public boolean apply(Integer i) {
@@ -15,20 +23,27 @@ public class TwilioRestClient {
         }
     };
 
+    /**
+     * How long the credentials replaced by a rotation stay available as a fallback.
+     */
+    public static final long ROTATION_OVERLAP_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
     private final ObjectMapper objectMapper;
-    private final String username;
-    private final String password;
+    private final AtomicReference<Credentials> credentials;
     private final String accountSid;
     private final String region;
     private final HttpClient httpClient;
+    private final Long requestTimeout;
+    private final RateLimiter rateLimiter;
 
     private TwilioRestClient(Builder b) {
-        this.username = b.username;
-        this.password = b.password;
+        this.credentials = new AtomicReference<>(new Credentials(b.username, b.password, null, 0));
         this.accountSid = b.accountSid;
         this.region = b.region;
         this.httpClient = b.httpClient;
-        this.objectMapper = new ObjectMapper();
+        this.requestTimeout = b.requestTimeout;
+        this.rateLimiter = b.rateLimiter;
+        this.objectMapper = b.objectMapper;
     }
 
     /**
@@ -38,8 +53,89 @@ public class TwilioRestClient {
      * @return Response object
      */
     public Response request(final Request request) {
-        request.setAuth(username, password);
-        return httpClient.reliableRequest(request);
+        Credentials current = credentials.get();
+        request.setAuth(current.username, current.password);
+        if (requestTimeout != null && !request.hasDeadline()) {
+            request.setTimeout(requestTimeout);
+        }
+        Response response = httpClient.reliableRequest(request, rateLimiter);
+
+        // While a rotation overlaps, the new token may not be active yet; once it's accepted, it is
+        if (response != null && current.previous != null) {
+            if (isAuthenticated(response.getStatusCode())) {
+                credentials.compareAndSet(current, current.withoutPrevious());
+            } else if (response.getStatusCode() == HTTP_STATUS_CODE_UNAUTHORIZED &&
+                current.isOverlapping() && !request.isExpired()) {
+                request.setAuth(current.previous.username, current.previous.password);
+                response = httpClient.reliableRequest(request, rateLimiter);
+            }
+        }
+
+        ResponseCapture.report(response);
+        return response;
+    }
+
+    /**
+     * Swap the credentials of a live client without touching its connection pool.
+     *
+     * <p>
+     *     The replaced credentials stay available as a fallback for requests rejected with a 401
+     *     until a request is accepted with the new ones, {@link #completeRotation()} is called or
+     *     {@link #ROTATION_OVERLAP_MILLIS} have passed, whichever comes first.
+     * </p>
+     *
+     * @param username new username
+     * @param password new password
+     */
+    public void rotateCredentials(final String username, final String password) {
+        while (true) {
+            Credentials current = credentials.get();
+            Credentials rotated = new Credentials(username, password, current.withoutPrevious(), System.nanoTime());
+            if (credentials.compareAndSet(current, rotated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stop falling back to the credentials replaced by the last rotation.
+     */
+    public void completeRotation() {
+        while (true) {
+            Credentials current = credentials.get();
+            if (current.previous == null || credentials.compareAndSet(current, current.withoutPrevious())) {
+                return;
+            }
+        }
+    }
+
+    public boolean isRotating() {
+        Credentials current = credentials.get();
+        return current.previous != null && current.isOverlapping();
+    }
+
+    /**
+     * Check whether a response shows its request was authenticated. Server errors and rate limiting
+     * may be answered before the credentials are checked, so only successes and other client errors do.
+     */
+    private static boolean isAuthenticated(final int statusCode) {
+        if (statusCode >= 200 && statusCode < 300) {
+            return true;
+        }
+        return statusCode >= 400 && statusCode < 500 &&
+            statusCode != HTTP_STATUS_CODE_UNAUTHORIZED && statusCode != HTTP_STATUS_CODE_TOO_MANY_REQUESTS;
+    }
+
+    public String getUsername() {
+        return credentials.get().username;
+    }
+
+    /**
+     * Release the connections held by the underlying HttpClient.
+     */
+    @Override
+    public void close() {
+        httpClient.close();
     }
 
     public String getAccountSid() {
@@ -50,6 +146,17 @@ public class TwilioRestClient {
         return region;
     }
 
+    /**
+     * Get the mapper responses are parsed with.
+     *
+     * <p>
+     *     Unless the builder was given a mapper, this is {@link ObjectMappers#shared()}, which every
+     *     such client and the SDK itself use. Read with it, but don't reconfigure it; pass a private
+     *     mapper to {@link Builder#objectMapper} to change how a client parses.
+     * </p>
+     *
+     * @return the mapper of this client
+     */
     public ObjectMapper getObjectMapper() {
         return objectMapper;
     }
@@ -58,12 +165,23 @@ public class TwilioRestClient {
         return httpClient;
     }
 
+    public Long getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
     public static class Builder {
         private String username;
         private String password;
         private String accountSid;
         private String region;
         private HttpClient httpClient;
+        private Long requestTimeout;
+        private ObjectMapper objectMapper;
+        private RateLimiter rateLimiter;
 
         /**
          * Create a new Twilio Rest Client.
@@ -92,12 +210,66 @@ public class TwilioRestClient {
             return this;
         }
 
+        /**
+         * Set the overall time budget of each request, retries included.
+         *
+         * @param requestTimeout timeout in milliseconds
+         * @return this builder
+         */
+        public Builder requestTimeout(long requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Use a json mapper of your own. Clients otherwise share {@link ObjectMappers#shared()}, and its
+         * deserializer caches, so configure a mapper passed here rather than the one a client returns.
+         *
+         * @param objectMapper mapper used to parse responses
+         * @return this builder
+         */
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
         public TwilioRestClient build() {
             if (this.httpClient == null) {
                  this.httpClient = new NetworkHttpClient();
             }
+            if (this.objectMapper == null) {
+                this.objectMapper = ObjectMappers.shared();
+            }
             return new TwilioRestClient(this);
         }
     }
 
+    private static final class Credentials {
+        private final String username;
+        private final String password;
+        private final Credentials previous;
+        private final long rotatedAt;
+
+        private Credentials(final String username, final String password, final Credentials previous,
+                            final long rotatedAt) {
+            this.username = username;
+            this.password = password;
+            this.previous = previous;
+            this.rotatedAt = rotatedAt;
+        }
+
+        private Credentials withoutPrevious() {
+            return previous == null ? this : new Credentials(username, password, null, rotatedAt);
+        }
+
+        private boolean isOverlapping() {
+            return System.nanoTime() - rotatedAt < TimeUnit.MILLISECONDS.toNanos(ROTATION_OVERLAP_MILLIS);
+        }
+    }
+
 }
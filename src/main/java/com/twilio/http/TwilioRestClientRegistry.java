@@ -0,0 +1,205 @@
+package com.twilio.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.exception.AuthenticationException;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hands out TwilioRestClients for many accounts, all backed by one shared transport.
+ *
+ * <p>
+ *     Each registered tenant gets a lightweight client carrying its own credentials, account sid
+ *     and region, while connections and the json mapper are shared. Requests of a tenant go
+ *     through a {@link TenantHttpClient}, which bounds its share of the pool and counts usage.
+ * </p>
+ */
+public class TwilioRestClientRegistry implements Closeable {
+
+    private final HttpClient transport;
+    private final ObjectMapper objectMapper;
+    private final int maxConcurrentRequestsPerTenant;
+    private final long maxWaitMillis;
+    private final ConcurrentMap<String, TwilioRestClient> clients;
+
+    private TwilioRestClientRegistry(Builder b) {
+        this.transport = b.transport;
+        this.objectMapper = b.objectMapper;
+        this.maxConcurrentRequestsPerTenant = b.maxConcurrentRequestsPerTenant;
+        this.maxWaitMillis = b.maxWaitMillis;
+        this.clients = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Register a tenant, replacing any previous registration.
+     *
+     * @param accountSid account the requests act on
+     * @param username username to authenticate with, may be the parent account
+     * @param password password for the username
+     * @return client for the tenant
+     */
+    public TwilioRestClient register(final String accountSid, final String username, final String password) {
+        return register(accountSid, username, password, null);
+    }
+
+    /**
+     * Register a tenant, replacing any previous registration.
+     *
+     * @param accountSid account the requests act on
+     * @param username username to authenticate with, may be the parent account
+     * @param password password for the username
+     * @param region region to make requests to
+     * @return client for the tenant
+     */
+    public TwilioRestClient register(final String accountSid, final String username, final String password,
+                                     final String region) {
+        TenantHttpClient tenantClient = new TenantHttpClient(
+            accountSid,
+            transport,
+            maxConcurrentRequestsPerTenant,
+            maxWaitMillis
+        );
+
+        TwilioRestClient client = new TwilioRestClient.Builder(username, password)
+            .accountSid(accountSid)
+            .region(region)
+            .httpClient(tenantClient)
+            .objectMapper(objectMapper)
+            .build();
+
+        clients.put(accountSid, client);
+        return client;
+    }
+
+    /**
+     * Get the client of a registered tenant.
+     *
+     * @param accountSid account sid of the tenant
+     * @return client for the tenant
+     * @throws AuthenticationException if the tenant is not registered
+     */
+    public TwilioRestClient getClient(final String accountSid) {
+        TwilioRestClient client = clients.get(accountSid);
+        if (client == null) {
+            throw new AuthenticationException("No credentials registered for account " + accountSid);
+        }
+
+        return client;
+    }
+
+    /**
+     * Get the usage counters of a registered tenant.
+     *
+     * @param accountSid account sid of the tenant
+     * @return usage of the tenant
+     * @throws AuthenticationException if the tenant is not registered
+     */
+    public TenantHttpClient getUsage(final String accountSid) {
+        return (TenantHttpClient) getClient(accountSid).getHttpClient();
+    }
+
+    public boolean isRegistered(final String accountSid) {
+        return clients.containsKey(accountSid);
+    }
+
+    /**
+     * Drop a tenant; its client keeps working for requests already in flight.
+     *
+     * @param accountSid account sid of the tenant
+     */
+    public void unregister(final String accountSid) {
+        clients.remove(accountSid);
+    }
+
+    public Collection<String> getTenants() {
+        return Collections.unmodifiableCollection(clients.keySet());
+    }
+
+    public HttpClient getTransport() {
+        return transport;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Drop every tenant and release the connections of the shared transport.
+     */
+    @Override
+    public void close() {
+        clients.clear();
+        transport.close();
+    }
+
+    public static class Builder {
+        private static final int MAX_CONNECTIONS = 200;
+        private static final int MAX_CONNECTIONS_PER_ROUTE = 100;
+        private static final int MAX_CONCURRENT_REQUESTS_PER_TENANT = 10;
+        private static final long MAX_WAIT_MILLIS = 30000L;
+
+        private HttpClient transport;
+        private ObjectMapper objectMapper;
+        private int maxConnections = MAX_CONNECTIONS;
+        private int maxConnectionsPerRoute = MAX_CONNECTIONS_PER_ROUTE;
+        private int maxConcurrentRequestsPerTenant = MAX_CONCURRENT_REQUESTS_PER_TENANT;
+        private long maxWaitMillis = MAX_WAIT_MILLIS;
+
+        /**
+         * Use a custom shared transport instead of a bounded NetworkHttpClient.
+         *
+         * @param transport client shared by all tenants
+         * @return this builder
+         */
+        public Builder transport(HttpClient transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        public Builder maxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        public Builder maxConcurrentRequestsPerTenant(int maxConcurrentRequestsPerTenant) {
+            this.maxConcurrentRequestsPerTenant = maxConcurrentRequestsPerTenant;
+            return this;
+        }
+
+        /**
+         * Set how long a request waits for a free tenant slot before failing.
+         *
+         * @param maxWaitMillis max wait in milliseconds
+         * @return this builder
+         */
+        public Builder maxWaitMillis(long maxWaitMillis) {
+            this.maxWaitMillis = maxWaitMillis;
+            return this;
+        }
+
+        public TwilioRestClientRegistry build() {
+            if (this.transport == null) {
+                this.transport = new NetworkHttpClient(maxConnections, maxConnectionsPerRoute);
+            }
+            if (this.objectMapper == null) {
+                this.objectMapper = ObjectMappers.shared();
+            }
+            return new TwilioRestClientRegistry(this);
+        }
+    }
+}
@@ -3,13 +3,16 @@ package com.twilio.http;
 
 import com.google.common.collect.Lists;
 import com.twilio.Twilio;
-import com.twilio.exception.ApiException;
+import com.twilio.exception.ApiConnectionException;
 import org.apache.http.Header;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpVersion;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.HttpClientUtils;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
@@ -26,13 +29,15 @@ public class ValidationClient extends HttpClient {
     private static final int CONNECTION_TIMEOUT = 10000;
     private static final int SOCKET_TIMEOUT = 30500;
 
-    private final org.apache.http.client.HttpClient client;
+    private final CloseableHttpClient client;
+    private final RequestConfig defaultConfig;
 
     public ValidationClient(String accountSid, String credentialSid, String signingKey, PrivateKey privateKey) {
         RequestConfig config = RequestConfig.custom()
             .setConnectTimeout(CONNECTION_TIMEOUT)
             .setSocketTimeout(SOCKET_TIMEOUT)
             .build();
+        defaultConfig = config;
 
         Collection<Header> headers = Lists.<Header>newArrayList(
             new BasicHeader("X-Twilio-Client", "java-" + Twilio.VERSION),
@@ -72,14 +77,41 @@ public class ValidationClient extends HttpClient {
             }
         }
 
+        if (request.hasDeadline()) {
+            builder.setConfig(DeadlineConfig.forRequest(defaultConfig, request));
+        }
+
+        final HttpUriRequest httpRequest = builder.build();
+        CancellationToken token = CancellationToken.current();
+        if (token != null) {
+            token.onCancel(new Runnable() {
+                @Override
+                public void run() {
+                    httpRequest.abort();
+                }
+            });
+        }
+
         try {
-            HttpResponse response = client.execute(builder.build());
+            HttpResponse response = client.execute(httpRequest);
             return new Response(
                 response.getEntity() == null ? null : response.getEntity().getContent(),
                 response.getStatusLine().getStatusCode()
             );
         } catch (IOException e) {
-            throw new ApiException(e.getMessage());
+            if (httpRequest.isAborted()) {
+                throw new ApiConnectionException("Request cancelled: " + request.getUrl(), e);
+            }
+            throw new ApiConnectionException("Request failed: " + request.getUrl() + ": " + e.getMessage(), e);
+        } finally {
+            if (token != null) {
+                token.clear();
+            }
         }
     }
+
+    @Override
+    public void close() {
+        HttpClientUtils.closeQuietly(client);
+    }
 }
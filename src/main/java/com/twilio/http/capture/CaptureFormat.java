@@ -0,0 +1,82 @@
+package com.twilio.http.capture;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Layout of capture files.
+ *
+ * <p>
+ *     A file starts with a magic number and a version and is followed by one record per exchange:
+ *     start time, duration, thread id, method, url, query and form parameters, credentials, status
+ *     and body. Strings are written as a length followed by UTF-8 bytes, a length of -1 meaning null.
+ * </p>
+ */
+final class CaptureFormat {
+
+    static final int MAGIC = 0x54574c43;
+    static final short VERSION = 1;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private CaptureFormat() {}
+
+    static void writeString(final DataOutput out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(final DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    static void writeParams(final DataOutput out, final Map<String, List<String>> params) throws IOException {
+        int count = 0;
+        for (List<String> values : params.values()) {
+            count += values.size();
+        }
+
+        out.writeInt(count);
+        for (Map.Entry<String, List<String>> entry : params.entrySet()) {
+            for (String value : entry.getValue()) {
+                writeString(out, entry.getKey());
+                writeString(out, value);
+            }
+        }
+    }
+
+    static Map<String, List<String>> readParams(final DataInput in) throws IOException {
+        int count = in.readInt();
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String name = readString(in);
+            String value = readString(in);
+            List<String> values = params.get(name);
+            if (values == null) {
+                values = new ArrayList<>();
+                params.put(name, values);
+            }
+            values.add(value);
+        }
+        return params;
+    }
+}
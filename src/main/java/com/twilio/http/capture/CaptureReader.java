@@ -0,0 +1,81 @@
+package com.twilio.http.capture;
+
+import com.twilio.http.HttpMethod;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the exchanges written by a {@link CaptureWriter}.
+ */
+public final class CaptureReader {
+
+    private CaptureReader() {}
+
+    /**
+     * Read every exchange of a capture file, in the order they were written.
+     *
+     * <p>
+     *     A record cut short, e.g. by the recording process being killed mid-write, ends the capture.
+     * </p>
+     *
+     * @param file capture file
+     * @return captured exchanges
+     * @throws IOException if the file can't be read or isn't a capture file
+     */
+    public static List<CapturedExchange> readAll(final File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != CaptureFormat.MAGIC) {
+                throw new IOException("Not a capture file: " + file);
+            }
+            short version = in.readShort();
+            if (version != CaptureFormat.VERSION) {
+                throw new IOException("Unsupported capture file version " + version + ": " + file);
+            }
+
+            List<CapturedExchange> exchanges = new ArrayList<>();
+            while (true) {
+                try {
+                    exchanges.add(read(in));
+                } catch (final EOFException e) {
+                    return exchanges;
+                }
+            }
+        }
+    }
+
+    private static CapturedExchange read(final DataInputStream in) throws IOException {
+        long startMicros = in.readLong();
+        long durationNanos = in.readLong();
+        long threadId = in.readLong();
+        HttpMethod method = HttpMethod.forValue(CaptureFormat.readString(in));
+        String url = CaptureFormat.readString(in);
+        Map<String, List<String>> queryParams = CaptureFormat.readParams(in);
+        Map<String, List<String>> postParams = CaptureFormat.readParams(in);
+        String username = CaptureFormat.readString(in);
+        String password = CaptureFormat.readString(in);
+        int statusCode = in.readInt();
+        String body = CaptureFormat.readString(in);
+
+        return new CapturedExchange(
+            startMicros,
+            durationNanos,
+            threadId,
+            method,
+            url,
+            queryParams,
+            postParams,
+            username,
+            password,
+            statusCode,
+            body
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.twilio.http.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Appends exchanges to a capture file.
+ *
+ * <p>
+ *     Records are flushed as they are written, so a capture survives the process being killed. Writing
+ *     to an existing capture file appends to it.
+ * </p>
+ */
+public class CaptureWriter implements Closeable {
+
+    private final DataOutputStream out;
+
+    /**
+     * Open a capture file for appending, creating it if needed.
+     *
+     * @param file capture file
+     * @throws IOException if the file can't be opened
+     */
+    public CaptureWriter(final File file) throws IOException {
+        boolean created = !file.exists() || file.length() == 0;
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+        if (created) {
+            out.writeInt(CaptureFormat.MAGIC);
+            out.writeShort(CaptureFormat.VERSION);
+            out.flush();
+        }
+    }
+
+    /**
+     * Append an exchange.
+     *
+     * @param exchange exchange to write
+     * @throws IOException if the exchange can't be written
+     */
+    public synchronized void write(final CapturedExchange exchange) throws IOException {
+        out.writeLong(exchange.getStartMicros());
+        out.writeLong(exchange.getDurationNanos());
+        out.writeLong(exchange.getThreadId());
+        CaptureFormat.writeString(out, exchange.getMethod().toString());
+        CaptureFormat.writeString(out, exchange.getUrl());
+        CaptureFormat.writeParams(out, exchange.getQueryParams());
+        CaptureFormat.writeParams(out, exchange.getPostParams());
+        CaptureFormat.writeString(out, exchange.getUsername());
+        CaptureFormat.writeString(out, exchange.getPassword());
+        out.writeInt(exchange.getStatusCode());
+        CaptureFormat.writeString(out, exchange.getBody());
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
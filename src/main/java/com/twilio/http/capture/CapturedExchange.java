@@ -0,0 +1,130 @@
+package com.twilio.http.capture;
+
+import com.twilio.http.HttpMethod;
+import com.twilio.http.Request;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A request and its response as written to a capture file.
+ */
+public class CapturedExchange {
+
+    private final long startMicros;
+    private final long durationNanos;
+    private final long threadId;
+    private final HttpMethod method;
+    private final String url;
+    private final Map<String, List<String>> queryParams;
+    private final Map<String, List<String>> postParams;
+    private final String username;
+    private final String password;
+    private final int statusCode;
+    private final String body;
+
+    /**
+     * Create a captured exchange.
+     *
+     * @param startMicros epoch microseconds at which the request was sent
+     * @param durationNanos time taken by the exchange
+     * @param threadId id of the thread which sent the request
+     * @param method HTTP method
+     * @param url url of the request, without query string
+     * @param queryParams query parameters
+     * @param postParams form parameters
+     * @param username username, null if not captured
+     * @param password password, null if not captured
+     * @param statusCode response status, -1 if the exchange failed
+     * @param body response body, null if not captured
+     */
+    public CapturedExchange(final long startMicros, final long durationNanos, final long threadId,
+                            final HttpMethod method, final String url,
+                            final Map<String, List<String>> queryParams, final Map<String, List<String>> postParams,
+                            final String username, final String password, final int statusCode,
+                            final String body) {
+        this.startMicros = startMicros;
+        this.durationNanos = durationNanos;
+        this.threadId = threadId;
+        this.method = method;
+        this.url = url;
+        this.queryParams = Collections.unmodifiableMap(queryParams);
+        this.postParams = Collections.unmodifiableMap(postParams);
+        this.username = username;
+        this.password = password;
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    public long getStartMicros() {
+        return startMicros;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public long getThreadId() {
+        return threadId;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getTemplatedUrl() {
+        return new Request(method, url).getTemplatedUrl();
+    }
+
+    public Map<String, List<String>> getQueryParams() {
+        return queryParams;
+    }
+
+    public Map<String, List<String>> getPostParams() {
+        return postParams;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Rebuild the captured request.
+     *
+     * @return request equal to the captured one, credentials included if they were captured
+     */
+    public Request toRequest() {
+        Request request = new Request(method, url);
+        for (Map.Entry<String, List<String>> entry : queryParams.entrySet()) {
+            for (String value : entry.getValue()) {
+                request.addQueryParam(entry.getKey(), value);
+            }
+        }
+        for (Map.Entry<String, List<String>> entry : postParams.entrySet()) {
+            for (String value : entry.getValue()) {
+                request.addPostParam(entry.getKey(), value);
+            }
+        }
+        if (username != null || password != null) {
+            request.setAuth(username, password);
+        }
+        return request;
+    }
+}
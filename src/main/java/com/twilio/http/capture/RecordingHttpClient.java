@@ -0,0 +1,114 @@
+package com.twilio.http.capture;
+
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HttpClient recording every exchange made through it to a capture file.
+ *
+ * <p>
+ *     Each attempt is recorded, retries included, with the time it was sent and how long it took, so
+ *     the capture can be replayed with the same concurrency and inter-arrival times. Failing to write
+ *     the capture never fails the request; such exchanges are counted instead.
+ * </p>
+ */
+public class RecordingHttpClient extends HttpClient {
+
+    private final HttpClient delegate;
+    private final CaptureWriter writer;
+    private final boolean redactCredentials;
+    private final boolean recordBodies;
+    private final long originMicros;
+    private final long originNanos;
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong writeFailures = new AtomicLong();
+
+    /**
+     * Create a client recording response bodies but not credentials.
+     *
+     * @param delegate client making the actual requests
+     * @param writer capture to write to
+     */
+    public RecordingHttpClient(final HttpClient delegate, final CaptureWriter writer) {
+        this(delegate, writer, true, true);
+    }
+
+    /**
+     * Create a recording client.
+     *
+     * @param delegate client making the actual requests
+     * @param writer capture to write to
+     * @param redactCredentials leave usernames and passwords out of the capture
+     * @param recordBodies write response bodies to the capture
+     */
+    public RecordingHttpClient(final HttpClient delegate, final CaptureWriter writer,
+                               final boolean redactCredentials, final boolean recordBodies) {
+        this.delegate = delegate;
+        this.writer = writer;
+        this.redactCredentials = redactCredentials;
+        this.recordBodies = recordBodies;
+        this.originMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        this.originNanos = System.nanoTime();
+    }
+
+    @Override
+    public Response makeRequest(final Request request) {
+        long start = System.nanoTime();
+        Response response = null;
+        try {
+            response = delegate.makeRequest(request);
+            if (response != null && recordBodies) {
+                response = new Response(response.getContent(), response.getStatusCode());
+            }
+            return response;
+        } finally {
+            record(request, response, start, System.nanoTime() - start);
+        }
+    }
+
+    private void record(final Request request, final Response response, final long start, final long duration) {
+        boolean withCredentials = !redactCredentials && request.requiresAuthentication();
+        CapturedExchange exchange = new CapturedExchange(
+            originMicros + TimeUnit.NANOSECONDS.toMicros(start - originNanos),
+            duration,
+            Thread.currentThread().getId(),
+            request.getMethod(),
+            request.getUrl(),
+            request.getQueryParams(),
+            request.getPostParams(),
+            withCredentials ? request.getUsername() : null,
+            withCredentials ? request.getPassword() : null,
+            response == null ? -1 : response.getStatusCode(),
+            response == null || !recordBodies ? null : response.getContent()
+        );
+
+        try {
+            writer.write(exchange);
+            recorded.incrementAndGet();
+        } catch (final IOException e) {
+            writeFailures.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    public HttpClient getDelegate() {
+        return delegate;
+    }
+
+    public long getRecordedCount() {
+        return recorded.get();
+    }
+
+    public long getWriteFailureCount() {
+        return writeFailures.get();
+    }
+}
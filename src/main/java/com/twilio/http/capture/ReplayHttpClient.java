@@ -0,0 +1,116 @@
+package com.twilio.http.capture;
+
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.http.HttpClient;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpClient answering requests with the responses of a capture, without touching the network.
+ *
+ * <p>
+ *     A request gets the response captured for the same method, url and parameters; when a request
+ *     was captured several times its responses are served in capture order, the last one repeating
+ *     once they run out. A request that was never captured gets a response captured for the same
+ *     endpoint, e.g. another message's, and failing that a 404. Exchanges that failed when captured
+ *     fail again with an {@link ApiConnectionException}.
+ * </p>
+ */
+public class ReplayHttpClient extends HttpClient {
+
+    private static final int HTTP_STATUS_CODE_NOT_FOUND = 404;
+
+    private final Map<String, Deque<CapturedExchange>> exact = new HashMap<>();
+    private final Map<String, Deque<CapturedExchange>> templated = new HashMap<>();
+    private final double speed;
+
+    /**
+     * Create a client answering immediately.
+     *
+     * @param exchanges captured exchanges
+     */
+    public ReplayHttpClient(final List<CapturedExchange> exchanges) {
+        this(exchanges, 0);
+    }
+
+    /**
+     * Create a client taking as long to answer as the captured exchanges took.
+     *
+     * @param exchanges captured exchanges
+     * @param speed how many times faster than captured to answer; 0 answers immediately
+     */
+    public ReplayHttpClient(final List<CapturedExchange> exchanges, final double speed) {
+        this.speed = speed;
+        for (final CapturedExchange exchange : exchanges) {
+            add(exact, exactKey(exchange.getMethod(), exchange.getUrl(), exchange.getQueryParams(),
+                exchange.getPostParams()), exchange);
+            add(templated, exchange.getMethod() + " " + exchange.getTemplatedUrl(), exchange);
+        }
+    }
+
+    @Override
+    public Response makeRequest(final Request request) {
+        CapturedExchange exchange = next(exact, exactKey(request.getMethod(), request.getUrl(),
+            request.getQueryParams(), request.getPostParams()));
+        if (exchange == null) {
+            exchange = next(templated, request.getMethod() + " " + request.getTemplatedUrl());
+        }
+        if (exchange == null) {
+            return new Response(
+                "{\"code\": 20404, \"message\": \"No captured response for " + request.getUrl() + "\", "
+                    + "\"more_info\": \"https://www.twilio.com/docs/errors/20404\", \"status\": 404}",
+                HTTP_STATUS_CODE_NOT_FOUND
+            );
+        }
+
+        if (speed > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep((long) (exchange.getDurationNanos() / speed));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiConnectionException("Interrupted replaying " + request.getUrl(), e);
+            }
+        }
+
+        if (exchange.getStatusCode() < 0) {
+            throw new ApiConnectionException("Captured request failed: " + request.getUrl());
+        }
+        return new Response(exchange.getBody() == null ? "" : exchange.getBody(), exchange.getStatusCode());
+    }
+
+    private static void add(final Map<String, Deque<CapturedExchange>> index, final String key,
+                            final CapturedExchange exchange) {
+        Deque<CapturedExchange> exchanges = index.get(key);
+        if (exchanges == null) {
+            exchanges = new ArrayDeque<>();
+            index.put(key, exchanges);
+        }
+        exchanges.add(exchange);
+    }
+
+    private static CapturedExchange next(final Map<String, Deque<CapturedExchange>> index, final String key) {
+        Deque<CapturedExchange> exchanges = index.get(key);
+        if (exchanges == null) {
+            return null;
+        }
+
+        synchronized (exchanges) {
+            return exchanges.size() > 1 ? exchanges.poll() : exchanges.peek();
+        }
+    }
+
+    private static String exactKey(final HttpMethod method, final String url,
+                                   final Map<String, List<String>> queryParams,
+                                   final Map<String, List<String>> postParams) {
+        return method + " " + url + " " + new TreeMap<>(queryParams) + " " + new TreeMap<>(postParams);
+    }
+}
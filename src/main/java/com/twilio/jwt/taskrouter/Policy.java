@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
+import com.twilio.converter.ObjectMappers;
 import com.twilio.http.HttpMethod;
 
 import java.io.ByteArrayOutputStream;
@@ -68,7 +69,7 @@ public class Policy {
      * @throws IOException if unable to transform to JSON
      */
     public String toJson() throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = ObjectMappers.shared();
         ByteArrayOutputStream out = new ByteArrayOutputStream();
 
         mapper.writeValue(out, this);
@@ -0,0 +1,208 @@
+package com.twilio.ratelimit;
+
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.http.Request;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Token bucket rate limiter whose buckets are shared, through a {@link TokenBucketStore}, by every
+ * node sending on behalf of the same account.
+ *
+ * <p>
+ *     Requests are assigned to a bucket by endpoint, e.g. Messages.json and Calls.json can be limited
+ *     separately. To keep the shared store off the request path, each limiter leases tokens from it
+ *     in batches and hands them out locally; leases expire so idle nodes don't hoard capacity. The
+ *     tokens left on an expired lease are given back to the store the next time the limiter takes
+ *     from it, so a node that goes quiet holds on to at most one lease per bucket until it is used again.
+ * </p>
+ */
+public class DistributedRateLimiter implements RateLimiter {
+
+    private static final String DEFAULT_BUCKET = "default";
+
+    private final TokenBucketStore store;
+    private final String namespace;
+    private final Limit defaultLimit;
+    private final List<Limit> endpointLimits;
+    private final long leaseSize;
+    private final long leaseMillis;
+    private final ConcurrentMap<String, Lease> leases;
+
+    private DistributedRateLimiter(Builder b) {
+        this.store = b.store;
+        this.namespace = b.namespace;
+        this.defaultLimit = b.defaultLimit;
+        this.endpointLimits = Collections.unmodifiableList(new ArrayList<>(b.endpointLimits));
+        this.leaseSize = b.leaseSize;
+        this.leaseMillis = b.leaseMillis;
+        this.leases = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void acquire(final Request request) {
+        Limit limit = limitFor(request);
+        if (limit == null) {
+            return;
+        }
+
+        Lease lease = leaseFor(limit);
+        while (true) {
+            synchronized (lease) {
+                long now = System.currentTimeMillis();
+                if (lease.tokens == 0 || now >= lease.expiresMillis) {
+                    String bucket = namespace + ":" + limit.endpoint;
+                    if (lease.tokens > 0) {
+                        store.giveBack(bucket, lease.tokens, limit.capacity, limit.refillPerSecond, now);
+                    }
+                    lease.tokens = store.take(
+                        bucket,
+                        Math.min(leaseSize, limit.capacity),
+                        limit.capacity,
+                        limit.refillPerSecond,
+                        now
+                    );
+                    lease.expiresMillis = now + leaseMillis;
+                }
+
+                if (lease.tokens > 0) {
+                    lease.tokens--;
+                    return;
+                }
+            }
+
+            long waitMillis = (long) Math.max(1, Math.ceil(1000.0 / limit.refillPerSecond));
+            if (request.hasDeadline() && request.getRemainingMillis() <= waitMillis) {
+                throw new ApiConnectionException("Rate limit for " + limit.endpoint + " exceeded: " + request.getUrl());
+            }
+
+            try {
+                Thread.sleep(waitMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiConnectionException("Interrupted waiting for rate limit: " + request.getUrl(), e);
+            }
+        }
+    }
+
+    private Limit limitFor(final Request request) {
+        String url = request.getTemplatedUrl();
+        for (final Limit limit : endpointLimits) {
+            if (url.endsWith(limit.endpoint)) {
+                return limit;
+            }
+        }
+
+        return defaultLimit;
+    }
+
+    private Lease leaseFor(final Limit limit) {
+        Lease lease = leases.get(limit.endpoint);
+        if (lease == null) {
+            Lease created = new Lease();
+            lease = leases.putIfAbsent(limit.endpoint, created);
+            if (lease == null) {
+                lease = created;
+            }
+        }
+        return lease;
+    }
+
+    private static class Lease {
+        private long tokens;
+        private long expiresMillis;
+    }
+
+    private static class Limit {
+        private final String endpoint;
+        private final long capacity;
+        private final double refillPerSecond;
+
+        private Limit(final String endpoint, final long capacity, final double refillPerSecond) {
+            this.endpoint = endpoint;
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+    public static class Builder {
+        private static final long LEASE_SIZE = 10L;
+        private static final long LEASE_MILLIS = 1000L;
+
+        private final TokenBucketStore store;
+        private String namespace = "twilio";
+        private Limit defaultLimit;
+        private final List<Limit> endpointLimits = new ArrayList<>();
+        private long leaseSize = LEASE_SIZE;
+        private long leaseMillis = LEASE_MILLIS;
+
+        /**
+         * Create a new limiter builder.
+         *
+         * @param store store shared by the whole cluster
+         */
+        public Builder(TokenBucketStore store) {
+            this.store = store;
+        }
+
+        /**
+         * Prefix the bucket names, e.g. with the account sid, when a store is shared by several accounts.
+         *
+         * @param namespace bucket name prefix
+         * @return this builder
+         */
+        public Builder namespace(String namespace) {
+            this.namespace = namespace;
+            return this;
+        }
+
+        /**
+         * Limit requests to endpoints without a limit of their own.
+         *
+         * @param capacity max burst size
+         * @param refillPerSecond sustained requests per second
+         * @return this builder
+         */
+        public Builder defaultLimit(long capacity, double refillPerSecond) {
+            this.defaultLimit = new Limit(DEFAULT_BUCKET, capacity, refillPerSecond);
+            return this;
+        }
+
+        /**
+         * Limit requests to an endpoint.
+         *
+         * @param endpoint suffix of the templated url, e.g. Messages.json
+         * @param capacity max burst size
+         * @param refillPerSecond sustained requests per second
+         * @return this builder
+         */
+        public Builder endpointLimit(String endpoint, long capacity, double refillPerSecond) {
+            this.endpointLimits.add(new Limit(endpoint, capacity, refillPerSecond));
+            return this;
+        }
+
+        /**
+         * Set how many tokens are taken from the store at once; 1 consults the store on every request.
+         *
+         * @param leaseSize tokens per lease
+         * @return this builder
+         */
+        public Builder leaseSize(long leaseSize) {
+            this.leaseSize = leaseSize;
+            return this;
+        }
+
+        public Builder leaseMillis(long leaseMillis) {
+            this.leaseMillis = leaseMillis;
+            return this;
+        }
+
+        public DistributedRateLimiter build() {
+            return new DistributedRateLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.twilio.ratelimit;
+
+import com.twilio.exception.ApiException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TokenBucketStore kept in a memory-mapped file, shared by every process that maps the same file.
+ *
+ * <p>
+ *     Meant for running several nodes on one host, e.g. in local tests. Buckets live in a fixed
+ *     number of slots addressed by a hash of their name; updates are serialized with a file lock.
+ * </p>
+ */
+public class FileTokenBucketStore implements TokenBucketStore, Closeable {
+
+    private static final int SLOT_SIZE = 24;
+    private static final int DEFAULT_SLOTS = 1024;
+
+    // FileLocks are held per JVM, so threads of this JVM also need to agree on a monitor per file;
+    // a monitor is dropped once the last store open on its file is closed
+    private static final Map<String, Monitor> MONITORS = new HashMap<>();
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final Monitor monitor;
+    private final int slots;
+    private boolean closed;
+
+    /**
+     * Open, or create, a store with the default number of slots.
+     *
+     * @param path file holding the buckets
+     */
+    public FileTokenBucketStore(final File path) {
+        this(path, DEFAULT_SLOTS);
+    }
+
+    /**
+     * Open, or create, a store.
+     *
+     * @param path file holding the buckets
+     * @param slots max number of buckets; every process sharing the file must use the same value
+     */
+    public FileTokenBucketStore(final File path, final int slots) {
+        this.slots = slots;
+        try {
+            this.monitor = acquireMonitor(path.getCanonicalPath());
+        } catch (final IOException e) {
+            throw new ApiException("Unable to open token bucket store " + path, e);
+        }
+
+        RandomAccessFile opened = null;
+        try {
+            opened = new RandomAccessFile(path, "rw");
+            this.channel = opened.getChannel();
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) slots * SLOT_SIZE);
+            this.file = opened;
+        } catch (final IOException e) {
+            closeQuietly(opened);
+            releaseMonitor(monitor);
+            throw new ApiException("Unable to open token bucket store " + path, e);
+        }
+    }
+
+    @Override
+    public long take(final String bucket, final long requested, final long capacity, final double refillPerSecond,
+                     final long nowMillis) {
+        long hash = hash(bucket);
+
+        synchronized (monitor) {
+            FileLock lock = null;
+            try {
+                lock = channel.lock();
+                int offset = slotOffset(hash);
+                double tokens = refill(offset, hash, capacity, refillPerSecond, nowMillis);
+
+                long granted = Math.min(requested, (long) tokens);
+                buffer.putDouble(offset + 8, tokens - granted);
+                return granted;
+            } catch (final IOException e) {
+                throw new ApiException("Unable to lock token bucket store", e);
+            } finally {
+                release(lock);
+            }
+        }
+    }
+
+    @Override
+    public void giveBack(final String bucket, final long tokens, final long capacity, final double refillPerSecond,
+                         final long nowMillis) {
+        long hash = hash(bucket);
+
+        synchronized (monitor) {
+            FileLock lock = null;
+            try {
+                lock = channel.lock();
+                int offset = slotOffset(hash);
+                double refilled = refill(offset, hash, capacity, refillPerSecond, nowMillis);
+                buffer.putDouble(offset + 8, Math.min(capacity, refilled + tokens));
+            } catch (final IOException e) {
+                throw new ApiException("Unable to lock token bucket store", e);
+            } finally {
+                release(lock);
+            }
+        }
+    }
+
+    private double refill(final int offset, final long hash, final long capacity, final double refillPerSecond,
+                          final long nowMillis) {
+        if (buffer.getLong(offset) == 0) {
+            buffer.putLong(offset, hash);
+            buffer.putLong(offset + 16, nowMillis);
+            return capacity;
+        }
+
+        double tokens = buffer.getDouble(offset + 8);
+        long lastRefillMillis = buffer.getLong(offset + 16);
+        if (nowMillis > lastRefillMillis) {
+            tokens = Math.min(capacity, tokens + (nowMillis - lastRefillMillis) * refillPerSecond / 1000.0);
+            buffer.putLong(offset + 16, nowMillis);
+        }
+        return tokens;
+    }
+
+    private int slotOffset(final long hash) {
+        int start = (int) ((hash & Long.MAX_VALUE) % slots);
+        for (int i = 0; i < slots; i++) {
+            int offset = ((start + i) % slots) * SLOT_SIZE;
+            long slotHash = buffer.getLong(offset);
+            if (slotHash == 0 || slotHash == hash) {
+                return offset;
+            }
+        }
+
+        throw new ApiException("Token bucket store is full, " + slots + " buckets in use");
+    }
+
+    private static long hash(final String bucket) {
+        // 64 bit FNV-1a, 0 marks an empty slot
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bucket.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    private static Monitor acquireMonitor(final String path) {
+        synchronized (MONITORS) {
+            Monitor monitor = MONITORS.get(path);
+            if (monitor == null) {
+                monitor = new Monitor(path);
+                MONITORS.put(path, monitor);
+            }
+            monitor.references++;
+            return monitor;
+        }
+    }
+
+    private static void releaseMonitor(final Monitor monitor) {
+        synchronized (MONITORS) {
+            if (--monitor.references == 0) {
+                MONITORS.remove(monitor.path);
+            }
+        }
+    }
+
+    static int openFiles() {
+        synchronized (MONITORS) {
+            return MONITORS.size();
+        }
+    }
+
+    private static void closeQuietly(final RandomAccessFile file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            file.close();
+        } catch (final IOException e) {
+            // Nothing was mapped yet
+        }
+    }
+
+    private static void release(final FileLock lock) {
+        if (lock == null) {
+            return;
+        }
+
+        try {
+            lock.release();
+        } catch (final IOException e) {
+            // Lock goes away with the channel
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (monitor) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+
+        try {
+            channel.close();
+            file.close();
+        } catch (final IOException e) {
+            throw new ApiException("Unable to close token bucket store", e);
+        } finally {
+            releaseMonitor(monitor);
+        }
+    }
+
+    private static class Monitor {
+        private final String path;
+        private int references;
+
+        private Monitor(final String path) {
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.twilio.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * TokenBucketStore shared by the limiters of a single JVM.
+ */
+public class InMemoryTokenBucketStore implements TokenBucketStore {
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public long take(final String bucket, final long requested, final long capacity, final double refillPerSecond,
+                     final long nowMillis) {
+        Bucket state = buckets.get(bucket);
+        if (state == null) {
+            Bucket created = new Bucket(capacity, nowMillis);
+            state = buckets.putIfAbsent(bucket, created);
+            if (state == null) {
+                state = created;
+            }
+        }
+
+        synchronized (state) {
+            state.refill(capacity, refillPerSecond, nowMillis);
+            long granted = Math.min(requested, (long) state.tokens);
+            state.tokens -= granted;
+            return granted;
+        }
+    }
+
+    @Override
+    public void giveBack(final String bucket, final long tokens, final long capacity, final double refillPerSecond,
+                         final long nowMillis) {
+        Bucket state = buckets.get(bucket);
+        if (state == null) {
+            return;
+        }
+
+        synchronized (state) {
+            state.refill(capacity, refillPerSecond, nowMillis);
+            state.tokens = Math.min(capacity, state.tokens + tokens);
+        }
+    }
+
+    private static class Bucket {
+        private double tokens;
+        private long lastRefillMillis;
+
+        private Bucket(final long capacity, final long nowMillis) {
+            this.tokens = capacity;
+            this.lastRefillMillis = nowMillis;
+        }
+
+        private void refill(final long capacity, final double refillPerSecond, final long nowMillis) {
+            if (nowMillis > lastRefillMillis) {
+                tokens = Math.min(capacity, tokens + (nowMillis - lastRefillMillis) * refillPerSecond / 1000.0);
+                lastRefillMillis = nowMillis;
+            }
+        }
+    }
+}
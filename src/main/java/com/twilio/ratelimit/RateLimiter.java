@@ -0,0 +1,17 @@
+package com.twilio.ratelimit;
+
+import com.twilio.http.Request;
+
+/**
+ * Throttles requests as the HttpClient sends them, taking a permit for every attempt, retries included.
+ */
+public interface RateLimiter {
+
+    /**
+     * Block until the request may be sent.
+     *
+     * @param request request about to be sent
+     * @throws com.twilio.exception.ApiConnectionException if no permit can be had before the request deadline
+     */
+    void acquire(final Request request);
+}
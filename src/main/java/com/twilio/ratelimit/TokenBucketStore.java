@@ -0,0 +1,45 @@
+package com.twilio.ratelimit;
+
+/**
+ * Shared state of the token buckets used by a {@link DistributedRateLimiter}.
+ *
+ * <p>
+ *     Implementations must refill and take atomically with respect to every limiter sharing the
+ *     store, whether they live in this JVM or on other nodes.
+ * </p>
+ */
+public interface TokenBucketStore {
+
+    /**
+     * Refill a bucket for the time elapsed since its last use, then take up to the requested tokens.
+     *
+     * <p>
+     *     A bucket seen for the first time starts full.
+     * </p>
+     *
+     * @param bucket bucket name
+     * @param requested number of tokens wanted
+     * @param capacity max number of tokens the bucket holds
+     * @param refillPerSecond tokens added to the bucket per second
+     * @param nowMillis current time in epoch milliseconds
+     * @return number of tokens granted, between 0 and requested
+     */
+    long take(final String bucket, final long requested, final long capacity, final double refillPerSecond,
+              final long nowMillis);
+
+    /**
+     * Refill a bucket for the time elapsed since its last use, then put back tokens taken but not used.
+     *
+     * <p>
+     *     The bucket never ends up holding more than its capacity.
+     * </p>
+     *
+     * @param bucket bucket name
+     * @param tokens number of unused tokens
+     * @param capacity max number of tokens the bucket holds
+     * @param refillPerSecond tokens added to the bucket per second
+     * @param nowMillis current time in epoch milliseconds
+     */
+    void giveBack(final String bucket, final long tokens, final long capacity, final double refillPerSecond,
+                  final long nowMillis);
+}
@@ -58,7 +58,7 @@ public class Account extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -83,7 +83,7 @@ public class Account extends Resource {
          */
         @JsonCreator
         public static Type forValue(final String value) {
-            return Promoter.enumFromString(value, Type.values());
+            return Promoter.enumFromString(value, Type.class);
         }
     }
 
@@ -187,8 +187,10 @@ public class Account extends Resource {
     private final String ownerAccountSid;
     private final String sid;
     private final Account.Status status;
+    private final String rawStatus;
     private final Map<String, String> subresourceUris;
     private final Account.Type type;
+    private final String rawType;
     private final String uri;
 
     @JsonCreator
@@ -205,11 +207,11 @@ public class Account extends Resource {
                     @JsonProperty("sid")
                     final String sid, 
                     @JsonProperty("status")
-                    final Account.Status status, 
+                    final String status, 
                     @JsonProperty("subresource_uris")
                     final Map<String, String> subresourceUris, 
                     @JsonProperty("type")
-                    final Account.Type type, 
+                    final String type, 
                     @JsonProperty("uri")
                     final String uri) {
         this.authToken = authToken;
@@ -218,9 +220,11 @@ public class Account extends Resource {
         this.friendlyName = friendlyName;
         this.ownerAccountSid = ownerAccountSid;
         this.sid = sid;
-        this.status = status;
+        this.status = Account.Status.forValue(status);
+        this.rawStatus = status;
         this.subresourceUris = subresourceUris;
-        this.type = type;
+        this.type = Account.Type.forValue(type);
+        this.rawType = type;
         this.uri = uri;
     }
 
@@ -288,6 +292,15 @@ public class Account extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link Account.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The Account Instance Subresources.
      * 
@@ -306,6 +319,15 @@ public class Account extends Resource {
         return this.type;
     }
 
+    /**
+     * Returns The raw type, even if no {@link Account.Type} matches.
+     * 
+     * @return The type as returned by the API
+     */
+    public final String getRawType() {
+        return this.rawType;
+    }
+
     /**
      * Returns The The URI for this resource, relative to `https://api.twilio.com`.
      * 
@@ -334,8 +356,10 @@ public class Account extends Resource {
                Objects.equals(ownerAccountSid, other.ownerAccountSid) && 
                Objects.equals(sid, other.sid) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(subresourceUris, other.subresourceUris) && 
                Objects.equals(type, other.type) && 
+               (type != null || Objects.equals(rawType, other.rawType)) && 
                Objects.equals(uri, other.uri);
     }
 
@@ -347,9 +371,9 @@ public class Account extends Resource {
                             friendlyName,
                             ownerAccountSid,
                             sid,
-                            status,
+                            status != null ? status : rawStatus,
                             subresourceUris,
-                            type,
+                            type != null ? type : rawType,
                             uri);
     }
 
@@ -59,7 +59,7 @@ public class AuthorizedConnectApp extends Resource {
          */
         @JsonCreator
         public static Permission forValue(final String value) {
-            return Promoter.enumFromString(value, Permission.values());
+            return Promoter.enumFromString(value, Permission.class);
         }
     }
 
@@ -151,6 +151,7 @@ public class AuthorizedConnectApp extends Resource {
     private final DateTime dateCreated;
     private final DateTime dateUpdated;
     private final List<AuthorizedConnectApp.Permission> permissions;
+    private final List<String> rawPermissions;
     private final String uri;
 
     @JsonCreator
@@ -171,7 +172,7 @@ public class AuthorizedConnectApp extends Resource {
                                  @JsonProperty("date_updated")
                                  final String dateUpdated, 
                                  @JsonProperty("permissions")
-                                 final List<AuthorizedConnectApp.Permission> permissions, 
+                                 final List<String> permissions, 
                                  @JsonProperty("uri")
                                  final String uri) {
         this.accountSid = accountSid;
@@ -182,7 +183,8 @@ public class AuthorizedConnectApp extends Resource {
         this.connectAppSid = connectAppSid;
         this.dateCreated = DateConverter.rfc2822DateTimeFromString(dateCreated);
         this.dateUpdated = DateConverter.rfc2822DateTimeFromString(dateUpdated);
-        this.permissions = permissions;
+        this.permissions = Promoter.enumsFromStrings(permissions, AuthorizedConnectApp.Permission.class);
+        this.rawPermissions = permissions;
         this.uri = uri;
     }
 
@@ -267,6 +269,15 @@ public class AuthorizedConnectApp extends Resource {
         return this.permissions;
     }
 
+    /**
+     * Returns The raw permissions, even those no {@link AuthorizedConnectApp.Permission} matches.
+     * 
+     * @return The permissions as returned by the API
+     */
+    public final List<String> getRawPermissions() {
+        return this.rawPermissions;
+    }
+
     /**
      * Returns The The URI for this resource.
      * 
@@ -297,6 +308,7 @@ public class AuthorizedConnectApp extends Resource {
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(dateUpdated, other.dateUpdated) && 
                Objects.equals(permissions, other.permissions) && 
+               (Promoter.isPromoted(permissions) || Objects.equals(rawPermissions, other.rawPermissions)) && 
                Objects.equals(uri, other.uri);
     }
 
@@ -310,7 +322,7 @@ public class AuthorizedConnectApp extends Resource {
                             connectAppSid,
                             dateCreated,
                             dateUpdated,
-                            permissions,
+                            Promoter.isPromoted(permissions) ? permissions : rawPermissions,
                             uri);
     }
 
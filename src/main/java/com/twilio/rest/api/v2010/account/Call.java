@@ -11,10 +11,12 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.base.MoreObjects;
+import com.twilio.base.RawRecord;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
 import com.twilio.converter.Promoter;
@@ -26,7 +28,9 @@ import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 import com.twilio.rest.Domains;
+import com.twilio.type.E164Number;
 import com.twilio.type.Endpoint;
+import com.twilio.type.Sid;
 import org.joda.time.DateTime;
 
 import java.io.IOException;
@@ -40,6 +44,8 @@ import java.util.Objects;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Call extends Resource {
     private static final long serialVersionUID = 224465341716803L;
+    private static final TypeReference<Map<String, String>> SUBRESOURCE_URIS =
+        new TypeReference<Map<String, String>>() {};
 
     public enum Event {
         INITIATED("initiated"),
@@ -64,7 +70,7 @@ public class Call extends Resource {
          */
         @JsonCreator
         public static Event forValue(final String value) {
-            return Promoter.enumFromString(value, Event.values());
+            return Promoter.enumFromString(value, Event.class);
         }
     }
 
@@ -95,7 +101,7 @@ public class Call extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -120,7 +126,7 @@ public class Call extends Resource {
          */
         @JsonCreator
         public static UpdateStatus forValue(final String value) {
-            return Promoter.enumFromString(value, UpdateStatus.values());
+            return Promoter.enumFromString(value, UpdateStatus.class);
         }
     }
 
@@ -329,10 +335,12 @@ public class Call extends Resource {
     private final String sid;
     private final DateTime startTime;
     private final Call.Status status;
+    private final String rawStatus;
     private final Map<String, String> subresourceUris;
     private final String to;
     private final String toFormatted;
     private final String uri;
+    private final transient RawRecord raw;
 
     @JsonCreator
     private Call(@JsonProperty("account_sid")
@@ -377,7 +385,7 @@ public class Call extends Resource {
                  @JsonProperty("start_time")
                  final String startTime, 
                  @JsonProperty("status")
-                 final Call.Status status, 
+                 final String status, 
                  @JsonProperty("subresource_uris")
                  final Map<String, String> subresourceUris, 
                  @JsonProperty("to")
@@ -406,11 +414,43 @@ public class Call extends Resource {
         this.priceUnit = priceUnit;
         this.sid = sid;
         this.startTime = DateConverter.rfc2822DateTimeFromString(startTime);
-        this.status = status;
+        this.status = Call.Status.forValue(status);
+        this.rawStatus = status;
         this.subresourceUris = subresourceUris;
         this.to = to;
         this.toFormatted = toFormatted;
         this.uri = uri;
+        this.raw = null;
+    }
+
+    private Call(final RawRecord raw) {
+        this.accountSid = null;
+        this.annotation = null;
+        this.answeredBy = null;
+        this.apiVersion = null;
+        this.callerName = null;
+        this.dateCreated = null;
+        this.dateUpdated = null;
+        this.direction = null;
+        this.duration = null;
+        this.endTime = null;
+        this.forwardedFrom = null;
+        this.from = null;
+        this.fromFormatted = null;
+        this.groupSid = null;
+        this.parentCallSid = null;
+        this.phoneNumberSid = null;
+        this.price = null;
+        this.priceUnit = null;
+        this.sid = null;
+        this.startTime = null;
+        this.status = null;
+        this.rawStatus = null;
+        this.subresourceUris = null;
+        this.to = null;
+        this.toFormatted = null;
+        this.uri = null;
+        this.raw = raw;
     }
 
     /**
@@ -419,7 +459,17 @@ public class Call extends Resource {
      * @return The unique id of the Account responsible for creating this Call
      */
     public final String getAccountSid() {
-        return this.accountSid;
+        return raw == null ? this.accountSid : raw.string("account_sid");
+    }
+
+    /**
+     * Returns the id of the Account responsible for creating this Call, as a {@link Sid}.
+     * 
+     * @return the Account id, null if there is none
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getAccountSidValue() {
+        return Sid.of(getAccountSid());
     }
 
     /**
@@ -428,7 +478,7 @@ public class Call extends Resource {
      * @return The annotation provided for the Call
      */
     public final String getAnnotation() {
-        return this.annotation;
+        return raw == null ? this.annotation : raw.string("annotation");
     }
 
     /**
@@ -439,7 +489,7 @@ public class Call extends Resource {
      *         `human` or `machine`. Empty otherwise.
      */
     public final String getAnsweredBy() {
-        return this.answeredBy;
+        return raw == null ? this.answeredBy : raw.string("answered_by");
     }
 
     /**
@@ -448,7 +498,7 @@ public class Call extends Resource {
      * @return The API Version the Call was created through
      */
     public final String getApiVersion() {
-        return this.apiVersion;
+        return raw == null ? this.apiVersion : raw.string("api_version");
     }
 
     /**
@@ -459,7 +509,7 @@ public class Call extends Resource {
      *         Lookup enabled, the caller's name. Empty otherwise.
      */
     public final String getCallerName() {
-        return this.callerName;
+        return raw == null ? this.callerName : raw.string("caller_name");
     }
 
     /**
@@ -468,7 +518,7 @@ public class Call extends Resource {
      * @return The date that this resource was created
      */
     public final DateTime getDateCreated() {
-        return this.dateCreated;
+        return raw == null ? this.dateCreated : raw.rfc2822DateTime("date_created");
     }
 
     /**
@@ -477,7 +527,7 @@ public class Call extends Resource {
      * @return The date that this resource was last updated
      */
     public final DateTime getDateUpdated() {
-        return this.dateUpdated;
+        return raw == null ? this.dateUpdated : raw.rfc2822DateTime("date_updated");
     }
 
     /**
@@ -490,7 +540,7 @@ public class Call extends Resource {
      *         `outbound-dial` for calls initiated by a `Dial` verb.
      */
     public final String getDirection() {
-        return this.direction;
+        return raw == null ? this.direction : raw.string("direction");
     }
 
     /**
@@ -499,7 +549,7 @@ public class Call extends Resource {
      * @return The duration
      */
     public final String getDuration() {
-        return this.duration;
+        return raw == null ? this.duration : raw.string("duration");
     }
 
     /**
@@ -510,7 +560,7 @@ public class Call extends Resource {
      *         successfully.
      */
     public final DateTime getEndTime() {
-        return this.endTime;
+        return raw == null ? this.endTime : raw.rfc2822DateTime("end_time");
     }
 
     /**
@@ -523,7 +573,7 @@ public class Call extends Resource {
      *         Empty otherwise.
      */
     public final String getForwardedFrom() {
-        return this.forwardedFrom;
+        return raw == null ? this.forwardedFrom : raw.string("forwarded_from");
     }
 
     /**
@@ -538,7 +588,16 @@ public class Call extends Resource {
      *         formatted `client:name`.
      */
     public final String getFrom() {
-        return this.from;
+        return raw == null ? this.from : raw.string("from");
+    }
+
+    /**
+     * Returns the number that made this Call, normalized as an {@link E164Number}.
+     * 
+     * @return the caller's number, null if there is none or the call came from a SIP address or Client identifier
+     */
+    public final E164Number getFromNumber() {
+        return E164Number.tryParse(getFrom());
     }
 
     /**
@@ -549,7 +608,7 @@ public class Call extends Resource {
      *         Call. Formatted for display.
      */
     public final String getFromFormatted() {
-        return this.fromFormatted;
+        return raw == null ? this.fromFormatted : raw.string("from_formatted");
     }
 
     /**
@@ -560,7 +619,7 @@ public class Call extends Resource {
      *         Group is associated with the Call.
      */
     public final String getGroupSid() {
-        return this.groupSid;
+        return raw == null ? this.groupSid : raw.string("group_sid");
     }
 
     /**
@@ -571,7 +630,17 @@ public class Call extends Resource {
      *         this leg.
      */
     public final String getParentCallSid() {
-        return this.parentCallSid;
+        return raw == null ? this.parentCallSid : raw.string("parent_call_sid");
+    }
+
+    /**
+     * Returns the id of the call that created this leg, as a {@link Sid}.
+     * 
+     * @return the parent call id, null if this call has no parent
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getParentCallSidValue() {
+        return Sid.of(getParentCallSid());
     }
 
     /**
@@ -584,7 +653,17 @@ public class Call extends Resource {
      *         the OutgoingCallerId from which the call was placed.
      */
     public final String getPhoneNumberSid() {
-        return this.phoneNumberSid;
+        return raw == null ? this.phoneNumberSid : raw.string("phone_number_sid");
+    }
+
+    /**
+     * Returns the id of the incoming phone number an inbound call was made to, as a {@link Sid}.
+     * 
+     * @return the phone number id, null if the call was not inbound
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getPhoneNumberSidValue() {
+        return Sid.of(getPhoneNumberSid());
     }
 
     /**
@@ -597,7 +676,7 @@ public class Call extends Resource {
      *         immediately available.
      */
     public final BigDecimal getPrice() {
-        return this.price;
+        return raw == null ? this.price : raw.value("price", BigDecimal.class);
     }
 
     /**
@@ -606,7 +685,7 @@ public class Call extends Resource {
      * @return The currency in which `Price` is measured.
      */
     public final Currency getPriceUnit() {
-        return this.priceUnit;
+        return raw == null ? this.priceUnit : raw.currency("price_unit");
     }
 
     /**
@@ -615,7 +694,17 @@ public class Call extends Resource {
      * @return A 34 character string that uniquely identifies this resource.
      */
     public final String getSid() {
-        return this.sid;
+        return raw == null ? this.sid : raw.string("sid");
+    }
+
+    /**
+     * Returns the id of this Call, as a {@link Sid}.
+     * 
+     * @return the Call id, null if there is none
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getSidValue() {
+        return Sid.of(getSid());
     }
 
     /**
@@ -625,7 +714,7 @@ public class Call extends Resource {
      * @return The start time of the Call. Null if the call has not yet been dialed.
      */
     public final DateTime getStartTime() {
-        return this.startTime;
+        return raw == null ? this.startTime : raw.rfc2822DateTime("start_time");
     }
 
     /**
@@ -634,7 +723,16 @@ public class Call extends Resource {
      * @return The status
      */
     public final Call.Status getStatus() {
-        return this.status;
+        return raw == null ? this.status : raw.enumValue("status", Call.Status.class);
+    }
+
+    /**
+     * Returns The raw status, even if no {@link Call.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return raw == null ? this.rawStatus : raw.string("status");
     }
 
     /**
@@ -643,7 +741,7 @@ public class Call extends Resource {
      * @return Call Instance Subresources
      */
     public final Map<String, String> getSubresourceUris() {
-        return this.subresourceUris;
+        return raw == null ? this.subresourceUris : raw.value("subresource_uris", SUBRESOURCE_URIS);
     }
 
     /**
@@ -658,7 +756,16 @@ public class Call extends Resource {
      *         formatted `client:name`.
      */
     public final String getTo() {
-        return this.to;
+        return raw == null ? this.to : raw.string("to");
+    }
+
+    /**
+     * Returns the number this Call was made to, normalized as an {@link E164Number}.
+     * 
+     * @return the called number, null if there is none or the call went to a SIP address or Client identifier
+     */
+    public final E164Number getToNumber() {
+        return E164Number.tryParse(getTo());
     }
 
     /**
@@ -669,7 +776,7 @@ public class Call extends Resource {
      *         this Call. Formatted for display.
      */
     public final String getToFormatted() {
-        return this.toFormatted;
+        return raw == null ? this.toFormatted : raw.string("to_formatted");
     }
 
     /**
@@ -678,7 +785,12 @@ public class Call extends Resource {
      * @return The URI for this resource, relative to `https://api.twilio.com`
      */
     public final String getUri() {
-        return this.uri;
+        return raw == null ? this.uri : raw.string("uri");
+    }
+
+    private Object writeReplace() {
+        // Serialize the decoded resource rather than the page the raw record points into
+        return raw == null ? this : raw.materialize(Call.class);
     }
 
     @Override
@@ -693,90 +805,91 @@ public class Call extends Resource {
 
         Call other = (Call) o;
 
-        return Objects.equals(accountSid, other.accountSid) && 
-               Objects.equals(annotation, other.annotation) && 
-               Objects.equals(answeredBy, other.answeredBy) && 
-               Objects.equals(apiVersion, other.apiVersion) && 
-               Objects.equals(callerName, other.callerName) && 
-               Objects.equals(dateCreated, other.dateCreated) && 
-               Objects.equals(dateUpdated, other.dateUpdated) && 
-               Objects.equals(direction, other.direction) && 
-               Objects.equals(duration, other.duration) && 
-               Objects.equals(endTime, other.endTime) && 
-               Objects.equals(forwardedFrom, other.forwardedFrom) && 
-               Objects.equals(from, other.from) && 
-               Objects.equals(fromFormatted, other.fromFormatted) && 
-               Objects.equals(groupSid, other.groupSid) && 
-               Objects.equals(parentCallSid, other.parentCallSid) && 
-               Objects.equals(phoneNumberSid, other.phoneNumberSid) && 
-               Objects.equals(price, other.price) && 
-               Objects.equals(priceUnit, other.priceUnit) && 
-               Objects.equals(sid, other.sid) && 
-               Objects.equals(startTime, other.startTime) && 
-               Objects.equals(status, other.status) && 
-               Objects.equals(subresourceUris, other.subresourceUris) && 
-               Objects.equals(to, other.to) && 
-               Objects.equals(toFormatted, other.toFormatted) && 
-               Objects.equals(uri, other.uri);
+        return Objects.equals(getAccountSid(), other.getAccountSid()) && 
+               Objects.equals(getAnnotation(), other.getAnnotation()) && 
+               Objects.equals(getAnsweredBy(), other.getAnsweredBy()) && 
+               Objects.equals(getApiVersion(), other.getApiVersion()) && 
+               Objects.equals(getCallerName(), other.getCallerName()) && 
+               Objects.equals(getDateCreated(), other.getDateCreated()) && 
+               Objects.equals(getDateUpdated(), other.getDateUpdated()) && 
+               Objects.equals(getDirection(), other.getDirection()) && 
+               Objects.equals(getDuration(), other.getDuration()) && 
+               Objects.equals(getEndTime(), other.getEndTime()) && 
+               Objects.equals(getForwardedFrom(), other.getForwardedFrom()) && 
+               Objects.equals(getFrom(), other.getFrom()) && 
+               Objects.equals(getFromFormatted(), other.getFromFormatted()) && 
+               Objects.equals(getGroupSid(), other.getGroupSid()) && 
+               Objects.equals(getParentCallSid(), other.getParentCallSid()) && 
+               Objects.equals(getPhoneNumberSid(), other.getPhoneNumberSid()) && 
+               Objects.equals(getPrice(), other.getPrice()) && 
+               Objects.equals(getPriceUnit(), other.getPriceUnit()) && 
+               Objects.equals(getSid(), other.getSid()) && 
+               Objects.equals(getStartTime(), other.getStartTime()) && 
+               Objects.equals(getStatus(), other.getStatus()) && 
+               (getStatus() != null || Objects.equals(getRawStatus(), other.getRawStatus())) && 
+               Objects.equals(getSubresourceUris(), other.getSubresourceUris()) && 
+               Objects.equals(getTo(), other.getTo()) && 
+               Objects.equals(getToFormatted(), other.getToFormatted()) && 
+               Objects.equals(getUri(), other.getUri());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(accountSid,
-                            annotation,
-                            answeredBy,
-                            apiVersion,
-                            callerName,
-                            dateCreated,
-                            dateUpdated,
-                            direction,
-                            duration,
-                            endTime,
-                            forwardedFrom,
-                            from,
-                            fromFormatted,
-                            groupSid,
-                            parentCallSid,
-                            phoneNumberSid,
-                            price,
-                            priceUnit,
-                            sid,
-                            startTime,
-                            status,
-                            subresourceUris,
-                            to,
-                            toFormatted,
-                            uri);
+        return Objects.hash(getAccountSid(),
+                            getAnnotation(),
+                            getAnsweredBy(),
+                            getApiVersion(),
+                            getCallerName(),
+                            getDateCreated(),
+                            getDateUpdated(),
+                            getDirection(),
+                            getDuration(),
+                            getEndTime(),
+                            getForwardedFrom(),
+                            getFrom(),
+                            getFromFormatted(),
+                            getGroupSid(),
+                            getParentCallSid(),
+                            getPhoneNumberSid(),
+                            getPrice(),
+                            getPriceUnit(),
+                            getSid(),
+                            getStartTime(),
+                            getStatus() != null ? getStatus() : getRawStatus(),
+                            getSubresourceUris(),
+                            getTo(),
+                            getToFormatted(),
+                            getUri());
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                          .add("accountSid", accountSid)
-                          .add("annotation", annotation)
-                          .add("answeredBy", answeredBy)
-                          .add("apiVersion", apiVersion)
-                          .add("callerName", callerName)
-                          .add("dateCreated", dateCreated)
-                          .add("dateUpdated", dateUpdated)
-                          .add("direction", direction)
-                          .add("duration", duration)
-                          .add("endTime", endTime)
-                          .add("forwardedFrom", forwardedFrom)
-                          .add("from", from)
-                          .add("fromFormatted", fromFormatted)
-                          .add("groupSid", groupSid)
-                          .add("parentCallSid", parentCallSid)
-                          .add("phoneNumberSid", phoneNumberSid)
-                          .add("price", price)
-                          .add("priceUnit", priceUnit)
-                          .add("sid", sid)
-                          .add("startTime", startTime)
-                          .add("status", status)
-                          .add("subresourceUris", subresourceUris)
-                          .add("to", to)
-                          .add("toFormatted", toFormatted)
-                          .add("uri", uri)
+                          .add("accountSid", getAccountSid())
+                          .add("annotation", getAnnotation())
+                          .add("answeredBy", getAnsweredBy())
+                          .add("apiVersion", getApiVersion())
+                          .add("callerName", getCallerName())
+                          .add("dateCreated", getDateCreated())
+                          .add("dateUpdated", getDateUpdated())
+                          .add("direction", getDirection())
+                          .add("duration", getDuration())
+                          .add("endTime", getEndTime())
+                          .add("forwardedFrom", getForwardedFrom())
+                          .add("from", getFrom())
+                          .add("fromFormatted", getFromFormatted())
+                          .add("groupSid", getGroupSid())
+                          .add("parentCallSid", getParentCallSid())
+                          .add("phoneNumberSid", getPhoneNumberSid())
+                          .add("price", getPrice())
+                          .add("priceUnit", getPriceUnit())
+                          .add("sid", getSid())
+                          .add("startTime", getStartTime())
+                          .add("status", getStatus())
+                          .add("subresourceUris", getSubresourceUris())
+                          .add("to", getTo())
+                          .add("toFormatted", getToFormatted())
+                          .add("uri", getUri())
                           .toString();
     }
 }
\ No newline at end of file
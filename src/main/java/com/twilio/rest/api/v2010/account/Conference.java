@@ -58,7 +58,7 @@ public class Conference extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -82,7 +82,7 @@ public class Conference extends Resource {
          */
         @JsonCreator
         public static UpdateStatus forValue(final String value) {
-            return Promoter.enumFromString(value, UpdateStatus.values());
+            return Promoter.enumFromString(value, UpdateStatus.class);
         }
     }
 
@@ -195,6 +195,7 @@ public class Conference extends Resource {
     private final String region;
     private final String sid;
     private final Conference.Status status;
+    private final String rawStatus;
     private final String uri;
     private final Map<String, String> subresourceUris;
 
@@ -214,7 +215,7 @@ public class Conference extends Resource {
                        @JsonProperty("sid")
                        final String sid, 
                        @JsonProperty("status")
-                       final Conference.Status status, 
+                       final String status, 
                        @JsonProperty("uri")
                        final String uri, 
                        @JsonProperty("subresource_uris")
@@ -226,7 +227,8 @@ public class Conference extends Resource {
         this.friendlyName = friendlyName;
         this.region = region;
         this.sid = sid;
-        this.status = status;
+        this.status = Conference.Status.forValue(status);
+        this.rawStatus = status;
         this.uri = uri;
         this.subresourceUris = subresourceUris;
     }
@@ -303,6 +305,15 @@ public class Conference extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link Conference.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The The URI for this resource.
      * 
@@ -341,6 +352,7 @@ public class Conference extends Resource {
                Objects.equals(region, other.region) && 
                Objects.equals(sid, other.sid) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(uri, other.uri) && 
                Objects.equals(subresourceUris, other.subresourceUris);
     }
@@ -354,7 +366,7 @@ public class Conference extends Resource {
                             friendlyName,
                             region,
                             sid,
-                            status,
+                            status != null ? status : rawStatus,
                             uri,
                             subresourceUris);
     }
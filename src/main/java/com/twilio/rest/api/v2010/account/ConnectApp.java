@@ -57,7 +57,7 @@ public class ConnectApp extends Resource {
          */
         @JsonCreator
         public static Permission forValue(final String value) {
-            return Promoter.enumFromString(value, Permission.values());
+            return Promoter.enumFromString(value, Permission.class);
         }
     }
 
@@ -171,6 +171,7 @@ public class ConnectApp extends Resource {
     private final String friendlyName;
     private final URI homepageUrl;
     private final List<ConnectApp.Permission> permissions;
+    private final List<String> rawPermissions;
     private final String sid;
     private final String uri;
 
@@ -192,7 +193,7 @@ public class ConnectApp extends Resource {
                        @JsonProperty("homepage_url")
                        final URI homepageUrl, 
                        @JsonProperty("permissions")
-                       final List<ConnectApp.Permission> permissions, 
+                       final List<String> permissions, 
                        @JsonProperty("sid")
                        final String sid, 
                        @JsonProperty("uri")
@@ -205,7 +206,8 @@ public class ConnectApp extends Resource {
         this.description = description;
         this.friendlyName = friendlyName;
         this.homepageUrl = homepageUrl;
-        this.permissions = permissions;
+        this.permissions = Promoter.enumsFromStrings(permissions, ConnectApp.Permission.class);
+        this.rawPermissions = permissions;
         this.sid = sid;
         this.uri = uri;
     }
@@ -292,6 +294,15 @@ public class ConnectApp extends Resource {
         return this.permissions;
     }
 
+    /**
+     * Returns The raw permissions, even those no {@link ConnectApp.Permission} matches.
+     * 
+     * @return The permissions as returned by the API
+     */
+    public final List<String> getRawPermissions() {
+        return this.rawPermissions;
+    }
+
     /**
      * Returns The A string that uniquely identifies this connect-apps.
      * 
@@ -331,6 +342,7 @@ public class ConnectApp extends Resource {
                Objects.equals(friendlyName, other.friendlyName) && 
                Objects.equals(homepageUrl, other.homepageUrl) && 
                Objects.equals(permissions, other.permissions) && 
+               (Promoter.isPromoted(permissions) || Objects.equals(rawPermissions, other.rawPermissions)) && 
                Objects.equals(sid, other.sid) && 
                Objects.equals(uri, other.uri);
     }
@@ -345,7 +357,7 @@ public class ConnectApp extends Resource {
                             description,
                             friendlyName,
                             homepageUrl,
-                            permissions,
+                            Promoter.isPromoted(permissions) ? permissions : rawPermissions,
                             sid,
                             uri);
     }
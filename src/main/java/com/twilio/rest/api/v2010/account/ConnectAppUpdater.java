@@ -32,6 +32,7 @@ public class ConnectAppUpdater extends Updater<ConnectApp> {
     private String friendlyName;
     private URI homepageUrl;
     private List<ConnectApp.Permission> permissions;
+    private List<String> rawPermissions;
 
     /**
      * Construct a new ConnectAppUpdater.
@@ -192,6 +193,28 @@ public class ConnectAppUpdater extends Updater<ConnectApp> {
         return setPermissions(Promoter.listOfOne(permissions));
     }
 
+    /**
+     * The permissions as the values the API takes, for values no {@link ConnectApp.Permission}
+     * matches yet. They're sent alongside any set with {@link #setPermissions(List)}.
+     * 
+     * @param rawPermissions The permissions as raw values
+     * @return this
+     */
+    public ConnectAppUpdater setRawPermissions(final List<String> rawPermissions) {
+        this.rawPermissions = rawPermissions;
+        return this;
+    }
+
+    /**
+     * The permissions as the value the API takes, for a value no {@link ConnectApp.Permission} matches yet.
+     * 
+     * @param rawPermissions The permissions as a raw value
+     * @return this
+     */
+    public ConnectAppUpdater setRawPermissions(final String rawPermissions) {
+        return setRawPermissions(Promoter.listOfOne(rawPermissions));
+    }
+
     /**
      * Make the request to the Twilio API to perform the update.
      * 
@@ -271,5 +294,11 @@ public class ConnectAppUpdater extends Updater<ConnectApp> {
                 request.addPostParam("Permissions", prop.toString());
             }
         }
+
+        if (rawPermissions != null) {
+            for (String prop : rawPermissions) {
+                request.addPostParam("Permissions", prop);
+            }
+        }
     }
 }
\ No newline at end of file
@@ -61,7 +61,7 @@ public class IncomingPhoneNumber extends Resource {
          */
         @JsonCreator
         public static AddressRequirement forValue(final String value) {
-            return Promoter.enumFromString(value, AddressRequirement.values());
+            return Promoter.enumFromString(value, AddressRequirement.class);
         }
     }
 
@@ -86,7 +86,7 @@ public class IncomingPhoneNumber extends Resource {
          */
         @JsonCreator
         public static EmergencyStatus forValue(final String value) {
-            return Promoter.enumFromString(value, EmergencyStatus.values());
+            return Promoter.enumFromString(value, EmergencyStatus.class);
         }
     }
 
@@ -259,6 +259,7 @@ public class IncomingPhoneNumber extends Resource {
 
     private final String accountSid;
     private final IncomingPhoneNumber.AddressRequirement addressRequirements;
+    private final String rawAddressRequirements;
     private final String apiVersion;
     private final Boolean beta;
     private final PhoneNumberCapabilities capabilities;
@@ -283,13 +284,14 @@ public class IncomingPhoneNumber extends Resource {
     private final HttpMethod voiceMethod;
     private final URI voiceUrl;
     private final IncomingPhoneNumber.EmergencyStatus emergencyStatus;
+    private final String rawEmergencyStatus;
     private final String emergencyAddressSid;
 
     @JsonCreator
     private IncomingPhoneNumber(@JsonProperty("account_sid")
                                 final String accountSid, 
                                 @JsonProperty("address_requirements")
-                                final IncomingPhoneNumber.AddressRequirement addressRequirements, 
+                                final String addressRequirements, 
                                 @JsonProperty("api_version")
                                 final String apiVersion, 
                                 @JsonProperty("beta")
@@ -337,11 +339,12 @@ public class IncomingPhoneNumber extends Resource {
                                 @JsonProperty("voice_url")
                                 final URI voiceUrl, 
                                 @JsonProperty("emergency_status")
-                                final IncomingPhoneNumber.EmergencyStatus emergencyStatus, 
+                                final String emergencyStatus, 
                                 @JsonProperty("emergency_address_sid")
                                 final String emergencyAddressSid) {
         this.accountSid = accountSid;
-        this.addressRequirements = addressRequirements;
+        this.addressRequirements = IncomingPhoneNumber.AddressRequirement.forValue(addressRequirements);
+        this.rawAddressRequirements = addressRequirements;
         this.apiVersion = apiVersion;
         this.beta = beta;
         this.capabilities = capabilities;
@@ -365,7 +368,8 @@ public class IncomingPhoneNumber extends Resource {
         this.voiceFallbackUrl = voiceFallbackUrl;
         this.voiceMethod = voiceMethod;
         this.voiceUrl = voiceUrl;
-        this.emergencyStatus = emergencyStatus;
+        this.emergencyStatus = IncomingPhoneNumber.EmergencyStatus.forValue(emergencyStatus);
+        this.rawEmergencyStatus = emergencyStatus;
         this.emergencyAddressSid = emergencyAddressSid;
     }
 
@@ -387,6 +391,15 @@ public class IncomingPhoneNumber extends Resource {
         return this.addressRequirements;
     }
 
+    /**
+     * Returns The raw addressRequirements, even if no {@link IncomingPhoneNumber.AddressRequirement} matches.
+     * 
+     * @return The addressRequirements as returned by the API
+     */
+    public final String getRawAddressRequirements() {
+        return this.rawAddressRequirements;
+    }
+
     /**
      * Returns The The Twilio REST API version to use.
      * 
@@ -603,6 +616,15 @@ public class IncomingPhoneNumber extends Resource {
         return this.emergencyStatus;
     }
 
+    /**
+     * Returns The raw emergencyStatus, even if no {@link IncomingPhoneNumber.EmergencyStatus} matches.
+     * 
+     * @return The emergencyStatus as returned by the API
+     */
+    public final String getRawEmergencyStatus() {
+        return this.rawEmergencyStatus;
+    }
+
     /**
      * Returns The The emergency_address_sid.
      * 
@@ -626,6 +648,7 @@ public class IncomingPhoneNumber extends Resource {
 
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(addressRequirements, other.addressRequirements) && 
+               (addressRequirements != null || Objects.equals(rawAddressRequirements, other.rawAddressRequirements)) && 
                Objects.equals(apiVersion, other.apiVersion) && 
                Objects.equals(beta, other.beta) && 
                Objects.equals(capabilities, other.capabilities) && 
@@ -650,13 +673,14 @@ public class IncomingPhoneNumber extends Resource {
                Objects.equals(voiceMethod, other.voiceMethod) && 
                Objects.equals(voiceUrl, other.voiceUrl) && 
                Objects.equals(emergencyStatus, other.emergencyStatus) && 
+               (emergencyStatus != null || Objects.equals(rawEmergencyStatus, other.rawEmergencyStatus)) && 
                Objects.equals(emergencyAddressSid, other.emergencyAddressSid);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(accountSid,
-                            addressRequirements,
+                            addressRequirements != null ? addressRequirements : rawAddressRequirements,
                             apiVersion,
                             beta,
                             capabilities,
@@ -680,7 +704,7 @@ public class IncomingPhoneNumber extends Resource {
                             voiceFallbackUrl,
                             voiceMethod,
                             voiceUrl,
-                            emergencyStatus,
+                            emergencyStatus != null ? emergencyStatus : rawEmergencyStatus,
                             emergencyAddressSid);
     }
 
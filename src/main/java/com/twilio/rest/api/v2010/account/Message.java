@@ -11,10 +11,12 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.base.MoreObjects;
+import com.twilio.base.RawRecord;
 import com.twilio.base.Resource;
 import com.twilio.converter.DateConverter;
 import com.twilio.converter.Promoter;
@@ -26,6 +28,8 @@ import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 import com.twilio.rest.Domains;
+import com.twilio.type.E164Number;
+import com.twilio.type.Sid;
 import org.joda.time.DateTime;
 
 import java.io.IOException;
@@ -40,6 +44,8 @@ import java.util.Objects;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Message extends Resource {
     private static final long serialVersionUID = 201754449447651L;
+    private static final TypeReference<Map<String, String>> SUBRESOURCE_URIS =
+        new TypeReference<Map<String, String>>() {};
 
     public enum Status {
         QUEUED("queued"),
@@ -68,7 +74,7 @@ public class Message extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -95,7 +101,7 @@ public class Message extends Resource {
          */
         @JsonCreator
         public static Direction forValue(final String value) {
-            return Promoter.enumFromString(value, Direction.values());
+            return Promoter.enumFromString(value, Direction.class);
         }
     }
 
@@ -352,6 +358,7 @@ public class Message extends Resource {
     private final DateTime dateUpdated;
     private final DateTime dateSent;
     private final Message.Direction direction;
+    private final String rawDirection;
     private final Integer errorCode;
     private final String errorMessage;
     private final com.twilio.type.PhoneNumber from;
@@ -362,9 +369,11 @@ public class Message extends Resource {
     private final Currency priceUnit;
     private final String sid;
     private final Message.Status status;
+    private final String rawStatus;
     private final Map<String, String> subresourceUris;
     private final String to;
     private final String uri;
+    private final transient RawRecord raw;
 
     @JsonCreator
     private Message(@JsonProperty("account_sid")
@@ -380,7 +389,7 @@ public class Message extends Resource {
                     @JsonProperty("date_sent")
                     final String dateSent, 
                     @JsonProperty("direction")
-                    final Message.Direction direction, 
+                    final String direction, 
                     @JsonProperty("error_code")
                     final Integer errorCode, 
                     @JsonProperty("error_message")
@@ -401,7 +410,7 @@ public class Message extends Resource {
                     @JsonProperty("sid")
                     final String sid, 
                     @JsonProperty("status")
-                    final Message.Status status, 
+                    final String status, 
                     @JsonProperty("subresource_uris")
                     final Map<String, String> subresourceUris, 
                     @JsonProperty("to")
@@ -414,7 +423,8 @@ public class Message extends Resource {
         this.dateCreated = DateConverter.rfc2822DateTimeFromString(dateCreated);
         this.dateUpdated = DateConverter.rfc2822DateTimeFromString(dateUpdated);
         this.dateSent = DateConverter.rfc2822DateTimeFromString(dateSent);
-        this.direction = direction;
+        this.direction = Message.Direction.forValue(direction);
+        this.rawDirection = direction;
         this.errorCode = errorCode;
         this.errorMessage = errorMessage;
         this.from = from;
@@ -424,10 +434,38 @@ public class Message extends Resource {
         this.price = price;
         this.priceUnit = priceUnit;
         this.sid = sid;
-        this.status = status;
+        this.status = Message.Status.forValue(status);
+        this.rawStatus = status;
         this.subresourceUris = subresourceUris;
         this.to = to;
         this.uri = uri;
+        this.raw = null;
+    }
+
+    private Message(final RawRecord raw) {
+        this.accountSid = null;
+        this.apiVersion = null;
+        this.body = null;
+        this.dateCreated = null;
+        this.dateUpdated = null;
+        this.dateSent = null;
+        this.direction = null;
+        this.rawDirection = null;
+        this.errorCode = null;
+        this.errorMessage = null;
+        this.from = null;
+        this.messagingServiceSid = null;
+        this.numMedia = null;
+        this.numSegments = null;
+        this.price = null;
+        this.priceUnit = null;
+        this.sid = null;
+        this.status = null;
+        this.rawStatus = null;
+        this.subresourceUris = null;
+        this.to = null;
+        this.uri = null;
+        this.raw = raw;
     }
 
     /**
@@ -436,7 +474,17 @@ public class Message extends Resource {
      * @return The unique sid that identifies this account
      */
     public final String getAccountSid() {
-        return this.accountSid;
+        return raw == null ? this.accountSid : raw.string("account_sid");
+    }
+
+    /**
+     * Returns the id of the account that sent or received this message, as a {@link Sid}.
+     * 
+     * @return the account id, null if there is none
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getAccountSidValue() {
+        return Sid.of(getAccountSid());
     }
 
     /**
@@ -445,7 +493,7 @@ public class Message extends Resource {
      * @return The version of the Twilio API used to process the message.
      */
     public final String getApiVersion() {
-        return this.apiVersion;
+        return raw == null ? this.apiVersion : raw.string("api_version");
     }
 
     /**
@@ -454,7 +502,7 @@ public class Message extends Resource {
      * @return The text body of the message. Up to 1600 characters long.
      */
     public final String getBody() {
-        return this.body;
+        return raw == null ? this.body : raw.string("body");
     }
 
     /**
@@ -463,7 +511,7 @@ public class Message extends Resource {
      * @return The date this resource was created
      */
     public final DateTime getDateCreated() {
-        return this.dateCreated;
+        return raw == null ? this.dateCreated : raw.rfc2822DateTime("date_created");
     }
 
     /**
@@ -472,7 +520,7 @@ public class Message extends Resource {
      * @return The date this resource was last updated
      */
     public final DateTime getDateUpdated() {
-        return this.dateUpdated;
+        return raw == null ? this.dateUpdated : raw.rfc2822DateTime("date_updated");
     }
 
     /**
@@ -481,7 +529,7 @@ public class Message extends Resource {
      * @return The date the message was sent
      */
     public final DateTime getDateSent() {
-        return this.dateSent;
+        return raw == null ? this.dateSent : raw.rfc2822DateTime("date_sent");
     }
 
     /**
@@ -490,7 +538,16 @@ public class Message extends Resource {
      * @return The direction of the message
      */
     public final Message.Direction getDirection() {
-        return this.direction;
+        return raw == null ? this.direction : raw.enumValue("direction", Message.Direction.class);
+    }
+
+    /**
+     * Returns The raw direction, even if no {@link Message.Direction} matches.
+     * 
+     * @return The direction as returned by the API
+     */
+    public final String getRawDirection() {
+        return raw == null ? this.rawDirection : raw.string("direction");
     }
 
     /**
@@ -499,7 +556,7 @@ public class Message extends Resource {
      * @return The error code associated with the message
      */
     public final Integer getErrorCode() {
-        return this.errorCode;
+        return raw == null ? this.errorCode : raw.value("error_code", Integer.class);
     }
 
     /**
@@ -508,7 +565,7 @@ public class Message extends Resource {
      * @return Human readable description of the ErrorCode
      */
     public final String getErrorMessage() {
-        return this.errorMessage;
+        return raw == null ? this.errorMessage : raw.string("error_message");
     }
 
     /**
@@ -517,7 +574,16 @@ public class Message extends Resource {
      * @return The phone number that initiated the message
      */
     public final com.twilio.type.PhoneNumber getFrom() {
-        return this.from;
+        return raw == null ? this.from : raw.value("from", com.twilio.type.PhoneNumber.class);
+    }
+
+    /**
+     * Returns the number that sent this message, normalized as an {@link E164Number}.
+     * 
+     * @return the sender's number, null if there is none or the sender is an alphanumeric sender id
+     */
+    public final E164Number getFromNumber() {
+        return E164Number.tryParse(getFrom() == null ? null : getFrom().getEndpoint());
     }
 
     /**
@@ -526,7 +592,17 @@ public class Message extends Resource {
      * @return The messaging_service_sid
      */
     public final String getMessagingServiceSid() {
-        return this.messagingServiceSid;
+        return raw == null ? this.messagingServiceSid : raw.string("messaging_service_sid");
+    }
+
+    /**
+     * Returns the id of the messaging service the message was sent through, as a {@link Sid}.
+     * 
+     * @return the messaging service id, null if none was used
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getMessagingServiceSidValue() {
+        return Sid.of(getMessagingServiceSid());
     }
 
     /**
@@ -535,7 +611,7 @@ public class Message extends Resource {
      * @return Number of media files associated with the message
      */
     public final String getNumMedia() {
-        return this.numMedia;
+        return raw == null ? this.numMedia : raw.string("num_media");
     }
 
     /**
@@ -544,7 +620,7 @@ public class Message extends Resource {
      * @return Indicates number of messages used to delivery the body
      */
     public final String getNumSegments() {
-        return this.numSegments;
+        return raw == null ? this.numSegments : raw.string("num_segments");
     }
 
     /**
@@ -553,7 +629,7 @@ public class Message extends Resource {
      * @return The amount billed for the message
      */
     public final BigDecimal getPrice() {
-        return this.price;
+        return raw == null ? this.price : raw.value("price", BigDecimal.class);
     }
 
     /**
@@ -562,7 +638,7 @@ public class Message extends Resource {
      * @return The currency in which Price is measured
      */
     public final Currency getPriceUnit() {
-        return this.priceUnit;
+        return raw == null ? this.priceUnit : raw.currency("price_unit");
     }
 
     /**
@@ -571,7 +647,17 @@ public class Message extends Resource {
      * @return A string that uniquely identifies this message
      */
     public final String getSid() {
-        return this.sid;
+        return raw == null ? this.sid : raw.string("sid");
+    }
+
+    /**
+     * Returns the id of this message, as a {@link Sid}.
+     * 
+     * @return the message id, null if there is none
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getSidValue() {
+        return Sid.of(getSid());
     }
 
     /**
@@ -580,7 +666,16 @@ public class Message extends Resource {
      * @return The status of this message
      */
     public final Message.Status getStatus() {
-        return this.status;
+        return raw == null ? this.status : raw.enumValue("status", Message.Status.class);
+    }
+
+    /**
+     * Returns The raw status, even if no {@link Message.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return raw == null ? this.rawStatus : raw.string("status");
     }
 
     /**
@@ -589,7 +684,7 @@ public class Message extends Resource {
      * @return The subresource_uris
      */
     public final Map<String, String> getSubresourceUris() {
-        return this.subresourceUris;
+        return raw == null ? this.subresourceUris : raw.value("subresource_uris", SUBRESOURCE_URIS);
     }
 
     /**
@@ -598,7 +693,16 @@ public class Message extends Resource {
      * @return The phone number that received the message
      */
     public final String getTo() {
-        return this.to;
+        return raw == null ? this.to : raw.string("to");
+    }
+
+    /**
+     * Returns the number this message was sent to, normalized as an {@link E164Number}.
+     * 
+     * @return the recipient's number, null if there is none or the recipient isn't a phone number
+     */
+    public final E164Number getToNumber() {
+        return E164Number.tryParse(getTo());
     }
 
     /**
@@ -607,7 +711,12 @@ public class Message extends Resource {
      * @return The URI for this resource
      */
     public final String getUri() {
-        return this.uri;
+        return raw == null ? this.uri : raw.string("uri");
+    }
+
+    private Object writeReplace() {
+        // Serialize the decoded resource rather than the page the raw record points into
+        return raw == null ? this : raw.materialize(Message.class);
     }
 
     @Override
@@ -622,75 +731,77 @@ public class Message extends Resource {
 
         Message other = (Message) o;
 
-        return Objects.equals(accountSid, other.accountSid) && 
-               Objects.equals(apiVersion, other.apiVersion) && 
-               Objects.equals(body, other.body) && 
-               Objects.equals(dateCreated, other.dateCreated) && 
-               Objects.equals(dateUpdated, other.dateUpdated) && 
-               Objects.equals(dateSent, other.dateSent) && 
-               Objects.equals(direction, other.direction) && 
-               Objects.equals(errorCode, other.errorCode) && 
-               Objects.equals(errorMessage, other.errorMessage) && 
-               Objects.equals(from, other.from) && 
-               Objects.equals(messagingServiceSid, other.messagingServiceSid) && 
-               Objects.equals(numMedia, other.numMedia) && 
-               Objects.equals(numSegments, other.numSegments) && 
-               Objects.equals(price, other.price) && 
-               Objects.equals(priceUnit, other.priceUnit) && 
-               Objects.equals(sid, other.sid) && 
-               Objects.equals(status, other.status) && 
-               Objects.equals(subresourceUris, other.subresourceUris) && 
-               Objects.equals(to, other.to) && 
-               Objects.equals(uri, other.uri);
+        return Objects.equals(getAccountSid(), other.getAccountSid()) && 
+               Objects.equals(getApiVersion(), other.getApiVersion()) && 
+               Objects.equals(getBody(), other.getBody()) && 
+               Objects.equals(getDateCreated(), other.getDateCreated()) && 
+               Objects.equals(getDateUpdated(), other.getDateUpdated()) && 
+               Objects.equals(getDateSent(), other.getDateSent()) && 
+               Objects.equals(getDirection(), other.getDirection()) && 
+               (getDirection() != null || Objects.equals(getRawDirection(), other.getRawDirection())) && 
+               Objects.equals(getErrorCode(), other.getErrorCode()) && 
+               Objects.equals(getErrorMessage(), other.getErrorMessage()) && 
+               Objects.equals(getFrom(), other.getFrom()) && 
+               Objects.equals(getMessagingServiceSid(), other.getMessagingServiceSid()) && 
+               Objects.equals(getNumMedia(), other.getNumMedia()) && 
+               Objects.equals(getNumSegments(), other.getNumSegments()) && 
+               Objects.equals(getPrice(), other.getPrice()) && 
+               Objects.equals(getPriceUnit(), other.getPriceUnit()) && 
+               Objects.equals(getSid(), other.getSid()) && 
+               Objects.equals(getStatus(), other.getStatus()) && 
+               (getStatus() != null || Objects.equals(getRawStatus(), other.getRawStatus())) && 
+               Objects.equals(getSubresourceUris(), other.getSubresourceUris()) && 
+               Objects.equals(getTo(), other.getTo()) && 
+               Objects.equals(getUri(), other.getUri());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(accountSid,
-                            apiVersion,
-                            body,
-                            dateCreated,
-                            dateUpdated,
-                            dateSent,
-                            direction,
-                            errorCode,
-                            errorMessage,
-                            from,
-                            messagingServiceSid,
-                            numMedia,
-                            numSegments,
-                            price,
-                            priceUnit,
-                            sid,
-                            status,
-                            subresourceUris,
-                            to,
-                            uri);
+        return Objects.hash(getAccountSid(),
+                            getApiVersion(),
+                            getBody(),
+                            getDateCreated(),
+                            getDateUpdated(),
+                            getDateSent(),
+                            getDirection() != null ? getDirection() : getRawDirection(),
+                            getErrorCode(),
+                            getErrorMessage(),
+                            getFrom(),
+                            getMessagingServiceSid(),
+                            getNumMedia(),
+                            getNumSegments(),
+                            getPrice(),
+                            getPriceUnit(),
+                            getSid(),
+                            getStatus() != null ? getStatus() : getRawStatus(),
+                            getSubresourceUris(),
+                            getTo(),
+                            getUri());
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                          .add("accountSid", accountSid)
-                          .add("apiVersion", apiVersion)
-                          .add("body", body)
-                          .add("dateCreated", dateCreated)
-                          .add("dateUpdated", dateUpdated)
-                          .add("dateSent", dateSent)
-                          .add("direction", direction)
-                          .add("errorCode", errorCode)
-                          .add("errorMessage", errorMessage)
-                          .add("from", from)
-                          .add("messagingServiceSid", messagingServiceSid)
-                          .add("numMedia", numMedia)
-                          .add("numSegments", numSegments)
-                          .add("price", price)
-                          .add("priceUnit", priceUnit)
-                          .add("sid", sid)
-                          .add("status", status)
-                          .add("subresourceUris", subresourceUris)
-                          .add("to", to)
-                          .add("uri", uri)
+                          .add("accountSid", getAccountSid())
+                          .add("apiVersion", getApiVersion())
+                          .add("body", getBody())
+                          .add("dateCreated", getDateCreated())
+                          .add("dateUpdated", getDateUpdated())
+                          .add("dateSent", getDateSent())
+                          .add("direction", getDirection())
+                          .add("errorCode", getErrorCode())
+                          .add("errorMessage", getErrorMessage())
+                          .add("from", getFrom())
+                          .add("messagingServiceSid", getMessagingServiceSid())
+                          .add("numMedia", getNumMedia())
+                          .add("numSegments", getNumSegments())
+                          .add("price", getPrice())
+                          .add("priceUnit", getPriceUnit())
+                          .add("sid", getSid())
+                          .add("status", getStatus())
+                          .add("subresourceUris", getSubresourceUris())
+                          .add("to", getTo())
+                          .add("uri", getUri())
                           .toString();
     }
 }
\ No newline at end of file
@@ -60,7 +60,7 @@ public class Recording extends Resource {
          */
         @JsonCreator
         public static Source forValue(final String value) {
-            return Promoter.enumFromString(value, Source.values());
+            return Promoter.enumFromString(value, Source.class);
         }
     }
 
@@ -85,7 +85,7 @@ public class Recording extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -200,8 +200,10 @@ public class Recording extends Resource {
     private final String price;
     private final String priceUnit;
     private final Recording.Status status;
+    private final String rawStatus;
     private final Integer channels;
     private final Recording.Source source;
+    private final String rawSource;
     private final String uri;
 
     @JsonCreator
@@ -224,11 +226,11 @@ public class Recording extends Resource {
                       @JsonProperty("price_unit")
                       final String priceUnit, 
                       @JsonProperty("status")
-                      final Recording.Status status, 
+                      final String status, 
                       @JsonProperty("channels")
                       final Integer channels, 
                       @JsonProperty("source")
-                      final Recording.Source source, 
+                      final String source, 
                       @JsonProperty("uri")
                       final String uri) {
         this.accountSid = accountSid;
@@ -240,9 +242,11 @@ public class Recording extends Resource {
         this.sid = sid;
         this.price = price;
         this.priceUnit = priceUnit;
-        this.status = status;
+        this.status = Recording.Status.forValue(status);
+        this.rawStatus = status;
         this.channels = channels;
-        this.source = source;
+        this.source = Recording.Source.forValue(source);
+        this.rawSource = source;
         this.uri = uri;
     }
 
@@ -336,6 +340,15 @@ public class Recording extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link Recording.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The The channels.
      * 
@@ -354,6 +367,15 @@ public class Recording extends Resource {
         return this.source;
     }
 
+    /**
+     * Returns The raw source, even if no {@link Recording.Source} matches.
+     * 
+     * @return The source as returned by the API
+     */
+    public final String getRawSource() {
+        return this.rawSource;
+    }
+
     /**
      * Returns The The URI for this resource.
      * 
@@ -385,8 +407,10 @@ public class Recording extends Resource {
                Objects.equals(price, other.price) && 
                Objects.equals(priceUnit, other.priceUnit) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(channels, other.channels) && 
                Objects.equals(source, other.source) && 
+               (source != null || Objects.equals(rawSource, other.rawSource)) && 
                Objects.equals(uri, other.uri);
     }
 
@@ -401,9 +425,9 @@ public class Recording extends Resource {
                             sid,
                             price,
                             priceUnit,
-                            status,
+                            status != null ? status : rawStatus,
                             channels,
-                            source,
+                            source != null ? source : rawSource,
                             uri);
     }
 
@@ -61,7 +61,7 @@ public class Transcription extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -176,6 +176,7 @@ public class Transcription extends Resource {
     private final String recordingSid;
     private final String sid;
     private final Transcription.Status status;
+    private final String rawStatus;
     private final String transcriptionText;
     private final String type;
     private final String uri;
@@ -201,7 +202,7 @@ public class Transcription extends Resource {
                           @JsonProperty("sid")
                           final String sid, 
                           @JsonProperty("status")
-                          final Transcription.Status status, 
+                          final String status, 
                           @JsonProperty("transcription_text")
                           final String transcriptionText, 
                           @JsonProperty("type")
@@ -217,7 +218,8 @@ public class Transcription extends Resource {
         this.priceUnit = priceUnit;
         this.recordingSid = recordingSid;
         this.sid = sid;
-        this.status = status;
+        this.status = Transcription.Status.forValue(status);
+        this.rawStatus = status;
         this.transcriptionText = transcriptionText;
         this.type = type;
         this.uri = uri;
@@ -313,6 +315,15 @@ public class Transcription extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link Transcription.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The The text content of the transcription..
      * 
@@ -362,6 +373,7 @@ public class Transcription extends Resource {
                Objects.equals(recordingSid, other.recordingSid) && 
                Objects.equals(sid, other.sid) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(transcriptionText, other.transcriptionText) && 
                Objects.equals(type, other.type) && 
                Objects.equals(uri, other.uri);
@@ -378,7 +390,7 @@ public class Transcription extends Resource {
                             priceUnit,
                             recordingSid,
                             sid,
-                            status,
+                            status != null ? status : rawStatus,
                             transcriptionText,
                             type,
                             uri);
@@ -64,7 +64,7 @@ public class Feedback extends Resource {
          */
         @JsonCreator
         public static Issues forValue(final String value) {
-            return Promoter.enumFromString(value, Issues.values());
+            return Promoter.enumFromString(value, Issues.class);
         }
     }
 
@@ -184,6 +184,7 @@ public class Feedback extends Resource {
     private final DateTime dateCreated;
     private final DateTime dateUpdated;
     private final List<Feedback.Issues> issues;
+    private final List<String> rawIssues;
     private final Integer qualityScore;
     private final String sid;
 
@@ -195,7 +196,7 @@ public class Feedback extends Resource {
                      @JsonProperty("date_updated")
                      final String dateUpdated, 
                      @JsonProperty("issues")
-                     final List<Feedback.Issues> issues, 
+                     final List<String> issues, 
                      @JsonProperty("quality_score")
                      final Integer qualityScore, 
                      @JsonProperty("sid")
@@ -203,7 +204,8 @@ public class Feedback extends Resource {
         this.accountSid = accountSid;
         this.dateCreated = DateConverter.rfc2822DateTimeFromString(dateCreated);
         this.dateUpdated = DateConverter.rfc2822DateTimeFromString(dateUpdated);
-        this.issues = issues;
+        this.issues = Promoter.enumsFromStrings(issues, Feedback.Issues.class);
+        this.rawIssues = issues;
         this.qualityScore = qualityScore;
         this.sid = sid;
     }
@@ -244,6 +246,15 @@ public class Feedback extends Resource {
         return this.issues;
     }
 
+    /**
+     * Returns The raw issues, even those no {@link Feedback.Issues} matches.
+     * 
+     * @return The issues as returned by the API
+     */
+    public final List<String> getRawIssues() {
+        return this.rawIssues;
+    }
+
     /**
      * Returns The 1 to 5 quality score.
      * 
@@ -278,6 +289,7 @@ public class Feedback extends Resource {
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(dateUpdated, other.dateUpdated) && 
                Objects.equals(issues, other.issues) && 
+               (Promoter.isPromoted(issues) || Objects.equals(rawIssues, other.rawIssues)) && 
                Objects.equals(qualityScore, other.qualityScore) && 
                Objects.equals(sid, other.sid);
     }
@@ -287,7 +299,7 @@ public class Feedback extends Resource {
         return Objects.hash(accountSid,
                             dateCreated,
                             dateUpdated,
-                            issues,
+                            Promoter.isPromoted(issues) ? issues : rawIssues,
                             qualityScore,
                             sid);
     }
@@ -63,7 +63,7 @@ public class FeedbackSummary extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -189,6 +189,7 @@ public class FeedbackSummary extends Resource {
     private final String sid;
     private final DateTime startDate;
     private final FeedbackSummary.Status status;
+    private final String rawStatus;
 
     @JsonCreator
     private FeedbackSummary(@JsonProperty("account_sid")
@@ -218,7 +219,7 @@ public class FeedbackSummary extends Resource {
                             @JsonProperty("start_date")
                             final String startDate, 
                             @JsonProperty("status")
-                            final FeedbackSummary.Status status) {
+                            final String status) {
         this.accountSid = accountSid;
         this.callCount = callCount;
         this.callFeedbackCount = callFeedbackCount;
@@ -232,7 +233,8 @@ public class FeedbackSummary extends Resource {
         this.qualityScoreStandardDeviation = qualityScoreStandardDeviation;
         this.sid = sid;
         this.startDate = DateConverter.iso8601DateTimeFromString(startDate);
-        this.status = status;
+        this.status = FeedbackSummary.Status.forValue(status);
+        this.rawStatus = status;
     }
 
     /**
@@ -361,6 +363,15 @@ public class FeedbackSummary extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link FeedbackSummary.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -386,7 +397,8 @@ public class FeedbackSummary extends Resource {
                Objects.equals(qualityScoreStandardDeviation, other.qualityScoreStandardDeviation) && 
                Objects.equals(sid, other.sid) && 
                Objects.equals(startDate, other.startDate) && 
-               Objects.equals(status, other.status);
+               Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus));
     }
 
     @Override
@@ -404,7 +416,7 @@ public class FeedbackSummary extends Resource {
                             qualityScoreStandardDeviation,
                             sid,
                             startDate,
-                            status);
+                            status != null ? status : rawStatus);
     }
 
     @Override
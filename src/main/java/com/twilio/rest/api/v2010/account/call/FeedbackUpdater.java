@@ -25,6 +25,7 @@ public class FeedbackUpdater extends Updater<Feedback> {
     private final String pathCallSid;
     private final Integer qualityScore;
     private List<Feedback.Issues> issue;
+    private List<String> rawIssue;
 
     /**
      * Construct a new FeedbackUpdater.
@@ -74,6 +75,28 @@ public class FeedbackUpdater extends Updater<Feedback> {
         return setIssue(Promoter.listOfOne(issue));
     }
 
+    /**
+     * The issue as the values the API takes, for values no {@link Feedback.Issues}
+     * matches yet. They're sent alongside any set with {@link #setIssue(List)}.
+     * 
+     * @param rawIssue The issue as raw values
+     * @return this
+     */
+    public FeedbackUpdater setRawIssue(final List<String> rawIssue) {
+        this.rawIssue = rawIssue;
+        return this;
+    }
+
+    /**
+     * The issue as the value the API takes, for a value no {@link Feedback.Issues} matches yet.
+     * 
+     * @param rawIssue The issue as a raw value
+     * @return this
+     */
+    public FeedbackUpdater setRawIssue(final String rawIssue) {
+        return setRawIssue(Promoter.listOfOne(rawIssue));
+    }
+
     /**
      * Make the request to the Twilio API to perform the update.
      * 
@@ -129,5 +152,11 @@ public class FeedbackUpdater extends Updater<Feedback> {
                 request.addPostParam("Issue", prop.toString());
             }
         }
+
+        if (rawIssue != null) {
+            for (String prop : rawIssue) {
+                request.addPostParam("Issue", prop);
+            }
+        }
     }
 }
\ No newline at end of file
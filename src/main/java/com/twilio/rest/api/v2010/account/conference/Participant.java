@@ -61,7 +61,7 @@ public class Participant extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -243,6 +243,7 @@ public class Participant extends Resource {
     private final Boolean hold;
     private final Boolean startConferenceOnEnter;
     private final Participant.Status status;
+    private final String rawStatus;
     private final String uri;
 
     @JsonCreator
@@ -265,7 +266,7 @@ public class Participant extends Resource {
                         @JsonProperty("start_conference_on_enter")
                         final Boolean startConferenceOnEnter, 
                         @JsonProperty("status")
-                        final Participant.Status status, 
+                        final String status, 
                         @JsonProperty("uri")
                         final String uri) {
         this.accountSid = accountSid;
@@ -277,7 +278,8 @@ public class Participant extends Resource {
         this.muted = muted;
         this.hold = hold;
         this.startConferenceOnEnter = startConferenceOnEnter;
-        this.status = status;
+        this.status = Participant.Status.forValue(status);
+        this.rawStatus = status;
         this.uri = uri;
     }
 
@@ -371,6 +373,15 @@ public class Participant extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link Participant.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The The URI for this resource.
      * 
@@ -402,6 +413,7 @@ public class Participant extends Resource {
                Objects.equals(hold, other.hold) && 
                Objects.equals(startConferenceOnEnter, other.startConferenceOnEnter) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(uri, other.uri);
     }
 
@@ -416,7 +428,7 @@ public class Participant extends Resource {
                             muted,
                             hold,
                             startConferenceOnEnter,
-                            status,
+                            status != null ? status : rawStatus,
                             uri);
     }
 
@@ -61,7 +61,7 @@ public class Local extends Resource {
          */
         @JsonCreator
         public static AddressRequirement forValue(final String value) {
-            return Promoter.enumFromString(value, AddressRequirement.values());
+            return Promoter.enumFromString(value, AddressRequirement.class);
         }
     }
 
@@ -145,6 +145,7 @@ public class Local extends Resource {
 
     private final String accountSid;
     private final Local.AddressRequirement addressRequirements;
+    private final String rawAddressRequirements;
     private final String apiVersion;
     private final Boolean beta;
     private final PhoneNumberCapabilities capabilities;
@@ -173,7 +174,7 @@ public class Local extends Resource {
     private Local(@JsonProperty("account_sid")
                   final String accountSid, 
                   @JsonProperty("address_requirements")
-                  final Local.AddressRequirement addressRequirements, 
+                  final String addressRequirements, 
                   @JsonProperty("api_version")
                   final String apiVersion, 
                   @JsonProperty("beta")
@@ -221,7 +222,8 @@ public class Local extends Resource {
                   @JsonProperty("voice_url")
                   final URI voiceUrl) {
         this.accountSid = accountSid;
-        this.addressRequirements = addressRequirements;
+        this.addressRequirements = Local.AddressRequirement.forValue(addressRequirements);
+        this.rawAddressRequirements = addressRequirements;
         this.apiVersion = apiVersion;
         this.beta = beta;
         this.capabilities = capabilities;
@@ -265,6 +267,15 @@ public class Local extends Resource {
         return this.addressRequirements;
     }
 
+    /**
+     * Returns The raw addressRequirements, even if no {@link Local.AddressRequirement} matches.
+     * 
+     * @return The addressRequirements as returned by the API
+     */
+    public final String getRawAddressRequirements() {
+        return this.rawAddressRequirements;
+    }
+
     /**
      * Returns The The api_version.
      * 
@@ -486,6 +497,7 @@ public class Local extends Resource {
 
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(addressRequirements, other.addressRequirements) && 
+               (addressRequirements != null || Objects.equals(rawAddressRequirements, other.rawAddressRequirements)) && 
                Objects.equals(apiVersion, other.apiVersion) && 
                Objects.equals(beta, other.beta) && 
                Objects.equals(capabilities, other.capabilities) && 
@@ -514,7 +526,7 @@ public class Local extends Resource {
     @Override
     public int hashCode() {
         return Objects.hash(accountSid,
-                            addressRequirements,
+                            addressRequirements != null ? addressRequirements : rawAddressRequirements,
                             apiVersion,
                             beta,
                             capabilities,
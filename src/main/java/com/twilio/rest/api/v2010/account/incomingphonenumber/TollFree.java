@@ -61,7 +61,7 @@ public class TollFree extends Resource {
          */
         @JsonCreator
         public static AddressRequirement forValue(final String value) {
-            return Promoter.enumFromString(value, AddressRequirement.values());
+            return Promoter.enumFromString(value, AddressRequirement.class);
         }
     }
 
@@ -146,6 +146,7 @@ public class TollFree extends Resource {
 
     private final String accountSid;
     private final TollFree.AddressRequirement addressRequirements;
+    private final String rawAddressRequirements;
     private final String apiVersion;
     private final Boolean beta;
     private final PhoneNumberCapabilities capabilities;
@@ -174,7 +175,7 @@ public class TollFree extends Resource {
     private TollFree(@JsonProperty("account_sid")
                      final String accountSid, 
                      @JsonProperty("address_requirements")
-                     final TollFree.AddressRequirement addressRequirements, 
+                     final String addressRequirements, 
                      @JsonProperty("api_version")
                      final String apiVersion, 
                      @JsonProperty("beta")
@@ -222,7 +223,8 @@ public class TollFree extends Resource {
                      @JsonProperty("voice_url")
                      final URI voiceUrl) {
         this.accountSid = accountSid;
-        this.addressRequirements = addressRequirements;
+        this.addressRequirements = TollFree.AddressRequirement.forValue(addressRequirements);
+        this.rawAddressRequirements = addressRequirements;
         this.apiVersion = apiVersion;
         this.beta = beta;
         this.capabilities = capabilities;
@@ -266,6 +268,15 @@ public class TollFree extends Resource {
         return this.addressRequirements;
     }
 
+    /**
+     * Returns The raw addressRequirements, even if no {@link TollFree.AddressRequirement} matches.
+     * 
+     * @return The addressRequirements as returned by the API
+     */
+    public final String getRawAddressRequirements() {
+        return this.rawAddressRequirements;
+    }
+
     /**
      * Returns The The api_version.
      * 
@@ -487,6 +498,7 @@ public class TollFree extends Resource {
 
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(addressRequirements, other.addressRequirements) && 
+               (addressRequirements != null || Objects.equals(rawAddressRequirements, other.rawAddressRequirements)) && 
                Objects.equals(apiVersion, other.apiVersion) && 
                Objects.equals(beta, other.beta) && 
                Objects.equals(capabilities, other.capabilities) && 
@@ -515,7 +527,7 @@ public class TollFree extends Resource {
     @Override
     public int hashCode() {
         return Objects.hash(accountSid,
-                            addressRequirements,
+                            addressRequirements != null ? addressRequirements : rawAddressRequirements,
                             apiVersion,
                             beta,
                             capabilities,
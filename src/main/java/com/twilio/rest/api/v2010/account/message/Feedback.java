@@ -57,7 +57,7 @@ public class Feedback extends Resource {
          */
         @JsonCreator
         public static Outcome forValue(final String value) {
-            return Promoter.enumFromString(value, Outcome.values());
+            return Promoter.enumFromString(value, Outcome.class);
         }
     }
 
@@ -124,6 +124,7 @@ public class Feedback extends Resource {
     private final String accountSid;
     private final String messageSid;
     private final Feedback.Outcome outcome;
+    private final String rawOutcome;
     private final DateTime dateCreated;
     private final DateTime dateUpdated;
     private final String uri;
@@ -134,7 +135,7 @@ public class Feedback extends Resource {
                      @JsonProperty("message_sid")
                      final String messageSid, 
                      @JsonProperty("outcome")
-                     final Feedback.Outcome outcome, 
+                     final String outcome, 
                      @JsonProperty("date_created")
                      final String dateCreated, 
                      @JsonProperty("date_updated")
@@ -143,7 +144,8 @@ public class Feedback extends Resource {
                      final String uri) {
         this.accountSid = accountSid;
         this.messageSid = messageSid;
-        this.outcome = outcome;
+        this.outcome = Feedback.Outcome.forValue(outcome);
+        this.rawOutcome = outcome;
         this.dateCreated = DateConverter.rfc2822DateTimeFromString(dateCreated);
         this.dateUpdated = DateConverter.rfc2822DateTimeFromString(dateUpdated);
         this.uri = uri;
@@ -176,6 +178,15 @@ public class Feedback extends Resource {
         return this.outcome;
     }
 
+    /**
+     * Returns The raw outcome, even if no {@link Feedback.Outcome} matches.
+     * 
+     * @return The outcome as returned by the API
+     */
+    public final String getRawOutcome() {
+        return this.rawOutcome;
+    }
+
     /**
      * Returns The The date_created.
      * 
@@ -218,6 +229,7 @@ public class Feedback extends Resource {
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(messageSid, other.messageSid) && 
                Objects.equals(outcome, other.outcome) && 
+               (outcome != null || Objects.equals(rawOutcome, other.rawOutcome)) && 
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(dateUpdated, other.dateUpdated) && 
                Objects.equals(uri, other.uri);
@@ -227,7 +239,7 @@ public class Feedback extends Resource {
     public int hashCode() {
         return Objects.hash(accountSid,
                             messageSid,
-                            outcome,
+                            outcome != null ? outcome : rawOutcome,
                             dateCreated,
                             dateUpdated,
                             uri);
@@ -63,7 +63,7 @@ public class AddOnResult extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -182,6 +182,7 @@ public class AddOnResult extends Resource {
     private final String sid;
     private final String accountSid;
     private final AddOnResult.Status status;
+    private final String rawStatus;
     private final String addOnSid;
     private final String addOnConfigurationSid;
     private final DateTime dateCreated;
@@ -196,7 +197,7 @@ public class AddOnResult extends Resource {
                         @JsonProperty("account_sid")
                         final String accountSid, 
                         @JsonProperty("status")
-                        final AddOnResult.Status status, 
+                        final String status, 
                         @JsonProperty("add_on_sid")
                         final String addOnSid, 
                         @JsonProperty("add_on_configuration_sid")
@@ -213,7 +214,8 @@ public class AddOnResult extends Resource {
                         final Map<String, String> subresourceUris) {
         this.sid = sid;
         this.accountSid = accountSid;
-        this.status = status;
+        this.status = AddOnResult.Status.forValue(status);
+        this.rawStatus = status;
         this.addOnSid = addOnSid;
         this.addOnConfigurationSid = addOnConfigurationSid;
         this.dateCreated = DateConverter.rfc2822DateTimeFromString(dateCreated);
@@ -250,6 +252,15 @@ public class AddOnResult extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link AddOnResult.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The A string that uniquely identifies the Add-on..
      * 
@@ -328,6 +339,7 @@ public class AddOnResult extends Resource {
         return Objects.equals(sid, other.sid) && 
                Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(addOnSid, other.addOnSid) && 
                Objects.equals(addOnConfigurationSid, other.addOnConfigurationSid) && 
                Objects.equals(dateCreated, other.dateCreated) && 
@@ -341,7 +353,7 @@ public class AddOnResult extends Resource {
     public int hashCode() {
         return Objects.hash(sid,
                             accountSid,
-                            status,
+                            status != null ? status : rawStatus,
                             addOnSid,
                             addOnConfigurationSid,
                             dateCreated,
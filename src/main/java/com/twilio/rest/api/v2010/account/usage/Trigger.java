@@ -237,7 +237,7 @@ public class Trigger extends Resource {
          */
         @JsonCreator
         public static UsageCategory forValue(final String value) {
-            return Promoter.enumFromString(value, UsageCategory.values());
+            return Promoter.enumFromString(value, UsageCategory.class);
         }
     }
 
@@ -264,7 +264,7 @@ public class Trigger extends Resource {
          */
         @JsonCreator
         public static Recurring forValue(final String value) {
-            return Promoter.enumFromString(value, Recurring.values());
+            return Promoter.enumFromString(value, Recurring.class);
         }
     }
 
@@ -290,7 +290,7 @@ public class Trigger extends Resource {
          */
         @JsonCreator
         public static TriggerField forValue(final String value) {
-            return Promoter.enumFromString(value, TriggerField.values());
+            return Promoter.enumFromString(value, TriggerField.class);
         }
     }
 
@@ -456,11 +456,14 @@ public class Trigger extends Resource {
     private final DateTime dateUpdated;
     private final String friendlyName;
     private final Trigger.Recurring recurring;
+    private final String rawRecurring;
     private final String sid;
     private final Trigger.TriggerField triggerBy;
+    private final String rawTriggerBy;
     private final String triggerValue;
     private final String uri;
     private final Trigger.UsageCategory usageCategory;
+    private final String rawUsageCategory;
     private final String usageRecordUri;
 
     @JsonCreator
@@ -483,17 +486,17 @@ public class Trigger extends Resource {
                     @JsonProperty("friendly_name")
                     final String friendlyName, 
                     @JsonProperty("recurring")
-                    final Trigger.Recurring recurring, 
+                    final String recurring, 
                     @JsonProperty("sid")
                     final String sid, 
                     @JsonProperty("trigger_by")
-                    final Trigger.TriggerField triggerBy, 
+                    final String triggerBy, 
                     @JsonProperty("trigger_value")
                     final String triggerValue, 
                     @JsonProperty("uri")
                     final String uri, 
                     @JsonProperty("usage_category")
-                    final Trigger.UsageCategory usageCategory, 
+                    final String usageCategory, 
                     @JsonProperty("usage_record_uri")
                     final String usageRecordUri) {
         this.accountSid = accountSid;
@@ -505,12 +508,15 @@ public class Trigger extends Resource {
         this.dateFired = DateConverter.rfc2822DateTimeFromString(dateFired);
         this.dateUpdated = DateConverter.rfc2822DateTimeFromString(dateUpdated);
         this.friendlyName = friendlyName;
-        this.recurring = recurring;
+        this.recurring = Trigger.Recurring.forValue(recurring);
+        this.rawRecurring = recurring;
         this.sid = sid;
-        this.triggerBy = triggerBy;
+        this.triggerBy = Trigger.TriggerField.forValue(triggerBy);
+        this.rawTriggerBy = triggerBy;
         this.triggerValue = triggerValue;
         this.uri = uri;
-        this.usageCategory = usageCategory;
+        this.usageCategory = Trigger.UsageCategory.forValue(usageCategory);
+        this.rawUsageCategory = usageCategory;
         this.usageRecordUri = usageRecordUri;
     }
 
@@ -604,6 +610,15 @@ public class Trigger extends Resource {
         return this.recurring;
     }
 
+    /**
+     * Returns The raw recurring, even if no {@link Trigger.Recurring} matches.
+     * 
+     * @return The recurring as returned by the API
+     */
+    public final String getRawRecurring() {
+        return this.rawRecurring;
+    }
+
     /**
      * Returns The The trigger's unique Sid.
      * 
@@ -622,6 +637,15 @@ public class Trigger extends Resource {
         return this.triggerBy;
     }
 
+    /**
+     * Returns The raw triggerBy, even if no {@link Trigger.TriggerField} matches.
+     * 
+     * @return The triggerBy as returned by the API
+     */
+    public final String getRawTriggerBy() {
+        return this.rawTriggerBy;
+    }
+
     /**
      * Returns The the value at which the trigger will fire.
      * 
@@ -649,6 +673,15 @@ public class Trigger extends Resource {
         return this.usageCategory;
     }
 
+    /**
+     * Returns The raw usageCategory, even if no {@link Trigger.UsageCategory} matches.
+     * 
+     * @return The usageCategory as returned by the API
+     */
+    public final String getRawUsageCategory() {
+        return this.rawUsageCategory;
+    }
+
     /**
      * Returns The The URI of the UsageRecord this trigger is watching.
      * 
@@ -680,11 +713,14 @@ public class Trigger extends Resource {
                Objects.equals(dateUpdated, other.dateUpdated) && 
                Objects.equals(friendlyName, other.friendlyName) && 
                Objects.equals(recurring, other.recurring) && 
+               (recurring != null || Objects.equals(rawRecurring, other.rawRecurring)) && 
                Objects.equals(sid, other.sid) && 
                Objects.equals(triggerBy, other.triggerBy) && 
+               (triggerBy != null || Objects.equals(rawTriggerBy, other.rawTriggerBy)) && 
                Objects.equals(triggerValue, other.triggerValue) && 
                Objects.equals(uri, other.uri) && 
                Objects.equals(usageCategory, other.usageCategory) && 
+               (usageCategory != null || Objects.equals(rawUsageCategory, other.rawUsageCategory)) && 
                Objects.equals(usageRecordUri, other.usageRecordUri);
     }
 
@@ -699,12 +735,12 @@ public class Trigger extends Resource {
                             dateFired,
                             dateUpdated,
                             friendlyName,
-                            recurring,
+                            recurring != null ? recurring : rawRecurring,
                             sid,
-                            triggerBy,
+                            triggerBy != null ? triggerBy : rawTriggerBy,
                             triggerValue,
                             uri,
-                            usageCategory,
+                            usageCategory != null ? usageCategory : rawUsageCategory,
                             usageRecordUri);
     }
 
@@ -239,7 +239,7 @@ public class Yearly extends Resource {
          */
         @JsonCreator
         public static Category forValue(final String value) {
-            return Promoter.enumFromString(value, Category.values());
+            return Promoter.enumFromString(value, Category.class);
         }
     }
 
@@ -302,6 +302,7 @@ public class Yearly extends Resource {
     private final String accountSid;
     private final String apiVersion;
     private final Yearly.Category category;
+    private final String rawCategory;
     private final String count;
     private final String countUnit;
     private final String description;
@@ -320,7 +321,7 @@ public class Yearly extends Resource {
                    @JsonProperty("api_version")
                    final String apiVersion, 
                    @JsonProperty("category")
-                   final Yearly.Category category, 
+                   final String category, 
                    @JsonProperty("count")
                    final String count, 
                    @JsonProperty("count_unit")
@@ -346,7 +347,8 @@ public class Yearly extends Resource {
                    final String usageUnit) {
         this.accountSid = accountSid;
         this.apiVersion = apiVersion;
-        this.category = category;
+        this.category = Yearly.Category.forValue(category);
+        this.rawCategory = category;
         this.count = count;
         this.countUnit = countUnit;
         this.description = description;
@@ -387,6 +389,15 @@ public class Yearly extends Resource {
         return this.category;
     }
 
+    /**
+     * Returns The raw category, even if no {@link Yearly.Category} matches.
+     * 
+     * @return The category as returned by the API
+     */
+    public final String getRawCategory() {
+        return this.rawCategory;
+    }
+
     /**
      * Returns The The count.
      * 
@@ -501,6 +512,7 @@ public class Yearly extends Resource {
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(apiVersion, other.apiVersion) && 
                Objects.equals(category, other.category) && 
+               (category != null || Objects.equals(rawCategory, other.rawCategory)) && 
                Objects.equals(count, other.count) && 
                Objects.equals(countUnit, other.countUnit) && 
                Objects.equals(description, other.description) && 
@@ -518,7 +530,7 @@ public class Yearly extends Resource {
     public int hashCode() {
         return Objects.hash(accountSid,
                             apiVersion,
-                            category,
+                            category != null ? category : rawCategory,
                             count,
                             countUnit,
                             description,
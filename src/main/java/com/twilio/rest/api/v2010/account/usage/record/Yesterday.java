@@ -239,7 +239,7 @@ public class Yesterday extends Resource {
          */
         @JsonCreator
         public static Category forValue(final String value) {
-            return Promoter.enumFromString(value, Category.values());
+            return Promoter.enumFromString(value, Category.class);
         }
     }
 
@@ -303,6 +303,7 @@ public class Yesterday extends Resource {
     private final String accountSid;
     private final String apiVersion;
     private final Yesterday.Category category;
+    private final String rawCategory;
     private final String count;
     private final String countUnit;
     private final String description;
@@ -321,7 +322,7 @@ public class Yesterday extends Resource {
                       @JsonProperty("api_version")
                       final String apiVersion, 
                       @JsonProperty("category")
-                      final Yesterday.Category category, 
+                      final String category, 
                       @JsonProperty("count")
                       final String count, 
                       @JsonProperty("count_unit")
@@ -347,7 +348,8 @@ public class Yesterday extends Resource {
                       final String usageUnit) {
         this.accountSid = accountSid;
         this.apiVersion = apiVersion;
-        this.category = category;
+        this.category = Yesterday.Category.forValue(category);
+        this.rawCategory = category;
         this.count = count;
         this.countUnit = countUnit;
         this.description = description;
@@ -388,6 +390,15 @@ public class Yesterday extends Resource {
         return this.category;
     }
 
+    /**
+     * Returns The raw category, even if no {@link Yesterday.Category} matches.
+     * 
+     * @return The category as returned by the API
+     */
+    public final String getRawCategory() {
+        return this.rawCategory;
+    }
+
     /**
      * Returns The The count.
      * 
@@ -502,6 +513,7 @@ public class Yesterday extends Resource {
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(apiVersion, other.apiVersion) && 
                Objects.equals(category, other.category) && 
+               (category != null || Objects.equals(rawCategory, other.rawCategory)) && 
                Objects.equals(count, other.count) && 
                Objects.equals(countUnit, other.countUnit) && 
                Objects.equals(description, other.description) && 
@@ -519,7 +531,7 @@ public class Yesterday extends Resource {
     public int hashCode() {
         return Objects.hash(accountSid,
                             apiVersion,
-                            category,
+                            category != null ? category : rawCategory,
                             count,
                             countUnit,
                             description,
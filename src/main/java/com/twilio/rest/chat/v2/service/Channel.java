@@ -58,7 +58,7 @@ public class Channel extends Resource {
          */
         @JsonCreator
         public static ChannelType forValue(final String value) {
-            return Promoter.enumFromString(value, ChannelType.values());
+            return Promoter.enumFromString(value, ChannelType.class);
         }
     }
 
@@ -162,6 +162,7 @@ public class Channel extends Resource {
     private final String uniqueName;
     private final String attributes;
     private final Channel.ChannelType type;
+    private final String rawType;
     private final DateTime dateCreated;
     private final DateTime dateUpdated;
     private final String createdBy;
@@ -184,7 +185,7 @@ public class Channel extends Resource {
                     @JsonProperty("attributes")
                     final String attributes, 
                     @JsonProperty("type")
-                    final Channel.ChannelType type, 
+                    final String type, 
                     @JsonProperty("date_created")
                     final String dateCreated, 
                     @JsonProperty("date_updated")
@@ -205,7 +206,8 @@ public class Channel extends Resource {
         this.friendlyName = friendlyName;
         this.uniqueName = uniqueName;
         this.attributes = attributes;
-        this.type = type;
+        this.type = Channel.ChannelType.forValue(type);
+        this.rawType = type;
         this.dateCreated = DateConverter.iso8601DateTimeFromString(dateCreated);
         this.dateUpdated = DateConverter.iso8601DateTimeFromString(dateUpdated);
         this.createdBy = createdBy;
@@ -278,6 +280,15 @@ public class Channel extends Resource {
         return this.type;
     }
 
+    /**
+     * Returns The raw type, even if no {@link Channel.ChannelType} matches.
+     * 
+     * @return The type as returned by the API
+     */
+    public final String getRawType() {
+        return this.rawType;
+    }
+
     /**
      * Returns The The date_created.
      * 
@@ -360,6 +371,7 @@ public class Channel extends Resource {
                Objects.equals(uniqueName, other.uniqueName) && 
                Objects.equals(attributes, other.attributes) && 
                Objects.equals(type, other.type) && 
+               (type != null || Objects.equals(rawType, other.rawType)) && 
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(dateUpdated, other.dateUpdated) && 
                Objects.equals(createdBy, other.createdBy) && 
@@ -377,7 +389,7 @@ public class Channel extends Resource {
                             friendlyName,
                             uniqueName,
                             attributes,
-                            type,
+                            type != null ? type : rawType,
                             dateCreated,
                             dateUpdated,
                             createdBy,
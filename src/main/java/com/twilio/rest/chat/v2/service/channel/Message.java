@@ -58,7 +58,7 @@ public class Message extends Resource {
          */
         @JsonCreator
         public static OrderType forValue(final String value) {
-            return Promoter.enumFromString(value, OrderType.values());
+            return Promoter.enumFromString(value, OrderType.class);
         }
     }
 
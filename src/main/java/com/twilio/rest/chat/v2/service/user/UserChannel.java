@@ -56,7 +56,7 @@ public class UserChannel extends Resource {
          */
         @JsonCreator
         public static ChannelStatus forValue(final String value) {
-            return Promoter.enumFromString(value, ChannelStatus.values());
+            return Promoter.enumFromString(value, ChannelStatus.class);
         }
     }
 
@@ -115,6 +115,7 @@ public class UserChannel extends Resource {
     private final String channelSid;
     private final String memberSid;
     private final UserChannel.ChannelStatus status;
+    private final String rawStatus;
     private final Integer lastConsumedMessageIndex;
     private final Integer unreadMessagesCount;
     private final Map<String, String> links;
@@ -129,7 +130,7 @@ public class UserChannel extends Resource {
                         @JsonProperty("member_sid")
                         final String memberSid, 
                         @JsonProperty("status")
-                        final UserChannel.ChannelStatus status, 
+                        final String status, 
                         @JsonProperty("last_consumed_message_index")
                         final Integer lastConsumedMessageIndex, 
                         @JsonProperty("unread_messages_count")
@@ -140,7 +141,8 @@ public class UserChannel extends Resource {
         this.serviceSid = serviceSid;
         this.channelSid = channelSid;
         this.memberSid = memberSid;
-        this.status = status;
+        this.status = UserChannel.ChannelStatus.forValue(status);
+        this.rawStatus = status;
         this.lastConsumedMessageIndex = lastConsumedMessageIndex;
         this.unreadMessagesCount = unreadMessagesCount;
         this.links = links;
@@ -191,6 +193,15 @@ public class UserChannel extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link UserChannel.ChannelStatus} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The The last_consumed_message_index.
      * 
@@ -235,6 +246,7 @@ public class UserChannel extends Resource {
                Objects.equals(channelSid, other.channelSid) && 
                Objects.equals(memberSid, other.memberSid) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(lastConsumedMessageIndex, other.lastConsumedMessageIndex) && 
                Objects.equals(unreadMessagesCount, other.unreadMessagesCount) && 
                Objects.equals(links, other.links);
@@ -246,7 +258,7 @@ public class UserChannel extends Resource {
                             serviceSid,
                             channelSid,
                             memberSid,
-                            status,
+                            status != null ? status : rawStatus,
                             lastConsumedMessageIndex,
                             unreadMessagesCount,
                             links);
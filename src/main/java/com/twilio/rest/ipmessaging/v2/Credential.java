@@ -59,7 +59,7 @@ public class Credential extends Resource {
          */
         @JsonCreator
         public static PushService forValue(final String value) {
-            return Promoter.enumFromString(value, PushService.values());
+            return Promoter.enumFromString(value, PushService.class);
         }
     }
 
@@ -154,6 +154,7 @@ public class Credential extends Resource {
     private final String accountSid;
     private final String friendlyName;
     private final Credential.PushService type;
+    private final String rawType;
     private final String sandbox;
     private final DateTime dateCreated;
     private final DateTime dateUpdated;
@@ -167,7 +168,7 @@ public class Credential extends Resource {
                        @JsonProperty("friendly_name")
                        final String friendlyName, 
                        @JsonProperty("type")
-                       final Credential.PushService type, 
+                       final String type, 
                        @JsonProperty("sandbox")
                        final String sandbox, 
                        @JsonProperty("date_created")
@@ -179,7 +180,8 @@ public class Credential extends Resource {
         this.sid = sid;
         this.accountSid = accountSid;
         this.friendlyName = friendlyName;
-        this.type = type;
+        this.type = Credential.PushService.forValue(type);
+        this.rawType = type;
         this.sandbox = sandbox;
         this.dateCreated = DateConverter.iso8601DateTimeFromString(dateCreated);
         this.dateUpdated = DateConverter.iso8601DateTimeFromString(dateUpdated);
@@ -222,6 +224,15 @@ public class Credential extends Resource {
         return this.type;
     }
 
+    /**
+     * Returns The raw type, even if no {@link Credential.PushService} matches.
+     * 
+     * @return The type as returned by the API
+     */
+    public final String getRawType() {
+        return this.rawType;
+    }
+
     /**
      * Returns The The sandbox.
      * 
@@ -274,6 +285,7 @@ public class Credential extends Resource {
                Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(friendlyName, other.friendlyName) && 
                Objects.equals(type, other.type) && 
+               (type != null || Objects.equals(rawType, other.rawType)) && 
                Objects.equals(sandbox, other.sandbox) && 
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(dateUpdated, other.dateUpdated) && 
@@ -285,7 +297,7 @@ public class Credential extends Resource {
         return Objects.hash(sid,
                             accountSid,
                             friendlyName,
-                            type,
+                            type != null ? type : rawType,
                             sandbox,
                             dateCreated,
                             dateUpdated,
@@ -59,7 +59,7 @@ public class Role extends Resource {
          */
         @JsonCreator
         public static RoleType forValue(final String value) {
-            return Promoter.enumFromString(value, RoleType.values());
+            return Promoter.enumFromString(value, RoleType.class);
         }
     }
 
@@ -169,6 +169,7 @@ public class Role extends Resource {
     private final String serviceSid;
     private final String friendlyName;
     private final Role.RoleType type;
+    private final String rawType;
     private final List<String> permissions;
     private final DateTime dateCreated;
     private final DateTime dateUpdated;
@@ -184,7 +185,7 @@ public class Role extends Resource {
                  @JsonProperty("friendly_name")
                  final String friendlyName, 
                  @JsonProperty("type")
-                 final Role.RoleType type, 
+                 final String type, 
                  @JsonProperty("permissions")
                  final List<String> permissions, 
                  @JsonProperty("date_created")
@@ -197,7 +198,8 @@ public class Role extends Resource {
         this.accountSid = accountSid;
         this.serviceSid = serviceSid;
         this.friendlyName = friendlyName;
-        this.type = type;
+        this.type = Role.RoleType.forValue(type);
+        this.rawType = type;
         this.permissions = permissions;
         this.dateCreated = DateConverter.iso8601DateTimeFromString(dateCreated);
         this.dateUpdated = DateConverter.iso8601DateTimeFromString(dateUpdated);
@@ -249,6 +251,15 @@ public class Role extends Resource {
         return this.type;
     }
 
+    /**
+     * Returns The raw type, even if no {@link Role.RoleType} matches.
+     * 
+     * @return The type as returned by the API
+     */
+    public final String getRawType() {
+        return this.rawType;
+    }
+
     /**
      * Returns The The permissions.
      * 
@@ -302,6 +313,7 @@ public class Role extends Resource {
                Objects.equals(serviceSid, other.serviceSid) && 
                Objects.equals(friendlyName, other.friendlyName) && 
                Objects.equals(type, other.type) && 
+               (type != null || Objects.equals(rawType, other.rawType)) && 
                Objects.equals(permissions, other.permissions) && 
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(dateUpdated, other.dateUpdated) && 
@@ -314,7 +326,7 @@ public class Role extends Resource {
                             accountSid,
                             serviceSid,
                             friendlyName,
-                            type,
+                            type != null ? type : rawType,
                             permissions,
                             dateCreated,
                             dateUpdated,
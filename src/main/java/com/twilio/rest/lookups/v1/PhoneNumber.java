@@ -58,7 +58,7 @@ public class PhoneNumber extends Resource {
          */
         @JsonCreator
         public static Type forValue(final String value) {
-            return Promoter.enumFromString(value, Type.values());
+            return Promoter.enumFromString(value, Type.class);
         }
     }
 
@@ -58,7 +58,7 @@ public class Workspace extends Resource {
          */
         @JsonCreator
         public static QueueOrder forValue(final String value) {
-            return Promoter.enumFromString(value, QueueOrder.values());
+            return Promoter.enumFromString(value, QueueOrder.class);
         }
     }
 
@@ -162,6 +162,7 @@ public class Workspace extends Resource {
     private final String timeoutActivityName;
     private final String timeoutActivitySid;
     private final Workspace.QueueOrder prioritizeQueueOrder;
+    private final String rawPrioritizeQueueOrder;
     private final URI url;
     private final Map<String, String> links;
 
@@ -191,7 +192,7 @@ public class Workspace extends Resource {
                       @JsonProperty("timeout_activity_sid")
                       final String timeoutActivitySid, 
                       @JsonProperty("prioritize_queue_order")
-                      final Workspace.QueueOrder prioritizeQueueOrder, 
+                      final String prioritizeQueueOrder, 
                       @JsonProperty("url")
                       final URI url, 
                       @JsonProperty("links")
@@ -208,7 +209,8 @@ public class Workspace extends Resource {
         this.sid = sid;
         this.timeoutActivityName = timeoutActivityName;
         this.timeoutActivitySid = timeoutActivitySid;
-        this.prioritizeQueueOrder = prioritizeQueueOrder;
+        this.prioritizeQueueOrder = Workspace.QueueOrder.forValue(prioritizeQueueOrder);
+        this.rawPrioritizeQueueOrder = prioritizeQueueOrder;
         this.url = url;
         this.links = links;
     }
@@ -330,6 +332,15 @@ public class Workspace extends Resource {
         return this.prioritizeQueueOrder;
     }
 
+    /**
+     * Returns The raw prioritizeQueueOrder, even if no {@link Workspace.QueueOrder} matches.
+     * 
+     * @return The prioritizeQueueOrder as returned by the API
+     */
+    public final String getRawPrioritizeQueueOrder() {
+        return this.rawPrioritizeQueueOrder;
+    }
+
     /**
      * Returns The The url.
      * 
@@ -373,6 +384,8 @@ public class Workspace extends Resource {
                Objects.equals(timeoutActivityName, other.timeoutActivityName) && 
                Objects.equals(timeoutActivitySid, other.timeoutActivitySid) && 
                Objects.equals(prioritizeQueueOrder, other.prioritizeQueueOrder) && 
+               (prioritizeQueueOrder != null ||
+                Objects.equals(rawPrioritizeQueueOrder, other.rawPrioritizeQueueOrder)) && 
                Objects.equals(url, other.url) && 
                Objects.equals(links, other.links);
     }
@@ -391,7 +404,7 @@ public class Workspace extends Resource {
                             sid,
                             timeoutActivityName,
                             timeoutActivitySid,
-                            prioritizeQueueOrder,
+                            prioritizeQueueOrder != null ? prioritizeQueueOrder : rawPrioritizeQueueOrder,
                             url,
                             links);
     }
@@ -62,7 +62,7 @@ public class Task extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -162,6 +162,7 @@ public class Task extends Resource {
     private final String accountSid;
     private final Integer age;
     private final Task.Status assignmentStatus;
+    private final String rawAssignmentStatus;
     private final String attributes;
     private final String addons;
     private final DateTime dateCreated;
@@ -186,7 +187,7 @@ public class Task extends Resource {
                  @JsonProperty("age")
                  final Integer age, 
                  @JsonProperty("assignment_status")
-                 final Task.Status assignmentStatus, 
+                 final String assignmentStatus, 
                  @JsonProperty("attributes")
                  final String attributes, 
                  @JsonProperty("addons")
@@ -223,7 +224,8 @@ public class Task extends Resource {
                  final Map<String, String> links) {
         this.accountSid = accountSid;
         this.age = age;
-        this.assignmentStatus = assignmentStatus;
+        this.assignmentStatus = Task.Status.forValue(assignmentStatus);
+        this.rawAssignmentStatus = assignmentStatus;
         this.attributes = attributes;
         this.addons = addons;
         this.dateCreated = DateConverter.iso8601DateTimeFromString(dateCreated);
@@ -270,6 +272,15 @@ public class Task extends Resource {
         return this.assignmentStatus;
     }
 
+    /**
+     * Returns The raw assignmentStatus, even if no {@link Task.Status} matches.
+     * 
+     * @return The assignmentStatus as returned by the API
+     */
+    public final String getRawAssignmentStatus() {
+        return this.rawAssignmentStatus;
+    }
+
     /**
      * Returns The The attributes.
      * 
@@ -438,6 +449,7 @@ public class Task extends Resource {
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(age, other.age) && 
                Objects.equals(assignmentStatus, other.assignmentStatus) && 
+               (assignmentStatus != null || Objects.equals(rawAssignmentStatus, other.rawAssignmentStatus)) && 
                Objects.equals(attributes, other.attributes) && 
                Objects.equals(addons, other.addons) && 
                Objects.equals(dateCreated, other.dateCreated) && 
@@ -461,7 +473,7 @@ public class Task extends Resource {
     public int hashCode() {
         return Objects.hash(accountSid,
                             age,
-                            assignmentStatus,
+                            assignmentStatus != null ? assignmentStatus : rawAssignmentStatus,
                             attributes,
                             addons,
                             dateCreated,
@@ -58,7 +58,7 @@ public class TaskQueue extends Resource {
          */
         @JsonCreator
         public static TaskOrder forValue(final String value) {
-            return Promoter.enumFromString(value, TaskOrder.values());
+            return Promoter.enumFromString(value, TaskOrder.class);
         }
     }
 
@@ -174,6 +174,7 @@ public class TaskQueue extends Resource {
     private final String sid;
     private final String targetWorkers;
     private final TaskQueue.TaskOrder taskOrder;
+    private final String rawTaskOrder;
     private final URI url;
     private final String workspaceSid;
     private final Map<String, String> links;
@@ -202,7 +203,7 @@ public class TaskQueue extends Resource {
                       @JsonProperty("target_workers")
                       final String targetWorkers, 
                       @JsonProperty("task_order")
-                      final TaskQueue.TaskOrder taskOrder, 
+                      final String taskOrder, 
                       @JsonProperty("url")
                       final URI url, 
                       @JsonProperty("workspace_sid")
@@ -220,7 +221,8 @@ public class TaskQueue extends Resource {
         this.reservationActivityName = reservationActivityName;
         this.sid = sid;
         this.targetWorkers = targetWorkers;
-        this.taskOrder = taskOrder;
+        this.taskOrder = TaskQueue.TaskOrder.forValue(taskOrder);
+        this.rawTaskOrder = taskOrder;
         this.url = url;
         this.workspaceSid = workspaceSid;
         this.links = links;
@@ -334,6 +336,15 @@ public class TaskQueue extends Resource {
         return this.taskOrder;
     }
 
+    /**
+     * Returns The raw taskOrder, even if no {@link TaskQueue.TaskOrder} matches.
+     * 
+     * @return The taskOrder as returned by the API
+     */
+    public final String getRawTaskOrder() {
+        return this.rawTaskOrder;
+    }
+
     /**
      * Returns The The url.
      * 
@@ -385,6 +396,7 @@ public class TaskQueue extends Resource {
                Objects.equals(sid, other.sid) && 
                Objects.equals(targetWorkers, other.targetWorkers) && 
                Objects.equals(taskOrder, other.taskOrder) && 
+               (taskOrder != null || Objects.equals(rawTaskOrder, other.rawTaskOrder)) && 
                Objects.equals(url, other.url) && 
                Objects.equals(workspaceSid, other.workspaceSid) && 
                Objects.equals(links, other.links);
@@ -403,7 +415,7 @@ public class TaskQueue extends Resource {
                             reservationActivityName,
                             sid,
                             targetWorkers,
-                            taskOrder,
+                            taskOrder != null ? taskOrder : rawTaskOrder,
                             url,
                             workspaceSid,
                             links);
@@ -24,6 +24,7 @@ import com.twilio.http.Request;
 import com.twilio.http.Response;
 import com.twilio.http.TwilioRestClient;
 import com.twilio.rest.Domains;
+import com.twilio.type.Sid;
 import org.joda.time.DateTime;
 
 import java.io.IOException;
@@ -196,6 +197,16 @@ public class Worker extends Resource {
         return this.accountSid;
     }
 
+    /**
+     * Returns the id of the account that owns this Worker, as a {@link Sid}.
+     * 
+     * @return the account id, null if there is none
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getAccountSidValue() {
+        return Sid.of(getAccountSid());
+    }
+
     /**
      * Returns The The activity_name.
      * 
@@ -214,6 +225,16 @@ public class Worker extends Resource {
         return this.activitySid;
     }
 
+    /**
+     * Returns the id of the Activity the Worker is in, as a {@link Sid}.
+     * 
+     * @return the Activity id, null if there is none
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getActivitySidValue() {
+        return Sid.of(getActivitySid());
+    }
+
     /**
      * Returns The The attributes.
      * 
@@ -277,6 +298,16 @@ public class Worker extends Resource {
         return this.sid;
     }
 
+    /**
+     * Returns the id of this Worker, as a {@link Sid}.
+     * 
+     * @return the Worker id, null if there is none
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getSidValue() {
+        return Sid.of(getSid());
+    }
+
     /**
      * Returns The The workspace_sid.
      * 
@@ -286,6 +317,16 @@ public class Worker extends Resource {
         return this.workspaceSid;
     }
 
+    /**
+     * Returns the id of the Workspace the Worker belongs to, as a {@link Sid}.
+     * 
+     * @return the Workspace id, null if there is none
+     * @throws IllegalArgumentException if the value isn't a SID
+     */
+    public final Sid getWorkspaceSidValue() {
+        return Sid.of(getWorkspaceSid());
+    }
+
     /**
      * Returns The The url.
      * 
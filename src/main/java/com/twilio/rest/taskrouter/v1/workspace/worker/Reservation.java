@@ -62,7 +62,7 @@ public class Reservation extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -148,6 +148,7 @@ public class Reservation extends Resource {
     private final DateTime dateCreated;
     private final DateTime dateUpdated;
     private final Reservation.Status reservationStatus;
+    private final String rawReservationStatus;
     private final String sid;
     private final String taskSid;
     private final String workerName;
@@ -164,7 +165,7 @@ public class Reservation extends Resource {
                         @JsonProperty("date_updated")
                         final String dateUpdated, 
                         @JsonProperty("reservation_status")
-                        final Reservation.Status reservationStatus, 
+                        final String reservationStatus, 
                         @JsonProperty("sid")
                         final String sid, 
                         @JsonProperty("task_sid")
@@ -182,7 +183,8 @@ public class Reservation extends Resource {
         this.accountSid = accountSid;
         this.dateCreated = DateConverter.iso8601DateTimeFromString(dateCreated);
         this.dateUpdated = DateConverter.iso8601DateTimeFromString(dateUpdated);
-        this.reservationStatus = reservationStatus;
+        this.reservationStatus = Reservation.Status.forValue(reservationStatus);
+        this.rawReservationStatus = reservationStatus;
         this.sid = sid;
         this.taskSid = taskSid;
         this.workerName = workerName;
@@ -228,6 +230,15 @@ public class Reservation extends Resource {
         return this.reservationStatus;
     }
 
+    /**
+     * Returns The raw reservationStatus, even if no {@link Reservation.Status} matches.
+     * 
+     * @return The reservationStatus as returned by the API
+     */
+    public final String getRawReservationStatus() {
+        return this.rawReservationStatus;
+    }
+
     /**
      * Returns The The sid.
      * 
@@ -307,6 +318,7 @@ public class Reservation extends Resource {
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(dateUpdated, other.dateUpdated) && 
                Objects.equals(reservationStatus, other.reservationStatus) && 
+               (reservationStatus != null || Objects.equals(rawReservationStatus, other.rawReservationStatus)) && 
                Objects.equals(sid, other.sid) && 
                Objects.equals(taskSid, other.taskSid) && 
                Objects.equals(workerName, other.workerName) && 
@@ -321,7 +333,7 @@ public class Reservation extends Resource {
         return Objects.hash(accountSid,
                             dateCreated,
                             dateUpdated,
-                            reservationStatus,
+                            reservationStatus != null ? reservationStatus : rawReservationStatus,
                             sid,
                             taskSid,
                             workerName,
@@ -60,7 +60,7 @@ public class PhoneNumber extends Resource {
          */
         @JsonCreator
         public static AddressRequirement forValue(final String value) {
-            return Promoter.enumFromString(value, AddressRequirement.values());
+            return Promoter.enumFromString(value, AddressRequirement.class);
         }
     }
 
@@ -150,6 +150,7 @@ public class PhoneNumber extends Resource {
 
     private final String accountSid;
     private final PhoneNumber.AddressRequirement addressRequirements;
+    private final String rawAddressRequirements;
     private final String apiVersion;
     private final Boolean beta;
     private final Map<String, String> capabilities;
@@ -179,7 +180,7 @@ public class PhoneNumber extends Resource {
     private PhoneNumber(@JsonProperty("account_sid")
                         final String accountSid, 
                         @JsonProperty("address_requirements")
-                        final PhoneNumber.AddressRequirement addressRequirements, 
+                        final String addressRequirements, 
                         @JsonProperty("api_version")
                         final String apiVersion, 
                         @JsonProperty("beta")
@@ -229,7 +230,8 @@ public class PhoneNumber extends Resource {
                         @JsonProperty("voice_url")
                         final URI voiceUrl) {
         this.accountSid = accountSid;
-        this.addressRequirements = addressRequirements;
+        this.addressRequirements = PhoneNumber.AddressRequirement.forValue(addressRequirements);
+        this.rawAddressRequirements = addressRequirements;
         this.apiVersion = apiVersion;
         this.beta = beta;
         this.capabilities = capabilities;
@@ -274,6 +276,15 @@ public class PhoneNumber extends Resource {
         return this.addressRequirements;
     }
 
+    /**
+     * Returns The raw addressRequirements, even if no {@link PhoneNumber.AddressRequirement} matches.
+     * 
+     * @return The addressRequirements as returned by the API
+     */
+    public final String getRawAddressRequirements() {
+        return this.rawAddressRequirements;
+    }
+
     /**
      * Returns The The api_version.
      * 
@@ -504,6 +515,7 @@ public class PhoneNumber extends Resource {
 
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(addressRequirements, other.addressRequirements) && 
+               (addressRequirements != null || Objects.equals(rawAddressRequirements, other.rawAddressRequirements)) && 
                Objects.equals(apiVersion, other.apiVersion) && 
                Objects.equals(beta, other.beta) && 
                Objects.equals(capabilities, other.capabilities) && 
@@ -533,7 +545,7 @@ public class PhoneNumber extends Resource {
     @Override
     public int hashCode() {
         return Objects.hash(accountSid,
-                            addressRequirements,
+                            addressRequirements != null ? addressRequirements : rawAddressRequirements,
                             apiVersion,
                             beta,
                             capabilities,
@@ -61,7 +61,7 @@ public class Recording extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -87,7 +87,7 @@ public class Recording extends Resource {
          */
         @JsonCreator
         public static Type forValue(final String value) {
-            return Promoter.enumFromString(value, Type.values());
+            return Promoter.enumFromString(value, Type.class);
         }
     }
 
@@ -112,7 +112,7 @@ public class Recording extends Resource {
          */
         @JsonCreator
         public static Format forValue(final String value) {
-            return Promoter.enumFromString(value, Format.values());
+            return Promoter.enumFromString(value, Format.class);
         }
     }
 
@@ -139,7 +139,7 @@ public class Recording extends Resource {
          */
         @JsonCreator
         public static Codec forValue(final String value) {
-            return Promoter.enumFromString(value, Codec.values());
+            return Promoter.enumFromString(value, Codec.class);
         }
     }
 
@@ -212,15 +212,19 @@ public class Recording extends Resource {
 
     private final String accountSid;
     private final Recording.Status status;
+    private final String rawStatus;
     private final DateTime dateCreated;
     private final String sid;
     private final String sourceSid;
     private final Integer size;
     private final URI url;
     private final Recording.Type type;
+    private final String rawType;
     private final Integer duration;
     private final Recording.Format containerFormat;
+    private final String rawContainerFormat;
     private final Recording.Codec codec;
+    private final String rawCodec;
     private final Map<String, Object> groupingSids;
     private final Map<String, String> links;
 
@@ -228,7 +232,7 @@ public class Recording extends Resource {
     private Recording(@JsonProperty("account_sid")
                       final String accountSid, 
                       @JsonProperty("status")
-                      final Recording.Status status, 
+                      final String status, 
                       @JsonProperty("date_created")
                       final String dateCreated, 
                       @JsonProperty("sid")
@@ -240,28 +244,32 @@ public class Recording extends Resource {
                       @JsonProperty("url")
                       final URI url, 
                       @JsonProperty("type")
-                      final Recording.Type type, 
+                      final String type, 
                       @JsonProperty("duration")
                       final Integer duration, 
                       @JsonProperty("container_format")
-                      final Recording.Format containerFormat, 
+                      final String containerFormat, 
                       @JsonProperty("codec")
-                      final Recording.Codec codec, 
+                      final String codec, 
                       @JsonProperty("grouping_sids")
                       final Map<String, Object> groupingSids, 
                       @JsonProperty("links")
                       final Map<String, String> links) {
         this.accountSid = accountSid;
-        this.status = status;
+        this.status = Recording.Status.forValue(status);
+        this.rawStatus = status;
         this.dateCreated = DateConverter.iso8601DateTimeFromString(dateCreated);
         this.sid = sid;
         this.sourceSid = sourceSid;
         this.size = size;
         this.url = url;
-        this.type = type;
+        this.type = Recording.Type.forValue(type);
+        this.rawType = type;
         this.duration = duration;
-        this.containerFormat = containerFormat;
-        this.codec = codec;
+        this.containerFormat = Recording.Format.forValue(containerFormat);
+        this.rawContainerFormat = containerFormat;
+        this.codec = Recording.Codec.forValue(codec);
+        this.rawCodec = codec;
         this.groupingSids = groupingSids;
         this.links = links;
     }
@@ -284,6 +292,15 @@ public class Recording extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link Recording.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The The date_created.
      * 
@@ -338,6 +355,15 @@ public class Recording extends Resource {
         return this.type;
     }
 
+    /**
+     * Returns The raw type, even if no {@link Recording.Type} matches.
+     * 
+     * @return The type as returned by the API
+     */
+    public final String getRawType() {
+        return this.rawType;
+    }
+
     /**
      * Returns The The duration.
      * 
@@ -356,6 +382,15 @@ public class Recording extends Resource {
         return this.containerFormat;
     }
 
+    /**
+     * Returns The raw containerFormat, even if no {@link Recording.Format} matches.
+     * 
+     * @return The containerFormat as returned by the API
+     */
+    public final String getRawContainerFormat() {
+        return this.rawContainerFormat;
+    }
+
     /**
      * Returns The The codec.
      * 
@@ -365,6 +400,15 @@ public class Recording extends Resource {
         return this.codec;
     }
 
+    /**
+     * Returns The raw codec, even if no {@link Recording.Codec} matches.
+     * 
+     * @return The codec as returned by the API
+     */
+    public final String getRawCodec() {
+        return this.rawCodec;
+    }
+
     /**
      * Returns The The grouping_sids.
      * 
@@ -397,15 +441,19 @@ public class Recording extends Resource {
 
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(sid, other.sid) && 
                Objects.equals(sourceSid, other.sourceSid) && 
                Objects.equals(size, other.size) && 
                Objects.equals(url, other.url) && 
                Objects.equals(type, other.type) && 
+               (type != null || Objects.equals(rawType, other.rawType)) && 
                Objects.equals(duration, other.duration) && 
                Objects.equals(containerFormat, other.containerFormat) && 
+               (containerFormat != null || Objects.equals(rawContainerFormat, other.rawContainerFormat)) && 
                Objects.equals(codec, other.codec) && 
+               (codec != null || Objects.equals(rawCodec, other.rawCodec)) && 
                Objects.equals(groupingSids, other.groupingSids) && 
                Objects.equals(links, other.links);
     }
@@ -413,16 +461,16 @@ public class Recording extends Resource {
     @Override
     public int hashCode() {
         return Objects.hash(accountSid,
-                            status,
+                            status != null ? status : rawStatus,
                             dateCreated,
                             sid,
                             sourceSid,
                             size,
                             url,
-                            type,
+                            type != null ? type : rawType,
                             duration,
-                            containerFormat,
-                            codec,
+                            containerFormat != null ? containerFormat : rawContainerFormat,
+                            codec != null ? codec : rawCodec,
                             groupingSids,
                             links);
     }
@@ -59,7 +59,7 @@ public class Room extends Resource {
          */
         @JsonCreator
         public static RoomStatus forValue(final String value) {
-            return Promoter.enumFromString(value, RoomStatus.values());
+            return Promoter.enumFromString(value, RoomStatus.class);
         }
     }
 
@@ -84,7 +84,7 @@ public class Room extends Resource {
          */
         @JsonCreator
         public static RoomType forValue(final String value) {
-            return Promoter.enumFromString(value, RoomType.values());
+            return Promoter.enumFromString(value, RoomType.class);
         }
     }
 
@@ -167,6 +167,7 @@ public class Room extends Resource {
 
     private final String sid;
     private final Room.RoomStatus status;
+    private final String rawStatus;
     private final DateTime dateCreated;
     private final DateTime dateUpdated;
     private final String accountSid;
@@ -177,6 +178,7 @@ public class Room extends Resource {
     private final DateTime endTime;
     private final Integer duration;
     private final Room.RoomType type;
+    private final String rawType;
     private final Integer maxParticipants;
     private final Boolean recordParticipantsOnConnect;
     private final URI url;
@@ -186,7 +188,7 @@ public class Room extends Resource {
     private Room(@JsonProperty("sid")
                  final String sid, 
                  @JsonProperty("status")
-                 final Room.RoomStatus status, 
+                 final String status, 
                  @JsonProperty("date_created")
                  final String dateCreated, 
                  @JsonProperty("date_updated")
@@ -206,7 +208,7 @@ public class Room extends Resource {
                  @JsonProperty("duration")
                  final Integer duration, 
                  @JsonProperty("type")
-                 final Room.RoomType type, 
+                 final String type, 
                  @JsonProperty("max_participants")
                  final Integer maxParticipants, 
                  @JsonProperty("record_participants_on_connect")
@@ -216,7 +218,8 @@ public class Room extends Resource {
                  @JsonProperty("links")
                  final Map<String, String> links) {
         this.sid = sid;
-        this.status = status;
+        this.status = Room.RoomStatus.forValue(status);
+        this.rawStatus = status;
         this.dateCreated = DateConverter.iso8601DateTimeFromString(dateCreated);
         this.dateUpdated = DateConverter.iso8601DateTimeFromString(dateUpdated);
         this.accountSid = accountSid;
@@ -226,7 +229,8 @@ public class Room extends Resource {
         this.statusCallbackMethod = statusCallbackMethod;
         this.endTime = DateConverter.iso8601DateTimeFromString(endTime);
         this.duration = duration;
-        this.type = type;
+        this.type = Room.RoomType.forValue(type);
+        this.rawType = type;
         this.maxParticipants = maxParticipants;
         this.recordParticipantsOnConnect = recordParticipantsOnConnect;
         this.url = url;
@@ -251,6 +255,15 @@ public class Room extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link Room.RoomStatus} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The The date_created.
      * 
@@ -341,6 +354,15 @@ public class Room extends Resource {
         return this.type;
     }
 
+    /**
+     * Returns The raw type, even if no {@link Room.RoomType} matches.
+     * 
+     * @return The type as returned by the API
+     */
+    public final String getRawType() {
+        return this.rawType;
+    }
+
     /**
      * Returns The The max_participants.
      * 
@@ -391,6 +413,7 @@ public class Room extends Resource {
 
         return Objects.equals(sid, other.sid) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(dateUpdated, other.dateUpdated) && 
                Objects.equals(accountSid, other.accountSid) && 
@@ -401,6 +424,7 @@ public class Room extends Resource {
                Objects.equals(endTime, other.endTime) && 
                Objects.equals(duration, other.duration) && 
                Objects.equals(type, other.type) && 
+               (type != null || Objects.equals(rawType, other.rawType)) && 
                Objects.equals(maxParticipants, other.maxParticipants) && 
                Objects.equals(recordParticipantsOnConnect, other.recordParticipantsOnConnect) && 
                Objects.equals(url, other.url) && 
@@ -410,7 +434,7 @@ public class Room extends Resource {
     @Override
     public int hashCode() {
         return Objects.hash(sid,
-                            status,
+                            status != null ? status : rawStatus,
                             dateCreated,
                             dateUpdated,
                             accountSid,
@@ -420,7 +444,7 @@ public class Room extends Resource {
                             statusCallbackMethod,
                             endTime,
                             duration,
-                            type,
+                            type != null ? type : rawType,
                             maxParticipants,
                             recordParticipantsOnConnect,
                             url,
@@ -61,7 +61,7 @@ public class RoomRecording extends Resource {
          */
         @JsonCreator
         public static Status forValue(final String value) {
-            return Promoter.enumFromString(value, Status.values());
+            return Promoter.enumFromString(value, Status.class);
         }
     }
 
@@ -87,7 +87,7 @@ public class RoomRecording extends Resource {
          */
         @JsonCreator
         public static Type forValue(final String value) {
-            return Promoter.enumFromString(value, Type.values());
+            return Promoter.enumFromString(value, Type.class);
         }
     }
 
@@ -112,7 +112,7 @@ public class RoomRecording extends Resource {
          */
         @JsonCreator
         public static Format forValue(final String value) {
-            return Promoter.enumFromString(value, Format.values());
+            return Promoter.enumFromString(value, Format.class);
         }
     }
 
@@ -139,7 +139,7 @@ public class RoomRecording extends Resource {
          */
         @JsonCreator
         public static Codec forValue(final String value) {
-            return Promoter.enumFromString(value, Codec.values());
+            return Promoter.enumFromString(value, Codec.class);
         }
     }
 
@@ -205,14 +205,18 @@ public class RoomRecording extends Resource {
 
     private final String accountSid;
     private final RoomRecording.Status status;
+    private final String rawStatus;
     private final DateTime dateCreated;
     private final String sid;
     private final String sourceSid;
     private final Integer size;
     private final RoomRecording.Type type;
+    private final String rawType;
     private final Integer duration;
     private final RoomRecording.Format containerFormat;
+    private final String rawContainerFormat;
     private final RoomRecording.Codec codec;
+    private final String rawCodec;
     private final Map<String, Object> groupingSids;
     private final String roomSid;
     private final URI url;
@@ -222,7 +226,7 @@ public class RoomRecording extends Resource {
     private RoomRecording(@JsonProperty("account_sid")
                           final String accountSid, 
                           @JsonProperty("status")
-                          final RoomRecording.Status status, 
+                          final String status, 
                           @JsonProperty("date_created")
                           final String dateCreated, 
                           @JsonProperty("sid")
@@ -232,13 +236,13 @@ public class RoomRecording extends Resource {
                           @JsonProperty("size")
                           final Integer size, 
                           @JsonProperty("type")
-                          final RoomRecording.Type type, 
+                          final String type, 
                           @JsonProperty("duration")
                           final Integer duration, 
                           @JsonProperty("container_format")
-                          final RoomRecording.Format containerFormat, 
+                          final String containerFormat, 
                           @JsonProperty("codec")
-                          final RoomRecording.Codec codec, 
+                          final String codec, 
                           @JsonProperty("grouping_sids")
                           final Map<String, Object> groupingSids, 
                           @JsonProperty("room_sid")
@@ -248,15 +252,19 @@ public class RoomRecording extends Resource {
                           @JsonProperty("links")
                           final Map<String, String> links) {
         this.accountSid = accountSid;
-        this.status = status;
+        this.status = RoomRecording.Status.forValue(status);
+        this.rawStatus = status;
         this.dateCreated = DateConverter.iso8601DateTimeFromString(dateCreated);
         this.sid = sid;
         this.sourceSid = sourceSid;
         this.size = size;
-        this.type = type;
+        this.type = RoomRecording.Type.forValue(type);
+        this.rawType = type;
         this.duration = duration;
-        this.containerFormat = containerFormat;
-        this.codec = codec;
+        this.containerFormat = RoomRecording.Format.forValue(containerFormat);
+        this.rawContainerFormat = containerFormat;
+        this.codec = RoomRecording.Codec.forValue(codec);
+        this.rawCodec = codec;
         this.groupingSids = groupingSids;
         this.roomSid = roomSid;
         this.url = url;
@@ -281,6 +289,15 @@ public class RoomRecording extends Resource {
         return this.status;
     }
 
+    /**
+     * Returns The raw status, even if no {@link RoomRecording.Status} matches.
+     * 
+     * @return The status as returned by the API
+     */
+    public final String getRawStatus() {
+        return this.rawStatus;
+    }
+
     /**
      * Returns The The date_created.
      * 
@@ -326,6 +343,15 @@ public class RoomRecording extends Resource {
         return this.type;
     }
 
+    /**
+     * Returns The raw type, even if no {@link RoomRecording.Type} matches.
+     * 
+     * @return The type as returned by the API
+     */
+    public final String getRawType() {
+        return this.rawType;
+    }
+
     /**
      * Returns The The duration.
      * 
@@ -344,6 +370,15 @@ public class RoomRecording extends Resource {
         return this.containerFormat;
     }
 
+    /**
+     * Returns The raw containerFormat, even if no {@link RoomRecording.Format} matches.
+     * 
+     * @return The containerFormat as returned by the API
+     */
+    public final String getRawContainerFormat() {
+        return this.rawContainerFormat;
+    }
+
     /**
      * Returns The The codec.
      * 
@@ -353,6 +388,15 @@ public class RoomRecording extends Resource {
         return this.codec;
     }
 
+    /**
+     * Returns The raw codec, even if no {@link RoomRecording.Codec} matches.
+     * 
+     * @return The codec as returned by the API
+     */
+    public final String getRawCodec() {
+        return this.rawCodec;
+    }
+
     /**
      * Returns The The grouping_sids.
      * 
@@ -403,14 +447,18 @@ public class RoomRecording extends Resource {
 
         return Objects.equals(accountSid, other.accountSid) && 
                Objects.equals(status, other.status) && 
+               (status != null || Objects.equals(rawStatus, other.rawStatus)) && 
                Objects.equals(dateCreated, other.dateCreated) && 
                Objects.equals(sid, other.sid) && 
                Objects.equals(sourceSid, other.sourceSid) && 
                Objects.equals(size, other.size) && 
                Objects.equals(type, other.type) && 
+               (type != null || Objects.equals(rawType, other.rawType)) && 
                Objects.equals(duration, other.duration) && 
                Objects.equals(containerFormat, other.containerFormat) && 
+               (containerFormat != null || Objects.equals(rawContainerFormat, other.rawContainerFormat)) && 
                Objects.equals(codec, other.codec) && 
+               (codec != null || Objects.equals(rawCodec, other.rawCodec)) && 
                Objects.equals(groupingSids, other.groupingSids) && 
                Objects.equals(roomSid, other.roomSid) && 
                Objects.equals(url, other.url) && 
@@ -420,15 +468,15 @@ public class RoomRecording extends Resource {
     @Override
     public int hashCode() {
         return Objects.hash(accountSid,
-                            status,
+                            status != null ? status : rawStatus,
                             dateCreated,
                             sid,
                             sourceSid,
                             size,
-                            type,
+                            type != null ? type : rawType,
                             duration,
-                            containerFormat,
-                            codec,
+                            containerFormat != null ? containerFormat : rawContainerFormat,
+                            codec != null ? codec : rawCodec,
                             groupingSids,
                             roomSid,
                             url,
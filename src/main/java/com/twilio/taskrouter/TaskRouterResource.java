@@ -1,6 +1,7 @@
 package com.twilio.taskrouter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.converter.ObjectMappers;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -14,7 +15,7 @@ public abstract class TaskRouterResource {
      * @throws IOException if unable to transform to JSON
      */
     public String toJson() throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = ObjectMappers.shared();
         ByteArrayOutputStream out = new ByteArrayOutputStream();
 
         mapper.writeValue(out, this);
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
+import com.twilio.converter.ObjectMappers;
 
 import java.io.IOException;
 import java.util.List;
@@ -69,7 +70,7 @@ public class TaskRouting extends TaskRouterResource {
      * @throws IOException if unable to create object
      */
     public static TaskRouting fromJson(String json) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = ObjectMappers.shared();
         return mapper.readValue(json, TaskRouting.class);
     }
 }
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
+import com.twilio.converter.ObjectMappers;
 
 import java.io.IOException;
 import java.util.List;
@@ -66,7 +67,7 @@ public class Workflow extends TaskRouterResource {
      * @throws IOException if unable to create object
      */
     public static Workflow fromJson(String json) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = ObjectMappers.shared();
         return mapper.readValue(json, Workflow.class);
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.MoreObjects;
+import com.twilio.converter.ObjectMappers;
 
 import java.io.IOException;
 
@@ -101,7 +102,7 @@ public class WorkflowRuleTarget extends TaskRouterResource {
      * @throws IOException if unable to create object
      */
     public static WorkflowRuleTarget fromJson(String json) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectMapper mapper = ObjectMappers.shared();
         return mapper.readValue(json, WorkflowRuleTarget.class);
     }
 
@@ -0,0 +1,252 @@
+package com.twilio.type;
+
+import java.io.Serializable;
+
+/**
+ * A phone number in E.164 form, held as its country code and national number packed in a long.
+ *
+ * <p>
+ *     {@link PhoneNumber} keeps whatever text it was given, so "+1 (415) 555-0100" and "+14155550100"
+ *     are different numbers to it, and every one of them costs a string. E164Number parses the text
+ *     once: numbers that differ only in formatting are equal, and comparing or hashing one is a
+ *     comparison of longs. {@link E164NumberMap} keys a map by the packed long itself.
+ * </p>
+ *
+ * <p>
+ *     The long holds the country code in its top 10 bits, the number of digits of the national number
+ *     in the next 4, so leading zeros survive, and the national number in the low 50.
+ * </p>
+ */
+public final class E164Number implements Comparable<E164Number>, Serializable {
+
+    private static final long serialVersionUID = 4386146813640244829L;
+
+    private static final int MAX_DIGITS = 15;
+    private static final int NATIONAL_BITS = 50;
+    private static final int LENGTH_BITS = 4;
+    private static final long NATIONAL_MASK = (1L << NATIONAL_BITS) - 1;
+
+    // Country codes of two digits; the others starting with 1 or 7 have one digit and the rest three
+    private static final int[] TWO_DIGIT_CODES = {
+        20, 27, 30, 31, 32, 33, 34, 36, 39, 40, 41, 43, 44, 45, 46, 47, 48, 49, 51, 52, 53, 54, 55, 56, 57,
+        58, 60, 61, 62, 63, 64, 65, 66, 81, 82, 84, 86, 90, 91, 92, 93, 94, 95, 98
+    };
+    private static final boolean[] IS_TWO_DIGIT_CODE = new boolean[100];
+
+    static {
+        for (int code : TWO_DIGIT_CODES) {
+            IS_TWO_DIGIT_CODE[code] = true;
+        }
+    }
+
+    private final long packed;
+
+    private E164Number(final long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * Read a number in strict E.164 form: a plus sign and up to 15 digits, without formatting.
+     *
+     * @param number number such as "+14155550100"
+     * @return the number
+     * @throws IllegalArgumentException if number isn't in E.164 form
+     */
+    public static E164Number parse(final String number) {
+        E164Number parsed = tryParse(number);
+        if (parsed == null) {
+            throw new IllegalArgumentException("Not an E.164 number: " + number);
+        }
+        return parsed;
+    }
+
+    /**
+     * Read a number written the way people write them.
+     *
+     * <p>
+     *     Spaces, dashes, dots, slashes and parentheses are ignored. Numbers starting with "+" or the
+     *     international prefix "00" carry their country code; other numbers are national numbers of
+     *     the default country, whose trunk prefix, a leading "0" or for country code 1 a leading "1",
+     *     is dropped. Italian numbers keep their leading zero.
+     * </p>
+     *
+     * @param number number such as "+1 (415) 555-0100", "00 44 20 7946 0000" or "(415) 555-0100"
+     * @param defaultCountryCode country code of numbers written without one, such as 1 or 44
+     * @return the number, null if number isn't a phone number
+     */
+    public static E164Number parseLenient(final String number, final int defaultCountryCode) {
+        if (number == null) {
+            return null;
+        }
+
+        StringBuilder digits = new StringBuilder(MAX_DIGITS + 1);
+        boolean international = false;
+        for (int i = 0; i < number.length(); i++) {
+            char ch = number.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                digits.append(ch);
+            } else if (ch == '+' && digits.length() == 0 && !international) {
+                international = true;
+            } else if (ch != ' ' && ch != '-' && ch != '.' && ch != '/' && ch != '(' && ch != ')') {
+                return null;
+            }
+        }
+
+        if (!international && digits.length() > 2 && digits.charAt(0) == '0' && digits.charAt(1) == '0') {
+            return fromDigits(digits, 2, digits.length());
+        }
+        if (international) {
+            return fromDigits(digits, 0, digits.length());
+        }
+
+        char trunk = defaultCountryCode == 1 ? '1' : '0';
+        int from = digits.length() > 1 && digits.charAt(0) == trunk && defaultCountryCode != 39 ? 1 : 0;
+        String full = defaultCountryCode + digits.substring(from);
+        return fromDigits(full, 0, full.length());
+    }
+
+    /**
+     * Read a number in strict E.164 form, as Twilio returns them, without failing on other endpoints.
+     *
+     * @param number number such as "+14155550100", or another endpoint such as "client:alice"
+     * @return the number, null if number isn't in E.164 form
+     */
+    public static E164Number tryParse(final String number) {
+        if (number == null || number.isEmpty() || number.charAt(0) != '+') {
+            return null;
+        }
+        return fromDigits(number, 1, number.length());
+    }
+
+    /**
+     * Rebuild a number from {@link #toLong}.
+     *
+     * @param packed packed number
+     * @return the number
+     * @throws IllegalArgumentException if packed doesn't hold a number
+     */
+    public static E164Number fromLong(final long packed) {
+        int countryCode = (int) (packed >>> (NATIONAL_BITS + LENGTH_BITS));
+        int length = (int) (packed >>> NATIONAL_BITS) & ((1 << LENGTH_BITS) - 1);
+        boolean valid = countryCode >= 1 && countryCode <= 999 && length >= 1 &&
+            codeLength(countryCode) + length <= MAX_DIGITS && (packed & NATIONAL_MASK) < pow10(length);
+        if (!valid) {
+            throw new IllegalArgumentException("Not a packed number: " + packed);
+        }
+        return new E164Number(packed);
+    }
+
+    public int getCountryCode() {
+        return (int) (packed >>> (NATIONAL_BITS + LENGTH_BITS));
+    }
+
+    /**
+     * Get the national number, the digits after the country code.
+     *
+     * @return national number, with leading zeros as digits
+     */
+    public String getNationalNumber() {
+        int length = (int) (packed >>> NATIONAL_BITS) & ((1 << LENGTH_BITS) - 1);
+        String digits = Long.toString(packed & NATIONAL_MASK);
+        StringBuilder national = new StringBuilder(length);
+        for (int i = digits.length(); i < length; i++) {
+            national.append('0');
+        }
+        return national.append(digits).toString();
+    }
+
+    /**
+     * Get the packed number, for keys of primitive collections and compact storage.
+     *
+     * @return packed number, never 0
+     */
+    public long toLong() {
+        return packed;
+    }
+
+    /**
+     * Get the number as an endpoint for the resource creators.
+     *
+     * @return the number as a PhoneNumber
+     */
+    public PhoneNumber toPhoneNumber() {
+        return new PhoneNumber(toString());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        return packed == ((E164Number) o).packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash(packed);
+    }
+
+    @Override
+    public int compareTo(final E164Number other) {
+        // Country code, then national numbers by length and value, all of them unsigned in the long
+        return Long.compare(packed ^ Long.MIN_VALUE, other.packed ^ Long.MIN_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return "+" + getCountryCode() + getNationalNumber();
+    }
+
+    /**
+     * Spread a packed number over an int, the national numbers of a country being close together.
+     *
+     * @param packed packed number
+     * @return hash of the number
+     */
+    static int hash(final long packed) {
+        long mixed = packed * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private static E164Number fromDigits(final CharSequence digits, final int from, final int to) {
+        int count = to - from;
+        if (count < 2 || count > MAX_DIGITS || digits.charAt(from) == '0') {
+            return null;
+        }
+        for (int i = from; i < to; i++) {
+            char ch = digits.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return null;
+            }
+        }
+
+        int first = digits.charAt(from) - '0';
+        int two = first * 10 + digits.charAt(from + 1) - '0';
+        int codeLength = first == 1 || first == 7 ? 1 : IS_TWO_DIGIT_CODE[two] ? 2 : 3;
+        if (count <= codeLength) {
+            return null;
+        }
+
+        int countryCode = Integer.parseInt(digits.subSequence(from, from + codeLength).toString());
+        long national = Long.parseLong(digits.subSequence(from + codeLength, to).toString());
+        long length = count - codeLength;
+        long code = (long) countryCode << (NATIONAL_BITS + LENGTH_BITS);
+        return new E164Number(code | (length << NATIONAL_BITS) | national);
+    }
+
+    private static int codeLength(final int countryCode) {
+        return countryCode < 10 ? 1 : countryCode < 100 ? 2 : 3;
+    }
+
+    private static long pow10(final int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,243 @@
+package com.twilio.type;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A map keyed by phone numbers, holding each key as the long of its {@link E164Number}.
+ *
+ * <p>
+ *     A HashMap of a million numbers spends about a hundred bytes on each key string and its entry;
+ *     this map keeps the keys in one array of longs and the values in another, probed linearly, which
+ *     is 16 to 32 bytes per number depending on how full the arrays are. The long methods look up a
+ *     number from {@link E164Number#toLong} without creating it. Not thread-safe.
+ * </p>
+ *
+ * @param <V> type of the values
+ */
+public class E164NumberMap<V> implements Iterable<Map.Entry<E164Number, V>> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    // No number packs to 0, so it marks empty slots
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int modifications;
+
+    /**
+     * Create an empty map.
+     */
+    public E164NumberMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Create an empty map sized for a number of entries.
+     *
+     * @param expectedSize number of entries to hold without growing
+     */
+    public E164NumberMap(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public V get(final E164Number number) {
+        return get(number.toLong());
+    }
+
+    /**
+     * Get the value of a number.
+     *
+     * @param number packed number from {@link E164Number#toLong}
+     * @return the value, null if the number isn't in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long number) {
+        int slot = find(number);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    public boolean containsKey(final E164Number number) {
+        return containsKey(number.toLong());
+    }
+
+    public boolean containsKey(final long number) {
+        return find(number) >= 0;
+    }
+
+    public V put(final E164Number number, final V value) {
+        return put(number.toLong(), value);
+    }
+
+    /**
+     * Set the value of a number.
+     *
+     * @param number packed number from {@link E164Number#toLong}
+     * @param value value to set
+     * @return the previous value, null if the number wasn't in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final long number, final V value) {
+        if (number == EMPTY) {
+            throw new IllegalArgumentException("0 is not a packed number");
+        }
+
+        int mask = keys.length - 1;
+        int slot = E164Number.hash(number) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == number) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = number;
+        values[slot] = value;
+        size++;
+        modifications++;
+        if (size * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    public V remove(final E164Number number) {
+        return remove(number.toLong());
+    }
+
+    /**
+     * Remove a number.
+     *
+     * @param number packed number from {@link E164Number#toLong}
+     * @return the value it had, null if the number wasn't in the map
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final long number) {
+        int slot = find(number);
+        if (slot < 0) {
+            return null;
+        }
+
+        final V previous = (V) values[slot];
+        int mask = keys.length - 1;
+
+        // Shift the entries after the removed one back, so no probe sequence runs into a hole
+        int hole = slot;
+        for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = E164Number.hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        keys[hole] = EMPTY;
+        values[hole] = null;
+
+        size--;
+        modifications++;
+        return previous;
+    }
+
+    /**
+     * Remove every number, keeping the arrays at their size.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        size = 0;
+        modifications++;
+    }
+
+    @Override
+    public Iterator<Map.Entry<E164Number, V>> iterator() {
+        return new Iterator<Map.Entry<E164Number, V>>() {
+            private final int expectedModifications = modifications;
+            private int slot = advance(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < keys.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Map.Entry<E164Number, V> next() {
+                if (modifications != expectedModifications) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                Map.Entry<E164Number, V> entry =
+                    new AbstractMap.SimpleImmutableEntry<>(E164Number.fromLong(keys[slot]), (V) values[slot]);
+                slot = advance(slot + 1);
+                return entry;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private int advance(final int from) {
+        int slot = from;
+        while (slot < keys.length && keys[slot] == EMPTY) {
+            slot++;
+        }
+        return slot;
+    }
+
+    private int find(final long number) {
+        int mask = keys.length - 1;
+        for (int slot = E164Number.hash(number) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[slot] == number) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void resize(final int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = E164Number.hash(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class InboundCallPrice {
 
         @JsonCreator
         public static Type forValue(final String value) {
-            return Promoter.enumFromString(value, Type.values());
+            return Promoter.enumFromString(value, Type.class);
         }
     }
 
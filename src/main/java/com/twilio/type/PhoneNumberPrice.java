@@ -51,7 +51,7 @@ public class PhoneNumberPrice {
          */
         @JsonCreator
         public static Type forValue(final String value) {
-            return Promoter.enumFromString(value, Type.values());
+            return Promoter.enumFromString(value, Type.class);
         }
     }
 
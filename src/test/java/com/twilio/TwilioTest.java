@@ -9,7 +9,11 @@ import org.junit.Test;
 import java.util.concurrent.Executors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class TwilioTest {
@@ -60,4 +64,48 @@ public class TwilioTest {
         assertEquals(twilioRestClient, Twilio.getRestClient());
     }
 
+    @Test
+    public void testSetPasswordRotatesLiveClient() {
+        Twilio.init("AC123", "AUTH TOKEN");
+        TwilioRestClient client = Twilio.getRestClient();
+
+        Twilio.setPassword("NEW AUTH TOKEN");
+        assertSame(client, Twilio.getRestClient());
+        assertTrue(client.isRotating());
+
+        Twilio.destroy();
+    }
+
+    @Test
+    public void testSetAccountSidKeepsConnectionPool() {
+        Twilio.init("AC123", "AUTH TOKEN");
+        TwilioRestClient client = Twilio.getRestClient();
+
+        Twilio.setAccountSid("AC456");
+        TwilioRestClient rebuilt = Twilio.getRestClient();
+        assertNotSame(client, rebuilt);
+        assertEquals("AC456", rebuilt.getAccountSid());
+        assertSame(client.getHttpClient(), rebuilt.getHttpClient());
+
+        Twilio.setUsername("SK789");
+        assertEquals("SK789", Twilio.getRestClient().getUsername());
+        assertEquals("AC456", Twilio.getRestClient().getAccountSid());
+        assertSame(client.getHttpClient(), Twilio.getRestClient().getHttpClient());
+
+        Twilio.destroy();
+    }
+
+    @Test
+    public void testSetPasswordReplacesCustomClient() {
+        Twilio.init("AC123", "AUTH TOKEN");
+        TwilioRestClient custom = new TwilioRestClient.Builder("AC123", "AUTH TOKEN").build();
+        Twilio.setRestClient(custom);
+
+        Twilio.setPassword("ROTATED AUTH TOKEN");
+        assertNotSame(custom, Twilio.getRestClient());
+        assertFalse(custom.isRotating());
+
+        Twilio.destroy();
+    }
+
 }
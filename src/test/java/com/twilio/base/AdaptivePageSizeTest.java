@@ -0,0 +1,145 @@
+package com.twilio.base;
+
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link AdaptivePageSize}.
+ */
+public class AdaptivePageSizeTest {
+
+    private static final String ACCOUNT_SID = "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String URI = "/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json";
+    private static final Pattern PAGE_SIZE = Pattern.compile("PageSize=(\\d+)");
+    private static final Pattern PAGE_TOKEN = Pattern.compile("PageToken=PA(\\d+)");
+
+    private final List<String> urls = new ArrayList<>();
+
+    @Test
+    public void testLatencyGoal() {
+        AdaptivePageSize adaptivePageSize = new AdaptivePageSize.Builder().targetMillis(1000).build();
+
+        assertEquals(200, adaptivePageSize.nextPageSize(100, 500, 0));
+        assertEquals(50, adaptivePageSize.nextPageSize(100, 2000, 0));
+
+        // At most double or half a page at a time, and not at all close to the goal
+        assertEquals(200, adaptivePageSize.nextPageSize(100, 10, 0));
+        assertEquals(50, adaptivePageSize.nextPageSize(100, 30000, 0));
+        assertEquals(100, adaptivePageSize.nextPageSize(100, 950, 0));
+
+        // Unknown times leave the size alone
+        assertEquals(100, adaptivePageSize.nextPageSize(100, -1, 5000));
+    }
+
+    @Test
+    public void testBothGoals() {
+        AdaptivePageSize adaptivePageSize = new AdaptivePageSize.Builder()
+            .targetMillis(1000)
+            .targetBytes(100000)
+            .pageSizes(20, 500)
+            .build();
+
+        assertEquals(150, adaptivePageSize.nextPageSize(100, 500, 66667));
+        assertEquals(500, adaptivePageSize.nextPageSize(400, 100, 1000));
+        assertEquals(20, adaptivePageSize.nextPageSize(30, 5000, 1000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoGoal() {
+        new AdaptivePageSize.Builder().build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPageSizesOutOfRange() {
+        new AdaptivePageSize.Builder().targetMillis(1000).pageSizes(1, 5000).build();
+    }
+
+    @Test
+    public void testResourceSetResizesTokenPages() {
+        AdaptivePageSize adaptivePageSize = new AdaptivePageSize.Builder()
+            .targetBytes(1500)
+            .pageSizes(1, 1000)
+            .initialPageSize(1)
+            .build();
+
+        int count = 0;
+        for (Call call : Call.reader(ACCOUNT_SID).adaptivePageSize(adaptivePageSize).read(client(20))) {
+            assertEquals(String.format("CA%032d", count), call.getSid());
+            count++;
+        }
+
+        // Small pages are mostly links, so they grow by double until the records start to count
+        assertEquals(20, count);
+        assertEquals(5, urls.size());
+        assertTrue(urls.get(0).endsWith("PageSize=1"));
+        assertTrue(urls.get(1).contains("PageSize=2&"));
+        assertTrue(urls.get(2).contains("PageSize=4&"));
+        assertTrue(urls.get(3).contains("PageSize=8&"));
+        assertTrue(urls.get(4).contains("PageSize=12&"));
+    }
+
+    @Test
+    public void testLimitWithChangingSizes() {
+        AdaptivePageSize adaptivePageSize = new AdaptivePageSize.Builder()
+            .targetBytes(1000000)
+            .pageSizes(1, 1000)
+            .initialPageSize(1)
+            .build();
+
+        int count = 0;
+        for (Call call : Call.reader(ACCOUNT_SID).adaptivePageSize(adaptivePageSize).limit(10).read(client(20))) {
+            count++;
+        }
+        assertEquals(10, count);
+    }
+
+    /**
+     * Serve calls whose records take about 95 characters, in pages continuing from a token holding the
+     * index of their first call, sized as asked.
+     */
+    private TwilioRestClient client(final int total) {
+        HttpClient server = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                String url = request.constructURL().toString();
+                urls.add(url);
+
+                Matcher size = PAGE_SIZE.matcher(url);
+                Matcher token = PAGE_TOKEN.matcher(url);
+                int pageSize = size.find() ? Integer.parseInt(size.group(1)) : 50;
+                int start = token.find() ? Integer.parseInt(token.group(1)) : 0;
+                int end = Math.min(total, start + pageSize);
+
+                StringBuilder json = new StringBuilder("{\"calls\": [");
+                for (int i = start; i < end; i++) {
+                    json.append(i > start ? "," : "")
+                        .append("{\"sid\": \"CA").append(String.format("%032d", i))
+                        .append("\",\"status\": \"completed\",\"direction\": \"outbound-api\"}");
+                }
+                json.append("],\"next_page_uri\": ");
+                if (end < total) {
+                    json.append('"').append(URI).append("?PageSize=").append(pageSize)
+                        .append("&Page=1&PageToken=PA").append(end).append('"');
+                } else {
+                    json.append("null");
+                }
+                json.append(",\"page_size\": ").append(pageSize).append(",\"uri\": \"").append(URI).append("\"}");
+                return new Response(json.toString(), TwilioRestClient.HTTP_STATUS_CODE_OK);
+            }
+        };
+
+        return new TwilioRestClient.Builder(ACCOUNT_SID, "token").httpClient(server).build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.twilio.base;
+
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class for {@link ColumnSet}.
+ */
+public class ColumnSetTest {
+
+    private static final String ACCOUNT_SID = "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String FIRST = "{\"calls\": [{\"sid\": \"CA00000000000000000000000000000000\",\"status\": \"completed\",\"price\": \"-0.03000\",\"date_created\": \"Tue, 31 Aug 2010 20:36:28 +0000\",\"caller_name\": \"Zo\u00eb\",\"subresource_uris\": {\"recordings\": \"/Recordings.json\"}},{\"sid\": \"CA00000000000000000000000000000001\",\"status\": \"transferred\",\"price\": null,\"date_created\": \"not a date\"},{\"sid\": \"CA00000000000000000000000000000002\",\"status\": \"completed\",\"price\": \"1.5\"}],\"next_page_uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json?PageSize=3&Page=1\",\"page\": 0,\"page_size\": 3,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json?PageSize=3&Page=0\"}";
+    private static final String SECOND = "{\"calls\": [{\"sid\": \"CA00000000000000000000000000000003\",\"status\": \"busy\"},{\"sid\": \"CA00000000000000000000000000000004\",\"status\": \"busy\"}],\"next_page_uri\": null,\"page\": 1,\"page_size\": 3,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json?PageSize=3&Page=1\"}";
+
+    private final List<String> urls = new ArrayList<>();
+    private TwilioRestClient client;
+
+    @Before
+    public void setUp() {
+        HttpClient server = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                urls.add(request.constructURL().toString());
+                String content = request.getUrl().contains("Page=1") ? SECOND : FIRST;
+                return new Response(content, TwilioRestClient.HTTP_STATUS_CODE_OK);
+            }
+        };
+        client = new TwilioRestClient.Builder(ACCOUNT_SID, "token").httpClient(server).build();
+    }
+
+    @Test
+    public void testReadColumns() {
+        Iterator<ColumnBatch> batches = Call.reader(ACCOUNT_SID)
+            .readColumns(client, "sid", "status", "price", "dateCreated", "caller_name")
+            .iterator();
+
+        ColumnBatch first = batches.next();
+        assertEquals(3, first.size());
+        assertEquals(Arrays.asList("sid", "status", "price", "dateCreated", "caller_name"), first.getColumns());
+
+        ColumnBatch.Column status = first.column("status");
+        assertEquals(ColumnBatch.Type.STRING, status.getType());
+        assertEquals(Arrays.asList("completed", "transferred"), status.getDictionary());
+        assertEquals(0, status.getCode(0));
+        assertEquals(1, status.getCode(1));
+        assertEquals(0, status.getCode(2));
+        assertEquals("CA00000000000000000000000000000001", first.column("sid").getString(1));
+
+        ColumnBatch.Column price = first.column("price");
+        assertEquals(ColumnBatch.Type.DOUBLE, price.getType());
+        assertEquals(-0.03, price.getDouble(0), 0);
+        assertTrue(price.isNull(1));
+        assertTrue(Double.isNaN(price.getDouble(1)));
+        assertEquals(1.5, price.getDouble(2), 0);
+
+        ColumnBatch.Column created = first.column("dateCreated");
+        assertEquals(ColumnBatch.Type.TIMESTAMP, created.getType());
+        assertEquals(1283286988000L, created.getLong(0));
+        assertEquals(1283286988000L, created.getDateTime(0).getMillis());
+        assertTrue(created.isNull(1));
+        assertNull(created.getDateTime(2));
+
+        assertEquals("Zo\u00eb", first.column("caller_name").getString(0));
+        assertEquals(-1, first.column("caller_name").getCode(1));
+
+        ColumnBatch second = batches.next();
+        assertEquals(2, second.size());
+        assertEquals(Arrays.asList("busy"), second.column("status").getDictionary());
+        assertFalse(batches.hasNext());
+
+        assertTrue(urls.get(0).contains("PageSize=1000"));
+    }
+
+    @Test
+    public void testLimit() {
+        int rows = 0;
+        for (ColumnBatch batch : Call.reader(ACCOUNT_SID).limit(4).readColumns(client, "sid")) {
+            rows += batch.size();
+        }
+
+        assertEquals(4, rows);
+        assertEquals(2, urls.size());
+    }
+
+    @Test
+    public void testWrongType() {
+        ColumnBatch batch = Call.reader(ACCOUNT_SID).readColumns(client, "sid").iterator().next();
+        try {
+            batch.column("sid").getLong(0);
+            fail("IllegalStateException was expected");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownColumn() {
+        Call.reader(ACCOUNT_SID).readColumns(client, "sid", "no_such_field");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedColumn() {
+        Call.reader(ACCOUNT_SID).readColumns(client, "subresource_uris");
+    }
+
+    @Test
+    public void testRecordsStillDecodeAfterwards() {
+        Call.reader(ACCOUNT_SID).readColumns(client, "sid").iterator().next();
+
+        Call call = Call.reader(ACCOUNT_SID).firstPage(client).getRecords().get(0);
+        assertEquals(Call.Status.COMPLETED, call.getStatus());
+    }
+}
@@ -0,0 +1,187 @@
+package com.twilio.base;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.twilio.Twilio;
+import com.twilio.exception.ApiException;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link CountSink}.
+ */
+public class CountSinkTest {
+
+    private static final String ACCOUNT_SID = "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String URI = "/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json";
+    private static final Pattern PAGE = Pattern.compile("[?&]Page=(\\d+)");
+
+    private final List<String> urls = Collections.synchronizedList(new ArrayList<String>());
+
+    @Test
+    public void testCountNumberedPages() {
+        assertEquals(10, Call.reader(ACCOUNT_SID).count(client(new int[] {3, 3, 3, 1}, false)));
+        assertTrue(urls.get(0).contains("PageSize=1000"));
+
+        // Pages past the last one are asked for in parallel and ignored
+        assertTrue(urls.size() >= 4);
+        assertTrue(contains("Page=3"));
+    }
+
+    @Test
+    public void testCountKeepsReaderPageSize() {
+        TwilioRestClient client = client(new int[] {3, 3, 3, 1}, true);
+        Reader<Call> reader = Call.reader(ACCOUNT_SID);
+        reader.count(client);
+        reader.where(RecordFilter.equalTo("status", "failed")).exists(client);
+        assertNull(reader.getPageSize());
+
+        urls.clear();
+        reader.firstPage(client);
+        assertFalse(urls.get(0).contains("PageSize"));
+    }
+
+    @Test
+    public void testCountTokenPages() {
+        assertEquals(10, Call.reader(ACCOUNT_SID).count(client(new int[] {3, 3, 3, 1}, true)));
+        assertEquals(4, urls.size());
+    }
+
+    @Test
+    public void testCountEmpty() {
+        assertEquals(0, Call.reader(ACCOUNT_SID).count(client(new int[] {0}, false)));
+        assertEquals(1, urls.size());
+    }
+
+    @Test
+    public void testCountLimit() {
+        assertEquals(5, Call.reader(ACCOUNT_SID).limit(5).count(client(new int[] {3, 3, 3, 1}, true)));
+        assertEquals(2, urls.size());
+    }
+
+    @Test
+    public void testCountOnTwilioExecutor() throws Exception {
+        // A count made from the only thread of the Twilio executor still gets its pages fetched
+        final TwilioRestClient client = client(new int[] {3, 3, 3, 1}, false);
+        ListeningExecutorService executor = MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor());
+        Twilio.setExecutorService(executor);
+        try {
+            long count = executor.submit(new Callable<Long>() {
+                public Long call() {
+                    return Call.reader(ACCOUNT_SID).count(client);
+                }
+            }).get(10, TimeUnit.SECONDS);
+            assertEquals(10, count);
+        } finally {
+            Twilio.setExecutorService(null);
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCountFiltered() {
+        Reader<Call> reader = Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("status", "failed"));
+        assertEquals(4, reader.count(client(new int[] {3, 3, 3, 1}, false)));
+    }
+
+    @Test
+    public void testExistsStopsAtFirstRecord() {
+        assertTrue(Call.reader(ACCOUNT_SID).exists(client(new int[] {0, 0, 2, 3}, true)));
+        assertEquals(3, urls.size());
+    }
+
+    @Test
+    public void testExistsFiltered() {
+        TwilioRestClient client = client(new int[] {3, 3, 3, 1}, true);
+        assertTrue(Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("status", "failed")).exists(client));
+        assertEquals(1, urls.size());
+
+        assertFalse(Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("status", "busy")).exists(client));
+        assertEquals(5, urls.size());
+    }
+
+    @Test(expected = ApiException.class)
+    public void testPageError() {
+        final TwilioRestClient pages = client(new int[] {3, 3, 3, 1}, false);
+        TwilioRestClient client = new TwilioRestClient.Builder(ACCOUNT_SID, "token")
+            .httpClient(new HttpClient() {
+                @Override
+                public Response makeRequest(final Request request) {
+                    if (request.getUrl().contains("Page=2")) {
+                        return new Response("{\"code\": 20500, \"message\": \"Internal\", \"status\": 500}", 500);
+                    }
+                    return pages.request(request);
+                }
+            })
+            .build();
+
+        Call.reader(ACCOUNT_SID).count(client);
+    }
+
+    private boolean contains(final String part) {
+        synchronized (urls) {
+            for (String url : urls) {
+                if (url.contains(part)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Serve pages holding the given numbers of calls, every third of them failed, linked by page
+     * number or by page token. Pages past the last one are not found.
+     */
+    private TwilioRestClient client(final int[] sizes, final boolean tokens) {
+        HttpClient server = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                String url = request.constructURL().toString();
+                urls.add(url);
+
+                Matcher matcher = PAGE.matcher(url);
+                int page = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+                if (page >= sizes.length) {
+                    return new Response("{\"code\": 20404, \"message\": \"Not found\", \"status\": 404}", 404);
+                }
+
+                StringBuilder json = new StringBuilder("{\"calls\": [");
+                for (int i = 0; i < sizes[page]; i++) {
+                    json.append(i > 0 ? "," : "")
+                        .append("{\"sid\": \"CA").append(String.format("%032d", page * 10 + i))
+                        .append("\",\"status\": \"").append(i % 3 == 0 ? "failed" : "completed").append("\"}");
+                }
+                json.append("],\"next_page_uri\": ");
+                if (page + 1 < sizes.length) {
+                    json.append('"').append(URI).append("?PageSize=3&Page=").append(page + 1)
+                        .append(tokens ? "&PageToken=PA" + (page + 1) : "").append('"');
+                } else {
+                    json.append("null");
+                }
+                json.append(",\"page\": ").append(page).append(",\"page_size\": 3,\"uri\": \"").append(URI).append("\"}");
+                return new Response(json.toString(), TwilioRestClient.HTTP_STATUS_CODE_OK);
+            }
+        };
+
+        return new TwilioRestClient.Builder(ACCOUNT_SID, "token").httpClient(server).build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.twilio.base;
+
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test class for {@link Cursor}.
+ */
+public class CursorTest {
+
+    private static final String ACCOUNT_SID = "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String URI = "/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json";
+    private static final Pattern PAGE_TOKEN = Pattern.compile("PageToken=PA(\\d+)");
+    private static final int TOTAL = 10;
+    private static final int PAGE_SIZE = 3;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<String> urls = new ArrayList<>();
+    private TwilioRestClient client;
+
+    @Before
+    public void setUp() {
+        HttpClient server = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                String url = request.constructURL().toString();
+                urls.add(url);
+
+                Matcher token = PAGE_TOKEN.matcher(url);
+                int start = token.find() ? Integer.parseInt(token.group(1)) : 0;
+                int end = Math.min(TOTAL, start + PAGE_SIZE);
+
+                StringBuilder json = new StringBuilder("{\"calls\": [");
+                for (int i = start; i < end; i++) {
+                    json.append(i > start ? "," : "")
+                        .append("{\"sid\": \"").append(sid(i)).append("\",\"status\": \"")
+                        .append(i % 2 == 0 ? "failed" : "completed").append("\"}");
+                }
+                json.append("],\"next_page_uri\": ");
+                if (end < TOTAL) {
+                    json.append('"').append(link(end)).append('"');
+                } else {
+                    json.append("null");
+                }
+                json.append(",\"page_size\": ").append(PAGE_SIZE)
+                    .append(",\"uri\": \"").append(start == 0 ? URI + "?PageSize=3&Page=0" : link(start)).append("\"}");
+                return new Response(json.toString(), TwilioRestClient.HTTP_STATUS_CODE_OK);
+            }
+        };
+        client = new TwilioRestClient.Builder(ACCOUNT_SID, "token").httpClient(server).build();
+    }
+
+    @Test
+    public void testResumeAfterEveryRecord() {
+        List<Cursor> cursors = new ArrayList<>();
+        ResourceSet<Call> calls = Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).read(client);
+        cursors.add(calls.getCursor());
+        for (Call call : calls) {
+            cursors.add(calls.getCursor());
+        }
+
+        for (int i = 0; i <= TOTAL; i++) {
+            List<String> sids = sids(Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).resume(client, cursors.get(i)));
+            assertEquals(TOTAL - i, sids.size());
+            for (int j = 0; j < sids.size(); j++) {
+                assertEquals(sid(i + j), sids.get(j));
+            }
+        }
+    }
+
+    @Test
+    public void testResumeFetchesOnePage() {
+        ResourceSet<Call> calls = Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).read(client);
+        Iterator<Call> iterator = calls.iterator();
+        for (int i = 0; i < 4; i++) {
+            iterator.next();
+        }
+
+        Cursor cursor = calls.getCursor();
+        urls.clear();
+        Iterator<Call> resumed = Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).resume(client, cursor).iterator();
+        assertEquals(sid(4), resumed.next().getSid());
+        assertEquals(1, urls.size());
+        assertEquals("https://api.twilio.com" + link(3), urls.get(0));
+    }
+
+    @Test
+    public void testResumeKeepsLimit() {
+        ResourceSet<Call> calls = Call.reader(ACCOUNT_SID).limit(5).read(client);
+        Iterator<Call> iterator = calls.iterator();
+        iterator.next();
+        iterator.next();
+
+        Cursor cursor = calls.getCursor();
+        assertEquals(2, cursor.getProcessed());
+        assertEquals(3, sids(Call.reader(ACCOUNT_SID).limit(5).resume(client, cursor)).size());
+    }
+
+    @Test
+    public void testResumeFiltered() {
+        Reader<Call> reader = Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("status", "failed"));
+        ResourceSet<Call> calls = reader.read(client);
+        Iterator<Call> iterator = calls.iterator();
+        assertEquals(sid(0), iterator.next().getSid());
+        assertEquals(sid(2), iterator.next().getSid());
+
+        List<String> sids = sids(Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("status", "failed"))
+                                     .resume(client, calls.getCursor()));
+        assertEquals(3, sids.size());
+        assertEquals(sid(4), sids.get(0));
+    }
+
+    @Test
+    public void testToken() throws Exception {
+        Cursor cursor = new Cursor(link(3), 2, 5);
+        assertEquals(cursor, Cursor.fromString(cursor.toString()));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cursor);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(cursor, in.readObject());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadToken() {
+        Cursor.fromString("c1.not-base64!.x.1");
+    }
+
+    @Test
+    public void testFileStoreBatches() throws Exception {
+        File path = new File(folder.getRoot(), "calls.cursor");
+        FileCursorStore store = new FileCursorStore(path, 2, Long.MAX_VALUE);
+        assertNull(store.load());
+
+        store.save(new Cursor(link(3), 0, 3));
+        assertFalse(path.exists());
+        store.save(new Cursor(link(3), 1, 4));
+        assertEquals(new Cursor(link(3), 1, 4), new FileCursorStore(path).load());
+
+        store.save(new Cursor(link(3), 2, 5));
+        assertEquals(new Cursor(link(3), 1, 4), new FileCursorStore(path).load());
+        store.close();
+        assertEquals(new Cursor(link(3), 2, 5), new FileCursorStore(path).load());
+
+        store.clear();
+        assertFalse(path.exists());
+    }
+
+    private List<String> sids(final ResourceSet<Call> calls) {
+        List<String> sids = new ArrayList<>();
+        for (Call call : calls) {
+            sids.add(call.getSid());
+        }
+        return sids;
+    }
+
+    private static String sid(final int index) {
+        return String.format("CA%032d", index);
+    }
+
+    private static String link(final int start) {
+        return URI + "?PageSize=3&Page=" + (start / PAGE_SIZE) + "&PageToken=PA" + start;
+    }
+}
@@ -0,0 +1,218 @@
+package com.twilio.base;
+
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class for {@link PageNavigator}.
+ */
+public class PageNavigatorTest {
+
+    private static final String ACCOUNT_SID = "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String URI = "/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json";
+    private static final Pattern PAGE = Pattern.compile("[?&]Page=(\\d+)");
+    private static final int TOTAL = 20;
+    private static final int PAGE_SIZE = 3;
+
+    private final List<String> urls = Collections.synchronizedList(new ArrayList<String>());
+
+    @Test
+    public void testBackAndForth() {
+        PageNavigator<Call> pages = navigator(false).setPrefetching(false);
+        assertEquals(-1, pages.getPageNumber());
+        assertFalse(pages.hasPreviousPage());
+
+        assertEquals(sid(0), first(pages.nextPage()));
+        assertEquals(sid(3), first(pages.nextPage()));
+        assertEquals(sid(6), first(pages.nextPage()));
+        assertEquals(sid(3), first(pages.previousPage()));
+        assertEquals(sid(0), first(pages.previousPage()));
+        assertEquals(0, pages.getPageNumber());
+        assertEquals(3, urls.size());
+
+        try {
+            pages.previousPage();
+            fail("NoSuchElementException was expected");
+        } catch (final NoSuchElementException e) {
+            assertEquals(0, pages.getPageNumber());
+        }
+    }
+
+    @Test
+    public void testEvictedPagesAreFetchedByLink() {
+        PageNavigator<Call> pages = navigator(true).setPrefetching(false).setCachedPages(1);
+        for (int i = 0; i < 4; i++) {
+            pages.nextPage();
+        }
+
+        urls.clear();
+        assertEquals(sid(3), first(pages.goToPage(1)));
+        assertEquals(1, urls.size());
+        assertTrue(urls.get(0).contains("PageToken=PA3"));
+    }
+
+    @Test
+    public void testGoToNumberedPageJumps() {
+        PageNavigator<Call> pages = navigator(false).setPrefetching(false);
+        pages.nextPage();
+        urls.clear();
+
+        assertEquals(sid(15), first(pages.goToPage(5)));
+        assertEquals(1, urls.size());
+        assertTrue(urls.get(0).contains("Page=5"));
+
+        // The jumped-to page links back to the one before it
+        assertEquals(sid(12), first(pages.previousPage()));
+        assertEquals(2, urls.size());
+    }
+
+    @Test
+    public void testGoToTokenPageWalks() {
+        PageNavigator<Call> pages = navigator(true).setPrefetching(false);
+        assertEquals(sid(12), first(pages.goToPage(4)));
+        assertEquals(5, urls.size());
+
+        urls.clear();
+        assertEquals(sid(6), first(pages.goToPage(2)));
+        assertEquals(sid(18), first(pages.goToPage(6)));
+        assertEquals(2, urls.size());
+        assertFalse(pages.hasNextPage());
+    }
+
+    @Test
+    public void testGoToPastLastPage() {
+        PageNavigator<Call> pages = navigator(true).setPrefetching(false);
+        try {
+            pages.goToPage(9);
+            fail("IndexOutOfBoundsException was expected");
+        } catch (final IndexOutOfBoundsException e) {
+            assertEquals(7, urls.size());
+        }
+
+        try {
+            pages.goToPage(7);
+            fail("IndexOutOfBoundsException was expected");
+        } catch (final IndexOutOfBoundsException e) {
+            assertEquals(7, urls.size());
+        }
+
+        urls.clear();
+        try {
+            navigator(false).setPrefetching(false).goToPage(8);
+            fail("IndexOutOfBoundsException was expected");
+        } catch (final IndexOutOfBoundsException e) {
+            assertEquals(2, urls.size());
+            assertTrue(urls.get(1).contains("Page=8"));
+        }
+    }
+
+    @Test
+    public void testNeighboursArePrefetched() {
+        PageNavigator<Call> pages = navigator(true);
+        pages.nextPage();
+        assertEquals(sid(3), first(pages.nextPage()));
+        assertEquals(sid(6), first(pages.nextPage()));
+        assertEquals(sid(3), first(pages.previousPage()));
+
+        // Each page was asked for once, whether by a move or ahead of one
+        assertEquals(1, count("PageToken=PA3"));
+        assertEquals(1, count("PageToken=PA6"));
+    }
+
+    @Test
+    public void testFilteredPagesAreNotPrefetched() {
+        Reader<Call> reader = Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE)
+                                  .where(RecordFilter.equalTo("status", "failed"));
+        PageNavigator<Call> pages = reader.navigate(client(true));
+        assertEquals(2, pages.nextPage().getRecords().size());
+        assertEquals(sid(4), first(pages.nextPage()));
+        assertEquals(2, urls.size());
+    }
+
+    @Test
+    public void testReaderPreviousPage() {
+        TwilioRestClient client = client(true);
+        Reader<Call> reader = Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE);
+        Page<Call> first = reader.firstPage(client);
+        assertFalse(first.hasPreviousPage());
+
+        Page<Call> second = reader.nextPage(first, client);
+        assertTrue(second.hasPreviousPage());
+        assertEquals(sid(0), first(reader.previousPage(second, client)));
+    }
+
+    private PageNavigator<Call> navigator(final boolean tokens) {
+        return Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).navigate(client(tokens));
+    }
+
+    private TwilioRestClient client(final boolean tokens) {
+        HttpClient server = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                String url = request.constructURL().toString();
+                urls.add(url);
+
+                Matcher matcher = PAGE.matcher(url);
+                int number = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+                int start = number * PAGE_SIZE;
+                int end = Math.min(TOTAL, start + PAGE_SIZE);
+
+                StringBuilder json = new StringBuilder("{\"calls\": [");
+                for (int i = start; i < end; i++) {
+                    json.append(i > start ? "," : "")
+                        .append("{\"sid\": \"").append(sid(i)).append("\",\"status\": \"")
+                        .append(i % 2 == 0 ? "failed" : "completed").append("\"}");
+                }
+                json.append("],\"next_page_uri\": ").append(end < TOTAL ? quote(link(number + 1, tokens)) : "null")
+                    .append(",\"previous_page_uri\": ").append(number > 0 ? quote(link(number - 1, tokens)) : "null")
+                    .append(",\"page_size\": ").append(PAGE_SIZE)
+                    .append(",\"uri\": ").append(quote(link(number, tokens))).append("}");
+                return new Response(json.toString(), TwilioRestClient.HTTP_STATUS_CODE_OK);
+            }
+        };
+        return new TwilioRestClient.Builder(ACCOUNT_SID, "token").httpClient(server).build();
+    }
+
+    private int count(final String part) {
+        int count = 0;
+        synchronized (urls) {
+            for (String url : urls) {
+                count += url.contains(part) ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    private static String first(final Page<Call> page) {
+        return page.getRecords().get(0).getSid();
+    }
+
+    private static String link(final int number, final boolean tokens) {
+        String link = URI + "?PageSize=" + PAGE_SIZE + "&Page=" + number;
+        return tokens ? link + "&PageToken=PA" + number * PAGE_SIZE : link;
+    }
+
+    private static String quote(final String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static String sid(final int index) {
+        return String.format("CA%032d", index);
+    }
+}
@@ -0,0 +1,80 @@
+package com.twilio.base;
+
+import com.twilio.converter.ObjectMappers;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.trunking.v1.Trunk;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link Page}.
+ */
+public class PageTest {
+
+    private static final String MESSAGES = "{\"end\": 1,\"first_page_uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json?PageSize=2&Page=0\",\"messages\": [{\"sid\": \"SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"status\": \"sent\",\"subresource_uris\": {\"media\": \"/Media.json\"}},{\"sid\": \"SMbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb\",\"price_unit\": \"usd\"}],\"next_page_uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json?PageSize=2&Page=1\",\"page\": 0,\"page_size\": 2,\"previous_page_uri\": null,\"start\": 0,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json?PageSize=2&Page=0\"}";
+    private static final String TRUNKS = "{\"meta\": {\"first_page_url\": \"https://trunking.twilio.com/v1/Trunks?PageSize=50&Page=0\",\"key\": \"trunks\",\"next_page_url\": null,\"page\": 0,\"page_size\": 50,\"previous_page_url\": null,\"url\": \"https://trunking.twilio.com/v1/Trunks?PageSize=50&Page=0\"},\"trunks\": [{\"sid\": \"TRaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"auth_type_set\": [\"IP_ACL\"]}]}";
+
+    @Test
+    public void testFromJson() {
+        Page<Message> page = Page.fromJson("messages", MESSAGES, Message.class, ObjectMappers.shared());
+
+        List<Message> records = page.getRecords();
+        assertEquals(2, records.size());
+        assertEquals("SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", records.get(0).getSid());
+        assertEquals(Message.Status.SENT, records.get(0).getStatus());
+        assertEquals("USD", records.get(1).getPriceUnit().getCurrencyCode());
+        assertEquals(2, page.getPageSize());
+        assertTrue(page.hasNextPage());
+        assertEquals(
+            "https://api.twilio.com/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json?PageSize=2&Page=1",
+            page.getNextPageUrl("api", null)
+        );
+    }
+
+    @Test
+    public void testContentLengthCountsBytes() {
+        String json = MESSAGES.replace("\"status\": \"sent\"", "\"body\": \"caf\u00e9 \u2615\"");
+        Page<Message> page = Page.fromJson("messages", json, Message.class, ObjectMappers.shared());
+
+        // Two characters take two and three bytes
+        assertEquals(json.length() + 3, page.getContentLength());
+    }
+
+    @Test
+    public void testFromJsonNextGen() {
+        Page<Trunk> page = Page.fromJson("trunks", TRUNKS, Trunk.class, ObjectMappers.shared());
+
+        assertEquals(1, page.getRecords().size());
+        assertEquals(Arrays.asList("IP_ACL"), page.getRecords().get(0).getAuthTypeSet());
+        assertEquals(50, page.getPageSize());
+        assertFalse(page.hasNextPage());
+        assertEquals("https://trunking.twilio.com/v1/Trunks?PageSize=50&Page=0", page.getUrl("trunking", null));
+    }
+
+    @Test
+    public void testFromJsonWithoutRecords() {
+        String json = "{\"messages\": null,\"page_size\": 50,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json\"}";
+
+        Page<Message> page = Page.fromJson("messages", json, Message.class, ObjectMappers.shared());
+
+        assertTrue(page.getRecords().isEmpty());
+        assertFalse(page.hasNextPage());
+    }
+
+    @Test(expected = ApiConnectionException.class)
+    public void testFromJsonInvalid() {
+        Page.fromJson("messages", "{\"messages\": [{\"sid\": ", Message.class, ObjectMappers.shared());
+    }
+
+    @Test(expected = ApiConnectionException.class)
+    public void testFromJsonNotAnObject() {
+        Page.fromJson("messages", "[]", Message.class, ObjectMappers.shared());
+    }
+}
@@ -0,0 +1,120 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.Recording;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link RawRecord}.
+ */
+public class RawRecordTest {
+
+    private static final String CALLS = "{\"calls\": [{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"annotation\": null,\"answered_by\": null,\"api_version\": \"2010-04-01\",\"caller_name\": \"Zo\u00eb \u2603\",\"date_created\": \"Tue, 31 Aug 2010 20:36:28 +0000\",\"date_updated\": \"Tue, 31 Aug 2010 20:36:44 +0000\",\"direction\": \"inbound\",\"duration\": \"15\",\"end_time\": \"Tue, 31 Aug 2010 20:36:44 +0000\",\"forwarded_from\": \"+141586753093\",\"from\": \"+14158675308\",\"from_formatted\": \"(415) 867-5308\",\"group_sid\": null,\"parent_call_sid\": null,\"phone_number_sid\": \"PNaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"price\": \"-0.03000\",\"price_unit\": \"usd\",\"sid\": \"CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"start_time\": \"Tue, 31 Aug 2010 20:36:29 +0000\",\"status\": \"completed\",\"subresource_uris\": {\"notifications\": \"/Notifications.json\",\"recordings\": \"/Recordings.json\"},\"to\": \"+14158675309\",\"to_formatted\": \"(415) 867-5309\",\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls/CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.json\"},{\"sid\": \"CAbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb\",\"status\": \"transferred\",\"extra\": {\"nested\": [1, 2]}}],\"end\": 1,\"next_page_uri\": null,\"page\": 0,\"page_size\": 2,\"previous_page_uri\": null,\"start\": 0,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json?PageSize=2&Page=0\"}";
+    private static final String MESSAGES = "{\"messages\": [ {\n  \"sid\" : \"SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\" ,\n  \"status\": \"sent\",\n  \"from\": \"+14158675308\",\n  \"error_code\" : 30008\n} ],\"page_size\": 1,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages.json\"}";
+
+    @Test
+    public void testLazyMatchesEager() {
+        List<Call> eager = Page.fromJson("calls", CALLS, Call.class, ObjectMappers.shared()).getRecords();
+        List<Call> lazy = Page.fromJson("calls", CALLS, Call.class, ObjectMappers.lazy()).getRecords();
+
+        assertEquals(eager, lazy);
+        assertEquals(lazy, eager);
+        for (int i = 0; i < eager.size(); i++) {
+            assertEquals(eager.get(i).hashCode(), lazy.get(i).hashCode());
+            assertEquals(eager.get(i).toString(), lazy.get(i).toString());
+        }
+    }
+
+    @Test
+    public void testLazyGetters() {
+        List<Call> calls = Page.fromJson("calls", CALLS, Call.class, ObjectMappers.lazy()).getRecords();
+
+        Call call = calls.get(0);
+        assertEquals("CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", call.getSid());
+        assertEquals(Call.Status.COMPLETED, call.getStatus());
+        assertEquals("Zo\u00eb \u2603", call.getCallerName());
+        assertEquals(new BigDecimal("-0.03000"), call.getPrice());
+        assertEquals("USD", call.getPriceUnit().getCurrencyCode());
+        assertEquals(1283286988000L, call.getDateCreated().getMillis());
+        assertEquals("/Recordings.json", call.getSubresourceUris().get("recordings"));
+        assertNull(call.getAnnotation());
+        assertSame(call.getSubresourceUris(), call.getSubresourceUris());
+
+        Call sparse = calls.get(1);
+        assertEquals("CAbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb", sparse.getSid());
+        assertNull(sparse.getStatus());
+        assertEquals("transferred", sparse.getRawStatus());
+        assertNull(sparse.getDateCreated());
+        assertNull(sparse.getSubresourceUris());
+    }
+
+    @Test
+    public void testLazyMessage() {
+        Message message = Page.fromJson("messages", MESSAGES, Message.class, ObjectMappers.lazy()).getRecords().get(0);
+
+        assertEquals(Message.Status.SENT, message.getStatus());
+        assertEquals(Integer.valueOf(30008), message.getErrorCode());
+        assertEquals("+14158675308", message.getFrom().getEndpoint());
+        assertEquals("SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa", message.getSid());
+    }
+
+    @Test
+    public void testSerializesDecoded() throws Exception {
+        Call call = Page.fromJson("calls", CALLS, Call.class, ObjectMappers.lazy()).getRecords().get(0);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(call);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Call copy = (Call) in.readObject();
+            assertEquals(call, copy);
+            assertEquals(Call.Status.COMPLETED, copy.getStatus());
+        }
+    }
+
+    @Test
+    public void testEnumAndTextOfOneField() {
+        List<Message> messages = Page.fromJson("messages", MESSAGES, Message.class, ObjectMappers.lazy()).getRecords();
+
+        Message message = messages.get(0);
+        assertEquals(Message.Status.SENT, message.getStatus());
+        assertEquals("sent", message.getRawStatus());
+        assertEquals(Message.Status.SENT, message.getStatus());
+        assertNull(message.getDirection());
+        assertNull(message.getDirection());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnknownParser() throws Exception {
+        JsonParser parser = new JsonParserDelegate(new JsonFactory().createParser("{}"));
+        parser.nextToken();
+        RawRecord.tokenOffset(parser);
+    }
+
+    @Test
+    public void testSupports() {
+        assertTrue(RawRecord.supports(Call.class));
+        assertFalse(RawRecord.supports(Recording.class));
+        assertTrue(ObjectMappers.isLazy(ObjectMappers.lazy()));
+        assertFalse(ObjectMappers.isLazy(ObjectMappers.shared()));
+    }
+}
@@ -0,0 +1,193 @@
+package com.twilio.base;
+
+import com.twilio.converter.ObjectMappers;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link RecordFilter}.
+ */
+public class RecordFilterTest {
+
+    private static final String ACCOUNT_SID = "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String FIRST = "{\"calls\": [{\"sid\": \"CA00000000000000000000000000000000\",\"status\": \"failed\",\"price\": \"-0.03000\",\"date_created\": \"Tue, 31 Aug 2010 20:36:28 +0000\",\"subresource_uris\": {\"recordings\": \"/Recordings.json\"}},{\"sid\": \"CA00000000000000000000000000000001\",\"status\": \"completed\",\"price\": \"-0.50000\",\"date_created\": \"Wed, 01 Sep 2010 20:36:28 +0000\"},{\"sid\": \"CA00000000000000000000000000000002\",\"status\": \"failed\",\"price\": null,\"annotation\": \"null\"}],\"next_page_uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json?PageSize=3&Page=1\",\"page\": 0,\"page_size\": 3,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json?PageSize=3&Page=0\"}";
+    private static final String SECOND = "{\"calls\": [{\"sid\": \"CA00000000000000000000000000000003\",\"status\": \"busy\"}],\"next_page_uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json?PageSize=3&Page=2\",\"page\": 1,\"page_size\": 3,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json?PageSize=3&Page=1\"}";
+    private static final String THIRD = "{\"calls\": [{\"sid\": \"CA00000000000000000000000000000004\",\"status\": \"failed\",\"price\": \"-1.00000\"}],\"next_page_uri\": null,\"page\": 2,\"page_size\": 3,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json?PageSize=3&Page=2\"}";
+
+    private final List<String> urls = Collections.synchronizedList(new ArrayList<String>());
+    private HttpClient server;
+
+    @Before
+    public void setUp() {
+        server = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                String url = request.constructURL().toString();
+                urls.add(url);
+                String content = url.contains("Page=2") ? THIRD : url.contains("Page=1") ? SECOND : FIRST;
+                return new Response(content, TwilioRestClient.HTTP_STATUS_CODE_OK);
+            }
+        };
+    }
+
+    @Test
+    public void testEqualTo() {
+        List<String> sids = sids(Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("status", Call.Status.FAILED)));
+
+        assertEquals(Arrays.asList(
+            "CA00000000000000000000000000000000",
+            "CA00000000000000000000000000000002",
+            "CA00000000000000000000000000000004"
+        ), sids);
+        assertEquals(3, urls.size());
+        assertTrue(urls.get(0).contains("PageSize=1000"));
+    }
+
+    @Test
+    public void testNumbersAndCombinations() {
+        RecordFilter filter = RecordFilter.and(
+            RecordFilter.equalTo("status", "failed"),
+            RecordFilter.lessThan("price", -0.01)
+        );
+        assertEquals(Arrays.asList("CA00000000000000000000000000000000", "CA00000000000000000000000000000004"),
+                     sids(Call.reader(ACCOUNT_SID).where(filter)));
+
+        filter = RecordFilter.or(RecordFilter.greaterThan("price", -0.1), RecordFilter.oneOf("status", "busy"));
+        assertEquals(Arrays.asList("CA00000000000000000000000000000000", "CA00000000000000000000000000000003"),
+                     sids(Call.reader(ACCOUNT_SID).where(filter)));
+
+        filter = RecordFilter.not(RecordFilter.equalTo("status", "failed"));
+        assertEquals(Arrays.asList("CA00000000000000000000000000000001", "CA00000000000000000000000000000003"),
+                     sids(Call.reader(ACCOUNT_SID).where(filter)));
+    }
+
+    @Test
+    public void testNulls() {
+        assertEquals(Arrays.asList("CA00000000000000000000000000000002", "CA00000000000000000000000000000003"),
+                     sids(Call.reader(ACCOUNT_SID).where(RecordFilter.isNull("price"))));
+
+        // A string "null" is a value, and a null is never equal to one
+        assertEquals(Arrays.asList("CA00000000000000000000000000000002"),
+                     sids(Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("annotation", "null"))));
+        assertEquals(0, sids(Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("answered_by", "null"))).size());
+    }
+
+    @Test
+    public void testTimestamps() {
+        DateTime midnight = new DateTime(2010, 9, 1, 0, 0, DateTimeZone.UTC);
+
+        assertEquals(Arrays.asList("CA00000000000000000000000000000001"),
+                     sids(Call.reader(ACCOUNT_SID).where(RecordFilter.after("dateCreated", midnight))));
+        assertEquals(Arrays.asList("CA00000000000000000000000000000000"),
+                     sids(Call.reader(ACCOUNT_SID).where(RecordFilter.before("date_created", midnight))));
+    }
+
+    @Test
+    public void testLimitCountsMatches() {
+        Reader<Call> reader = Call.reader(ACCOUNT_SID)
+            .where(RecordFilter.equalTo("status", "failed"))
+            .where(RecordFilter.lessThan("price", -0.01))
+            .limit(2);
+
+        assertEquals(Arrays.asList("CA00000000000000000000000000000000", "CA00000000000000000000000000000004"),
+                     sids(reader));
+    }
+
+    @Test
+    public void testLazyMatches() {
+        TwilioRestClient client = new TwilioRestClient.Builder(ACCOUNT_SID, "token")
+            .httpClient(server)
+            .objectMapper(ObjectMappers.lazy())
+            .build();
+
+        List<Call> calls = Call.reader(ACCOUNT_SID)
+            .where(RecordFilter.equalTo("status", "failed"))
+            .firstPage(client)
+            .getRecords();
+        List<Call> eager = Page.fromJson("calls", FIRST, Call.class, ObjectMappers.shared()).getRecords();
+
+        assertEquals(2, calls.size());
+        assertEquals(eager.get(0), calls.get(0));
+        assertEquals(eager.get(2), calls.get(1));
+    }
+
+    @Test
+    public void testConcurrentPagesOfOneReader() throws Exception {
+        final Reader<Call> reader = Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("status", "failed"));
+        final TwilioRestClient client = client();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                // Columns read on some threads while plain pages are read on others
+                final boolean columns = i % 2 == 0;
+                futures.add(executor.submit(new Callable<Integer>() {
+                    public Integer call() {
+                        if (!columns) {
+                            return reader.firstPage(client).getRecords().size();
+                        }
+                        int rows = 0;
+                        for (ColumnBatch batch : reader.readColumns(client, "sid")) {
+                            rows += batch.size();
+                        }
+                        return rows;
+                    }
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(i % 2 == 0 ? 3 : 2, futures.get(i).get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFilteredColumns() {
+        int rows = 0;
+        for (ColumnBatch batch : Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("status", "failed"))
+                                     .readColumns(client(), "sid", "price")) {
+            for (int row = 0; row < batch.size(); row++) {
+                assertTrue(batch.column("sid").getString(row).startsWith("CA"));
+                rows++;
+            }
+        }
+        assertEquals(3, rows);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownField() {
+        Call.reader(ACCOUNT_SID).where(RecordFilter.equalTo("no_such_field", "x"));
+    }
+
+    private List<String> sids(final Reader<Call> reader) {
+        List<String> sids = new ArrayList<>();
+        for (Call call : reader.read(client())) {
+            sids.add(call.getSid());
+        }
+        return sids;
+    }
+
+    private TwilioRestClient client() {
+        return new TwilioRestClient.Builder(ACCOUNT_SID, "token").httpClient(server).build();
+    }
+}
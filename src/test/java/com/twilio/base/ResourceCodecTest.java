@@ -0,0 +1,194 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.exception.ApiException;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.usage.Record;
+import com.twilio.rest.pricing.v1.voice.Number;
+import com.twilio.rest.taskrouter.v1.Workspace;
+import com.twilio.rest.trunking.v1.Trunk;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class for {@link ResourceCodec}.
+ */
+public class ResourceCodecTest {
+
+    private static final String CALLS = "{\"calls\": [{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"annotation\": null,\"answered_by\": null,\"api_version\": \"2010-04-01\",\"caller_name\": \"Zo\u00eb \u2603\",\"date_created\": \"Tue, 31 Aug 2010 20:36:28 +0000\",\"date_updated\": \"Tue, 31 Aug 2010 20:36:44 +0000\",\"direction\": \"inbound\",\"duration\": \"15\",\"end_time\": \"Tue, 31 Aug 2010 20:36:44 +0000\",\"forwarded_from\": \"+141586753093\",\"from\": \"+14158675308\",\"from_formatted\": \"(415) 867-5308\",\"group_sid\": null,\"parent_call_sid\": null,\"phone_number_sid\": \"PNaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"price\": \"-0.03000\",\"price_unit\": \"usd\",\"sid\": \"CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"start_time\": \"Tue, 31 Aug 2010 20:36:29 +0000\",\"status\": \"completed\",\"subresource_uris\": {\"notifications\": \"/Notifications.json\",\"recordings\": \"/Recordings.json\"},\"to\": \"+14158675309\",\"to_formatted\": \"(415) 867-5309\",\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls/CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.json\"},{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"sid\": \"CAbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb\",\"status\": \"transferred\"}],\"page_size\": 2,\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json\"}";
+    private static final String MESSAGE = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"api_version\": \"2010-04-01\",\"body\": \"O Slash: \u00d8, PoP: \ud83d\udca9\",\"date_created\": \"Fri, 24 May 2019 17:44:46 +0000\",\"date_sent\": \"Fri, 24 May 2019 17:44:50 +0000\",\"date_updated\": \"Fri, 24 May 2019 17:44:50 +0000\",\"direction\": \"outbound-api\",\"error_code\": 30008,\"error_message\": null,\"from\": \"+12019235161\",\"messaging_service_sid\": \"MGaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"num_media\": \"0\",\"num_segments\": \"1\",\"price\": \"-0.00750\",\"price_unit\": \"USD\",\"sid\": \"SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"status\": \"sent\",\"subresource_uris\": {\"media\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Media.json\"},\"to\": \"+18182008801\",\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Messages/SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.json\"}";
+    private static final String NUMBER = "{\"country\": \"United States\",\"inbound_call_price\": {\"base_price\": null,\"current_price\": null,\"number_type\": null},\"iso_country\": \"US\",\"number\": \"+987654321\",\"outbound_call_price\": {\"base_price\": \"0.015\",\"current_price\": \"0.015\"},\"price_unit\": \"USD\",\"url\": \"https://pricing.twilio.com/v1/Voice/Numbers/+987654321\"}";
+    private static final String RECORD = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"api_version\": \"2010-04-01\",\"category\": \"totalprice\",\"count\": null,\"count_unit\": \"\",\"description\": \"Total Price\",\"end_date\": \"2015-09-04\",\"price\": \"2192.84855\",\"price_unit\": \"usd\",\"start_date\": \"1969-08-23\",\"subresource_uris\": {\"all_time\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Usage/Records/AllTime.json?Category=totalprice\"},\"uri\": \"/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Usage/Records?Category=totalprice\",\"usage\": \"2192.84855\",\"usage_unit\": \"usd\"}";
+    private static final String WORKSPACE = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"date_created\": \"2015-08-03T17:31:38Z\",\"date_updated\": \"2015-08-03T17:31:38Z\",\"default_activity_name\": \"Offline\",\"default_activity_sid\": \"WAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"event_callback_url\": \"\",\"events_filter\": \"\",\"friendly_name\": \"8064de33-3a05-11e5-8bae-98e0d9a1eb73\",\"links\": {\"activities\": \"https://taskrouter.twilio.com/v1/Workspaces/WSaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Activities\"},\"multi_task_enabled\": \"false\",\"prioritize_queue_order\": \"FIFO\",\"sid\": \"WSaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"timeout_activity_name\": \"Offline\",\"timeout_activity_sid\": \"WAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"url\": \"https://taskrouter.twilio.com/v1/Workspaces/WSaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\"}";
+
+    private static final String TRUNK = "{\"account_sid\": \"ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\",\"recording\": {\"mode\": \"do-not-record\",\"trim\": \"do-not-trim\",\"nested\": {\"count\": 3,\"big\": 12345678901,\"ratio\": 0.5,\"on\": true,\"none\": null,\"list\": [1, \"two\"]}},\"secure\": false,\"sid\": \"TKaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\"}";
+
+    private final ObjectMapper mapper = ObjectMappers.shared();
+
+    @Test
+    public void testRoundTrip() {
+        List<Call> calls = Page.fromJson("calls", CALLS, Call.class, mapper).getRecords();
+        ResourceCodec<Call> codec = ResourceCodec.of(Call.class);
+
+        for (Call call : calls) {
+            Call decoded = codec.decode(codec.encode(call));
+            assertEquals(call, decoded);
+            assertEquals(call.getRawStatus(), decoded.getRawStatus());
+        }
+        assertEquals("Zo\u00eb \u2603", codec.decode(codec.encode(calls.get(0))).getCallerName());
+        assertEquals(Call.Status.COMPLETED, codec.decode(codec.encode(calls.get(0))).getStatus());
+        assertNull(codec.decode(codec.encode(calls.get(1))).getStatus());
+    }
+
+    @Test
+    public void testSmallerThanJson() {
+        Message message = Message.fromJson(MESSAGE, mapper);
+        byte[] encoded = ResourceCodec.of(Message.class).encode(message);
+
+        assertEquals(message, ResourceCodec.of(Message.class).decode(encoded));
+        assertTrue(encoded.length * 3 < MESSAGE.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    public void testLazyResources() {
+        List<Call> eager = Page.fromJson("calls", CALLS, Call.class, mapper).getRecords();
+        List<Call> lazy = Page.fromJson("calls", CALLS, Call.class, ObjectMappers.lazy()).getRecords();
+        ResourceCodec<Call> codec = ResourceCodec.of(Call.class);
+
+        assertEquals(eager, codec.decodeAll(ByteBuffer.wrap(codec.encodeAll(lazy))));
+    }
+
+    @Test
+    public void testBatchSharesSids() {
+        List<Call> calls = Page.fromJson("calls", CALLS, Call.class, mapper).getRecords();
+        ResourceCodec<Call> codec = ResourceCodec.of(Call.class);
+
+        byte[] batch = codec.encodeAll(calls);
+        int separately = codec.encode(calls.get(0)).length + codec.encode(calls.get(1)).length;
+        assertTrue(batch.length + 16 < separately);
+
+        List<Call> decoded = codec.decodeAll(ByteBuffer.wrap(batch));
+        assertEquals(calls, decoded);
+        assertSame(decoded.get(0).getAccountSid(), decoded.get(1).getAccountSid());
+    }
+
+    @Test
+    public void testValueTypesDatesAndMaps() {
+        Number number = Number.fromJson(NUMBER, mapper);
+        assertEquals(number, ResourceCodec.of(Number.class).decode(ResourceCodec.of(Number.class).encode(number)));
+
+        Record record = Record.fromJson(RECORD, mapper);
+        Record decoded = ResourceCodec.of(Record.class).decode(ResourceCodec.of(Record.class).encode(record));
+        assertEquals(record, decoded);
+        assertEquals("1969-08-23", decoded.getStartDate().toString());
+
+        Workspace workspace = Workspace.fromJson(WORKSPACE, mapper);
+        assertEquals(workspace,
+            ResourceCodec.of(Workspace.class).decode(ResourceCodec.of(Workspace.class).encode(workspace)));
+
+        Trunk trunk = Trunk.fromJson(TRUNK, mapper);
+        assertEquals(trunk, ResourceCodec.of(Trunk.class).decode(ResourceCodec.of(Trunk.class).encode(trunk)));
+    }
+
+    @Test
+    public void testDirectBuffer() {
+        List<Call> calls = Page.fromJson("calls", CALLS, Call.class, mapper).getRecords();
+        ResourceCodec<Call> codec = ResourceCodec.of(Call.class);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+        codec.encode(calls.get(0), buffer);
+        codec.encode(calls.get(1), buffer);
+        int written = buffer.position();
+        buffer.flip();
+
+        assertEquals(calls.get(0), codec.decode(buffer));
+        assertEquals(calls.get(1), codec.decode(buffer));
+        assertEquals(written, buffer.position());
+    }
+
+    @Test
+    public void testOverflowLeavesPosition() {
+        Call call = Page.fromJson("calls", CALLS, Call.class, mapper).getRecords().get(0);
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        buffer.position(4);
+
+        try {
+            ResourceCodec.of(Call.class).encode(call, buffer);
+            fail("Expected BufferOverflowException");
+        } catch (final BufferOverflowException e) {
+            assertEquals(4, buffer.position());
+        }
+    }
+
+    @Test
+    public void testRejectsOtherSchemas() {
+        Call call = Page.fromJson("calls", CALLS, Call.class, mapper).getRecords().get(0);
+        byte[] encoded = ResourceCodec.of(Call.class).encode(call);
+
+        try {
+            ResourceCodec.of(Message.class).decode(encoded);
+            fail("Expected ApiException");
+        } catch (final ApiException e) {
+            assertTrue(e.getMessage().contains("another schema"));
+        }
+
+        try {
+            ResourceCodec.of(Call.class).decode(Arrays.copyOf(encoded, encoded.length - 5));
+            fail("Expected ApiException");
+        } catch (final ApiException e) {
+            assertTrue(e.getMessage().contains("ends early"));
+        }
+    }
+
+    @Test
+    public void testEveryResourceType() throws Exception {
+        File classes = new File(Resource.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<Class<? extends Resource>> types = new ArrayList<>();
+        findResources(new File(classes, "com/twilio/rest"), "com.twilio.rest", types);
+        assertTrue(types.size() > 100);
+
+        for (Class<? extends Resource> type : types) {
+            encodesEmpty(type);
+        }
+    }
+
+    private <T extends Resource> void encodesEmpty(final Class<T> type) throws Exception {
+        T empty = mapper.readValue("{}", type);
+        ResourceCodec<T> codec = ResourceCodec.of(type);
+        assertEquals(type.getName(), empty, codec.decode(codec.encode(empty)));
+    }
+
+    private static void findResources(final File directory, final String pkg,
+                                      final List<Class<? extends Resource>> types) throws Exception {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                findResources(file, pkg + "." + name, types);
+            } else if (name.endsWith(".class") && !name.contains("$")) {
+                Class<?> type = Class.forName(pkg + "." + name.substring(0, name.length() - ".class".length()));
+                if (Resource.class.isAssignableFrom(type)) {
+                    types.add(type.asSubclass(Resource.class));
+                }
+            }
+        }
+    }
+}
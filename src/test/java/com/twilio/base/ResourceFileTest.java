@@ -0,0 +1,205 @@
+package com.twilio.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.converter.ObjectMappers;
+import com.twilio.exception.ApiException;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Call;
+import com.twilio.rest.api.v2010.account.Message;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * Test class for {@link ResourceFile}.
+ */
+public class ResourceFileTest {
+
+    private static final String ACCOUNT_SID = "ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+    private static final String URI = "/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls.json";
+    private static final Pattern PAGE_TOKEN = Pattern.compile("PageToken=PA(\\d+)");
+    private static final int TOTAL = 10;
+    private static final int PAGE_SIZE = 4;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReadToFile() throws Exception {
+        TwilioRestClient client = client(ObjectMappers.shared());
+        List<Call> expected = list(Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).read(client));
+
+        File path = folder.newFile("calls.bin");
+        try (ResourceFile<Call> calls = Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).readToFile(client, path)) {
+            assertEquals(expected, calls);
+            assertEquals(sid(7), calls.get(7).getSid());
+        }
+
+        // A file outlives the list that wrote it
+        try (ResourceFile<Call> calls = ResourceFile.open(path, Call.class, ObjectMappers.shared())) {
+            assertEquals(TOTAL, calls.size());
+            assertEquals(expected, calls);
+        }
+    }
+
+    @Test
+    public void testReadToFileLazy() throws Exception {
+        TwilioRestClient client = client(ObjectMappers.lazy());
+        File path = folder.newFile("calls.bin");
+        try (ResourceFile<Call> calls = Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).readToFile(client, path)) {
+            assertEquals(TOTAL, calls.size());
+            assertEquals(sid(9), calls.get(9).getSid());
+            assertEquals(Call.Status.COMPLETED, calls.get(9).getStatus());
+        }
+    }
+
+    @Test
+    public void testReadToFileLimit() throws Exception {
+        File path = folder.newFile("calls.bin");
+        TwilioRestClient client = client(ObjectMappers.shared());
+        try (ResourceFile<Call> calls = Call.reader(ACCOUNT_SID).limit(6).readToFile(client, path)) {
+            assertEquals(6, calls.size());
+            assertEquals(sid(5), calls.get(5).getSid());
+        }
+    }
+
+    @Test
+    public void testReadToFileFiltered() throws Exception {
+        Reader<Call> reader = Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE)
+                                  .where(RecordFilter.equalTo("status", "failed"));
+        File path = folder.newFile("calls.bin");
+        try (ResourceFile<Call> calls = reader.readToFile(client(ObjectMappers.shared()), path)) {
+            assertEquals(5, calls.size());
+            for (int i = 0; i < calls.size(); i++) {
+                assertEquals(sid(i * 2), calls.get(i).getSid());
+            }
+        }
+    }
+
+    @Test
+    public void testSegmentsArePadded() throws Exception {
+        TwilioRestClient client = client(ObjectMappers.shared());
+        File path = folder.newFile("calls.bin");
+        try (ResourceFile<Call> calls = ResourceFile.write(Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE),
+                                                           client, path, 8)) {
+            assertEquals(list(Call.reader(ACCOUNT_SID).pageSize(PAGE_SIZE).read(client)), calls);
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() throws Exception {
+        File path = folder.newFile("calls.bin");
+        try (ResourceFile<Call> calls = Call.reader(ACCOUNT_SID).readToFile(client(ObjectMappers.shared()), path)) {
+            calls.get(TOTAL);
+        }
+    }
+
+    @Test(expected = ApiException.class)
+    public void testOpenOtherType() throws Exception {
+        File path = folder.newFile("calls.bin");
+        Call.reader(ACCOUNT_SID).readToFile(client(ObjectMappers.shared()), path).close();
+        ResourceFile.open(path, Message.class, ObjectMappers.shared());
+    }
+
+    @Test(expected = ApiException.class)
+    public void testOpenUnfinished() throws Exception {
+        File path = folder.newFile("calls.bin");
+        Call.reader(ACCOUNT_SID).readToFile(client(ObjectMappers.shared()), path).close();
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            file.seek(8);
+            file.writeLong(-1L);
+        }
+        ResourceFile.open(path, Call.class, ObjectMappers.shared());
+    }
+
+    @Test(expected = ApiException.class)
+    public void testOpenTooManyRecords() throws Exception {
+        File path = folder.newFile("calls.bin");
+        Call.reader(ACCOUNT_SID).readToFile(client(ObjectMappers.shared()), path).close();
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            file.seek(8);
+            file.writeLong(Integer.MAX_VALUE + 1L);
+        }
+        ResourceFile.open(path, Call.class, ObjectMappers.shared());
+    }
+
+    @Test
+    public void testFailedWriteKeepsEarlierFile() throws Exception {
+        File path = folder.newFile("calls.bin");
+        Call.reader(ACCOUNT_SID).readToFile(client(ObjectMappers.shared()), path).close();
+
+        HttpClient failing = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                return new Response("{\"message\": \"down\", \"status\": 500}", 500);
+            }
+        };
+        try {
+            Call.reader(ACCOUNT_SID).readToFile(new TwilioRestClient.Builder(ACCOUNT_SID, "token")
+                .httpClient(failing).build(), path);
+            fail("Expected ApiException");
+        } catch (final ApiException e) {
+            // The read failed
+        }
+
+        assertFalse(new File(path.getPath() + ".tmp").exists());
+        try (ResourceFile<Call> calls = ResourceFile.open(path, Call.class, ObjectMappers.shared())) {
+            assertEquals(TOTAL, calls.size());
+        }
+    }
+
+    private TwilioRestClient client(final ObjectMapper mapper) {
+        HttpClient server = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                String url = request.constructURL().toString();
+                Matcher token = PAGE_TOKEN.matcher(url);
+                int start = token.find() ? Integer.parseInt(token.group(1)) : 0;
+                int end = Math.min(TOTAL, start + PAGE_SIZE);
+
+                StringBuilder json = new StringBuilder("{\"calls\": [");
+                for (int i = start; i < end; i++) {
+                    json.append(i > start ? "," : "")
+                        .append("{\"sid\": \"").append(sid(i)).append("\",\"status\": \"")
+                        .append(i % 2 == 0 ? "failed" : "completed").append("\",\"to\": \"+1415555é")
+                        .append(i).append("\"}");
+                }
+                json.append("],\"next_page_uri\": ");
+                if (end < TOTAL) {
+                    json.append('"').append(URI + "?PageSize=4&PageToken=PA" + end).append('"');
+                } else {
+                    json.append("null");
+                }
+                json.append(",\"page_size\": ").append(PAGE_SIZE).append(",\"uri\": \"").append(URI).append("\"}");
+                return new Response(json.toString(), TwilioRestClient.HTTP_STATUS_CODE_OK);
+            }
+        };
+        return new TwilioRestClient.Builder(ACCOUNT_SID, "token").httpClient(server).objectMapper(mapper).build();
+    }
+
+    private static List<Call> list(final Iterable<Call> calls) {
+        List<Call> list = new ArrayList<>();
+        for (Call call : calls) {
+            list.add(call);
+        }
+        return list;
+    }
+
+    private static String sid(final int index) {
+        return String.format("CA%032d", index);
+    }
+}
@@ -0,0 +1,160 @@
+package com.twilio.base;
+
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.ApiException;
+import com.twilio.http.HttpClient;
+import com.twilio.http.NetworkHttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+import org.apache.http.HttpHost;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.Test;
+
+import java.net.ServerSocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ResultTest {
+
+    private static final String ACCOUNT_SID = "AC00000000000000000000000000000000";
+    private static final String MESSAGE_SID = "SM00000000000000000000000000000000";
+    private static final String INVALID_NUMBER = "{\"code\": 21211, \"message\": \"The 'To' number is not valid\", " +
+        "\"more_info\": \"https://www.twilio.com/docs/errors/21211\", \"status\": 400}";
+
+    /**
+     * Answers every request with the same response.
+     */
+    private static class FixedClient extends HttpClient {
+        private final Response response;
+
+        FixedClient(final Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public Response makeRequest(final Request request) {
+            return response;
+        }
+    }
+
+    private static TwilioRestClient client(final Response response) {
+        return new TwilioRestClient.Builder(ACCOUNT_SID, "token").httpClient(new FixedClient(response)).build();
+    }
+
+    private static Creator<Message> creator() {
+        return Message.creator(new PhoneNumber("+15558675310"), new PhoneNumber("+15017122661"), "Hello");
+    }
+
+    @Test
+    public void testSuccess() {
+        Response response = new Response("{\"sid\": \"" + MESSAGE_SID + "\", \"status\": \"queued\"}", 201);
+        Result<Message> result = creator().createResult(client(response));
+
+        assertTrue(result.isSuccess());
+        assertEquals(201, result.getStatusCode());
+        assertEquals(MESSAGE_SID, result.getValue().getSid());
+        assertEquals(MESSAGE_SID, result.getOrThrow().getSid());
+        assertNull(result.getCode());
+        assertNull(result.getMessage());
+    }
+
+    @Test
+    public void testErrorResponse() {
+        Result<Message> result = creator().createResult(client(new Response(INVALID_NUMBER, 400)));
+
+        assertFalse(result.isSuccess());
+        assertNull(result.getValue());
+        assertEquals(400, result.getStatusCode());
+        assertEquals(Integer.valueOf(21211), result.getCode());
+        assertEquals("The 'To' number is not valid", result.getMessage());
+        assertEquals("https://www.twilio.com/docs/errors/21211", result.getMoreInfo());
+    }
+
+    @Test
+    public void testGetOrThrowRaisesTheApiException() {
+        Result<Message> result = creator().createResult(client(new Response(INVALID_NUMBER, 400)));
+        try {
+            result.getOrThrow();
+            fail("Expected ApiException");
+        } catch (final ApiException e) {
+            assertEquals(Integer.valueOf(21211), e.getCode());
+            assertEquals(Integer.valueOf(400), e.getStatusCode());
+        }
+    }
+
+    @Test
+    public void testEmptyErrorResponse() {
+        Result<Message> result = Message.fetcher(MESSAGE_SID).fetchResult(client(new Response("null", 404)));
+
+        assertFalse(result.isSuccess());
+        assertEquals(404, result.getStatusCode());
+        assertNull(result.getCode());
+        assertEquals("Server Error, no content", result.getMessage());
+    }
+
+    @Test
+    public void testNoResponse() {
+        Result<Message> result = creator().createResult(client(null));
+
+        assertFalse(result.isSuccess());
+        assertEquals(0, result.getStatusCode());
+        try {
+            result.getOrThrow();
+            fail("Expected ApiConnectionException");
+        } catch (final ApiConnectionException e) {
+            assertEquals("Unable to connect to server", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testConnectionFailure() throws Exception {
+        // Route every request through a proxy nothing listens on, so connecting fails for real
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        HttpClientBuilder builder = HttpClientBuilder.create().setProxy(new HttpHost("127.0.0.1", port));
+        TwilioRestClient client = new TwilioRestClient.Builder(ACCOUNT_SID, "token")
+            .httpClient(new NetworkHttpClient(builder))
+            .build();
+
+        Result<Message> result = Message.fetcher(MESSAGE_SID).fetchResult(client);
+
+        assertFalse(result.isSuccess());
+        assertEquals(0, result.getStatusCode());
+        try {
+            result.getOrThrow();
+            fail("Expected ApiConnectionException");
+        } catch (final ApiConnectionException e) {
+            assertTrue(e.getMessage().startsWith("Request failed: "));
+        }
+    }
+
+    @Test
+    public void testDelete() {
+        Result<Boolean> result = Message.deleter(MESSAGE_SID).deleteResult(client(new Response("", 204)));
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.getValue());
+        assertEquals(204, result.getStatusCode());
+    }
+
+    @Test
+    public void testThrowingCallsAreUnaffected() {
+        TwilioRestClient client = client(new Response(INVALID_NUMBER, 400));
+        creator().createResult(client);
+        try {
+            creator().create(client);
+            fail("Expected ApiException");
+        } catch (final ApiException e) {
+            assertEquals(Integer.valueOf(21211), e.getCode());
+        }
+    }
+}
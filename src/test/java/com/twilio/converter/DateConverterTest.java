@@ -1,11 +1,15 @@
 package com.twilio.converter;
 
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.joda.time.LocalDate;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Locale;
+import java.util.Random;
 
 /**
  * Test Class for {@link DateConverter}.
@@ -83,4 +87,67 @@ public class DateConverterTest {
         DateTime dateTime = DateConverter.iso8601DateTimeFromString("2016-01-15T21:49:24Z");
         Assert.assertNotNull(dateTime);
     }
+
+    @Test
+    public void testMatchesJoda() {
+        DateTimeFormatter rfc2822 = DateTimeFormat.forPattern("EEE, dd MMM yyyy HH:mm:ss Z")
+            .withZone(DateTimeZone.UTC).withLocale(Locale.US);
+        DateTimeFormatter iso8601 = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ssZ").withZone(DateTimeZone.UTC);
+        DateTimeFormatter iso8601Colon = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ssZZ")
+            .withZone(DateTimeZone.UTC);
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10000; i++) {
+            DateTimeZone zone = DateTimeZone.forOffsetMillis((random.nextInt(48) - 24) * 30 * 60 * 1000);
+            DateTime expected = new DateTime((long) (random.nextDouble() * 4102444800000L), zone)
+                .withMillisOfSecond(0);
+
+            String s = rfc2822.withZone(zone).print(expected);
+            Assert.assertEquals(s, DateTime.parse(s, rfc2822), DateConverter.rfc2822DateTimeFromString(s));
+            Assert.assertEquals(s, expected.getMillis(), DateConverter.rfc2822EpochMillisFromString(s));
+            Assert.assertEquals(s, expected.getMillis(), TimestampParser.rfc2822(s));
+
+            for (DateTimeFormatter formatter : new DateTimeFormatter[] {iso8601, iso8601Colon}) {
+                s = formatter.withZone(zone).print(expected);
+                Assert.assertEquals(s, DateTime.parse(s, iso8601), DateConverter.iso8601DateTimeFromString(s));
+                Assert.assertEquals(s, expected.getMillis(), DateConverter.iso8601EpochMillisFromString(s));
+                Assert.assertEquals(s, expected.getMillis(), TimestampParser.iso8601(s));
+            }
+        }
+    }
+
+    @Test
+    public void testNonCanonicalRfc2822() {
+        // Joda moves the date to the named day of the same week
+        Assert.assertEquals(
+            new DateTime(2016, 3, 30, 13, 0, 5, DateTimeZone.UTC),
+            DateConverter.rfc2822DateTimeFromString("Wed, 29 Mar 2016 13:00:05 +0000")
+        );
+        Assert.assertEquals(
+            new DateTime(2016, 3, 29, 13, 0, 5, DateTimeZone.UTC),
+            DateConverter.rfc2822DateTimeFromString("TUE, 29 MAR 2016 13:00:05 +0000")
+        );
+        Assert.assertNull(DateConverter.rfc2822DateTimeFromString("Tue, 30 Feb 2016 13:00:05 +0000"));
+        Assert.assertNull(DateConverter.rfc2822DateTimeFromString("Tue, 29 Mar 2016 24:00:05 +0000"));
+    }
+
+    @Test
+    public void testNullAndEmpty() {
+        Assert.assertNull(DateConverter.rfc2822DateTimeFromString(null));
+        Assert.assertNull(DateConverter.rfc2822DateTimeFromString(""));
+        Assert.assertNull(DateConverter.iso8601DateTimeFromString(null));
+        Assert.assertNull(DateConverter.iso8601DateTimeFromString("2016-13-15T21:49:24Z"));
+        Assert.assertEquals(DateConverter.INVALID_MILLIS, DateConverter.rfc2822EpochMillisFromString(null));
+        Assert.assertEquals(DateConverter.INVALID_MILLIS, DateConverter.iso8601EpochMillisFromString("2016-01-15"));
+    }
+
+    @Test
+    public void testRepeatedValuesAreCached() {
+        String timestamp = "Tue, 29 Mar 2016 13:00:05 +0000";
+
+        Assert.assertSame(
+            DateConverter.rfc2822DateTimeFromString(timestamp),
+            DateConverter.rfc2822DateTimeFromString(new String(timestamp))
+        );
+    }
 }
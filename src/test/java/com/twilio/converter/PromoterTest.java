@@ -1,10 +1,16 @@
 package com.twilio.converter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
+import com.twilio.http.HttpMethod;
+import com.twilio.rest.api.v2010.account.ConnectApp;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.rest.api.v2010.account.usage.Record;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.net.URI;
+import java.util.Arrays;
 
 /**
  * Test class for {@link Promoter}
@@ -28,4 +34,53 @@ public class PromoterTest {
             Promoter.listOfOne(s)
         );
     }
+
+    @Test
+    public void testPromoteEnum() {
+        Assert.assertEquals(Record.Category.TOTALPRICE, Promoter.enumFromString("totalprice", Record.Category.class));
+        Assert.assertEquals(Message.Status.SENT, Promoter.enumFromString("SENT", Message.Status.class));
+        Assert.assertEquals(HttpMethod.POST, Promoter.enumFromString("post", HttpMethod.values()));
+        Assert.assertNull(Promoter.enumFromString("sent-ish", Message.Status.class));
+        Assert.assertNull(Promoter.enumFromString(null, Message.Status.class));
+    }
+
+    @Test
+    public void testUnknownEnumValueIsKept() {
+        Record record = Record.fromJson("{\"category\": \"quantum-sms\"}", new ObjectMapper());
+
+        Assert.assertNull(record.getCategory());
+        Assert.assertEquals("quantum-sms", record.getRawCategory());
+        Assert.assertNotEquals(record, Record.fromJson("{\"category\": \"quantum-mms\"}", new ObjectMapper()));
+    }
+
+    @Test
+    public void testKnownEnumValuesCompareRegardlessOfCase() {
+        Record lower = Record.fromJson("{\"category\": \"totalprice\"}", new ObjectMapper());
+        Record upper = Record.fromJson("{\"category\": \"TOTALPRICE\"}", new ObjectMapper());
+
+        Assert.assertEquals(lower, upper);
+        Assert.assertEquals(lower.hashCode(), upper.hashCode());
+    }
+
+    @Test
+    public void testUnknownListEnumValuesAreKept() {
+        ConnectApp app = ConnectApp.fromJson("{\"permissions\": [\"get-all\", \"teleport\"]}", new ObjectMapper());
+
+        Assert.assertEquals(Arrays.asList(ConnectApp.Permission.GET_ALL, null), app.getPermissions());
+        Assert.assertEquals(Arrays.asList("get-all", "teleport"), app.getRawPermissions());
+        Assert.assertFalse(Promoter.isPromoted(app.getPermissions()));
+        Assert.assertNotEquals(app, ConnectApp.fromJson("{\"permissions\": [\"get-all\", \"warp\"]}", new ObjectMapper()));
+        Assert.assertEquals(app, ConnectApp.fromJson("{\"permissions\": [\"get-all\", \"teleport\"]}", new ObjectMapper()));
+    }
+
+    @Test
+    public void testKnownListEnumValuesCompareRegardlessOfCase() {
+        ConnectApp lower = ConnectApp.fromJson("{\"permissions\": [\"get-all\"]}", new ObjectMapper());
+        ConnectApp upper = ConnectApp.fromJson("{\"permissions\": [\"GET-ALL\"]}", new ObjectMapper());
+
+        Assert.assertTrue(Promoter.isPromoted(lower.getPermissions()));
+        Assert.assertEquals(lower, upper);
+        Assert.assertEquals(lower.hashCode(), upper.hashCode());
+        Assert.assertNull(Promoter.enumsFromStrings(null, ConnectApp.Permission.class));
+    }
 }
@@ -0,0 +1,77 @@
+package com.twilio.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.base.Page;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.Sid;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link SidInterner}.
+ */
+public class SidInternerTest {
+
+    private static final String ACCOUNT_SID = "AC0123456789abcdef0123456789abcdef";
+    private static final String SERVICE_SID = "MG0123456789abcdef0123456789abcdef";
+
+    @Test
+    public void testPageSharesRepeatedSids() {
+        ObjectMapper mapper = ObjectMappers.internSids(new ObjectMapper());
+        assertTrue(ObjectMappers.isInterningSids(mapper));
+
+        List<Message> messages = Page.fromJson("messages", page(), Message.class, mapper).getRecords();
+        assertEquals(3, messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            assertEquals(ACCOUNT_SID, messages.get(i).getAccountSid());
+            assertEquals(sid(i), messages.get(i).getSid());
+            assertSame(messages.get(0).getAccountSid(), messages.get(i).getAccountSid());
+            assertSame(messages.get(0).getMessagingServiceSid(), messages.get(i).getMessagingServiceSid());
+        }
+        assertEquals("hello", messages.get(1).getBody());
+        assertEquals(Sid.of(SERVICE_SID), messages.get(2).getMessagingServiceSidValue());
+
+        // The next page starts a table of its own
+        List<Message> next = Page.fromJson("messages", page(), Message.class, mapper).getRecords();
+        assertNotSame(messages.get(0).getAccountSid(), next.get(0).getAccountSid());
+    }
+
+    @Test
+    public void testSharedMapperDoesNotIntern() {
+        List<Message> messages = Page.fromJson("messages", page(), Message.class, ObjectMappers.shared())
+                                     .getRecords();
+        assertNotSame(messages.get(0).getAccountSid(), messages.get(1).getAccountSid());
+    }
+
+    @Test
+    public void testOutsidePageDoesNotIntern() throws Exception {
+        ObjectMapper mapper = ObjectMappers.internSids(new ObjectMapper());
+        String json = "{\"account_sid\": \"" + ACCOUNT_SID + "\"}";
+        Message first = mapper.readValue(json, Message.class);
+        Message second = mapper.readValue(json, Message.class);
+        assertEquals(first.getAccountSid(), second.getAccountSid());
+        assertNotSame(first.getAccountSid(), second.getAccountSid());
+    }
+
+    private static String page() {
+        StringBuilder json = new StringBuilder("{\"messages\": [");
+        for (int i = 0; i < 3; i++) {
+            json.append(i > 0 ? "," : "")
+                .append("{\"account_sid\": \"").append(ACCOUNT_SID)
+                .append("\",\"messaging_service_sid\": \"").append(SERVICE_SID)
+                .append("\",\"body\": \"hello\",\"sid\": \"").append(sid(i)).append("\"}");
+        }
+        return json.append("],\"uri\": \"/2010-04-01/Accounts/").append(ACCOUNT_SID)
+                   .append("/Messages.json\"}").toString();
+    }
+
+    private static String sid(final int index) {
+        return String.format("SM%032x", index);
+    }
+}
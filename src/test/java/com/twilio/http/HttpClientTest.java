@@ -0,0 +1,137 @@
+package com.twilio.http;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.ratelimit.RateLimiter;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HttpClientTest {
+
+    private static class CountingClient extends HttpClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final int statusCode;
+
+        CountingClient(final int statusCode) {
+            this.statusCode = statusCode;
+        }
+
+        @Override
+        public Response makeRequest(final Request request) {
+            calls.incrementAndGet();
+            return new Response("", statusCode);
+        }
+    }
+
+    @Test
+    public void testRetriesWithoutDeadline() {
+        CountingClient client = new CountingClient(500);
+        Response response = client.reliableRequest(new Request(HttpMethod.GET, "/uri"), HttpClient.RETRY_CODES, 3, 1);
+        assertEquals(500, response.getStatusCode());
+        assertEquals(3, client.calls.get());
+    }
+
+    @Test
+    public void testEveryAttemptTakesAPermit() {
+        CountingClient client = new CountingClient(500);
+        final AtomicInteger permits = new AtomicInteger();
+        RateLimiter limiter = new RateLimiter() {
+            @Override
+            public void acquire(final Request request) {
+                permits.incrementAndGet();
+            }
+        };
+
+        client.reliableRequest(new Request(HttpMethod.GET, "/uri"), HttpClient.RETRY_CODES, 3, 1, limiter);
+        assertEquals(3, client.calls.get());
+        assertEquals(3, permits.get());
+    }
+
+    @Test
+    public void testDeadlineStopsRetries() {
+        CountingClient client = new CountingClient(500);
+        Request request = new Request(HttpMethod.GET, "/uri");
+        request.setTimeout(50);
+
+        Response response = client.reliableRequest(request, HttpClient.RETRY_CODES, 100, 1000);
+        assertEquals(500, response.getStatusCode());
+        assertEquals(1, client.calls.get());
+    }
+
+    @Test
+    public void testExpiredRequestNotSent() {
+        CountingClient client = new CountingClient(200);
+        Request request = new Request(HttpMethod.GET, "/uri");
+        request.setDeadline(System.currentTimeMillis() - 1);
+
+        try {
+            client.reliableRequest(request);
+            fail("ApiConnectionException was expected");
+        } catch (final ApiConnectionException e) {
+            assertEquals(0, client.calls.get());
+        }
+    }
+
+    @Test
+    public void testCancelAbortsInFlightExchange() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch aborted = new CountDownLatch(1);
+
+        final HttpClient client = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                CancellationToken.current().onCancel(new Runnable() {
+                    @Override
+                    public void run() {
+                        aborted.countDown();
+                    }
+                });
+                started.countDown();
+                try {
+                    aborted.await();
+                } catch (final InterruptedException e) {
+                    // Cancellation also interrupts
+                }
+                throw new ApiConnectionException("aborted");
+            }
+        };
+
+        ListenableFuture<Response> future = CancellationToken.submit(
+            MoreExecutors.listeningDecorator(Executors.newSingleThreadExecutor()),
+            new Callable<Response>() {
+                public Response call() {
+                    return client.reliableRequest(new Request(HttpMethod.GET, "/uri"));
+                }
+            }
+        );
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        future.cancel(true);
+        assertTrue(aborted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancelledTokenRunsLateAbortAction() {
+        final AtomicInteger aborts = new AtomicInteger();
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        token.onCancel(new Runnable() {
+            @Override
+            public void run() {
+                aborts.incrementAndGet();
+            }
+        });
+        assertTrue(token.isCancelled());
+        assertEquals(1, aborts.get());
+    }
+}
@@ -15,6 +15,7 @@ import static com.twilio.Assert.assertUrlsEqual;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -174,5 +175,61 @@ public class RequestTest {
         assertFalse(request.equals(null));
     }
 
-}
+    @Test
+    public void testNoDeadline() {
+        Request request = new Request(HttpMethod.GET, "/uri");
+        assertFalse(request.hasDeadline());
+        assertFalse(request.isExpired());
+        assertEquals(Long.MAX_VALUE, request.getRemainingMillis());
+    }
+
+    @Test
+    public void testTimeout() {
+        Request request = new Request(HttpMethod.GET, "/uri");
+        request.setTimeout(60000);
+        assertTrue(request.hasDeadline());
+        assertFalse(request.isExpired());
+        assertTrue(request.getRemainingMillis() > 0);
+        assertTrue(request.getRemainingMillis() <= 60000);
+    }
+
+    @Test
+    public void testExpiredDeadline() {
+        Request request = new Request(HttpMethod.GET, "/uri");
+        request.setDeadline(System.currentTimeMillis() - 1);
+        assertTrue(request.isExpired());
+        assertEquals(0, request.getRemainingMillis());
+    }
+
+    @Test
+    public void testDeadlineInEpochMillis() {
+        Request request = new Request(HttpMethod.GET, "/uri");
+        assertNull(request.getDeadline());
+
+        long before = System.currentTimeMillis();
+        request.setDeadline(before + 60000);
+        long deadline = request.getDeadline();
+        assertTrue(deadline >= before + 59000);
+        assertTrue(deadline <= System.currentTimeMillis() + 60000);
+        assertTrue(request.getRemainingMillis() > 59000);
+    }
+
+    @Test
+    public void testLongTimeout() {
+        Request request = new Request(HttpMethod.GET, "/uri");
+        request.setTimeout(Long.MAX_VALUE);
+        assertFalse(request.isExpired());
+        assertTrue(request.getRemainingMillis() > 0);
+    }
 
+    @Test
+    public void testTemplatedUrl() {
+        Request request = new Request(
+            HttpMethod.GET,
+            Domains.API.toString(),
+            "/2010-04-01/Accounts/ACaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa/Calls/CAaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.json"
+        );
+        assertEquals("https://api.twilio.com/2010-04-01/Accounts/{Sid}/Calls/{Sid}.json", request.getTemplatedUrl());
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.twilio.http;
+
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.exception.AuthenticationException;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TwilioRestClientRegistryTest {
+
+    private static class StatusClient extends HttpClient {
+        private final int statusCode;
+
+        StatusClient(final int statusCode) {
+            this.statusCode = statusCode;
+        }
+
+        @Override
+        public Response makeRequest(final Request request) {
+            return new Response("", statusCode);
+        }
+    }
+
+    @Test
+    public void testClientsShareTransport() {
+        HttpClient transport = new StatusClient(200);
+        TwilioRestClientRegistry registry = new TwilioRestClientRegistry.Builder().transport(transport).build();
+
+        TwilioRestClient first = registry.register("AC1", "AC0", "token");
+        TwilioRestClient second = registry.register("AC2", "AC0", "token", "ie1");
+
+        assertEquals("AC1", first.getAccountSid());
+        assertEquals("AC2", second.getAccountSid());
+        assertEquals("ie1", second.getRegion());
+        assertSame(transport, registry.getUsage("AC1").getDelegate());
+        assertSame(transport, registry.getUsage("AC2").getDelegate());
+        assertSame(first.getObjectMapper(), second.getObjectMapper());
+        assertSame(first, registry.getClient("AC1"));
+    }
+
+    @Test
+    public void testUsageAccounting() {
+        TwilioRestClientRegistry registry = new TwilioRestClientRegistry.Builder()
+            .transport(new StatusClient(404))
+            .build();
+
+        registry.register("AC1", "AC0", "token").request(new Request(HttpMethod.GET, "/uri"));
+
+        TenantHttpClient usage = registry.getUsage("AC1");
+        assertEquals(1, usage.getRequestCount());
+        assertEquals(1, usage.getFailureCount());
+        assertEquals(0, usage.getInFlight());
+    }
+
+    @Test(expected = AuthenticationException.class)
+    public void testUnknownTenant() {
+        TwilioRestClientRegistry registry = new TwilioRestClientRegistry.Builder()
+            .transport(new StatusClient(200))
+            .build();
+
+        registry.getClient("AC1");
+    }
+
+    @Test
+    public void testUnregister() {
+        TwilioRestClientRegistry registry = new TwilioRestClientRegistry.Builder()
+            .transport(new StatusClient(200))
+            .build();
+
+        registry.register("AC1", "AC0", "token");
+        assertTrue(registry.isRegistered("AC1"));
+        registry.unregister("AC1");
+        assertFalse(registry.isRegistered("AC1"));
+    }
+
+    @Test
+    public void testTenantConcurrencyLimit() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        HttpClient blocking = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new Response("", 200);
+            }
+        };
+
+        final TenantHttpClient tenant = new TenantHttpClient("AC1", blocking, 1, 10);
+        Thread inFlight = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                tenant.makeRequest(new Request(HttpMethod.GET, "/uri"));
+            }
+        });
+        inFlight.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        try {
+            tenant.makeRequest(new Request(HttpMethod.GET, "/uri"));
+            fail("ApiConnectionException was expected");
+        } catch (final ApiConnectionException e) {
+            assertEquals(1, tenant.getRejectionCount());
+        } finally {
+            release.countDown();
+            inFlight.join();
+        }
+        assertEquals(0, tenant.getInFlight());
+    }
+}
@@ -0,0 +1,154 @@
+package com.twilio.http;
+
+import com.twilio.converter.ObjectMappers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TwilioRestClientTest {
+
+    /**
+     * Accepts only the configured password, remembering every password it saw.
+     */
+    private static class AuthClient extends HttpClient {
+        private final List<String> passwords = new ArrayList<>();
+        private final String accepted;
+
+        AuthClient(final String accepted) {
+            this.accepted = accepted;
+        }
+
+        @Override
+        public Response makeRequest(final Request request) {
+            passwords.add(request.getPassword());
+            return new Response("", accepted.equals(request.getPassword()) ? 200 : 401);
+        }
+    }
+
+    /**
+     * Answers every request with the same status.
+     */
+    private static class StatusClient extends HttpClient {
+        private final int status;
+
+        StatusClient(final int status) {
+            this.status = status;
+        }
+
+        @Override
+        public Response makeRequest(final Request request) {
+            return new Response("", status);
+        }
+    }
+
+    @Test
+    public void testRotatedCredentialsUsed() {
+        AuthClient httpClient = new AuthClient("new");
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "old").httpClient(httpClient).build();
+
+        client.rotateCredentials("AC123", "new");
+        Response response = client.request(new Request(HttpMethod.GET, "/uri"));
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("new", httpClient.passwords.get(0));
+        assertEquals(1, httpClient.passwords.size());
+    }
+
+    @Test
+    public void testFallbackDuringOverlap() {
+        AuthClient httpClient = new AuthClient("old");
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "old").httpClient(httpClient).build();
+
+        client.rotateCredentials("AC123", "new");
+        assertTrue(client.isRotating());
+        Response response = client.request(new Request(HttpMethod.GET, "/uri"));
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("new", httpClient.passwords.get(0));
+        assertEquals("old", httpClient.passwords.get(1));
+    }
+
+    @Test
+    public void testNoFallbackAfterCompletedRotation() {
+        AuthClient httpClient = new AuthClient("old");
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "old").httpClient(httpClient).build();
+
+        client.rotateCredentials("AC123", "new");
+        client.completeRotation();
+        assertFalse(client.isRotating());
+        Response response = client.request(new Request(HttpMethod.GET, "/uri"));
+
+        assertEquals(401, response.getStatusCode());
+        assertEquals(1, httpClient.passwords.size());
+    }
+
+    @Test
+    public void testRotationCompletesOnceNewCredentialsAccepted() {
+        AuthClient httpClient = new AuthClient("new");
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "old").httpClient(httpClient).build();
+
+        client.rotateCredentials("AC123", "new");
+        client.request(new Request(HttpMethod.GET, "/uri"));
+
+        assertFalse(client.isRotating());
+        assertEquals(1, httpClient.passwords.size());
+    }
+
+    @Test
+    public void testRotationOverlapsThroughUnauthenticatedErrors() {
+        // Neither error shows the new credentials were checked, so the fallback must stay available
+        for (int status : new int[]{429, 503}) {
+            TwilioRestClient client = new TwilioRestClient.Builder("AC123", "old")
+                .httpClient(new StatusClient(status))
+                .build();
+            client.rotateCredentials("AC123", "new");
+
+            client.request(new Request(HttpMethod.GET, "/uri"));
+            assertTrue(client.isRotating());
+        }
+    }
+
+    @Test
+    public void testRotationCompletesOnClientError() {
+        TwilioRestClient client = new TwilioRestClient.Builder("AC123", "old").httpClient(new StatusClient(404)).build();
+        client.rotateCredentials("AC123", "new");
+
+        client.request(new Request(HttpMethod.GET, "/uri"));
+        assertFalse(client.isRotating());
+    }
+
+    @Test
+    public void testDefaultClientsShareOneMapper() {
+        AuthClient httpClient = new AuthClient("token");
+        TwilioRestClient first = new TwilioRestClient.Builder("AC123", "token").httpClient(httpClient).build();
+        TwilioRestClient second = new TwilioRestClient.Builder("AC456", "token").httpClient(httpClient).build();
+
+        assertSame(ObjectMappers.shared(), first.getObjectMapper());
+        assertSame(first.getObjectMapper(), second.getObjectMapper());
+    }
+
+    @Test
+    public void testCloseReleasesHttpClient() {
+        final boolean[] closed = {false};
+        HttpClient httpClient = new HttpClient() {
+            @Override
+            public Response makeRequest(final Request request) {
+                return null;
+            }
+
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        new TwilioRestClient.Builder("AC123", "token").httpClient(httpClient).build().close();
+        assertTrue(closed[0]);
+    }
+}
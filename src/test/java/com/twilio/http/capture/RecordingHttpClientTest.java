@@ -0,0 +1,171 @@
+package com.twilio.http.capture;
+
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.http.HttpClient;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RecordingHttpClientTest {
+
+    private static final String MESSAGES =
+        "https://api.twilio.com/2010-04-01/Accounts/AC123/Messages";
+    private static final String MESSAGE_SID = "SMaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
+    private static class EchoClient extends HttpClient {
+        @Override
+        public Response makeRequest(final Request request) {
+            if (request.getUrl().endsWith("/fail")) {
+                throw new ApiConnectionException("Connection reset");
+            }
+            return new Response("{\"url\": \"" + request.getUrl() + "\"}", 200);
+        }
+    }
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("capture", ".bin");
+        file.delete();
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    private Request message(final String body) {
+        Request request = unauthenticatedMessage(body);
+        request.setAuth("AC123", "secret");
+        return request;
+    }
+
+    private Request unauthenticatedMessage(final String body) {
+        Request request = new Request(HttpMethod.POST, MESSAGES + ".json");
+        request.addPostParam("To", "+14155551234");
+        request.addPostParam("Body", body);
+        request.addQueryParam("Tag", "a");
+        request.addQueryParam("Tag", "b");
+        return request;
+    }
+
+    @Test
+    public void testRecordAndRead() throws IOException {
+        try (CaptureWriter writer = new CaptureWriter(file)) {
+            RecordingHttpClient client = new RecordingHttpClient(new EchoClient(), writer);
+            Response response = client.makeRequest(message("Hello"));
+            assertEquals(200, response.getStatusCode());
+            assertEquals("{\"url\": \"" + MESSAGES + ".json\"}", response.getContent());
+            client.makeRequest(new Request(HttpMethod.GET, MESSAGES + "/" + MESSAGE_SID + ".json"));
+            assertEquals(2, client.getRecordedCount());
+        }
+
+        List<CapturedExchange> exchanges = CaptureReader.readAll(file);
+        assertEquals(2, exchanges.size());
+
+        CapturedExchange first = exchanges.get(0);
+        assertEquals(HttpMethod.POST, first.getMethod());
+        assertEquals(unauthenticatedMessage("Hello"), first.toRequest());
+        assertNull(first.getUsername());
+        assertNull(first.getPassword());
+        assertEquals(200, first.getStatusCode());
+        assertEquals("{\"url\": \"" + MESSAGES + ".json\"}", first.getBody());
+        assertEquals(Thread.currentThread().getId(), first.getThreadId());
+
+        CapturedExchange second = exchanges.get(1);
+        assertEquals(MESSAGES + "/{Sid}.json", second.getTemplatedUrl());
+        assertTrue(second.getStartMicros() >= first.getStartMicros());
+    }
+
+    @Test
+    public void testCredentialsAndFailures() throws IOException {
+        try (CaptureWriter writer = new CaptureWriter(file)) {
+            RecordingHttpClient client = new RecordingHttpClient(new EchoClient(), writer, false, false);
+            client.makeRequest(message("Hello"));
+            try {
+                client.makeRequest(new Request(HttpMethod.GET, MESSAGES + "/fail"));
+                fail("ApiConnectionException was expected");
+            } catch (final ApiConnectionException e) {
+                // Expected
+            }
+        }
+
+        List<CapturedExchange> exchanges = CaptureReader.readAll(file);
+        assertEquals("AC123", exchanges.get(0).getUsername());
+        assertEquals("secret", exchanges.get(0).getPassword());
+        assertNull(exchanges.get(0).getBody());
+        assertEquals(-1, exchanges.get(1).getStatusCode());
+    }
+
+    @Test
+    public void testAppendAndTruncatedRecord() throws IOException {
+        for (int i = 0; i < 2; i++) {
+            try (CaptureWriter writer = new CaptureWriter(file)) {
+                new RecordingHttpClient(new EchoClient(), writer).makeRequest(message("Hello " + i));
+            }
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+
+        List<CapturedExchange> exchanges = CaptureReader.readAll(file);
+        assertEquals(1, exchanges.size());
+        assertEquals(unauthenticatedMessage("Hello 0"), exchanges.get(0).toRequest());
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotACaptureFile() throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[] {1, 2, 3, 4, 5, 6});
+        }
+        CaptureReader.readAll(file);
+    }
+
+    @Test
+    public void testReplay() throws IOException {
+        try (CaptureWriter writer = new CaptureWriter(file)) {
+            RecordingHttpClient client = new RecordingHttpClient(new EchoClient(), writer);
+            client.makeRequest(message("Hello"));
+            client.makeRequest(new Request(HttpMethod.GET, MESSAGES + "/" + MESSAGE_SID + ".json"));
+            try {
+                client.makeRequest(new Request(HttpMethod.GET, MESSAGES + "/fail"));
+            } catch (final ApiConnectionException e) {
+                // Recorded as a failure
+            }
+        }
+
+        ReplayHttpClient replay = new ReplayHttpClient(CaptureReader.readAll(file));
+        assertEquals("{\"url\": \"" + MESSAGES + ".json\"}", replay.makeRequest(message("Hello")).getContent());
+        assertEquals(200, replay.makeRequest(message("Other")).getStatusCode());
+
+        Response other = replay.makeRequest(
+            new Request(HttpMethod.GET, MESSAGES + "/SMbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb.json")
+        );
+        assertEquals("{\"url\": \"" + MESSAGES + "/" + MESSAGE_SID + ".json\"}", other.getContent());
+
+        assertEquals(404, replay.makeRequest(new Request(HttpMethod.DELETE, MESSAGES + ".json")).getStatusCode());
+
+        try {
+            replay.makeRequest(new Request(HttpMethod.GET, MESSAGES + "/fail"));
+            fail("ApiConnectionException was expected");
+        } catch (final ApiConnectionException e) {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.twilio.ratelimit;
+
+import com.twilio.exception.ApiConnectionException;
+import com.twilio.http.HttpMethod;
+import com.twilio.http.Request;
+import com.twilio.rest.Domains;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class DistributedRateLimiterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static class CountingStore extends InMemoryTokenBucketStore {
+        private int calls;
+
+        @Override
+        public long take(final String bucket, final long requested, final long capacity,
+                         final double refillPerSecond, final long nowMillis) {
+            calls++;
+            return super.take(bucket, requested, capacity, refillPerSecond, nowMillis);
+        }
+    }
+
+    private static Request request(final String uri) {
+        Request request = new Request(HttpMethod.POST, Domains.API.toString(), uri);
+        request.setTimeout(100);
+        return request;
+    }
+
+    @Test
+    public void testInMemoryBucketStartsFull() {
+        InMemoryTokenBucketStore store = new InMemoryTokenBucketStore();
+        assertEquals(5, store.take("bucket", 10, 5, 1, 0));
+        assertEquals(0, store.take("bucket", 1, 5, 1, 0));
+        assertEquals(2, store.take("bucket", 10, 5, 1, 2000));
+    }
+
+    @Test
+    public void testFileStoreSharedBetweenInstances() throws IOException {
+        File path = folder.newFile("buckets");
+        FileTokenBucketStore first = new FileTokenBucketStore(path, 16);
+        FileTokenBucketStore second = new FileTokenBucketStore(path, 16);
+        try {
+            assertEquals(3, first.take("bucket", 3, 5, 1, 0));
+            assertEquals(2, second.take("bucket", 3, 5, 1, 0));
+            assertEquals(0, first.take("bucket", 1, 5, 1, 0));
+            assertEquals(5, second.take("other", 5, 5, 1, 0));
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void testFileStoreGivesBackTokens() throws IOException {
+        FileTokenBucketStore store = new FileTokenBucketStore(folder.newFile("buckets"), 16);
+        try {
+            assertEquals(5, store.take("bucket", 5, 5, 1, 0));
+            store.giveBack("bucket", 3, 5, 1, 0);
+            assertEquals(3, store.take("bucket", 5, 5, 1, 0));
+
+            // Never past capacity
+            store.giveBack("bucket", 3, 5, 1, 4000);
+            assertEquals(5, store.take("bucket", 10, 5, 1, 4000));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    public void testFileStoreMonitorDroppedOnClose() throws IOException {
+        int open = FileTokenBucketStore.openFiles();
+        File path = folder.newFile("buckets");
+        FileTokenBucketStore first = new FileTokenBucketStore(path, 16);
+        FileTokenBucketStore second = new FileTokenBucketStore(path, 16);
+        assertEquals(open + 1, FileTokenBucketStore.openFiles());
+
+        first.close();
+        first.close();
+        assertEquals(open + 1, FileTokenBucketStore.openFiles());
+
+        second.close();
+        assertEquals(open, FileTokenBucketStore.openFiles());
+    }
+
+    @Test
+    public void testExpiredLeaseGivesBackTokens() throws InterruptedException {
+        InMemoryTokenBucketStore store = new InMemoryTokenBucketStore();
+        DistributedRateLimiter limiter = new DistributedRateLimiter.Builder(store)
+            .defaultLimit(10, 0.001)
+            .leaseSize(5)
+            .leaseMillis(1)
+            .build();
+
+        limiter.acquire(request("/2010-04-01/Accounts/AC123/Messages.json"));
+        Thread.sleep(5);
+
+        // The 4 tokens left on the first lease go back before the second lease takes 5
+        limiter.acquire(request("/2010-04-01/Accounts/AC123/Messages.json"));
+        assertEquals(4, store.take("twilio:default", 10, 10, 0.001, System.currentTimeMillis()));
+    }
+
+    @Test
+    public void testLeasedTokensServedLocally() {
+        CountingStore store = new CountingStore();
+        DistributedRateLimiter limiter = new DistributedRateLimiter.Builder(store)
+            .defaultLimit(100, 100)
+            .leaseSize(10)
+            .leaseMillis(60000)
+            .build();
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(request("/2010-04-01/Accounts/AC123/Messages.json"));
+        }
+        assertEquals(1, store.calls);
+
+        limiter.acquire(request("/2010-04-01/Accounts/AC123/Messages.json"));
+        assertEquals(2, store.calls);
+    }
+
+    @Test
+    public void testEndpointBucketsAreSeparate() {
+        DistributedRateLimiter limiter = new DistributedRateLimiter.Builder(new InMemoryTokenBucketStore())
+            .endpointLimit("Messages.json", 1, 0.001)
+            .endpointLimit("Calls.json", 1, 0.001)
+            .leaseSize(1)
+            .build();
+
+        limiter.acquire(request("/2010-04-01/Accounts/AC123/Messages.json"));
+        limiter.acquire(request("/2010-04-01/Accounts/AC123/Calls.json"));
+
+        try {
+            limiter.acquire(request("/2010-04-01/Accounts/AC123/Messages.json"));
+            fail("ApiConnectionException was expected");
+        } catch (final ApiConnectionException e) {
+            // Messages bucket is empty and won't refill before the deadline
+        }
+    }
+
+    @Test
+    public void testUnlimitedEndpoint() {
+        DistributedRateLimiter limiter = new DistributedRateLimiter.Builder(new InMemoryTokenBucketStore())
+            .endpointLimit("Messages.json", 1, 0.001)
+            .build();
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(request("/2010-04-01/Accounts/AC123/Calls.json"));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.twilio.type;
+
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link E164NumberMap}.
+ */
+public class E164NumberMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        E164NumberMap<String> map = new E164NumberMap<>();
+        E164Number number = E164Number.parse("+14155550100");
+        assertTrue(map.isEmpty());
+        assertNull(map.put(number, "a"));
+        assertEquals("a", map.put(E164Number.parseLenient("(415) 555-0100", 1), "b"));
+        assertEquals(1, map.size());
+        assertEquals("b", map.get(number.toLong()));
+        assertTrue(map.containsKey(number));
+
+        assertEquals("b", map.remove(number));
+        assertFalse(map.containsKey(number));
+        assertNull(map.remove(number));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testMatchesHashMap() {
+        Random random = new Random(42);
+        E164NumberMap<Integer> map = new E164NumberMap<>();
+        Map<E164Number, Integer> expected = new HashMap<>();
+
+        // Numbers close together in a few countries, so probe runs collide and removals shift them back
+        for (int i = 0; i < 200000; i++) {
+            E164Number number = E164Number.parse("+" + (random.nextBoolean() ? "1415555" : "4420794")
+                                                 + String.format("%04d", random.nextInt(5000)));
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(number), map.remove(number));
+            } else {
+                assertEquals(expected.put(number, i), map.put(number, i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        int seen = 0;
+        for (Map.Entry<E164Number, Integer> entry : map) {
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+            seen++;
+        }
+        assertEquals(expected.size(), seen);
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertFalse(map.iterator().hasNext());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testModifiedWhileIterating() {
+        E164NumberMap<String> map = new E164NumberMap<>();
+        map.put(E164Number.parse("+14155550100"), "a");
+        Iterator<Map.Entry<E164Number, String>> entries = map.iterator();
+        map.put(E164Number.parse("+14155550101"), "b");
+        entries.next();
+    }
+}
@@ -0,0 +1,102 @@
+package com.twilio.type;
+
+import com.twilio.converter.ObjectMappers;
+import com.twilio.rest.api.v2010.account.Message;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test class for {@link E164Number}.
+ */
+public class E164NumberTest {
+
+    @Test
+    public void testParse() {
+        E164Number number = E164Number.parse("+14155550100");
+        assertEquals(1, number.getCountryCode());
+        assertEquals("4155550100", number.getNationalNumber());
+        assertEquals("+14155550100", number.toString());
+        assertEquals(new PhoneNumber("+14155550100"), number.toPhoneNumber());
+
+        assertEquals(44, E164Number.parse("+442079460000").getCountryCode());
+        assertEquals(353, E164Number.parse("+35312345678").getCountryCode());
+        assertEquals(7, E164Number.parse("+74951234567").getCountryCode());
+        assertEquals("0612345678", E164Number.parse("+390612345678").getNationalNumber());
+        assertEquals("+390612345678", E164Number.parse("+390612345678").toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseFormatted() {
+        E164Number.parse("+1 (415) 555-0100");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseTooLong() {
+        E164Number.parse("+1234567890123456");
+    }
+
+    @Test
+    public void testTryParse() {
+        assertEquals(E164Number.parse("+14155550100"), E164Number.tryParse("+14155550100"));
+        assertNull(E164Number.tryParse("client:alice"));
+        assertNull(E164Number.tryParse("12345"));
+        assertNull(E164Number.tryParse("+"));
+        assertNull(E164Number.tryParse(null));
+    }
+
+    @Test
+    public void testParseLenient() {
+        E164Number expected = E164Number.parse("+14155550100");
+        assertEquals(expected, E164Number.parseLenient("+1 (415) 555-0100", 44));
+        assertEquals(expected, E164Number.parseLenient("001 415.555.0100", 44));
+        assertEquals(expected, E164Number.parseLenient("(415) 555-0100", 1));
+        assertEquals(expected, E164Number.parseLenient("1-415-555-0100", 1));
+        assertEquals(E164Number.parse("+442079460000"), E164Number.parseLenient("020 7946 0000", 44));
+        assertEquals(E164Number.parse("+390612345678"), E164Number.parseLenient("06 1234 5678", 39));
+        assertNull(E164Number.parseLenient("call me", 1));
+        assertNull(E164Number.parseLenient("+1 415 +555", 1));
+    }
+
+    @Test
+    public void testEqualityIgnoresFormatting() {
+        E164Number plain = E164Number.parse("+14155550100");
+        E164Number formatted = E164Number.parseLenient("+1 (415) 555-0100", 1);
+        assertEquals(plain, formatted);
+        assertEquals(plain.hashCode(), formatted.hashCode());
+        assertEquals(plain, E164Number.fromLong(plain.toLong()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromLongInvalid() {
+        E164Number.fromLong(42L);
+    }
+
+    @Test
+    public void testOrder() {
+        List<E164Number> numbers = new ArrayList<>();
+        numbers.add(E164Number.parse("+442079460000"));
+        numbers.add(E164Number.parse("+14155550101"));
+        numbers.add(E164Number.parse("+35312345678"));
+        numbers.add(E164Number.parse("+14155550100"));
+        Collections.sort(numbers);
+        assertEquals("+14155550100", numbers.get(0).toString());
+        assertEquals("+14155550101", numbers.get(1).toString());
+        assertEquals("+442079460000", numbers.get(2).toString());
+        assertEquals("+35312345678", numbers.get(3).toString());
+    }
+
+    @Test
+    public void testResourceAccessors() {
+        Message message = Message.fromJson(
+            "{\"from\": \"+14155552345\", \"to\": \"client:alice\"}", ObjectMappers.shared());
+        assertEquals(E164Number.parse("+14155552345"), message.getFromNumber());
+        assertNull(message.getToNumber());
+        assertNull(Message.fromJson("{}", ObjectMappers.shared()).getFromNumber());
+    }
+}
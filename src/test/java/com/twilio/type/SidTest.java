@@ -0,0 +1,90 @@
+package com.twilio.type;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class for {@link Sid}.
+ */
+public class SidTest {
+
+    private static final String ACCOUNT_SID = "AC0123456789abcdef0123456789abcdef";
+
+    @Test
+    public void testRoundTrip() {
+        Sid sid = Sid.of(ACCOUNT_SID);
+        assertEquals(ACCOUNT_SID, sid.toString());
+        assertEquals("AC", sid.getPrefix());
+        assertEquals("MMffffffffffffffffffffffffffffffff", Sid.of("MMffffffffffffffffffffffffffffffff").toString());
+        assertNull(Sid.of(null));
+    }
+
+    @Test
+    public void testEquality() {
+        assertEquals(Sid.of(ACCOUNT_SID), Sid.of(new String(ACCOUNT_SID)));
+        assertEquals(Sid.of(ACCOUNT_SID).hashCode(), Sid.of(new String(ACCOUNT_SID)).hashCode());
+        assertNotEquals(Sid.of(ACCOUNT_SID), Sid.of("CA0123456789abcdef0123456789abcdef"));
+        assertNotEquals(Sid.of(ACCOUNT_SID), Sid.of("AC0123456789abcdef0123456789abcdee"));
+    }
+
+    @Test
+    public void testOrderMatchesText() {
+        List<String> strings = Arrays.asList(
+            "CA8000000000000000000000000000000a",
+            "AC00000000000000000000000000000000",
+            "CA7fffffffffffffffffffffffffffffff",
+            "CA80000000000000ffffffffffffffffff",
+            "AC0000000000000000000000000000000f"
+        );
+        List<Sid> sids = new ArrayList<>();
+        for (String string : strings) {
+            sids.add(Sid.of(string));
+        }
+
+        Collections.sort(sids);
+        List<String> sorted = new ArrayList<>(strings);
+        Collections.sort(sorted);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i), sids.get(i).toString());
+        }
+    }
+
+    @Test
+    public void testIsSid() {
+        assertTrue(Sid.isSid(ACCOUNT_SID));
+        assertFalse(Sid.isSid("AC0123456789ABCDEF0123456789abcdef"));
+        assertFalse(Sid.isSid("ac0123456789abcdef0123456789abcdef"));
+        assertFalse(Sid.isSid("AC0123456789abcdef"));
+        assertFalse(Sid.isSid(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotASid() {
+        Sid.of("AC123");
+    }
+
+    @Test
+    public void testSerializable() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(Sid.of(ACCOUNT_SID));
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(Sid.of(ACCOUNT_SID), in.readObject());
+        }
+    }
+}